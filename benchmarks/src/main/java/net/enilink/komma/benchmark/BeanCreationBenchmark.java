@@ -0,0 +1,101 @@
+package net.enilink.komma.benchmark;
+
+import java.util.concurrent.TimeUnit;
+
+import org.eclipse.rdf4j.repository.Repository;
+import org.eclipse.rdf4j.repository.sail.SailRepository;
+import org.eclipse.rdf4j.sail.memory.MemoryStore;
+import org.openjdk.jmh.annotations.*;
+import org.openjdk.jmh.infra.Blackhole;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.options.Options;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+import com.google.inject.AbstractModule;
+import com.google.inject.Guice;
+
+import net.enilink.komma.core.IEntityManager;
+import net.enilink.komma.core.IEntityManagerFactory;
+import net.enilink.komma.core.IUnitOfWork;
+import net.enilink.komma.core.KommaModule;
+import net.enilink.komma.core.URI;
+import net.enilink.komma.core.URIs;
+import net.enilink.komma.em.DecoratingEntityManagerModule;
+import net.enilink.komma.em.EntityManagerFactoryModule;
+import net.enilink.komma.em.util.UnitOfWork;
+import net.enilink.komma.model.ModelPlugin;
+import net.enilink.komma.rdf4j.RDF4JModule;
+import net.enilink.vocab.owl.Class;
+
+/**
+ * Measures the materialization of entities by {@link IEntityManager#find}
+ * with a manager that does not cache entities. Each call creates a new
+ * instance of the composite class and injects its members.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3)
+@Measurement(iterations = 5)
+public class BeanCreationBenchmark {
+	private static final int RESOURCE_COUNT = 1000;
+
+	private Repository repository;
+	private IEntityManagerFactory factory;
+	private IEntityManager manager;
+	private URI[] resources;
+
+	@Setup(Level.Trial)
+	public void setup() {
+		repository = new SailRepository(new MemoryStore());
+		repository.init();
+		KommaModule module = ModelPlugin.createModelSetModule(getClass().getClassLoader());
+		factory = Guice.createInjector(new RDF4JModule(),
+				new EntityManagerFactoryModule(module, null, new DecoratingEntityManagerModule()), new AbstractModule() {
+					@Override
+					protected void configure() {
+						UnitOfWork uow = new UnitOfWork();
+						uow.begin();
+
+						bind(UnitOfWork.class).toInstance(uow);
+						bind(IUnitOfWork.class).toInstance(uow);
+						bind(Repository.class).toInstance(repository);
+					}
+				}).getInstance(IEntityManagerFactory.class);
+		manager = factory.create();
+
+		resources = new URI[RESOURCE_COUNT];
+		for (int i = 0; i < resources.length; i++) {
+			resources[i] = URIs.createURI("http://example.org/data#r" + i);
+		}
+	}
+
+	@TearDown(Level.Trial)
+	public void teardown() {
+		manager.close();
+		factory.close();
+		repository.shutDown();
+	}
+
+	@Benchmark
+	public void findEntity(Blackhole blackhole) {
+		for (URI resource : resources) {
+			blackhole.consume(manager.find(resource));
+		}
+	}
+
+	@Benchmark
+	public void findClass(Blackhole blackhole) {
+		for (URI resource : resources) {
+			blackhole.consume(manager.find(resource, Class.class));
+		}
+	}
+
+	public static void main(String[] args) throws Exception {
+		Options opt = new OptionsBuilder()
+				.include(BeanCreationBenchmark.class.getName() + ".")
+				.forks(1)
+				.build();
+		new Runner(opt).run();
+	}
+}
@@ -0,0 +1,141 @@
+package net.enilink.komma.benchmark;
+
+import java.util.SplittableRandom;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.*;
+import org.openjdk.jmh.infra.Blackhole;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.options.Options;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+import com.google.inject.Guice;
+
+import net.enilink.komma.core.IEntityManager;
+import net.enilink.komma.core.IUnitOfWork;
+import net.enilink.komma.core.KommaModule;
+import net.enilink.komma.core.URI;
+import net.enilink.komma.core.URIs;
+import net.enilink.komma.em.concepts.IClass;
+import net.enilink.komma.model.IModel;
+import net.enilink.komma.model.IModelSet;
+import net.enilink.komma.model.IModelSetFactory;
+import net.enilink.komma.model.MODELS;
+import net.enilink.komma.model.ModelPlugin;
+import net.enilink.komma.model.ModelSetModule;
+import net.enilink.vocab.owl.Class;
+import net.enilink.vocab.rdfs.RDFS;
+
+/**
+ * Measures the throughput of entity and property reads that are served by the
+ * entity and property caches of a model's entity manager.
+ * <p>
+ * The benchmark should be run with different thread counts, see
+ * {@link #main(String[])}.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3)
+@Measurement(iterations = 3)
+public class CachedPropertyBenchmark {
+	@Param({"1024"})
+	public int entityCount;
+
+	// ensures that setups and teardowns are run in the same thread
+	private final ExecutorService executor = Executors.newSingleThreadExecutor();
+	private IModelSet modelSet;
+	private IEntityManager manager;
+	private URI[] uris;
+
+	@Setup(Level.Iteration)
+	public void setupIteration() throws ExecutionException, InterruptedException {
+		executor.submit(() -> {
+			KommaModule module = ModelPlugin.createModelSetModule(getClass().getClassLoader());
+			IModelSetFactory factory = Guice.createInjector(new ModelSetModule(module)).getInstance(IModelSetFactory.class);
+			modelSet = factory.createModelSet(MODELS.NAMESPACE_URI.appendLocalPart("MemoryModelSet"));
+			IModel model = modelSet.createModel(URIs.createURI("test:model1"));
+			manager = model.getManager();
+
+			uris = new URI[entityCount];
+			IUnitOfWork uow = modelSet.getUnitOfWork();
+			uow.begin();
+			try {
+				for (int i = 0; i < entityCount; i++) {
+					uris[i] = URIs.createURI("class:" + i);
+					Class clazz = manager.createNamed(uris[i], Class.class);
+					clazz.setRdfsLabel("Class " + i);
+				}
+			} finally {
+				uow.end();
+			}
+		}).get();
+	}
+
+	@TearDown(Level.Iteration)
+	public void teardownIteration() throws ExecutionException, InterruptedException {
+		executor.submit(() -> {
+			if (modelSet != null) {
+				modelSet.dispose();
+			}
+		}).get();
+	}
+
+	@TearDown
+	public void shutdown() {
+		executor.shutdown();
+	}
+
+	@Benchmark
+	public void readCachedEntity(ThreadState threadState, Blackhole blackhole) {
+		URI uri = uris[threadState.random.nextInt(uris.length)];
+		blackhole.consume(manager.find(uri));
+	}
+
+	@Benchmark
+	public void readCachedProperty(ThreadState threadState, Blackhole blackhole) {
+		URI uri = uris[threadState.random.nextInt(uris.length)];
+		IClass clazz = manager.find(uri, IClass.class);
+		blackhole.consume(clazz.getApplicableCardinality(RDFS.PROPERTY_LABEL));
+	}
+
+	public static void main(String[] args) throws Exception {
+		for (int threads : new int[] { 1, 2, 4, 8, 16, 32, 64 }) {
+			Options opt = new OptionsBuilder()
+					.include(CachedPropertyBenchmark.class.getName() + ".")
+					.threads(threads)
+					.forks(1)
+					.build();
+			new Runner(opt).run();
+		}
+	}
+
+	@State(Scope.Thread)
+	public static class ThreadState {
+		private static long threadNr;
+		private SplittableRandom random;
+		private IUnitOfWork uow;
+
+		@Setup(Level.Iteration)
+		public void setup(CachedPropertyBenchmark benchmarkState) {
+			synchronized (ThreadState.class) {
+				random = new SplittableRandom(0x6b6f6d6d61L ^ ++threadNr);
+			}
+			// keep a unit of work open to read from the caches without reopening connections
+			uow = benchmarkState.modelSet.getUnitOfWork();
+			uow.begin();
+			// populate caches
+			for (URI uri : benchmarkState.uris) {
+				benchmarkState.manager.find(uri, IClass.class).getApplicableCardinality(RDFS.PROPERTY_LABEL);
+			}
+		}
+
+		@TearDown(Level.Iteration)
+		public void teardown() {
+			uow.end();
+		}
+	}
+}
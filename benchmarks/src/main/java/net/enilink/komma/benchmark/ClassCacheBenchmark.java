@@ -0,0 +1,121 @@
+package net.enilink.komma.benchmark;
+
+import java.io.File;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Comparator;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Stream;
+
+import org.eclipse.rdf4j.repository.Repository;
+import org.eclipse.rdf4j.repository.sail.SailRepository;
+import org.eclipse.rdf4j.sail.memory.MemoryStore;
+import org.openjdk.jmh.annotations.*;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.options.Options;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+import com.google.inject.AbstractModule;
+import com.google.inject.Guice;
+import com.google.inject.name.Names;
+
+import net.enilink.komma.core.IEntityManager;
+import net.enilink.komma.core.IEntityManagerFactory;
+import net.enilink.komma.core.IUnitOfWork;
+import net.enilink.komma.core.KommaModule;
+import net.enilink.komma.core.URI;
+import net.enilink.komma.core.URIs;
+import net.enilink.komma.em.DecoratingEntityManagerModule;
+import net.enilink.komma.em.EntityManagerFactoryModule;
+import net.enilink.komma.em.ManagerCompositionModule;
+import net.enilink.komma.em.util.UnitOfWork;
+import net.enilink.komma.model.ModelPlugin;
+import net.enilink.komma.rdf4j.RDF4JModule;
+
+/**
+ * Measures the latency of the first request after a restart. Each invocation
+ * uses a new class loader for the module and hence has to define all
+ * composite classes again, either by generating them or by loading them from
+ * a warm class cache on disk.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.SingleShotTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 5)
+@Measurement(iterations = 20)
+public class ClassCacheBenchmark {
+	@Param({ "none", "disk" })
+	public String classCache;
+
+	private Repository repository;
+	private File cacheDir;
+
+	@Setup(Level.Trial)
+	public void setup() throws IOException {
+		repository = new SailRepository(new MemoryStore());
+		repository.init();
+		cacheDir = Files.createTempDirectory("komma-classes").toFile();
+		if ("disk".equals(classCache)) {
+			// fill the cache as in a previous run of the application
+			firstRequest();
+		}
+	}
+
+	@TearDown(Level.Trial)
+	public void teardown() throws IOException {
+		repository.shutDown();
+		try (Stream<Path> files = Files.walk(cacheDir.toPath())) {
+			files.sorted(Comparator.reverseOrder()).map(Path::toFile).forEach(File::delete);
+		}
+	}
+
+	@Benchmark
+	public int firstRequest() {
+		// a new class loader requires a new class definer as after a restart
+		ClassLoader loader = new ClassLoader(getClass().getClassLoader()) {
+		};
+		KommaModule module = ModelPlugin.createModelSetModule(loader);
+		IEntityManagerFactory factory = Guice.createInjector(new RDF4JModule(),
+				new EntityManagerFactoryModule(module, null, new DecoratingEntityManagerModule()), new AbstractModule() {
+					@Override
+					protected void configure() {
+						UnitOfWork uow = new UnitOfWork();
+						uow.begin();
+
+						bind(UnitOfWork.class).toInstance(uow);
+						bind(IUnitOfWork.class).toInstance(uow);
+						bind(Repository.class).toInstance(repository);
+						if ("disk".equals(classCache)) {
+							bind(File.class).annotatedWith(Names.named(ManagerCompositionModule.CLASS_CACHE))
+									.toInstance(cacheDir);
+						}
+					}
+				}).getInstance(IEntityManagerFactory.class);
+		try {
+			IEntityManager manager = factory.create();
+			try {
+				int count = 0;
+				URI resource = URIs.createURI("http://example.org/data#resource");
+				for (KommaModule.Association concept : module.getConcepts()) {
+					if (manager.find(resource, concept.getJavaClass()) != null) {
+						count++;
+					}
+				}
+				return count;
+			} finally {
+				manager.close();
+			}
+		} finally {
+			factory.close();
+		}
+	}
+
+	public static void main(String[] args) throws Exception {
+		Options opt = new OptionsBuilder()
+				.include(ClassCacheBenchmark.class.getName() + ".")
+				.forks(1)
+				.build();
+		new Runner(opt).run();
+	}
+}
@@ -0,0 +1,153 @@
+package net.enilink.komma.benchmark;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashSet;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Random;
+import java.util.Set;
+import java.util.concurrent.TimeUnit;
+
+import org.eclipse.rdf4j.repository.Repository;
+import org.eclipse.rdf4j.repository.sail.SailRepository;
+import org.eclipse.rdf4j.sail.memory.MemoryStore;
+import org.openjdk.jmh.annotations.*;
+import org.openjdk.jmh.infra.ThreadParams;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.options.Options;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+import com.google.inject.AbstractModule;
+import com.google.inject.Guice;
+
+import net.enilink.komma.core.IEntityManager;
+import net.enilink.komma.core.IEntityManagerFactory;
+import net.enilink.komma.core.IUnitOfWork;
+import net.enilink.komma.core.KommaModule;
+import net.enilink.komma.core.URI;
+import net.enilink.komma.core.URIs;
+import net.enilink.komma.em.DecoratingEntityManagerModule;
+import net.enilink.komma.em.EntityManagerFactoryModule;
+import net.enilink.komma.em.util.UnitOfWork;
+import net.enilink.komma.model.ModelPlugin;
+import net.enilink.komma.rdf4j.RDF4JModule;
+
+/**
+ * Measures the resolution of composite classes for many distinct
+ * combinations of concepts with cold caches. Each iteration uses a new class
+ * loader for the module and hence has to compose all classes again.
+ * <p>
+ * All threads resolve the same combinations starting at different offsets,
+ * such that they compose different classes in parallel and sometimes wait
+ * for the same class.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.SingleShotTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 2)
+@Measurement(iterations = 5)
+public class CompositeResolutionBenchmark {
+	private static final int TYPE_SET_COUNT = 2000;
+
+	private Repository repository;
+	private IEntityManagerFactory factory;
+	private List<Class<?>[]> typeSets;
+
+	@Setup(Level.Trial)
+	public void setup() {
+		repository = new SailRepository(new MemoryStore());
+		repository.init();
+	}
+
+	@Setup(Level.Iteration)
+	public void setupIteration() {
+		// a new class loader requires a new class definer with empty caches
+		ClassLoader loader = new ClassLoader(getClass().getClassLoader()) {
+		};
+		KommaModule module = ModelPlugin.createModelSetModule(loader);
+		factory = Guice.createInjector(new RDF4JModule(),
+				new EntityManagerFactoryModule(module, null, new DecoratingEntityManagerModule()), new AbstractModule() {
+					@Override
+					protected void configure() {
+						UnitOfWork uow = new UnitOfWork();
+						uow.begin();
+
+						bind(UnitOfWork.class).toInstance(uow);
+						bind(IUnitOfWork.class).toInstance(uow);
+						bind(Repository.class).toInstance(repository);
+					}
+				}).getInstance(IEntityManagerFactory.class);
+
+		List<Class<?>> concepts = new ArrayList<>();
+		for (KommaModule.Association concept : module.getConcepts()) {
+			if (concept.getJavaClass().isInterface()) {
+				concepts.add(concept.getJavaClass());
+			}
+		}
+		// the same distinct combinations of three concepts for each iteration
+		Random random = new Random(42);
+		Set<Set<Class<?>>> combinations = new LinkedHashSet<>();
+		for (int i = 0; combinations.size() < TYPE_SET_COUNT && i < 100 * TYPE_SET_COUNT; i++) {
+			Set<Class<?>> combination = new HashSet<>();
+			while (combination.size() < Math.min(3, concepts.size())) {
+				combination.add(concepts.get(random.nextInt(concepts.size())));
+			}
+			combinations.add(combination);
+		}
+		typeSets = new ArrayList<>();
+		for (Set<Class<?>> combination : combinations) {
+			Class<?>[] types = combination.toArray(new Class<?>[combination.size()]);
+			Arrays.sort(types, (a, b) -> a.getName().compareTo(b.getName()));
+			typeSets.add(types);
+		}
+	}
+
+	@TearDown(Level.Iteration)
+	public void teardownIteration() {
+		factory.close();
+	}
+
+	@TearDown(Level.Trial)
+	public void teardown() {
+		repository.shutDown();
+	}
+
+	int resolve(ThreadParams threadParams) {
+		IEntityManager manager = factory.create();
+		try {
+			URI resource = URIs.createURI("http://example.org/data#resource" + threadParams.getThreadIndex());
+			int offset = threadParams.getThreadIndex() * typeSets.size() / threadParams.getThreadCount();
+			int count = 0;
+			for (int i = 0; i < typeSets.size(); i++) {
+				Class<?>[] types = typeSets.get((offset + i) % typeSets.size());
+				if (manager.find(resource, types[0], Arrays.copyOfRange(types, 1, types.length)) != null) {
+					count++;
+				}
+			}
+			return count;
+		} finally {
+			manager.close();
+		}
+	}
+
+	@Benchmark
+	@Threads(1)
+	public int resolve1(ThreadParams threadParams) {
+		return resolve(threadParams);
+	}
+
+	@Benchmark
+	@Threads(8)
+	public int resolve8(ThreadParams threadParams) {
+		return resolve(threadParams);
+	}
+
+	public static void main(String[] args) throws Exception {
+		Options opt = new OptionsBuilder()
+				.include(CompositeResolutionBenchmark.class.getName() + ".")
+				.forks(1)
+				.build();
+		new Runner(opt).run();
+	}
+}
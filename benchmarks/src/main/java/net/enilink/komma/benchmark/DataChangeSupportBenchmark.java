@@ -1,6 +1,9 @@
 package net.enilink.komma.benchmark;
 
 import net.enilink.komma.core.*;
+import net.enilink.komma.dm.change.DataChangeSupport;
+import net.enilink.komma.dm.change.IDataChange;
+import net.enilink.komma.dm.change.IStatementChange;
 import net.enilink.komma.model.IModel;
 import net.enilink.komma.model.IModelSet;
 import net.enilink.komma.model.MODELS;
@@ -34,10 +37,23 @@ public class DataChangeSupportBenchmark {
 	@Param({"64"})
 	public int batchSize;
 
+	/**
+	 * Controls how changes are delivered to listeners.
+	 */
+	public enum Dispatch {
+		SYNC, COALESCED, ASYNC, COALESCED_ASYNC
+	}
+
+	@Param({"SYNC", "COALESCED", "ASYNC", "COALESCED_ASYNC"})
+	public Dispatch dispatch;
+
 	private Repository repository;
 	private IModelSet modelSet;
 	private IEntityManager manager;
 	private ArrayList<Statement> preloadedStatements;
+	private ExecutorService listenerExecutor;
+
+	private volatile int listenerResult;
 
 	// ensures that setups and teardowns are run in the same thread
 	private final ExecutorService executor = Executors.newSingleThreadExecutor();
@@ -55,18 +71,43 @@ public class DataChangeSupportBenchmark {
 			modelSet.getDataChangeSupport().setEnabled(null, false);
 			preloadedStatements = preload(Math.max(batchSize * 32, 1024));
 			modelSet.getDataChangeSupport().setEnabled(null, dataChangeSupportEnabled);
+
+			DataChangeSupport changeSupport = (DataChangeSupport) modelSet.getDataChangeSupport();
+			changeSupport.setCoalescing(dispatch == Dispatch.COALESCED || dispatch == Dispatch.COALESCED_ASYNC);
+			if (dispatch == Dispatch.ASYNC || dispatch == Dispatch.COALESCED_ASYNC) {
+				listenerExecutor = Executors.newSingleThreadExecutor();
+				changeSupport.setAsyncExecutor(listenerExecutor, 16);
+			}
+			// simulates a listener that refreshes some derived data
+			changeSupport.addChangeListener(changes -> {
+				int hash = 0;
+				for (IDataChange change : changes) {
+					if (change instanceof IStatementChange stmtChange) {
+						hash += stmtChange.getStatement().hashCode();
+					}
+				}
+				listenerResult = hash;
+			});
 		}).get();
 	}
 
 	@TearDown(Level.Iteration)
 	public void teardownIteration() throws ExecutionException, InterruptedException {
 		executor.submit(() -> {
+			if (listenerExecutor != null) {
+				DataChangeSupport changeSupport = (DataChangeSupport) modelSet.getDataChangeSupport();
+				changeSupport.awaitDelivery(1, TimeUnit.MINUTES);
+				changeSupport.setAsyncExecutor(null, 0);
+				listenerExecutor.shutdown();
+				listenerExecutor = null;
+			}
 			if (modelSet != null) {
 				modelSet.dispose();
 			}
 			if (repository != null) {
 				repository.shutDown();
 			}
+			return null;
 		}).get();
 	}
 
@@ -0,0 +1,139 @@
+package net.enilink.komma.benchmark;
+
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.*;
+import org.openjdk.jmh.infra.Blackhole;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.options.Options;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+import net.enilink.komma.core.CompactGraph;
+import net.enilink.komma.core.IGraph;
+import net.enilink.komma.core.IReference;
+import net.enilink.komma.core.IStatement;
+import net.enilink.komma.core.Literal;
+import net.enilink.komma.core.LinkedHashGraph;
+import net.enilink.komma.core.Statement;
+import net.enilink.komma.core.URI;
+import net.enilink.komma.core.URIs;
+import net.enilink.vocab.rdf.RDF;
+import net.enilink.vocab.rdfs.RDFS;
+
+/**
+ * Compares {@link LinkedHashGraph} and {@link CompactGraph} for building
+ * graphs from query results and for pattern lookups.
+ * <p>
+ * The retained heap of a filled graph is reported by the
+ * <code>footprint</code> benchmark as the secondary result
+ * <code>bytesPerStatement</code>.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3)
+@Measurement(iterations = 5)
+public class GraphBenchmark {
+	private static final String NS = "http://example.org/data#";
+
+	@Param({ "LinkedHashGraph", "CompactGraph" })
+	public String graphType;
+
+	@Param({ "100000" })
+	public int statementCount;
+
+	private List<IStatement> statements;
+	private List<URI> subjects;
+	private IGraph graph;
+
+	/**
+	 * Reports the retained heap of the graph that was built by the last
+	 * invocation of {@link GraphBenchmark#footprint(Footprint)}.
+	 */
+	@State(Scope.Thread)
+	@AuxCounters(AuxCounters.Type.EVENTS)
+	public static class Footprint {
+		public long bytesPerStatement;
+	}
+
+	IGraph createGraph() {
+		return "CompactGraph".equals(graphType) ? new CompactGraph() : new LinkedHashGraph();
+	}
+
+	@Setup(Level.Trial)
+	public void setup() {
+		int resourceCount = statementCount / 5;
+		URI type = URIs.createURI(NS + "Type");
+		URI[] properties = { URIs.createURI(NS + "p1"), URIs.createURI(NS + "p2"), URIs.createURI(NS + "p3") };
+		subjects = new ArrayList<>(resourceCount);
+		statements = new ArrayList<>(statementCount);
+		for (int i = 0; i < resourceCount; i++) {
+			URI r = URIs.createURI(NS + "r" + i);
+			subjects.add(r);
+			statements.add(new Statement(r, RDF.PROPERTY_TYPE, type));
+			statements.add(new Statement(r, RDFS.PROPERTY_LABEL, new Literal("Resource " + i)));
+			for (URI p : properties) {
+				statements.add(new Statement(r, p, URIs.createURI(NS + "r" + Math.floorMod(i * 7 + p.hashCode(), resourceCount))));
+			}
+		}
+
+		graph = createGraph();
+		graph.addAll(statements);
+	}
+
+	static long usedMemory() {
+		Runtime runtime = Runtime.getRuntime();
+		for (int i = 0; i < 3; i++) {
+			System.gc();
+		}
+		return runtime.totalMemory() - runtime.freeMemory();
+	}
+
+	@Benchmark
+	@Warmup(iterations = 1)
+	@Measurement(iterations = 3)
+	public IGraph footprint(Footprint footprint) {
+		long before = usedMemory();
+		IGraph graph = createGraph();
+		graph.addAll(statements);
+		footprint.bytesPerStatement = (usedMemory() - before) / statements.size();
+		return graph;
+	}
+
+	@Benchmark
+	public IGraph build() {
+		IGraph graph = createGraph();
+		for (IStatement stmt : statements) {
+			graph.add(stmt);
+		}
+		return graph;
+	}
+
+	@Benchmark
+	public void matchSubjects(Blackhole blackhole) {
+		for (int i = 0; i < subjects.size(); i += 10) {
+			Iterator<IStatement> it = graph.filter(subjects.get(i), null, null).iterator();
+			while (it.hasNext()) {
+				blackhole.consume(it.next());
+			}
+		}
+	}
+
+	@Benchmark
+	public void typedSubjects(Blackhole blackhole) {
+		for (IReference subject : graph.filter(null, RDF.PROPERTY_TYPE, null).subjects()) {
+			blackhole.consume(subject);
+		}
+	}
+
+	public static void main(String[] args) throws Exception {
+		Options opt = new OptionsBuilder()
+				.include(GraphBenchmark.class.getName() + ".")
+				.forks(1)
+				.build();
+		new Runner(opt).run();
+	}
+}
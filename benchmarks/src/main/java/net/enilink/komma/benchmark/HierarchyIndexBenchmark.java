@@ -0,0 +1,128 @@
+package net.enilink.komma.benchmark;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.*;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.options.Options;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+import com.google.inject.Guice;
+
+import net.enilink.komma.core.IEntityManager;
+import net.enilink.komma.core.IStatement;
+import net.enilink.komma.core.KommaModule;
+import net.enilink.komma.core.Statement;
+import net.enilink.komma.core.URI;
+import net.enilink.komma.core.URIs;
+import net.enilink.komma.em.concepts.IClass;
+import net.enilink.komma.model.IModel;
+import net.enilink.komma.model.IModelSet;
+import net.enilink.komma.model.IModelSetFactory;
+import net.enilink.komma.model.MODELS;
+import net.enilink.komma.model.ModelPlugin;
+import net.enilink.komma.model.ModelSetModule;
+import net.enilink.vocab.owl.OWL;
+import net.enilink.vocab.rdf.RDF;
+import net.enilink.vocab.rdfs.RDFS;
+
+/**
+ * Compares hierarchy requests of {@link IClass} that are answered by the
+ * hierarchy index with the same requests answered by SPARQL queries.
+ * <p>
+ * The ontology is a tree of classes where each class has ten direct sub
+ * classes. Requests within an active transaction bypass the index, hence they
+ * are used to measure the query based implementation.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3)
+@Measurement(iterations = 5)
+public class HierarchyIndexBenchmark {
+	private static final String NS = "http://example.org/ontology#";
+
+	@Param({ "5000", "50000" })
+	public int classCount;
+
+	private IModelSet modelSet;
+	private IEntityManager manager;
+	private List<IClass> classes;
+	private int next;
+
+	@Setup(Level.Trial)
+	public void setup() {
+		KommaModule module = ModelPlugin.createModelSetModule(getClass().getClassLoader());
+		IModelSetFactory factory = Guice.createInjector(new ModelSetModule(module)).getInstance(IModelSetFactory.class);
+		modelSet = factory.createModelSet(MODELS.NAMESPACE_URI.appendLocalPart("MemoryModelSet"));
+		IModel model = modelSet.createModel(URIs.createURI("http://example.org/ontology"));
+		manager = model.getManager();
+
+		List<IStatement> statements = new ArrayList<>(classCount * 2);
+		for (int i = 0; i < classCount; i++) {
+			URI c = URIs.createURI(NS + "C" + i);
+			statements.add(new Statement(c, RDF.PROPERTY_TYPE, OWL.TYPE_CLASS));
+			if (i > 0) {
+				statements.add(new Statement(c, RDFS.PROPERTY_SUBCLASSOF, URIs.createURI(NS + "C" + (i - 1) / 10)));
+			}
+		}
+		manager.add(statements);
+
+		// inner classes of the tree and some leaves
+		classes = new ArrayList<>();
+		for (int i = 0; i < classCount; i += 7) {
+			classes.add(manager.find(URIs.createURI(NS + "C" + i), IClass.class));
+		}
+	}
+
+	@TearDown(Level.Trial)
+	public void teardown() {
+		modelSet.dispose();
+	}
+
+	IClass nextClass() {
+		IClass c = classes.get(next);
+		next = (next + 1) % classes.size();
+		return c;
+	}
+
+	@Benchmark
+	public List<IClass> indexedDirectSubClasses() {
+		return nextClass().getDirectNamedSubClasses().toList();
+	}
+
+	@Benchmark
+	public List<IClass> queryDirectSubClasses() {
+		manager.getTransaction().begin();
+		try {
+			return nextClass().getDirectNamedSubClasses().toList();
+		} finally {
+			manager.getTransaction().rollback();
+		}
+	}
+
+	@Benchmark
+	public List<IClass> indexedDirectSuperClasses() {
+		return nextClass().getDirectNamedSuperClasses().toList();
+	}
+
+	@Benchmark
+	public List<IClass> queryDirectSuperClasses() {
+		manager.getTransaction().begin();
+		try {
+			return nextClass().getDirectNamedSuperClasses().toList();
+		} finally {
+			manager.getTransaction().rollback();
+		}
+	}
+
+	public static void main(String[] args) throws Exception {
+		Options opt = new OptionsBuilder()
+				.include(HierarchyIndexBenchmark.class.getName() + ".")
+				.forks(1)
+				.build();
+		new Runner(opt).run();
+	}
+}
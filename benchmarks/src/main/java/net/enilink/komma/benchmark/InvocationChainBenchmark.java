@@ -0,0 +1,164 @@
+package net.enilink.komma.benchmark;
+
+import java.lang.reflect.AccessibleObject;
+import java.lang.reflect.Method;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import org.aopalliance.intercept.MethodInvocation;
+import org.openjdk.jmh.annotations.*;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.options.Options;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+import net.enilink.composition.helpers.MethodInvocationChain;
+
+/**
+ * Compares the invocation of an intercepted behaviour method through
+ * {@link MethodInvocationChain} with the former reflective implementation that
+ * used a synchronized <code>proceed()</code> and {@link Method#invoke}.
+ * <p>
+ * Each invocation creates a chain with an interceptor, a behaviour that
+ * returns nil and a behaviour that returns the actual value. This is what
+ * composed classes do for each call of an intercepted method.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3)
+@Measurement(iterations = 3)
+public class InvocationChainBenchmark {
+	public interface Named {
+		String getName(String prefix);
+	}
+
+	public static class Interceptor {
+		public Object getName(MethodInvocation invocation) throws Throwable {
+			return invocation.proceed();
+		}
+	}
+
+	public static class NilBehaviour {
+		public String getName(String prefix) {
+			return null;
+		}
+	}
+
+	public static class NameBehaviour {
+		public String getName(String prefix) {
+			return prefix;
+		}
+	}
+
+	/**
+	 * The former implementation of the chain.
+	 */
+	static class ReflectiveChain implements MethodInvocation {
+		final Object target;
+		final Method method;
+		final Object[] arguments;
+		final List<Object> invokeTarget = new ArrayList<>();
+		final List<Method> invokeMethod = new ArrayList<>();
+		int count;
+
+		ReflectiveChain(Object target, Method method, Object[] arguments) {
+			this.target = target;
+			this.method = method;
+			this.arguments = arguments;
+		}
+
+		synchronized ReflectiveChain appendInvocation(Object target, Method method) {
+			invokeTarget.add(target);
+			invokeMethod.add(method);
+			return this;
+		}
+
+		@Override
+		public synchronized Object proceed() throws Throwable {
+			Class<?> responseType = method.getReturnType();
+			while (count < invokeTarget.size()) {
+				Method im = invokeMethod.get(count);
+				Object it = invokeTarget.get(count);
+				count++;
+				Class<?>[] param = im.getParameterTypes();
+				Class<?> resultType = im.getReturnType();
+				if (param.length == 1 && MethodInvocation.class.isAssignableFrom(param[0])) {
+					return MethodInvocationChain.cast(im.invoke(it, this), resultType, responseType);
+				}
+				// the former chain read the parameter annotations for each call
+				im.getParameterAnnotations();
+				Object result = im.invoke(it, arguments.clone());
+				if (!MethodInvocationChain.isNil(result, resultType)) {
+					return MethodInvocationChain.cast(result, resultType, responseType);
+				}
+			}
+			return MethodInvocationChain.nil(responseType);
+		}
+
+		@Override
+		public Method getMethod() {
+			return method;
+		}
+
+		@Override
+		public Object[] getArguments() {
+			return arguments;
+		}
+
+		@Override
+		public Object getThis() {
+			return target;
+		}
+
+		@Override
+		public AccessibleObject getStaticPart() {
+			return method;
+		}
+	}
+
+	private Method method;
+	private Method interceptorMethod;
+	private Method nilMethod;
+	private Method nameMethod;
+	private Interceptor interceptor;
+	private NilBehaviour nil;
+	private NameBehaviour name;
+
+	@Setup(Level.Trial)
+	public void setup() throws Exception {
+		method = Named.class.getMethod("getName", String.class);
+		interceptorMethod = Interceptor.class.getMethod("getName", MethodInvocation.class);
+		nilMethod = NilBehaviour.class.getMethod("getName", String.class);
+		nameMethod = NameBehaviour.class.getMethod("getName", String.class);
+		interceptor = new Interceptor();
+		nil = new NilBehaviour();
+		name = new NameBehaviour();
+	}
+
+	@Benchmark
+	public Object reflectiveChain() throws Throwable {
+		return new ReflectiveChain(this, method, new Object[] { "name" })
+				.appendInvocation(interceptor, interceptorMethod)
+				.appendInvocation(nil, nilMethod)
+				.appendInvocation(name, nameMethod)
+				.proceed();
+	}
+
+	@Benchmark
+	public Object methodHandleChain() throws Exception {
+		return new MethodInvocationChain(this, method, new Object[] { "name" })
+				.appendInvocation(interceptor, interceptorMethod)
+				.appendInvocation(nil, nilMethod)
+				.appendInvocation(name, nameMethod)
+				.proceed();
+	}
+
+	public static void main(String[] args) throws Exception {
+		Options opt = new OptionsBuilder()
+				.include(InvocationChainBenchmark.class.getName() + ".")
+				.forks(1)
+				.build();
+		new Runner(opt).run();
+	}
+}
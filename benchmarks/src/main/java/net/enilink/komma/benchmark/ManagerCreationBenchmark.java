@@ -0,0 +1,93 @@
+package net.enilink.komma.benchmark;
+
+import java.util.concurrent.TimeUnit;
+
+import org.eclipse.rdf4j.repository.Repository;
+import org.eclipse.rdf4j.repository.sail.SailRepository;
+import org.eclipse.rdf4j.sail.memory.MemoryStore;
+import org.openjdk.jmh.annotations.*;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.options.Options;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+import net.enilink.komma.core.IEntityManager;
+import net.enilink.komma.core.IEntityManagerFactory;
+import net.enilink.komma.core.KommaModule;
+import net.enilink.komma.em.rdf4j.RDF4JEntityManagerModule;
+import net.enilink.komma.model.ModelPlugin;
+
+/**
+ * Measures how many entity managers can be created and closed per time unit,
+ * as in request-scoped usage where each request uses its own manager.
+ * <p>
+ * The scoped variants create managers for the shared manager of the factory
+ * with {@link IEntityManagerFactory#create(IEntityManager)}.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3)
+@Measurement(iterations = 5)
+public class ManagerCreationBenchmark {
+	private Repository repository;
+	private IEntityManagerFactory factory;
+
+	@Setup(Level.Trial)
+	public void setup() {
+		repository = new SailRepository(new MemoryStore());
+		repository.init();
+		KommaModule module = ModelPlugin.createModelSetModule(getClass().getClassLoader());
+		factory = RDF4JEntityManagerModule.createEntityManagerFactory(repository, module);
+		// create the shared manager outside of the measurements
+		factory.get();
+	}
+
+	@TearDown(Level.Trial)
+	public void teardown() {
+		factory.close();
+		repository.shutDown();
+	}
+
+	IEntityManager createAndClose() {
+		IEntityManager manager = factory.create();
+		manager.close();
+		return manager;
+	}
+
+	IEntityManager createScoped() {
+		// scoped managers share the thread-local data manager and are not closed
+		return factory.create(factory.get());
+	}
+
+	@Benchmark
+	@Threads(1)
+	public IEntityManager create1() {
+		return createAndClose();
+	}
+
+	@Benchmark
+	@Threads(8)
+	public IEntityManager create8() {
+		return createAndClose();
+	}
+
+	@Benchmark
+	@Threads(1)
+	public IEntityManager createScoped1() {
+		return createScoped();
+	}
+
+	@Benchmark
+	@Threads(8)
+	public IEntityManager createScoped8() {
+		return createScoped();
+	}
+
+	public static void main(String[] args) throws Exception {
+		Options opt = new OptionsBuilder()
+				.include(ManagerCreationBenchmark.class.getName() + ".")
+				.forks(1)
+				.build();
+		new Runner(opt).run();
+	}
+}
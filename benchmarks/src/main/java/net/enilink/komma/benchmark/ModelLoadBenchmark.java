@@ -0,0 +1,125 @@
+package net.enilink.komma.benchmark;
+
+import java.io.BufferedInputStream;
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.*;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.options.Options;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+import com.google.inject.Guice;
+
+import net.enilink.komma.core.KommaModule;
+import net.enilink.komma.core.URIs;
+import net.enilink.komma.model.IModel;
+import net.enilink.komma.model.IModelSet;
+import net.enilink.komma.model.IModelSetFactory;
+import net.enilink.komma.model.MODELS;
+import net.enilink.komma.model.ModelPlugin;
+import net.enilink.komma.model.ModelSetModule;
+
+/**
+ * Measures the time required to load a large N-Triples file into a memory
+ * model, either statement by statement or with the bulk-load mode.
+ * <p>
+ * The heap usage should stay constant regardless of the file size, this can
+ * be verified by running the benchmark with the GC profiler (
+ * <code>-prof gc</code>) and different values for <code>tripleCount</code>.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.SingleShotTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 2)
+@Measurement(iterations = 5)
+public class ModelLoadBenchmark {
+	@Param({ "100000", "1000000" })
+	public int tripleCount;
+
+	private Path file;
+	private IModelSet modelSet;
+	private IModel model;
+
+	@Setup(Level.Trial)
+	public void createFile() throws IOException {
+		file = Files.createTempFile("komma-load-benchmark", ".nt");
+		try (Writer writer = new BufferedWriter(Files.newBufferedWriter(file, StandardCharsets.UTF_8))) {
+			for (int i = 0; i < tripleCount; i++) {
+				String subject = "<http://example.org/resource/" + (i / 10) + ">";
+				switch (i % 10) {
+				case 0:
+					writer.write(subject + " <http://www.w3.org/1999/02/22-rdf-syntax-ns#type> <http://example.org/Type"
+							+ (i % 100) + "> .\n");
+					break;
+				case 1:
+					writer.write(subject + " <http://www.w3.org/2000/01/rdf-schema#label> \"Resource " + i + "\"@en .\n");
+					break;
+				case 2:
+					writer.write(subject + " <http://example.org/value> \"" + i
+							+ "\"^^<http://www.w3.org/2001/XMLSchema#int> .\n");
+					break;
+				default:
+					writer.write(subject + " <http://example.org/link" + (i % 10) + "> <http://example.org/resource/"
+							+ (i * 31 % tripleCount / 10) + "> .\n");
+				}
+			}
+		}
+	}
+
+	@TearDown(Level.Trial)
+	public void deleteFile() throws IOException {
+		Files.deleteIfExists(file);
+	}
+
+	@Setup(Level.Invocation)
+	public void createModelSet() {
+		KommaModule module = ModelPlugin.createModelSetModule(getClass().getClassLoader());
+		IModelSetFactory factory = Guice.createInjector(new ModelSetModule(module)).getInstance(IModelSetFactory.class);
+		modelSet = factory.createModelSet(MODELS.NAMESPACE_URI.appendLocalPart("MemoryModelSet"));
+		model = modelSet.createModel(URIs.createURI("test:model"));
+	}
+
+	@TearDown(Level.Invocation)
+	public void disposeModelSet() {
+		if (modelSet != null) {
+			modelSet.dispose();
+		}
+	}
+
+	@Benchmark
+	public IModel loadNTriples() throws IOException {
+		return load(false);
+	}
+
+	@Benchmark
+	public IModel loadNTriplesBulk() throws IOException {
+		return load(true);
+	}
+
+	IModel load(boolean bulk) throws IOException {
+		Map<Object, Object> options = new HashMap<>();
+		options.put(IModel.OPTION_MIME_TYPE, "application/n-triples");
+		options.put(IModel.OPTION_BULK_LOAD, bulk);
+		try (InputStream in = new BufferedInputStream(Files.newInputStream(file))) {
+			model.load(in, options);
+		}
+		return model;
+	}
+
+	public static void main(String[] args) throws Exception {
+		Options opt = new OptionsBuilder()
+				.include(ModelLoadBenchmark.class.getName() + ".")
+				.forks(1)
+				.build();
+		new Runner(opt).run();
+	}
+}
@@ -0,0 +1,117 @@
+package net.enilink.komma.benchmark;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import org.eclipse.rdf4j.repository.Repository;
+import org.eclipse.rdf4j.repository.sail.SailRepository;
+import org.eclipse.rdf4j.sail.memory.MemoryStore;
+import org.openjdk.jmh.annotations.*;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.options.Options;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+import com.google.inject.AbstractModule;
+import com.google.inject.Guice;
+import com.google.inject.Injector;
+
+import net.enilink.komma.core.IReference;
+import net.enilink.komma.core.IStatement;
+import net.enilink.komma.core.Literal;
+import net.enilink.komma.core.Statement;
+import net.enilink.komma.core.StatementPattern;
+import net.enilink.komma.core.URI;
+import net.enilink.komma.core.URIs;
+import net.enilink.komma.dm.IDataManager;
+import net.enilink.komma.dm.IDataManagerFactory;
+import net.enilink.komma.dm.change.DataChangeSupport;
+import net.enilink.komma.dm.change.IDataChangeSupport;
+import net.enilink.komma.internal.rdf4j.RDF4JUpdate;
+import net.enilink.komma.rdf4j.RDF4JModule;
+
+/**
+ * Compares a <code>DELETE/INSERT WHERE</code> update that is executed by the
+ * change-tracking {@link RDF4JUpdate} with the same update executed natively
+ * by RDF4J.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.SingleShotTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3)
+@Measurement(iterations = 5)
+public class SparqlUpdateBenchmark {
+	private static final IReference[] NO_CONTEXTS = new IReference[0];
+
+	private static final URI P1 = URIs.createURI("urn:komma:benchmark:p1");
+	private static final URI P2 = URIs.createURI("urn:komma:benchmark:p2");
+
+	private static final String UPDATE = "DELETE { ?s <" + P1 + "> ?o } INSERT { ?s <" + P2 + "> ?o } WHERE { ?s <"
+			+ P1 + "> ?o }";
+
+	@Param({ "10000", "100000" })
+	public int bindingCount;
+
+	private Repository repository;
+	private Injector injector;
+	private DataChangeSupport changeSupport;
+	private IDataManager dm;
+	private List<IStatement> statements;
+
+	@Setup(Level.Trial)
+	public void setup() {
+		repository = new SailRepository(new MemoryStore());
+		repository.init();
+		changeSupport = new DataChangeSupport();
+		injector = Guice.createInjector(new RDF4JModule(), new AbstractModule() {
+			@Override
+			protected void configure() {
+				bind(Repository.class).toInstance(repository);
+				bind(IDataChangeSupport.class).toInstance(changeSupport);
+			}
+		});
+		dm = injector.getInstance(IDataManagerFactory.class).get();
+		statements = new ArrayList<>(bindingCount);
+		for (int i = 0; i < bindingCount; i++) {
+			statements.add(new Statement(URIs.createURI("urn:komma:benchmark:s" + i), P1, new Literal("v" + i)));
+		}
+	}
+
+	@TearDown(Level.Trial)
+	public void teardown() {
+		dm.close();
+		repository.shutDown();
+	}
+
+	@Setup(Level.Invocation)
+	public void resetData() {
+		changeSupport.setEnabled(dm, false);
+		dm.remove(List.of(new StatementPattern(null, null, null)));
+		dm.add(statements);
+		changeSupport.setEnabled(dm, true);
+	}
+
+	@Benchmark
+	public IDataManager trackedUpdate() {
+		RDF4JUpdate update = new RDF4JUpdate(dm, UPDATE, null, false, NO_CONTEXTS, NO_CONTEXTS);
+		injector.injectMembers(update);
+		update.execute();
+		return dm;
+	}
+
+	@Benchmark
+	public IDataManager nativeUpdate() {
+		// the memory store notifies about changes, hence the update is
+		// executed natively
+		dm.createUpdate(UPDATE, null, false).execute();
+		return dm;
+	}
+
+	public static void main(String[] args) throws Exception {
+		Options opt = new OptionsBuilder()
+				.include(SparqlUpdateBenchmark.class.getName() + ".")
+				.forks(1)
+				.build();
+		new Runner(opt).run();
+	}
+}
@@ -0,0 +1,104 @@
+package net.enilink.komma.benchmark;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+
+import org.eclipse.rdf4j.repository.Repository;
+import org.eclipse.rdf4j.repository.sail.SailRepository;
+import org.eclipse.rdf4j.sail.memory.MemoryStore;
+import org.openjdk.jmh.annotations.*;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.options.Options;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+import net.enilink.komma.common.notify.INotification;
+import net.enilink.komma.common.notify.INotificationListener;
+import net.enilink.komma.common.notify.NotificationFilter;
+import net.enilink.komma.core.Literal;
+import net.enilink.komma.core.Statement;
+import net.enilink.komma.core.URI;
+import net.enilink.komma.core.URIs;
+import net.enilink.komma.model.IModelSet;
+import net.enilink.komma.model.event.IStatementNotification;
+import net.enilink.komma.model.event.StatementNotification;
+import net.enilink.komma.model.rdf4j.RDF4JModelSetFactory;
+
+/**
+ * Measures the routing of a large batch of notifications to subject listeners
+ * depending on the number of registered listeners.
+ * <p>
+ * The time per batch should mainly depend on the number of notifications and
+ * not on the number of registered listeners.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3)
+@Measurement(iterations = 3)
+public class SubjectListenerBenchmark {
+	@Param({ "10", "1000", "10000" })
+	public int listenerCount;
+
+	@Param({ "1000" })
+	public int notificationCount;
+
+	private Repository repository;
+	private IModelSet.Internal modelSet;
+	private List<INotification> notifications;
+	private final LongAdder delivered = new LongAdder();
+
+	@Setup(Level.Trial)
+	public void setup() {
+		repository = new SailRepository(new MemoryStore());
+		repository.init();
+		modelSet = (IModelSet.Internal) RDF4JModelSetFactory.createModelSet(repository);
+
+		URI[] subjects = new URI[listenerCount];
+		for (int i = 0; i < listenerCount; i++) {
+			subjects[i] = URIs.createURI("urn:komma:benchmark:s:" + i);
+			modelSet.addSubjectListener(subjects[i], new INotificationListener<>() {
+				@Override
+				public NotificationFilter<INotification> getFilter() {
+					return NotificationFilter.instanceOf(IStatementNotification.class);
+				}
+
+				@Override
+				public void notifyChanged(Collection<? extends INotification> notifications) {
+					delivered.add(notifications.size());
+				}
+			});
+		}
+
+		// notifications for subjects with and without listeners
+		URI predicate = URIs.createURI("urn:komma:benchmark:p");
+		notifications = new ArrayList<>(notificationCount);
+		for (int i = 0; i < notificationCount; i++) {
+			URI subject = URIs.createURI("urn:komma:benchmark:s:" + (i * 7 % (listenerCount * 2)));
+			notifications.add(new StatementNotification(modelSet, true,
+					new Statement(subject, predicate, new Literal("value-" + i))));
+		}
+	}
+
+	@TearDown(Level.Trial)
+	public void teardown() {
+		modelSet.dispose();
+		repository.shutDown();
+	}
+
+	@Benchmark
+	public long fireNotifications() {
+		modelSet.fireNotifications(notifications);
+		return delivered.sum();
+	}
+
+	public static void main(String[] args) throws Exception {
+		Options opt = new OptionsBuilder()
+				.include(SubjectListenerBenchmark.class.getName() + ".")
+				.forks(1)
+				.build();
+		new Runner(opt).run();
+	}
+}
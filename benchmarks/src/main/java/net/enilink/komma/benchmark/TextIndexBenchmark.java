@@ -0,0 +1,124 @@
+package net.enilink.komma.benchmark;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.*;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.options.Options;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+import com.google.inject.Guice;
+
+import net.enilink.komma.core.IEntity;
+import net.enilink.komma.core.IEntityManager;
+import net.enilink.komma.core.IQuery;
+import net.enilink.komma.core.IStatement;
+import net.enilink.komma.core.KommaModule;
+import net.enilink.komma.core.Statement;
+import net.enilink.komma.core.URI;
+import net.enilink.komma.core.URIs;
+import net.enilink.komma.em.util.ISparqlConstants;
+import net.enilink.komma.em.util.TextIndex;
+import net.enilink.komma.model.IModel;
+import net.enilink.komma.model.IModelSet;
+import net.enilink.komma.model.IModelSetFactory;
+import net.enilink.komma.model.MODELS;
+import net.enilink.komma.model.ModelPlugin;
+import net.enilink.komma.model.ModelSetModule;
+import net.enilink.vocab.owl.OWL;
+import net.enilink.vocab.rdf.RDF;
+import net.enilink.vocab.rdfs.RDFS;
+
+/**
+ * Compares the latency of resource lookups by name or label prefix as used
+ * for auto-completion. The query variant uses regex filters like the former
+ * implementation of the resource finder, the indexed variant retrieves
+ * candidates from the {@link TextIndex} and verifies them with a query.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3)
+@Measurement(iterations = 5)
+public class TextIndexBenchmark {
+	private static final String NS = "http://example.org/data#";
+
+	private static final String[] PATTERNS = { "Item12", "Label 3", "Item99", "Label 456" };
+
+	private static final int LIMIT = 20;
+
+	@Param({ "10000", "100000" })
+	public int resourceCount;
+
+	private IModelSet modelSet;
+	private IEntityManager manager;
+	private TextIndex index;
+	private int next;
+
+	@Setup(Level.Trial)
+	public void setup() {
+		KommaModule module = ModelPlugin.createModelSetModule(getClass().getClassLoader());
+		IModelSetFactory factory = Guice.createInjector(new ModelSetModule(module)).getInstance(IModelSetFactory.class);
+		modelSet = factory.createModelSet(MODELS.NAMESPACE_URI.appendLocalPart("MemoryModelSet"));
+		IModel model = modelSet.createModel(URIs.createURI("http://example.org/data"));
+		manager = model.getManager();
+
+		List<IStatement> statements = new ArrayList<>(resourceCount * 2);
+		for (int i = 0; i < resourceCount; i++) {
+			URI r = URIs.createURI(NS + "Item" + i);
+			statements.add(new Statement(r, RDF.PROPERTY_TYPE, OWL.TYPE_THING));
+			statements.add(new Statement(r, RDFS.PROPERTY_LABEL, "Label " + i));
+		}
+		manager.add(statements);
+
+		index = ((IModelSet.Internal) modelSet).getInjector().getInstance(TextIndex.class);
+		// load the index outside of the measurements
+		index.find("Item", null, null, 1);
+	}
+
+	@TearDown(Level.Trial)
+	public void teardown() {
+		modelSet.dispose();
+	}
+
+	String nextPattern() {
+		String pattern = PATTERNS[next];
+		next = (next + 1) % PATTERNS.length;
+		return pattern;
+	}
+
+	@Benchmark
+	public List<IEntity> indexed() {
+		List<URI> candidates = index.find(nextPattern(), null, null, LIMIT * 4);
+		if (candidates.isEmpty()) {
+			return new ArrayList<>();
+		}
+		StringBuilder sparql = new StringBuilder("SELECT DISTINCT ?s WHERE { VALUES ?s {");
+		for (URI candidate : candidates) {
+			sparql.append(" <").append(candidate).append(">");
+		}
+		sparql.append(" } ?s ?p ?o } LIMIT " + LIMIT);
+		return manager.createQuery(sparql.toString()).evaluate(IEntity.class).toList();
+	}
+
+	@Benchmark
+	public List<IEntity> regexQuery() {
+		String pattern = nextPattern();
+		IQuery<?> query = manager.createQuery(ISparqlConstants.PREFIX + "SELECT DISTINCT ?s WHERE { " //
+				+ "{ ?s ?p ?o FILTER regex(str(?s), ?uriPattern) } UNION " //
+				+ "{ ?s rdfs:label ?l FILTER regex(str(?l), ?pattern) } } LIMIT " + LIMIT);
+		query.setParameter("uriPattern", "[#/:]" + pattern + "[^#/]*$");
+		query.setParameter("pattern", "^" + pattern);
+		return query.evaluate(IEntity.class).toList();
+	}
+
+	public static void main(String[] args) throws Exception {
+		Options opt = new OptionsBuilder()
+				.include(TextIndexBenchmark.class.getName() + ".")
+				.forks(1)
+				.build();
+		new Runner(opt).run();
+	}
+}
@@ -86,6 +86,42 @@ public class ThreadingBenchmark {
 		}
 	}
 
+	/**
+	 * The previous generation of blank node IDs with a global lock as a
+	 * baseline for {@link #generateBlankNodeId()}.
+	 */
+	static class SynchronizedIds {
+		private static long lastPrefixId = 0;
+		private static String idPrefix = nextIdPrefix();
+		private static int nextId;
+
+		private static synchronized String nextIdPrefix() {
+			lastPrefixId = Math.max(System.currentTimeMillis(), lastPrefixId + 1);
+			return Long.toString(lastPrefixId, 32) + "x";
+		}
+
+		static synchronized String generateId(String prefix) {
+			int id = nextId++;
+			String idStr = new StringBuilder("_:")
+					.append(prefix == null ? "komma-" : prefix).append(idPrefix)
+					.append(id).toString();
+			if (id == Integer.MAX_VALUE) {
+				idPrefix = nextIdPrefix();
+			}
+			return idStr;
+		}
+	}
+
+	@Benchmark
+	public String generateBlankNodeId() {
+		return BlankNode.generateId();
+	}
+
+	@Benchmark
+	public String generateBlankNodeIdSynchronized() {
+		return SynchronizedIds.generateId(null);
+	}
+
 	public static void main(String[] args) throws Exception {
 		Options opt = new OptionsBuilder()
 				.include(ThreadingBenchmark.class.getName() + ".")
@@ -0,0 +1,83 @@
+package net.enilink.komma.benchmark;
+
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.*;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.options.Options;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+import net.enilink.komma.core.URI;
+import net.enilink.komma.core.URIs;
+
+/**
+ * Measures the throughput of {@link URIs#createURI(String)} for a mix of
+ * cached and new URIs with an increasing number of threads.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3)
+@Measurement(iterations = 5)
+public class URICacheBenchmark {
+	private static final int URI_COUNT = 10000;
+
+	private String[] uris;
+
+	@State(Scope.Thread)
+	public static class ThreadState {
+		int next;
+		long fresh;
+	}
+
+	@Setup(Level.Trial)
+	public void setup() {
+		uris = new String[URI_COUNT];
+		for (int i = 0; i < uris.length; i++) {
+			uris[i] = "http://example.org/resources/item" + i;
+		}
+	}
+
+	URI createCached(ThreadState state) {
+		String uri = uris[state.next];
+		state.next = (state.next + 1) % uris.length;
+		return URIs.createURI(uri);
+	}
+
+	URI createFresh(ThreadState state) {
+		// URIs that are not cached yet and are quickly garbage collected
+		return URIs.createURI("http://example.org/fresh/" + Thread.currentThread().getId() + "/" + state.fresh++);
+	}
+
+	@Benchmark
+	@Threads(1)
+	public URI cached1(ThreadState state) {
+		return createCached(state);
+	}
+
+	@Benchmark
+	@Threads(8)
+	public URI cached8(ThreadState state) {
+		return createCached(state);
+	}
+
+	@Benchmark
+	@Threads(1)
+	public URI fresh1(ThreadState state) {
+		return createFresh(state);
+	}
+
+	@Benchmark
+	@Threads(8)
+	public URI fresh8(ThreadState state) {
+		return createFresh(state);
+	}
+
+	public static void main(String[] args) throws Exception {
+		Options opt = new OptionsBuilder()
+				.include(URICacheBenchmark.class.getName() + ".")
+				.forks(1)
+				.build();
+		new Runner(opt).run();
+	}
+}
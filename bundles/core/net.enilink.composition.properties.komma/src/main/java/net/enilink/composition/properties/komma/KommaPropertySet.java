@@ -36,7 +36,6 @@ import java.util.List;
 import java.util.NoSuchElementException;
 import java.util.Set;
 
-import com.google.inject.Inject;
 import net.enilink.commons.iterator.ConvertingIterator;
 import net.enilink.commons.iterator.IExtendedIterator;
 import net.enilink.commons.iterator.NiceIterator;
@@ -97,11 +96,11 @@ public class KommaPropertySet<E> implements PropertySet<E>, Set<E>, Filterable<E
 	}
 
 	/**
-	 * Inject factory to keep constructors clean.
+	 * Sets the factory that created this property set. The factory is not
+	 * injected since it is bound for each entity manager.
 	 *
 	 * @param factory the property set factory
 	 */
-	@Inject
 	protected void setFactory(PropertySetFactory factory) {
 		this.factory = (KommaPropertySetFactory) factory;
 	}
@@ -592,6 +591,11 @@ public class KommaPropertySet<E> implements PropertySet<E>, Set<E>, Filterable<E
 		}
 	}
 
+	@Override
+	public boolean isCached() {
+		return getCache() != null;
+	}
+
 	private boolean isCacheComplete(List<E> cache) {
 		return cache != null && cache.size() < getCacheLimit();
 	}
@@ -114,6 +114,7 @@ public class KommaPropertySetFactory implements PropertySetFactory {
 
 			KommaPropertySet<E> propertySet = createPropertySetInternal(localized, subject, predicate, elementType, rdfValueType);
 			propertySet.addOwner(bean);
+			propertySet.setFactory(this);
 			injector.injectMembers(propertySet);
 			return propertySet;
 		});
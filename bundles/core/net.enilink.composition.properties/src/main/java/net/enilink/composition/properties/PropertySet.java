@@ -97,4 +97,13 @@ public interface PropertySet<E> extends Refreshable {
 	 * @param values
 	 */
 	void init(Collection<? extends E> values);
+
+	/**
+	 * Returns <code>true</code> if the values of this property set are cached
+	 * and can be retrieved without accessing the underlying store.
+	 * 
+	 * @return <code>true</code> if the values are cached, else
+	 *         <code>false</code>
+	 */
+	boolean isCached();
 }
@@ -69,6 +69,12 @@ public class TransientPropertySet<E> implements PropertySet<E> {
 		setAll((Collection<E>) values);
 	}
 
+	@Override
+	public boolean isCached() {
+		// the values are always held in memory
+		return true;
+	}
+
 	@Override
 	public Class<E> getElementType() {
 		return valueType;
@@ -81,6 +81,11 @@ public class UnmodifiablePropertySet<E> implements PropertySet<E> {
 		delegate.init(values);
 	}
 
+	@Override
+	public boolean isCached() {
+		return delegate.isCached();
+	}
+
 	@Override
 	public void refresh() {
 		delegate.refresh();
@@ -54,6 +54,11 @@ class TestPropertySet<E> extends HashSet<E> implements PropertySet<E> {
 		// not required
 	}
 
+	@Override
+	public boolean isCached() {
+		return true;
+	}
+
 	@Override
 	public Class<E> getElementType() {
 		return null;
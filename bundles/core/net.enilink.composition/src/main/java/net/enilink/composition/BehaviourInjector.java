@@ -0,0 +1,29 @@
+/*******************************************************************************
+ * Copyright (c) 2026 Fraunhofer IWU and others.
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * Contributors:
+ *     Fraunhofer IWU - initial API and implementation
+ *******************************************************************************/
+package net.enilink.composition;
+
+/**
+ * Injects the members of behaviours that are lazily created by composite
+ * objects.
+ * <p>
+ * Each composite object is injected with an instance of this interface when it
+ * is created and later uses it for its behaviours. This allows to inject
+ * behaviours with the same bindings as the composite object itself.
+ */
+public interface BehaviourInjector {
+	/**
+	 * Injects the fields and methods of the given <code>behaviour</code>.
+	 * 
+	 * @param behaviour
+	 *            A newly created behaviour instance.
+	 */
+	void injectMembers(Object behaviour);
+}
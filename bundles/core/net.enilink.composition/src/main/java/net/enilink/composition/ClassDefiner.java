@@ -37,8 +37,15 @@ import java.io.IOException;
 import java.io.InputStream;
 import java.net.MalformedURLException;
 import java.net.URL;
+import java.nio.file.Files;
+import java.nio.file.StandardCopyOption;
+import java.util.concurrent.Callable;
 import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.FutureTask;
+import java.util.concurrent.TimeUnit;
+import java.util.regex.Pattern;
 
 import net.enilink.composition.asm.DefaultBehaviourFactory;
 
@@ -52,6 +59,8 @@ public class ClassDefiner extends ClassLoader {
 	private static final URL exists;
 
 	static {
+		// classes with different names are loaded and defined in parallel
+		registerAsParallelCapable();
 		try {
 			exists = new URL("http://java/"
 					+ ClassDefiner.class.getName().replace('.', '/')
@@ -60,10 +69,44 @@ public class ClassDefiner extends ClassLoader {
 			throw new AssertionError(e);
 		}
 	}
+	/**
+	 * Resource folder for classes that were generated at build time. The
+	 * classes of each version are stored in a sub-folder and the file
+	 * <code>versions</code> lists all packaged versions.
+	 */
+	public static final String PACKAGED_CLASSES = "META-INF/komma-classes/";
+
+	/**
+	 * Time in milliseconds after that the cached classes of a version are
+	 * considered stale if they were not used. The cache directory may be
+	 * shared by multiple applications with different versions, hence only
+	 * stale versions are removed.
+	 */
+	public static final long STALE_VERSION_AGE = TimeUnit.DAYS.toMillis(30);
+
+	private static final Pattern VERSION = Pattern.compile("[0-9a-f]+");
+
 	private ConcurrentMap<String, byte[]> bytecodes = new ConcurrentHashMap<String, byte[]>();
 
 	private File output;
 
+	private boolean loadSaved;
+
+	private String packagedVersion;
+
+	private ConcurrentMap<String, PendingClass> pending = new ConcurrentHashMap<String, PendingClass>();
+
+	/**
+	 * The creation of a class by the thread that requested it first.
+	 */
+	private static class PendingClass extends FutureTask<Class<?>> {
+		final Thread owner = Thread.currentThread();
+
+		PendingClass(Callable<Class<?>> callable) {
+			super(callable);
+		}
+	}
+
 	/**
 	 * Creates a new Class Factory using the current context class loader.
 	 */
@@ -98,6 +141,133 @@ public class ClassDefiner extends ClassLoader {
 		dir.mkdirs();
 	}
 
+	/**
+	 * Creates a Class Factory that saves all defined classes below
+	 * <code>cacheDir</code> and loads them from there if they are requested
+	 * again, e.g. after a restart.
+	 * <p>
+	 * The classes are stored in a sub-directory for the given
+	 * <code>version</code>, a hex string that must change whenever the
+	 * generated classes would change. Directories of other versions are
+	 * removed if they were not used for {@link #STALE_VERSION_AGE}.
+	 * 
+	 * @param cacheDir
+	 *            the root directory of the cache
+	 * @param version
+	 *            the version of the cached classes
+	 * @param parent
+	 *            the parent class loader
+	 */
+	public static ClassDefiner createCached(File cacheDir, String version,
+			ClassLoader parent) {
+		if (!VERSION.matcher(version).matches()) {
+			throw new IllegalArgumentException("Invalid version: " + version);
+		}
+		long now = System.currentTimeMillis();
+		File[] versions = cacheDir.listFiles();
+		if (versions != null) {
+			for (File other : versions) {
+				if (other.isDirectory() && !other.getName().equals(version)
+						&& VERSION.matcher(other.getName()).matches()
+						&& now - other.lastModified() > STALE_VERSION_AGE) {
+					delete(other);
+				}
+			}
+		}
+		ClassDefiner definer = new ClassDefiner(new File(cacheDir, version),
+				parent);
+		// mark the version as used
+		definer.output.setLastModified(now);
+		definer.loadSaved = true;
+		return definer;
+	}
+
+	/**
+	 * Enables the lookup of classes that were generated at build time for the
+	 * given <code>version</code> and packaged below
+	 * {@link #PACKAGED_CLASSES}. Packaged classes are preferred to generating
+	 * them at runtime.
+	 * 
+	 * @param version
+	 *            the version of the packaged classes or <code>null</code>
+	 */
+	public void setPackagedVersion(String version) {
+		this.packagedVersion = version;
+	}
+
+	/**
+	 * Returns the class with the given name if it is already known to this
+	 * class definer or otherwise creates it with the given
+	 * <code>factory</code>.
+	 * <p>
+	 * Concurrent requests for the same class wait for the first one while
+	 * classes with different names are created in parallel. A
+	 * <code>factory</code> must not request the class that it creates since
+	 * this would wait for itself.
+	 * 
+	 * @param name
+	 *            the full name of the class
+	 * @param factory
+	 *            creates and defines the class, may return <code>null</code>
+	 * @return the class or <code>null</code> if the factory did not create it
+	 */
+	public Class<?> getOrCreateClass(String name, Callable<Class<?>> factory)
+			throws Exception {
+		Class<?> c = findDefinedClass(name);
+		if (c != null) {
+			return c;
+		}
+		PendingClass task = new PendingClass(() -> {
+			// the class may have been defined after the first lookup
+			Class<?> defined = findDefinedClass(name);
+			return defined != null ? defined : factory.call();
+		});
+		PendingClass existing = pending.putIfAbsent(name, task);
+		if (existing == null) {
+			try {
+				task.run();
+			} finally {
+				// the class is now found by the lookup above
+				pending.remove(name, task);
+			}
+		} else if (existing.owner == Thread.currentThread()) {
+			throw new IllegalStateException("Recursive creation of class "
+					+ name);
+		} else {
+			task = existing;
+		}
+		try {
+			return task.get();
+		} catch (ExecutionException e) {
+			Throwable cause = e.getCause();
+			if (cause instanceof Exception) {
+				throw (Exception) cause;
+			}
+			if (cause instanceof Error) {
+				throw (Error) cause;
+			}
+			throw e;
+		}
+	}
+
+	private Class<?> findDefinedClass(String name) {
+		try {
+			return loadClass(name, false);
+		} catch (ClassNotFoundException e) {
+			return null;
+		}
+	}
+
+	private static void delete(File file) {
+		File[] children = file.listFiles();
+		if (children != null) {
+			for (File child : children) {
+				delete(child);
+			}
+		}
+		file.delete();
+	}
+
 	@Override
 	public URL getResource(String name) {
 		if (output != null) {
@@ -149,17 +319,65 @@ public class ClassDefiner extends ClassLoader {
 		try {
 			File file = new File(output, fileName);
 			file.getParentFile().mkdirs();
-			FileOutputStream out = new FileOutputStream(file);
+			// write to a temporary file first that other processes using the
+			// same directory never see partially written classes
+			File tmp = File.createTempFile(file.getName(), ".tmp",
+					file.getParentFile());
+			FileOutputStream out = new FileOutputStream(tmp);
 			try {
 				out.write(bytecode);
 			} finally {
 				out.close();
 			}
+			Files.move(tmp.toPath(), file.toPath(),
+					StandardCopyOption.REPLACE_EXISTING,
+					StandardCopyOption.ATOMIC_MOVE);
 		} catch (IOException e) {
 			throw new AssertionError(e);
 		}
 	}
 
+	/**
+	 * Defines a class from the bytecode that was saved by a previous
+	 * instance.
+	 */
+	private Class<?> loadSavedClass(String name) {
+		String resource = name.replace('.', '/') + ".class";
+		File file = new File(output, resource);
+		if (!file.isFile()) {
+			return null;
+		}
+		try {
+			byte[] bytecode = Files.readAllBytes(file.toPath());
+			Class<?> c = defineClass(name, bytecode, 0, bytecode.length);
+			bytecodes.putIfAbsent(resource, bytecode);
+			return c;
+		} catch (IOException | ClassFormatError e) {
+			// the class is generated again
+			file.delete();
+			return null;
+		}
+	}
+
+	/**
+	 * Defines a class from the bytecode that was packaged at build time.
+	 */
+	private Class<?> loadPackagedClass(String name) {
+		String resource = name.replace('.', '/') + ".class";
+		try (InputStream in = getParent().getResourceAsStream(
+				PACKAGED_CLASSES + packagedVersion + "/" + resource)) {
+			if (in == null) {
+				return null;
+			}
+			byte[] bytecode = in.readAllBytes();
+			Class<?> c = defineClass(name, bytecode, 0, bytecode.length);
+			bytecodes.putIfAbsent(resource, bytecode);
+			return c;
+		} catch (IOException e) {
+			return null;
+		}
+	}
+
 	@Override
 	protected Class<?> loadClass(String name, boolean resolve)
 			throws ClassNotFoundException {
@@ -169,6 +387,12 @@ public class ClassDefiner extends ClassLoader {
 			// since this class should be defined in this class loader
 			synchronized (getClassLoadingLock(name)) {
 				Class<?> c = findLoadedClass(name);
+				if (c == null && loadSaved) {
+					c = loadSavedClass(name);
+				}
+				if (c == null && packagedVersion != null) {
+					c = loadPackagedClass(name);
+				}
 				if (c == null) {
 					throw new ClassNotFoundException(name);
 				}
@@ -28,7 +28,9 @@
  */
 package net.enilink.composition;
 
+import java.lang.reflect.Constructor;
 import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.Collection;
 import java.util.HashSet;
 import java.util.LinkedHashSet;
@@ -37,6 +39,12 @@ import java.util.Set;
 import java.util.TreeSet;
 import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.ConcurrentMap;
+import java.util.function.Supplier;
+
+import org.objectweb.asm.ClassWriter;
+import org.objectweb.asm.MethodVisitor;
+import org.objectweb.asm.Opcodes;
+import org.objectweb.asm.Type;
 
 import net.enilink.composition.exceptions.CompositionException;
 import net.enilink.composition.helpers.ClassComposer;
@@ -54,10 +62,19 @@ import com.google.inject.Singleton;
 public class ClassResolver<T> {
 	public static final String PKG_PREFIX = "object.proxies.";
 	private static final String CLASS_PREFIX = "_EntityProxy";
+	private static final String FACTORY_SUFFIX = "$$Factory";
+
+	private static final ClassValue<Supplier<Object>> instanceFactories = new ClassValue<Supplier<Object>>() {
+		@Override
+		protected Supplier<Object> computeValue(Class<?> type) {
+			return createInstanceFactory(type);
+		}
+	};
 
 	private ClassDefiner definer;
 	private RoleMapper<T> mapper;
 	private ConcurrentMap<Collection<T>, Class<?>> multiples = new ConcurrentHashMap<Collection<T>, Class<?>>();
+	private ConcurrentMap<List<Object>, Class<?>> individuals = new ConcurrentHashMap<List<Object>, Class<?>>();
 
 	private Injector injector;
 
@@ -78,10 +95,25 @@ public class ClassResolver<T> {
 	}
 
 	public Class<?> resolveComposite(T resource, Collection<T> types) {
-		Collection<Class<?>> roles = new ArrayList<Class<?>>();
-		mapper.findIndividualRoles(resource, roles);
+		if (!mapper.isIndividualRolesPresent(resource)) {
+			return resolveComposite(types);
+		}
+		Set<Class<?>> individualRoles = new HashSet<Class<?>>();
+		mapper.findIndividualRoles(resource, individualRoles);
+		if (individualRoles.isEmpty()) {
+			return resolveComposite(types);
+		}
+		// cached by roles instead of resources to bound the cache size
+		List<Object> key = Arrays.<Object> asList(individualRoles, types);
+		Class<?> proxy = individuals.get(key);
+		if (proxy != null) {
+			return proxy;
+		}
+		Collection<Class<?>> roles = new ArrayList<Class<?>>(individualRoles);
 		mapper.findRoles(types, roles);
-		return getCompositeClass(roles);
+		proxy = getCompositeClass(roles);
+		individuals.putIfAbsent(key, proxy);
+		return proxy;
 	}
 
 	public Class<?> resolveComposite(Collection<T> types) {
@@ -96,6 +128,72 @@ public class ClassResolver<T> {
 		return proxy;
 	}
 
+	/**
+	 * Returns a factory for new instances of the given composite class.
+	 * <p>
+	 * For classes created by a {@link ClassDefiner} a factory class is
+	 * generated that invokes the default constructor directly. The members of
+	 * the created instances are not injected.
+	 */
+	public Supplier<Object> getInstanceFactory(Class<?> compositeClass) {
+		return instanceFactories.get(compositeClass);
+	}
+
+	@SuppressWarnings("unchecked")
+	private static Supplier<Object> createInstanceFactory(Class<?> type) {
+		try {
+			if (type.getClassLoader() instanceof ClassDefiner) {
+				ClassDefiner definer = (ClassDefiner) type.getClassLoader();
+				String factoryName = type.getName() + FACTORY_SUFFIX;
+				Class<?> factoryClass = definer.getOrCreateClass(factoryName,
+						() -> definer.defineClass(factoryName, generateInstanceFactory(type, factoryName)));
+				return (Supplier<Object>) factoryClass.getDeclaredConstructor().newInstance();
+			}
+			final Constructor<?> constructor = type.getDeclaredConstructor();
+			return () -> {
+				try {
+					return constructor.newInstance();
+				} catch (Exception e) {
+					throw new CompositionException(e);
+				}
+			};
+		} catch (CompositionException e) {
+			throw e;
+		} catch (Exception e) {
+			throw new CompositionException(e);
+		}
+	}
+
+	private static byte[] generateInstanceFactory(Class<?> type, String factoryName) {
+		String internalName = factoryName.replace('.', '/');
+		String typeName = Type.getInternalName(type);
+		String objectName = Type.getInternalName(Object.class);
+
+		ClassWriter cw = new ClassWriter(ClassWriter.COMPUTE_MAXS);
+		cw.visit(Opcodes.V1_8, Opcodes.ACC_PUBLIC | Opcodes.ACC_FINAL | Opcodes.ACC_SUPER, internalName, null,
+				objectName, new String[] { Type.getInternalName(Supplier.class) });
+
+		MethodVisitor mv = cw.visitMethod(Opcodes.ACC_PUBLIC, "<init>", "()V", null, null);
+		mv.visitCode();
+		mv.visitVarInsn(Opcodes.ALOAD, 0);
+		mv.visitMethodInsn(Opcodes.INVOKESPECIAL, objectName, "<init>", "()V", false);
+		mv.visitInsn(Opcodes.RETURN);
+		mv.visitMaxs(0, 0);
+		mv.visitEnd();
+
+		mv = cw.visitMethod(Opcodes.ACC_PUBLIC, "get", "()Ljava/lang/Object;", null, null);
+		mv.visitCode();
+		mv.visitTypeInsn(Opcodes.NEW, typeName);
+		mv.visitInsn(Opcodes.DUP);
+		mv.visitMethodInsn(Opcodes.INVOKESPECIAL, typeName, "<init>", "()V", false);
+		mv.visitInsn(Opcodes.ARETURN);
+		mv.visitMaxs(0, 0);
+		mv.visitEnd();
+
+		cw.visitEnd();
+		return cw.toByteArray();
+	}
+
 	private Class<?> getCompositeClass(Collection<Class<?>> roles) {
 		try {
 			String className = getJavaClassName(roles);
@@ -112,17 +210,9 @@ public class ClassResolver<T> {
 
 	private Class<?> getCompositeClass(String className,
 			Collection<Class<?>> roles) throws Exception {
-		try {
-			return Class.forName(className, true, definer);
-		} catch (ClassNotFoundException e) {
-			synchronized (definer) {
-				try {
-					return Class.forName(className, true, definer);
-				} catch (ClassNotFoundException e1) {
-					return composeBehaviours(className, roles);
-				}
-			}
-		}
+		// different composites are composed in parallel
+		return definer.getOrCreateClass(className,
+				() -> composeBehaviours(className, roles));
 	}
 
 	private Class<?> composeBehaviours(String className,
@@ -34,6 +34,13 @@ public class CompositionModule<T> extends AbstractModule {
 		bind(ClassDefiner.class).in(Singleton.class);
 	}
 
+	protected void bindBehaviourInjector() {
+		// bind the implementation explicitly to ensure that it is created by
+		// this injector instead of a parent injector
+		bind(DefaultBehaviourInjector.class);
+		bind(BehaviourInjector.class).to(DefaultBehaviourInjector.class);
+	}
+
 	@Override
 	protected void configure() {
 		initBindings();
@@ -76,6 +83,7 @@ public class CompositionModule<T> extends AbstractModule {
 				DefaultBehaviourFactory.class);
 
 		bindClassDefiner();
+		bindBehaviourInjector();
 	}
 	
 	protected RoleMapper<T> createRoleMapper(TypeFactory<T> typeFactory) {
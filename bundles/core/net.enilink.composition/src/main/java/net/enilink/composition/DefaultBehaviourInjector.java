@@ -0,0 +1,27 @@
+/*******************************************************************************
+ * Copyright (c) 2026 Fraunhofer IWU and others.
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * Contributors:
+ *     Fraunhofer IWU - initial API and implementation
+ *******************************************************************************/
+package net.enilink.composition;
+
+import com.google.inject.Inject;
+import com.google.inject.Injector;
+
+/**
+ * Injects behaviours with the {@link Injector} that created this instance.
+ */
+public class DefaultBehaviourInjector implements BehaviourInjector {
+	@Inject
+	private Injector injector;
+
+	@Override
+	public void injectMembers(Object behaviour) {
+		injector.injectMembers(behaviour);
+	}
+}
@@ -223,11 +223,8 @@ public abstract class BehaviourFactoryBase implements BehaviourFactory {
 		// first check whether we did not already create and load the
 		// extension of the given behaviour class
 		String extendedClassName = getExtendedClassName(behaviourClass);
-		Class<?> extendedClass = AsmUtils.findClass(extendedClassName, definer);
-		if (extendedClass == null) {
-			extendedClass = extendBehaviourClass(extendedClassName,
-					behaviourClass);
-		}
+		Class<?> extendedClass = definer.getOrCreateClass(extendedClassName,
+				() -> extendBehaviourClass(extendedClassName, behaviourClass));
 		return extendedClass != null ? Collections
 				.<Class<?>> singleton(extendedClass) : Collections
 				.<Class<?>> emptySet();
@@ -23,12 +23,12 @@ import org.objectweb.asm.Type;
 import org.objectweb.asm.tree.ClassNode;
 import org.objectweb.asm.tree.FieldNode;
 import org.objectweb.asm.tree.MethodNode;
+import net.enilink.composition.BehaviourInjector;
 import net.enilink.composition.ClassDefiner;
 import net.enilink.composition.asm.meta.ClassInfo;
 import net.enilink.composition.asm.util.MethodNodeGenerator;
 
 import com.google.inject.Inject;
-import com.google.inject.Injector;
 
 /**
  * Represents the mutable structure of a Java class.
@@ -115,7 +115,7 @@ public abstract class ExtendedClassNode extends ClassNode {
 	@SuppressWarnings("unchecked")
 	public void addInjectorField() {
 		FieldNode injectorField = new FieldNode(Opcodes.ACC_PRIVATE,
-				INJECTOR_FIELD, Type.getDescriptor(Injector.class), null, null);
+				INJECTOR_FIELD, Type.getDescriptor(BehaviourInjector.class), null, null);
 		injectorField.visitAnnotation(Type.getDescriptor(Inject.class), true);
 		fields.add(injectorField);
 	}
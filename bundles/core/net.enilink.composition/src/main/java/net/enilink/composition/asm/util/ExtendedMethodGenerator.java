@@ -11,11 +11,10 @@
 package net.enilink.composition.asm.util;
 
 import org.objectweb.asm.Type;
+import net.enilink.composition.BehaviourInjector;
 import net.enilink.composition.asm.ExtendedClassNode;
 import net.enilink.composition.asm.ExtendedMethod;
 
-import com.google.inject.Injector;
-
 /**
  * Generator for {@link ExtendedMethod}s.
  */
@@ -93,9 +92,9 @@ public class ExtendedMethodGenerator extends MethodNodeGenerator {
 		dup();
 		loadThis();
 		getField(getMethod().getOwner().getType(),
-				ExtendedClassNode.INJECTOR_FIELD, Type.getType(Injector.class));
+				ExtendedClassNode.INJECTOR_FIELD, Type.getType(BehaviourInjector.class));
 		swap();
-		invokeInterface(Type.getType(Injector.class),
+		invokeInterface(Type.getType(BehaviourInjector.class),
 				org.objectweb.asm.commons.Method
 						.getMethod("void injectMembers(Object)"));
 	}
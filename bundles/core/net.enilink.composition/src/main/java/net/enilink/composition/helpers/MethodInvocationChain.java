@@ -29,14 +29,17 @@
 package net.enilink.composition.helpers;
 
 import java.lang.annotation.Annotation;
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.MethodType;
 import java.lang.reflect.AccessibleObject;
 import java.lang.reflect.InvocationTargetException;
 import java.lang.reflect.Method;
-import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.Collections;
-import java.util.List;
 import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
 
 import org.aopalliance.intercept.MethodInvocation;
 import net.enilink.composition.annotations.Iri;
@@ -44,15 +47,134 @@ import net.enilink.composition.exceptions.BehaviourException;
 
 /**
  * Implements the {@link MethodInvocation} interface.
+ * <p>
+ * A new chain is created by the composed class for each invocation of an
+ * intercepted method. Therefore, the chain is not thread-safe and
+ * {@link #proceed()} does not require any locking. The behaviour methods are
+ * called through {@link MethodHandle}s that are created once per method.
  */
 public class MethodInvocationChain implements MethodInvocation {
+	/**
+	 * Invokes a single behaviour method of the chain.
+	 */
+	static class Invoker {
+		final Method method;
+
+		final MethodHandle handle;
+
+		final int parameterCount;
+
+		final boolean intercepting;
+
+		final Class<?> resultType;
+
+		/**
+		 * The values of {@link Iri} annotations of the method's parameters or
+		 * <code>null</code> if no parameter is annotated
+		 */
+		final String[] parameterIris;
+
+		Invoker(Method method) {
+			this.method = method;
+			Class<?>[] param = method.getParameterTypes();
+			this.parameterCount = param.length;
+			this.intercepting = param.length == 1
+					&& MethodInvocation.class.isAssignableFrom(param[0]);
+			this.resultType = method.getReturnType();
+			this.parameterIris = findParameterIris(method);
+			this.handle = createHandle(method);
+		}
+
+		static String[] findParameterIris(Method method) {
+			String[] iris = null;
+			Annotation[][] anns = method.getParameterAnnotations();
+			for (int i = 0; i < anns.length; i++) {
+				for (int j = 0; j < anns[i].length; j++) {
+					if (anns[i][j].annotationType().equals(Iri.class)) {
+						if (iris == null) {
+							iris = new String[anns.length];
+						}
+						iris[i] = ((Iri) anns[i][j]).value();
+					}
+				}
+			}
+			return iris;
+		}
+
+		static MethodHandle createHandle(Method method) {
+			MethodHandle handle;
+			try {
+				handle = MethodHandles.lookup().unreflect(method);
+			} catch (IllegalAccessException e) {
+				try {
+					method.setAccessible(true);
+					handle = MethodHandles.lookup().unreflect(method);
+				} catch (RuntimeException | IllegalAccessException e1) {
+					// fall back to reflection, this also reports the access
+					// error in the same way as before
+					return null;
+				}
+			}
+			// adapt to (Object, Object[])Object
+			return handle.asType(
+					MethodType.genericMethodType(handle.type()
+							.parameterCount())).asSpreader(Object[].class,
+					method.getParameterCount());
+		}
+
+		Object invoke(Object target, Object[] args) throws Throwable {
+			if (handle == null) {
+				try {
+					return method.invoke(target, args);
+				} catch (InvocationTargetException e) {
+					throw e.getCause();
+				} catch (IllegalAccessException e) {
+					IllegalAccessError error = new IllegalAccessError(
+							e.getMessage());
+					error.initCause(e);
+					throw error;
+				}
+			}
+			return handle.invokeExact(target, args);
+		}
+	}
+
+	/**
+	 * The invokers for the methods of each declaring class. The invokers are
+	 * discarded together with their classes.
+	 */
+	private static final ClassValue<ConcurrentMap<Method, Invoker>> INVOKERS = new ClassValue<ConcurrentMap<Method, Invoker>>() {
+		@Override
+		protected ConcurrentMap<Method, Invoker> computeValue(Class<?> type) {
+			return new ConcurrentHashMap<Method, Invoker>();
+		}
+	};
+
+	private static final Object[] NO_ARGS = new Object[0];
+
+	static Invoker getInvoker(Method method) {
+		ConcurrentMap<Method, Invoker> invokers = INVOKERS.get(method
+				.getDeclaringClass());
+		Invoker invoker = invokers.get(method);
+		if (invoker == null) {
+			invoker = new Invoker(method);
+			Invoker existing = invokers.putIfAbsent(method, invoker);
+			if (existing != null) {
+				invoker = existing;
+			}
+		}
+		return invoker;
+	}
+
 	private final Object[] arguments;
 
 	private int count;
 
-	private final List<Method> invokeMethod = new ArrayList<Method>();
+	private int size;
+
+	private Invoker[] invokers = new Invoker[4];
 
-	private final List<Object> invokeTarget = new ArrayList<Object>();
+	private Object[] invokeTargets = new Object[4];
 
 	private final Method method;
 
@@ -65,10 +187,14 @@ public class MethodInvocationChain implements MethodInvocation {
 		this.arguments = arguments;
 	}
 
-	public synchronized MethodInvocationChain appendInvocation(Object target,
-			Method method) {
-		invokeTarget.add(target);
-		invokeMethod.add(method);
+	public MethodInvocationChain appendInvocation(Object target, Method method) {
+		if (size == invokers.length) {
+			invokers = Arrays.copyOf(invokers, size * 2);
+			invokeTargets = Arrays.copyOf(invokeTargets, size * 2);
+		}
+		invokers[size] = getInvoker(method);
+		invokeTargets[size] = target;
+		size++;
 		return this;
 	}
 
@@ -94,21 +220,24 @@ public class MethodInvocationChain implements MethodInvocation {
 		return arguments;
 	}
 
-	private Object[] getArguments(Method method) {
+	Object[] getArguments(Invoker invoker) {
 		Object[] parameters = getArguments();
-		Annotation[][] anns = method.getParameterAnnotations();
-		Object[] result = new Object[anns.length];
-		for (int i = 0; i < anns.length; i++) {
-			if (i < parameters.length) {
+		if (parameters == null) {
+			parameters = NO_ARGS;
+		}
+		String[] iris = invoker.parameterIris;
+		if (iris == null && parameters.length == invoker.parameterCount) {
+			// the arguments are only read by the method handle
+			return parameters;
+		}
+		Object[] result = new Object[invoker.parameterCount];
+		for (int i = 0; i < result.length; i++) {
+			if (iris != null && iris[i] != null) {
+				result[i] = parameters[getParameterIndex(iris[i])];
+			} else if (i < parameters.length) {
 				// if no @Iri copy over parameter by position
 				result[i] = parameters[i];
 			}
-			for (int j = 0; j < anns[i].length; j++) {
-				if (anns[i][j].annotationType().equals(Iri.class)) {
-					String uri = ((Iri) anns[i][j]).value();
-					result[i] = parameters[getParameterIndex(uri)];
-				}
-			}
 		}
 		return result;
 	}
@@ -175,47 +304,38 @@ public class MethodInvocationChain implements MethodInvocation {
 		throw new AssertionError();
 	}
 
-	public synchronized Object proceed() throws Exception {
+	public Object proceed() throws Exception {
 		try {
 			Class<?> responseType = method.getReturnType();
 			while (true) {
-				if (count >= invokeTarget.size()) {
+				if (count >= size) {
 					return nil(responseType);
 				}
-				Method im = invokeMethod.get(count);
-				Object it = invokeTarget.get(count);
+				Invoker invoker = invokers[count];
+				Object it = invokeTargets[count];
 				count++;
-				Class<?>[] param = im.getParameterTypes();
-				Class<?> resultType = im.getReturnType();
-				if (param.length == 1
-						&& MethodInvocation.class.isAssignableFrom(param[0])) {
-					Object result = im.invoke(it, this);
+				Class<?> resultType = invoker.resultType;
+				if (invoker.intercepting) {
+					Object result = invoker.invoke(it, new Object[] { this });
 					return cast(result, resultType, responseType);
 				} else {
-					Object result = im.invoke(it, getArguments(im));
+					Object result = invoker.invoke(it, getArguments(invoker));
 					if (isNil(result, resultType))
 						continue;
 					return cast(result, resultType, responseType);
 				}
 			}
-		} catch (InvocationTargetException e) {
-			Throwable cause = e.getCause();
-			if (cause instanceof Exception)
-				throw (Exception) cause;
-			if (cause instanceof Error)
-				throw (Error) cause;
-			throw new BehaviourException(cause);
-		} catch (IllegalArgumentException e) {
+		} catch (Exception e) {
+			throw e;
+		} catch (Error e) {
 			throw e;
-		} catch (IllegalAccessException e) {
-			IllegalAccessError error = new IllegalAccessError(e.getMessage());
-			error.initCause(e);
-			throw error;
+		} catch (Throwable e) {
+			throw new BehaviourException(e);
 		}
 	}
 
 	@Override
-	public synchronized String toString() {
+	public String toString() {
 		String params = Arrays.asList(arguments).toString();
 		String values = params.substring(1, params.length() - 1);
 		return method.getName() + "(" + values + ")";
@@ -0,0 +1,169 @@
+/*******************************************************************************
+ * Copyright (c) 2026 Fraunhofer IWU and others.
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * Contributors:
+ *     Fraunhofer IWU - initial API and implementation
+ *******************************************************************************/
+package net.enilink.composition.helpers;
+
+import java.lang.reflect.Method;
+
+import org.aopalliance.intercept.MethodInvocation;
+import org.junit.Assert;
+import org.junit.Test;
+
+import net.enilink.composition.annotations.Iri;
+
+public class MethodInvocationChainTest {
+	public interface Concept {
+		String concat(@Iri("urn:test:first") String first,
+				@Iri("urn:test:second") String second);
+	}
+
+	public static class NilBehaviour {
+		public String concat(String first, String second) {
+			return null;
+		}
+	}
+
+	public static class ConcatBehaviour {
+		public String concat(String first, String second) {
+			return first + second;
+		}
+	}
+
+	public static class SwappedBehaviour {
+		public String concat(@Iri("urn:test:second") String second,
+				@Iri("urn:test:first") String first) {
+			return second + first;
+		}
+	}
+
+	public static class FirstBehaviour {
+		public String concat(String first) {
+			return first;
+		}
+	}
+
+	public static class Interceptor {
+		public Object concat(MethodInvocation invocation) throws Throwable {
+			return "<" + invocation.proceed() + ">";
+		}
+	}
+
+	static class PrivateBehaviour {
+		private String concat(String first, String second) {
+			return second + first;
+		}
+	}
+
+	Method method() throws Exception {
+		return Concept.class.getMethod("concat", String.class, String.class);
+	}
+
+	Method concat(Class<?> behaviourClass) throws Exception {
+		for (Method method : behaviourClass.getDeclaredMethods()) {
+			if (method.getName().equals("concat")) {
+				return method;
+			}
+		}
+		throw new AssertionError("Method not found");
+	}
+
+	@Test
+	public void testChain() throws Exception {
+		Object result = new MethodInvocationChain(this, method(),
+				new Object[] { "a", "b" })
+				.appendInvocation(new Interceptor(), concat(Interceptor.class))
+				.appendInvocation(new NilBehaviour(),
+						concat(NilBehaviour.class))
+				.appendInvocation(new ConcatBehaviour(),
+						concat(ConcatBehaviour.class)).proceed();
+		Assert.assertEquals("<ab>", result);
+	}
+
+	@Test
+	public void testArgumentsArePassedThrough() throws Exception {
+		Object[] args = { "a", "b" };
+		MethodInvocationChain chain = new MethodInvocationChain(this, method(),
+				args);
+		MethodInvocationChain.Invoker invoker = MethodInvocationChain
+				.getInvoker(concat(ConcatBehaviour.class));
+		Assert.assertNull(invoker.parameterIris);
+		Assert.assertSame(args, chain.getArguments(invoker));
+	}
+
+	@Test
+	public void testIriParametersAreRemapped() throws Exception {
+		Object[] args = { "a", "b" };
+		MethodInvocationChain chain = new MethodInvocationChain(this, method(),
+				args);
+		MethodInvocationChain.Invoker invoker = MethodInvocationChain
+				.getInvoker(concat(SwappedBehaviour.class));
+		Assert.assertArrayEquals(new Object[] { "b", "a" },
+				chain.getArguments(invoker));
+		Assert.assertEquals("ba", chain.appendInvocation(
+				new SwappedBehaviour(), concat(SwappedBehaviour.class))
+				.proceed());
+		// the arguments of the caller are not modified
+		Assert.assertArrayEquals(new Object[] { "a", "b" }, args);
+	}
+
+	@Test
+	public void testParametersAreCopiedByPosition() throws Exception {
+		Object result = new MethodInvocationChain(this, method(),
+				new Object[] { "a", "b" }).appendInvocation(
+				new FirstBehaviour(), concat(FirstBehaviour.class)).proceed();
+		Assert.assertEquals("a", result);
+	}
+
+	@Test
+	public void testPrivateMethod() throws Exception {
+		// the method is made accessible to create the method handle
+		Assert.assertNotNull(MethodInvocationChain.getInvoker(
+				concat(PrivateBehaviour.class)).handle);
+		Object result = new MethodInvocationChain(this, method(),
+				new Object[] { "a", "b" }).appendInvocation(
+				new PrivateBehaviour(), concat(PrivateBehaviour.class))
+				.proceed();
+		Assert.assertEquals("ba", result);
+	}
+
+	@Test
+	public void testReflectionFallback() throws Exception {
+		// a public method of a package that is not exported by its module
+		// can neither be unreflected nor made accessible
+		Method internal = Class.forName("jdk.internal.misc.VM").getMethod(
+				"isBooted");
+		MethodInvocationChain.Invoker invoker = MethodInvocationChain
+				.getInvoker(internal);
+		Assert.assertNull(invoker.handle);
+		try {
+			invoker.invoke(null, new Object[0]);
+			Assert.fail("Access to the method must be denied");
+		} catch (IllegalAccessError e) {
+			Assert.assertTrue(e.getCause() instanceof IllegalAccessException);
+		} catch (Throwable e) {
+			throw new AssertionError(e);
+		}
+	}
+
+	@Test
+	public void testExceptionsAreUnwrapped() throws Exception {
+		Method method = Object.class.getMethod("wait", long.class);
+		try {
+			// not owning the monitor results in an exception of the method
+			MethodInvocationChain.getInvoker(method).invoke(new Object(),
+					new Object[] { 1L });
+			Assert.fail("Exception expected");
+		} catch (IllegalMonitorStateException e) {
+			// expected
+		} catch (Throwable e) {
+			throw new AssertionError(e);
+		}
+	}
+}
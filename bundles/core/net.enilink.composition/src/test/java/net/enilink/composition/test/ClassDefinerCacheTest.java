@@ -0,0 +1,106 @@
+/*******************************************************************************
+ * Copyright (c) 2026 Fraunhofer IWU and others.
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * Contributors:
+ *     Fraunhofer IWU - initial API and implementation
+ *******************************************************************************/
+package net.enilink.composition.test;
+
+import static org.junit.Assert.assertArrayEquals;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertSame;
+import static org.junit.Assert.assertTrue;
+
+import java.io.File;
+import java.nio.file.Files;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+import org.objectweb.asm.ClassWriter;
+import org.objectweb.asm.Opcodes;
+
+import net.enilink.composition.ClassDefiner;
+import net.enilink.composition.ClassResolver;
+
+/**
+ * Tests for the class definers that persist generated classes.
+ */
+public class ClassDefinerCacheTest {
+	static final String NAME = ClassResolver.PKG_PREFIX + "cache.Cached";
+
+	static final String RESOURCE = NAME.replace('.', '/') + ".class";
+
+	@Rule
+	public TemporaryFolder folder = new TemporaryFolder();
+
+	final AtomicInteger generated = new AtomicInteger();
+
+	static byte[] bytecode() {
+		ClassWriter cw = new ClassWriter(0);
+		cw.visit(Opcodes.V1_8, Opcodes.ACC_PUBLIC, NAME.replace('.', '/'), null, "java/lang/Object", null);
+		cw.visitEnd();
+		return cw.toByteArray();
+	}
+
+	Class<?> getOrCreate(ClassDefiner definer) throws Exception {
+		return definer.getOrCreateClass(NAME, () -> {
+			generated.incrementAndGet();
+			return definer.defineClass(NAME, bytecode());
+		});
+	}
+
+	@Test
+	public void testCacheHit() throws Exception {
+		File cacheDir = folder.newFolder();
+		ClassLoader parent = getClass().getClassLoader();
+
+		Class<?> generatedClass = getOrCreate(ClassDefiner.createCached(cacheDir, "a1", parent));
+		assertEquals(1, generated.get());
+		assertTrue(new File(cacheDir, "a1/" + RESOURCE).isFile());
+
+		// e.g. after a restart
+		ClassDefiner definer = ClassDefiner.createCached(cacheDir, "a1", parent);
+		Class<?> cachedClass = getOrCreate(definer);
+		assertEquals("The saved class must be used", 1, generated.get());
+		assertEquals(generatedClass.getName(), cachedClass.getName());
+		assertSame(definer, cachedClass.getClassLoader());
+	}
+
+	@Test
+	public void testInvalidation() throws Exception {
+		File cacheDir = folder.newFolder();
+		ClassLoader parent = getClass().getClassLoader();
+
+		getOrCreate(ClassDefiner.createCached(cacheDir, "a1", parent));
+		getOrCreate(ClassDefiner.createCached(cacheDir, "b2", parent));
+		assertEquals("Classes of other versions must not be used", 2, generated.get());
+		// the version may still be used by another application
+		assertTrue(new File(cacheDir, "a1/" + RESOURCE).isFile());
+
+		File stale = new File(cacheDir, "a1");
+		stale.setLastModified(System.currentTimeMillis() - ClassDefiner.STALE_VERSION_AGE - 1000);
+		ClassDefiner.createCached(cacheDir, "b2", parent);
+		assertFalse("Stale versions must be removed", stale.exists());
+		assertTrue(new File(cacheDir, "b2/" + RESOURCE).isFile());
+	}
+
+	@Test
+	public void testCorruptFile() throws Exception {
+		File cacheDir = folder.newFolder();
+		File file = new File(cacheDir, "a1/" + RESOURCE);
+		file.getParentFile().mkdirs();
+		Files.write(file.toPath(), new byte[] { 1, 2, 3 });
+
+		Class<?> c = getOrCreate(ClassDefiner.createCached(cacheDir, "a1", getClass().getClassLoader()));
+		assertEquals("A corrupt class must be generated again", 1, generated.get());
+		assertEquals(NAME, c.getName());
+		assertArrayEquals(bytecode(), Files.readAllBytes(file.toPath()));
+	}
+}
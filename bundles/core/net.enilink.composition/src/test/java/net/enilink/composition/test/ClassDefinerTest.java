@@ -0,0 +1,126 @@
+/*******************************************************************************
+ * Copyright (c) 2026 Fraunhofer IWU and others.
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * Contributors:
+ *     Fraunhofer IWU - initial API and implementation
+ *******************************************************************************/
+package net.enilink.composition.test;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertSame;
+import static org.junit.Assert.fail;
+
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.Callable;
+import java.util.concurrent.CyclicBarrier;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.junit.After;
+import org.junit.Test;
+import org.objectweb.asm.ClassWriter;
+import org.objectweb.asm.Opcodes;
+
+import net.enilink.composition.ClassDefiner;
+import net.enilink.composition.ClassResolver;
+
+/**
+ * Tests the concurrent creation of classes by a class definer.
+ */
+public class ClassDefinerTest {
+	static final String NAME = ClassResolver.PKG_PREFIX + "definer.Defined";
+
+	final ClassDefiner definer = new ClassDefiner(getClass().getClassLoader());
+
+	final ExecutorService executor = Executors.newCachedThreadPool();
+
+	@After
+	public void tearDown() throws Exception {
+		executor.shutdownNow();
+		executor.awaitTermination(10, TimeUnit.SECONDS);
+	}
+
+	static byte[] bytecode(String name) {
+		ClassWriter cw = new ClassWriter(0);
+		cw.visit(Opcodes.V1_8, Opcodes.ACC_PUBLIC, name.replace('.', '/'), null, "java/lang/Object", null);
+		cw.visitEnd();
+		return cw.toByteArray();
+	}
+
+	<T> List<T> runConcurrently(int threads, Callable<T> task) throws Exception {
+		List<Future<T>> futures = new ArrayList<>();
+		for (int i = 0; i < threads; i++) {
+			futures.add(executor.submit(task));
+		}
+		List<T> results = new ArrayList<>();
+		for (Future<T> future : futures) {
+			results.add(future.get(30, TimeUnit.SECONDS));
+		}
+		return results;
+	}
+
+	@Test
+	public void testSameClassIsCreatedOnce() throws Exception {
+		AtomicInteger created = new AtomicInteger();
+		CyclicBarrier start = new CyclicBarrier(8);
+		List<Class<?>> classes = runConcurrently(8, () -> {
+			start.await(10, TimeUnit.SECONDS);
+			return definer.getOrCreateClass(NAME, () -> {
+				created.incrementAndGet();
+				// give the other threads time to find the pending class
+				Thread.sleep(50);
+				return definer.defineClass(NAME, bytecode(NAME));
+			});
+		});
+		assertEquals(1, created.get());
+		for (Class<?> c : classes) {
+			assertSame(classes.get(0), c);
+		}
+	}
+
+	@Test
+	public void testDifferentClassesAreCreatedInParallel() throws Exception {
+		int threads = 4;
+		// each factory only completes if all factories run at the same time
+		CyclicBarrier creating = new CyclicBarrier(threads);
+		AtomicInteger index = new AtomicInteger();
+		List<Class<?>> classes = runConcurrently(threads, () -> {
+			String name = NAME + index.getAndIncrement();
+			return definer.getOrCreateClass(name, () -> {
+				creating.await(10, TimeUnit.SECONDS);
+				return definer.defineClass(name, bytecode(name));
+			});
+		});
+		Set<Class<?>> expected = new HashSet<>();
+		for (int i = 0; i < threads; i++) {
+			expected.add(definer.loadClass(NAME + i));
+		}
+		assertEquals(expected, new HashSet<>(classes));
+	}
+
+	@Test(timeout = 30000)
+	public void testRecursiveCreationFails() throws Exception {
+		try {
+			definer.getOrCreateClass(NAME, () -> definer.getOrCreateClass(NAME, () -> {
+				fail("The class must not be created recursively");
+				return null;
+			}));
+			fail("A recursive creation must be rejected");
+		} catch (IllegalStateException e) {
+			// expected
+		}
+		// the failed creation is not pending anymore
+		Class<?> c = definer.getOrCreateClass(NAME, () -> definer.defineClass(NAME, bytecode(NAME)));
+		assertEquals(NAME, c.getName());
+	}
+}
@@ -27,13 +27,14 @@ import com.google.inject.Singleton;
 import com.google.inject.TypeLiteral;
 
 public abstract class CompositionTestCase {
+	Injector injector;
 	ObjectFactory<String> objectFactory;
 	ClassResolver<String> classResolver;
 	private RoleMapper<String> roleMapper;
 
 	@Before
 	public void setUp() throws Exception {
-		Injector injector = Guice.createInjector(createModule());
+		injector = Guice.createInjector(createModule());
 		objectFactory = injector.getInstance(new Key<ObjectFactory<String>>() {
 		});
 		classResolver = injector.getInstance(new Key<ClassResolver<String>>() {
@@ -0,0 +1,167 @@
+/*******************************************************************************
+ * Copyright (c) 2026 Fraunhofer IWU and others.
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * Contributors:
+ *     Fraunhofer IWU - initial API and implementation
+ *******************************************************************************/
+package net.enilink.composition.test;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertSame;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Random;
+import java.util.concurrent.CyclicBarrier;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+
+import org.junit.Test;
+
+import net.enilink.composition.annotations.Iri;
+import net.enilink.composition.mappers.RoleMapper;
+
+/**
+ * Tests that different composite classes are composed correctly by
+ * concurrent threads.
+ */
+public class ConcurrentCompositionTest extends CompositionTestCase {
+	@Iri("urn:test:A")
+	public interface A {
+		String getA();
+	}
+
+	@Iri("urn:test:B")
+	public interface B {
+		String getB();
+	}
+
+	@Iri("urn:test:C")
+	public interface C {
+		String getC();
+	}
+
+	@Iri("urn:test:D")
+	public interface D {
+		String getD();
+	}
+
+	public static abstract class ASupport implements A {
+		@Override
+		public String getA() {
+			return "a";
+		}
+	}
+
+	public static abstract class BSupport implements B {
+		@Override
+		public String getB() {
+			return "b";
+		}
+	}
+
+	public static abstract class CSupport implements C {
+		@Override
+		public String getC() {
+			return "c";
+		}
+	}
+
+	public static abstract class DSupport implements D {
+		@Override
+		public String getD() {
+			return "d";
+		}
+	}
+
+	@Override
+	protected void initRoleMapper(RoleMapper<String> roleMapper) {
+		super.initRoleMapper(roleMapper);
+
+		for (Class<?> concept : new Class<?>[] { A.class, B.class, C.class, D.class }) {
+			roleMapper.addConcept(concept);
+		}
+		for (Class<?> behaviour : new Class<?>[] { ASupport.class, BSupport.class, CSupport.class,
+				DSupport.class }) {
+			roleMapper.addBehaviour(behaviour);
+		}
+	}
+
+	/**
+	 * Returns all non-empty combinations of the concepts' types.
+	 */
+	List<List<String>> combinations() {
+		String[] types = { "urn:test:A", "urn:test:B", "urn:test:C", "urn:test:D" };
+		List<List<String>> combinations = new ArrayList<>();
+		for (int mask = 1; mask < 1 << types.length; mask++) {
+			List<String> combination = new ArrayList<>();
+			for (int i = 0; i < types.length; i++) {
+				if ((mask & 1 << i) != 0) {
+					combination.add(types[i]);
+				}
+			}
+			combinations.add(combination);
+		}
+		return combinations;
+	}
+
+	void assertComposed(List<String> types, Object object) {
+		assertEquals(types.contains("urn:test:A"), object instanceof A);
+		assertEquals(types.contains("urn:test:B"), object instanceof B);
+		assertEquals(types.contains("urn:test:C"), object instanceof C);
+		assertEquals(types.contains("urn:test:D"), object instanceof D);
+		if (object instanceof A) {
+			assertEquals("a", ((A) object).getA());
+		}
+		if (object instanceof B) {
+			assertEquals("b", ((B) object).getB());
+		}
+		if (object instanceof C) {
+			assertEquals("c", ((C) object).getC());
+		}
+		if (object instanceof D) {
+			assertEquals("d", ((D) object).getD());
+		}
+	}
+
+	@Test
+	public void testConcurrentComposition() throws Exception {
+		int threads = 8;
+		CyclicBarrier start = new CyclicBarrier(threads);
+		ExecutorService executor = Executors.newFixedThreadPool(threads);
+		try {
+			List<Future<?>> futures = new ArrayList<>();
+			for (int t = 0; t < threads; t++) {
+				long seed = t;
+				futures.add(executor.submit(() -> {
+					List<List<String>> combinations = combinations();
+					// each thread composes the classes in a different order
+					Collections.shuffle(combinations, new Random(seed));
+					start.await(10, TimeUnit.SECONDS);
+					for (List<String> types : combinations) {
+						assertComposed(types, objectFactory.createObject(types));
+					}
+					return null;
+				}));
+			}
+			for (Future<?> future : futures) {
+				future.get(60, TimeUnit.SECONDS);
+			}
+		} finally {
+			executor.shutdownNow();
+		}
+
+		for (List<String> types : combinations()) {
+			Class<?> composite = classResolver.resolveComposite(types);
+			assertSame("Each composite class must be created once", composite,
+					objectFactory.createObject(types).getClass());
+		}
+	}
+}
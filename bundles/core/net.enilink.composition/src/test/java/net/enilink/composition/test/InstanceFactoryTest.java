@@ -0,0 +1,108 @@
+/*******************************************************************************
+ * Copyright (c) 2026 Fraunhofer IWU and others.
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * Contributors:
+ *     Fraunhofer IWU - initial API and implementation
+ *******************************************************************************/
+package net.enilink.composition.test;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNotSame;
+import static org.junit.Assert.assertSame;
+import static org.junit.Assert.assertTrue;
+
+import java.util.Arrays;
+import java.util.function.Supplier;
+
+import org.junit.Test;
+
+import com.google.inject.MembersInjector;
+
+import net.enilink.composition.ClassDefiner;
+import net.enilink.composition.annotations.Iri;
+import net.enilink.composition.mappers.RoleMapper;
+
+/**
+ * Tests that instances created by the factories of the class resolver equal
+ * instances that are created reflectively.
+ */
+public class InstanceFactoryTest extends CompositionTestCase {
+	@Iri("urn:test:Named")
+	public interface Named {
+		String getName();
+
+		void setName(String name);
+
+		String getGreeting();
+	}
+
+	public static abstract class NamedSupport implements Named {
+		String name = "initial";
+
+		@Override
+		public String getName() {
+			return name;
+		}
+
+		@Override
+		public void setName(String name) {
+			this.name = name;
+		}
+
+		@Override
+		public String getGreeting() {
+			return "Hello " + getName();
+		}
+	}
+
+	public static class Plain {
+		int value = 42;
+	}
+
+	@Override
+	protected void initRoleMapper(RoleMapper<String> roleMapper) {
+		super.initRoleMapper(roleMapper);
+
+		roleMapper.addConcept(Named.class);
+		roleMapper.addBehaviour(NamedSupport.class);
+	}
+
+	@SuppressWarnings("unchecked")
+	@Test
+	public void testGeneratedFactory() throws Exception {
+		Class<?> composite = classResolver.resolveComposite(Arrays.asList("urn:test:Named"));
+		assertTrue(composite.getClassLoader() instanceof ClassDefiner);
+
+		Supplier<Object> factory = classResolver.getInstanceFactory(composite);
+		assertTrue("A factory class must be generated", factory.getClass().getName().endsWith("$$Factory"));
+		assertSame(composite.getClassLoader(), factory.getClass().getClassLoader());
+		assertSame("The factory must be cached", factory, classResolver.getInstanceFactory(composite));
+
+		Named generated = (Named) factory.get();
+		Named reflective = (Named) composite.getDeclaredConstructor().newInstance();
+		assertSame(composite, generated.getClass());
+		assertNotSame(generated, factory.get());
+		// composite classes require an injector for their behaviours
+		((MembersInjector<Object>) injector.getMembersInjector(composite)).injectMembers(generated);
+		injector.injectMembers(reflective);
+
+		assertEquals(reflective.getName(), generated.getName());
+		assertEquals(reflective.getGreeting(), generated.getGreeting());
+		generated.setName("generated");
+		reflective.setName("generated");
+		assertEquals(reflective.getGreeting(), generated.getGreeting());
+	}
+
+	@Test
+	public void testReflectiveFactory() throws Exception {
+		Supplier<Object> factory = classResolver.getInstanceFactory(Plain.class);
+		Object instance = factory.get();
+		assertSame(Plain.class, instance.getClass());
+		assertEquals(new Plain().value, ((Plain) instance).value);
+		assertNotSame(instance, factory.get());
+	}
+}
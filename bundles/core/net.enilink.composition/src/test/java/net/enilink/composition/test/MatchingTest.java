@@ -10,6 +10,9 @@
  *******************************************************************************/
 package net.enilink.composition.test;
 
+import java.util.Arrays;
+import java.util.Collections;
+
 import org.junit.Assert;
 import org.junit.Test;
 import net.enilink.composition.annotations.Matching;
@@ -106,6 +109,27 @@ public class MatchingTest extends CompositionTestCase {
 		Assert.assertTrue(o instanceof AnySubPath);
 	}
 
+	@Test
+	public void testResolveCompositeWithIndividualRoles() throws Exception {
+		Class<?> withoutTypes = classResolver.resolveComposite("urn:test:a",
+				Collections.<String> emptyList());
+		Assert.assertTrue(TestResource.class.isAssignableFrom(withoutTypes));
+		Assert.assertFalse(Something.class.isAssignableFrom(withoutTypes));
+		// resolved by the same individual roles and types
+		Assert.assertSame(withoutTypes, classResolver.resolveComposite(
+				"urn:test:b", Collections.<String> emptyList()));
+
+		Class<?> withTypes = classResolver.resolveComposite("urn:test:a",
+				Arrays.asList("urn:test:Something"));
+		Assert.assertTrue(TestResource.class.isAssignableFrom(withTypes));
+		Assert.assertTrue(Something.class.isAssignableFrom(withTypes));
+
+		Class<?> otherRoles = classResolver.resolveComposite("file:///path",
+				Collections.<String> emptyList());
+		Assert.assertFalse(TestResource.class.isAssignableFrom(otherRoles));
+		Assert.assertTrue(Path.class.isAssignableFrom(otherRoles));
+	}
+
 	@Test
 	public void testMatchSubPath() throws Exception {
 		Object o = objectFactory.createObject("file:///path/sub");
@@ -10,6 +10,9 @@
  *******************************************************************************/
 package net.enilink.komma.core;
 
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicReference;
+
 /**
  * This class represents a generic blank node.
  * 
@@ -17,32 +20,60 @@ package net.enilink.komma.core;
  * 
  */
 public class BlankNode implements IReference {
+	/**
+	 * A range of IDs that share a common prefix.
+	 */
+	private static final class IdRange {
+		final String prefix;
+		final AtomicLong nextId = new AtomicLong();
+
+		IdRange(String prefix) {
+			this.prefix = prefix;
+		}
+	}
+
 	/**
 	 * ID for bnode prefixes to prevent blank node clashes (unique per
 	 * classloaded instance of this class)
 	 */
-	private static long lastPrefixId = 0;
-	private static String idPrefix = nextIdPrefix();
-	private static int nextId;
+	private static final AtomicLong lastPrefixId = new AtomicLong();
+	private static final AtomicReference<IdRange> idRange = new AtomicReference<>(
+			new IdRange(nextIdPrefix()));
+
+	private static String nextIdPrefix() {
+		long prefixId = lastPrefixId.updateAndGet(
+				last -> Math.max(System.currentTimeMillis(), last + 1));
+		return Long.toString(prefixId, 32) + "x";
+	}
 
-	private static synchronized String nextIdPrefix() {
-		lastPrefixId = Math.max(System.currentTimeMillis(), lastPrefixId + 1);
-		return Long.toString(lastPrefixId, 32) + "x";
+	/**
+	 * Starts a new range of IDs that is exhausted after <code>remaining</code>
+	 * IDs, e.g. to test the rollover to the next range.
+	 */
+	static void startRange(long remaining) {
+		IdRange range = new IdRange(nextIdPrefix());
+		range.nextId.set(Long.MAX_VALUE - remaining + 1);
+		idRange.set(range);
 	}
 
 	public static String generateId() {
 		return generateId(null);
 	}
 
-	public static synchronized String generateId(String prefix) {
-		int id = nextId++;
-		String idStr = new StringBuilder("_:")
-				.append(prefix == null ? "komma-" : prefix).append(idPrefix)
-				.append(id).toString();
-		if (id == Integer.MAX_VALUE) {
-			idPrefix = nextIdPrefix();
+	public static String generateId(String prefix) {
+		while (true) {
+			IdRange range = idRange.get();
+			long id = range.nextId.getAndIncrement();
+			if (id >= 0) {
+				// the radix 32 encoding does not contain the 'x' that
+				// terminates the range prefix
+				return "_:" + (prefix == null ? "komma-" : prefix)
+						+ range.prefix + Long.toString(id, 32);
+			}
+			// the range is exhausted, IDs of the overflowed counter are not
+			// used and a new range with a unique prefix is started
+			idRange.compareAndSet(range, new IdRange(nextIdPrefix()));
 		}
-		return idStr;
 	}
 
 	private String id;
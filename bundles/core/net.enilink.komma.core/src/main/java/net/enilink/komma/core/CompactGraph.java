@@ -0,0 +1,1052 @@
+/*******************************************************************************
+ * Copyright (c) 2026 Fraunhofer IWU and others.
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * Contributors:
+ *     Fraunhofer IWU - initial API and implementation
+ *******************************************************************************/
+package net.enilink.komma.core;
+
+import static java.util.Arrays.asList;
+import static java.util.Collections.unmodifiableSet;
+
+import java.io.IOException;
+import java.io.ObjectInputStream;
+import java.io.ObjectOutputStream;
+import java.util.AbstractSet;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.BitSet;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.NoSuchElementException;
+import java.util.Set;
+
+import net.enilink.commons.iterator.IExtendedIterator;
+import net.enilink.commons.iterator.WrappedIterator;
+
+/**
+ * Memory efficient implementation of the {@link IGraph} interface that
+ * dictionary-encodes all values to integers.
+ * <p>
+ * Statements are stored as quadruples of integer IDs in insertion order. For
+ * each value the positions of the statements that use it as subject,
+ * predicate, object or context are stored in primitive posting lists which
+ * serve as SPOC, POSC, OSPC and CSPO indexes. A hash table over the
+ * quadruples detects duplicate statements.
+ * <p>
+ * Removed statements leave gaps that are compacted by subsequent additions.
+ * Values are never removed from the dictionary until the graph is cleared.
+ * Iteration order, views and their semantics are the same as those of
+ * {@link LinkedHashGraph}.
+ * <p>
+ * The entity manager uses this implementation for the results of graph
+ * queries if {@link IGraph} is bound to it, e.g. with
+ * <code>bind(IGraph.class).to(CompactGraph.class)</code> or by the graph class
+ * of the entity manager module. Model sets use it if they have the type
+ * <code>komma:CompactGraphModelSet</code>.
+ */
+public class CompactGraph extends AbstractSet<IStatement> implements IGraph {
+	private static final long serialVersionUID = 4426591209316532587L;
+
+	static final int SUBJ = 0, PRED = 1, OBJ = 2, CTX = 3;
+
+	/**
+	 * ID of the <code>null</code> value that represents the default context.
+	 */
+	static final int NULL_ID = 0;
+
+	/**
+	 * Marks the subject of a removed statement.
+	 */
+	static final int REMOVED = -1;
+
+	static final int EMPTY = -1, DELETED = -2;
+
+	static final IReference[] NULL_CTX = new IReference[] { null };
+
+	static final IGraph EMPTY_GRAPH = new LinkedHashGraph().emptyGraph();
+
+	/**
+	 * A growable list of primitive integers.
+	 */
+	static final class IntList {
+		int[] data = new int[2];
+		int size;
+
+		void add(int value) {
+			if (size == data.length) {
+				data = Arrays.copyOf(data, size * 2);
+			}
+			data[size++] = value;
+		}
+	}
+
+	/**
+	 * The dictionary, maps IDs to values and values to IDs.
+	 */
+	transient List<Object> values;
+
+	transient Map<Object, Integer> ids;
+
+	/**
+	 * Posting lists of the statements for each position and value ID.
+	 */
+	transient IntList[][] index;
+
+	/**
+	 * The statements, four IDs per statement.
+	 */
+	transient int[] quads;
+
+	/**
+	 * The number of used statement slots including removed statements.
+	 */
+	transient int slots;
+
+	transient int size;
+
+	/**
+	 * Open addressing hash table that maps statements to their slots.
+	 */
+	transient int[] table;
+
+	transient int tableUsed;
+
+	public CompactGraph() {
+		this(16);
+	}
+
+	public CompactGraph(Collection<? extends IStatement> c) {
+		this(c.size());
+		addAll(c);
+	}
+
+	public CompactGraph(int size) {
+		init(Math.max(size, 16));
+	}
+
+	void init(int capacity) {
+		values = new ArrayList<>();
+		ids = new HashMap<>();
+		values.add(null);
+		ids.put(null, NULL_ID);
+		index = new IntList[4][16];
+		quads = new int[capacity * 4];
+		slots = 0;
+		size = 0;
+		table = newTable(capacity * 2);
+		tableUsed = 0;
+	}
+
+	static int[] newTable(int minCapacity) {
+		int capacity = Integer.highestOneBit(Math.max(minCapacity, 16) - 1) << 1;
+		int[] table = new int[capacity];
+		Arrays.fill(table, EMPTY);
+		return table;
+	}
+
+	/**
+	 * Returns the ID of the given value or <code>-1</code> if the value is
+	 * not contained in the dictionary.
+	 */
+	int id(Object value) {
+		Integer id = ids.get(value);
+		return id == null ? -1 : id;
+	}
+
+	int intern(Object value) {
+		Integer id = ids.get(value);
+		if (id == null) {
+			id = values.size();
+			values.add(value);
+			ids.put(value, id);
+		}
+		return id;
+	}
+
+	static int hash(int s, int p, int o, int c) {
+		int h = s;
+		h = 31 * h + p;
+		h = 31 * h + o;
+		h = 31 * h + c;
+		// spread the bits, since the IDs are small consecutive numbers
+		h *= 0x9E3779B9;
+		return h ^ (h >>> 16);
+	}
+
+	boolean equalsQuad(int slot, int s, int p, int o, int c) {
+		int i = slot * 4;
+		return quads[i] == s && quads[i + 1] == p && quads[i + 2] == o && quads[i + 3] == c;
+	}
+
+	/**
+	 * Returns the slot of the given statement or <code>-1</code>.
+	 */
+	int find(int s, int p, int o, int c) {
+		int mask = table.length - 1;
+		for (int i = hash(s, p, o, c) & mask;; i = (i + 1) & mask) {
+			int slot = table[i];
+			if (slot == EMPTY) {
+				return -1;
+			}
+			if (slot >= 0 && equalsQuad(slot, s, p, o, c)) {
+				return slot;
+			}
+		}
+	}
+
+	void insert(int slot) {
+		int i = slot * 4;
+		int mask = table.length - 1;
+		for (int t = hash(quads[i], quads[i + 1], quads[i + 2], quads[i + 3]) & mask;; t = (t + 1) & mask) {
+			if (table[t] < 0) {
+				if (table[t] == EMPTY) {
+					tableUsed++;
+				}
+				table[t] = slot;
+				return;
+			}
+		}
+	}
+
+	IntList postings(int position, int id) {
+		IntList[] lists = index[position];
+		if (id >= lists.length) {
+			return null;
+		}
+		return lists[id];
+	}
+
+	void addPosting(int position, int id, int slot) {
+		IntList[] lists = index[position];
+		if (id >= lists.length) {
+			lists = index[position] = Arrays.copyOf(lists, Math.max(id + 1, lists.length * 2));
+		}
+		IntList list = lists[id];
+		if (list == null) {
+			list = lists[id] = new IntList();
+		}
+		list.add(slot);
+	}
+
+	boolean addQuad(int s, int p, int o, int c) {
+		if (find(s, p, o, c) >= 0) {
+			return false;
+		}
+		if (slots - size > 16 && slots - size > size) {
+			compact();
+		}
+		if ((slots + 1) * 4 > quads.length) {
+			quads = Arrays.copyOf(quads, quads.length * 2);
+		}
+		if ((tableUsed + 1) * 2 > table.length) {
+			rehash(Math.max(size + 1, 8) * 4);
+		}
+		int slot = slots++;
+		int i = slot * 4;
+		quads[i] = s;
+		quads[i + 1] = p;
+		quads[i + 2] = o;
+		quads[i + 3] = c;
+		addPosting(SUBJ, s, slot);
+		addPosting(PRED, p, slot);
+		addPosting(OBJ, o, slot);
+		addPosting(CTX, c, slot);
+		insert(slot);
+		size++;
+		return true;
+	}
+
+	void rehash(int capacity) {
+		table = newTable(capacity);
+		tableUsed = 0;
+		for (int slot = 0; slot < slots; slot++) {
+			if (quads[slot * 4] != REMOVED) {
+				insert(slot);
+			}
+		}
+	}
+
+	/**
+	 * Removes the gaps of removed statements and rebuilds the indexes.
+	 */
+	void compact() {
+		int target = 0;
+		for (int slot = 0; slot < slots; slot++) {
+			int i = slot * 4;
+			if (quads[i] != REMOVED) {
+				if (target != slot) {
+					System.arraycopy(quads, i, quads, target * 4, 4);
+				}
+				target++;
+			}
+		}
+		slots = target;
+		for (IntList[] lists : index) {
+			Arrays.fill(lists, null);
+		}
+		for (int slot = 0; slot < slots; slot++) {
+			int i = slot * 4;
+			addPosting(SUBJ, quads[i], slot);
+			addPosting(PRED, quads[i + 1], slot);
+			addPosting(OBJ, quads[i + 2], slot);
+			addPosting(CTX, quads[i + 3], slot);
+		}
+		rehash(Math.max(size, 8) * 4);
+	}
+
+	void removeSlot(int slot) {
+		int i = slot * 4;
+		int mask = table.length - 1;
+		for (int t = hash(quads[i], quads[i + 1], quads[i + 2], quads[i + 3]) & mask;; t = (t + 1) & mask) {
+			if (table[t] == slot) {
+				table[t] = DELETED;
+				break;
+			}
+		}
+		quads[i] = REMOVED;
+		size--;
+	}
+
+	IStatement statement(int slot) {
+		int i = slot * 4;
+		return new Statement((IReference) values.get(quads[i]), (IReference) values.get(quads[i + 1]),
+				values.get(quads[i + 2]), (IReference) values.get(quads[i + 3]));
+	}
+
+	@Override
+	public int size() {
+		return size;
+	}
+
+	@Override
+	public boolean add(IStatement st) {
+		return add(st.getSubject(), st.getPredicate(), st.getObject(), st.getContext());
+	}
+
+	public boolean add(IReference subj, IReference pred, Object obj, IReference... contexts) {
+		IReference[] ctxs = notNull(contexts);
+		if (ctxs.length == 0) {
+			ctxs = NULL_CTX;
+		}
+		int s = intern(subj);
+		int p = intern(pred);
+		int o = intern(obj);
+		boolean changed = false;
+		for (IReference ctx : ctxs) {
+			changed |= addQuad(s, p, o, intern(ctx));
+		}
+		return changed;
+	}
+
+	@Override
+	public void clear() {
+		init(16);
+	}
+
+	@Override
+	public boolean remove(Object o) {
+		if (o instanceof IStatement) {
+			IStatement st = (IStatement) o;
+			Iterator<?> iter = match(st.getSubject(), st.getPredicate(), st.getObject(), st.getContext());
+			if (iter.hasNext()) {
+				iter.next();
+				iter.remove();
+				return true;
+			}
+		}
+		return false;
+	}
+
+	@Override
+	public boolean contains(Object o) {
+		if (o instanceof IStatement) {
+			IStatement st = (IStatement) o;
+			return match(st.getSubject(), st.getPredicate(), st.getObject(), st.getContext()).hasNext();
+		}
+		return false;
+	}
+
+	@Override
+	public Iterator<IStatement> iterator() {
+		return match(null, null, null);
+	}
+
+	public boolean contains(IReference subj, IReference pred, Object obj, IReference... contexts) {
+		return match(subj, pred, obj, contexts).hasNext();
+	}
+
+	public boolean remove(IReference subj, IReference pred, Object obj, IReference... contexts) {
+		Iterator<?> iter = match(subj, pred, obj, contexts);
+		if (!iter.hasNext()) {
+			return false;
+		}
+		while (iter.hasNext()) {
+			iter.next();
+			iter.remove();
+		}
+		return true;
+	}
+
+	public boolean clear(IReference... contexts) {
+		return remove(null, null, null, contexts);
+	}
+
+	@Override
+	public IExtendedIterator<IStatement> match(IReference subject, IReference predicate, IValue object,
+			boolean includeInferred, IReference... contexts) {
+		// statements of this graph are never inferred
+		return WrappedIterator.create(match(subject, predicate, (Object) object, contexts));
+	}
+
+	@Override
+	public boolean hasMatch(IReference subject, IReference predicate, IValue object, boolean includeInferred,
+			IReference... contexts) {
+		return match(subject, predicate, (Object) object, contexts).hasNext();
+	}
+
+	public IGraph filter(IReference subj, IReference pred, Object obj, IReference... contexts) {
+		return new FilteredGraph(subj, pred, obj, contexts);
+	}
+
+	public Set<IReference> subjects() {
+		return new ValueSet<>(SUBJ, null, null, null);
+	}
+
+	public Set<IReference> predicates() {
+		return new ValueSet<>(PRED, null, null, null);
+	}
+
+	public Set<Object> objects() {
+		return new ValueSet<>(OBJ, null, null, null);
+	}
+
+	public Set<IReference> contexts() {
+		return new ValueSet<>(CTX, null, null, null);
+	}
+
+	public Object objectValue() throws KommaException {
+		return objectValue(objects());
+	}
+
+	public ILiteral objectLiteral() throws KommaException {
+		return objectLiteral(objectValue());
+	}
+
+	public IReference objectReference() throws KommaException {
+		return objectReference(objectValue());
+	}
+
+	public String objectString() throws KommaException {
+		return objectString(objectValue());
+	}
+
+	static Object objectValue(Set<Object> objects) throws KommaException {
+		Iterator<Object> iter = objects.iterator();
+		if (iter.hasNext()) {
+			Object obj = iter.next();
+			if (iter.hasNext()) {
+				throw new KommaException();
+			}
+			return obj;
+		}
+		return null;
+	}
+
+	static ILiteral objectLiteral(Object obj) throws KommaException {
+		if (obj == null) {
+			return null;
+		}
+		if (obj instanceof ILiteral) {
+			return (ILiteral) obj;
+		}
+		throw new KommaException();
+	}
+
+	static IReference objectReference(Object obj) throws KommaException {
+		if (obj == null) {
+			return null;
+		}
+		if (obj instanceof IReference) {
+			return (IReference) obj;
+		}
+		throw new KommaException();
+	}
+
+	static String objectString(Object obj) throws KommaException {
+		if (obj == null) {
+			return null;
+		}
+		if (obj instanceof ILiteral) {
+			return ((ILiteral) obj).getLabel();
+		}
+		return obj.toString();
+	}
+
+	@Override
+	public void rename(IReference source, IReference target) {
+		LinkedHashGraph.rename(this, source, target);
+	}
+
+	@Override
+	public int hashCode() {
+		return size();
+	}
+
+	@Override
+	public boolean equals(Object o) {
+		if (this == o) {
+			return true;
+		}
+		if (o instanceof IGraph) {
+			return GraphUtil.equals(this, (IGraph) o);
+		}
+		return false;
+	}
+
+	/**
+	 * Returns an iterator over the statements that match the given pattern.
+	 * The iterator supports removal of the current statement.
+	 */
+	protected QuadIterator match(IReference subj, IReference pred, Object obj, IReference... contexts) {
+		int s = -1, p = -1, o = -1;
+		IntList candidates = null;
+		if (subj != null) {
+			IntList list = (s = id(subj)) < 0 ? null : postings(SUBJ, s);
+			if (list == null) {
+				return emptyIterator();
+			}
+			candidates = smaller(candidates, list);
+		}
+		if (pred != null) {
+			IntList list = (p = id(pred)) < 0 ? null : postings(PRED, p);
+			if (list == null) {
+				return emptyIterator();
+			}
+			candidates = smaller(candidates, list);
+		}
+		if (obj != null) {
+			IntList list = (o = id(obj)) < 0 ? null : postings(OBJ, o);
+			if (list == null) {
+				return emptyIterator();
+			}
+			candidates = smaller(candidates, list);
+		}
+		int[] c = null;
+		contexts = notNull(contexts);
+		if (contexts.length > 0) {
+			c = new int[contexts.length];
+			int known = 0;
+			for (IReference context : contexts) {
+				int id = id(context);
+				if (id >= 0) {
+					c[known++] = id;
+				}
+			}
+			if (known == 0) {
+				return emptyIterator();
+			}
+			c = Arrays.copyOf(c, known);
+			if (known == 1) {
+				IntList list = postings(CTX, c[0]);
+				if (list == null) {
+					return emptyIterator();
+				}
+				candidates = smaller(candidates, list);
+			}
+		}
+		return new QuadIterator(candidates, s, p, o, c);
+	}
+
+	static IntList smaller(IntList current, IntList candidate) {
+		return current == null || candidate.size < current.size ? candidate : current;
+	}
+
+	QuadIterator emptyIterator() {
+		return new QuadIterator(new IntList(), -1, -1, -1, null);
+	}
+
+	/**
+	 * Iterates over the statements of a posting list or over all statements
+	 * and filters them by a pattern of value IDs.
+	 */
+	protected class QuadIterator implements Iterator<IStatement> {
+		final IntList candidates;
+		final int s, p, o;
+		final int[] c;
+		int position;
+		int next = -1;
+		int last = -1;
+
+		QuadIterator(IntList candidates, int s, int p, int o, int[] c) {
+			this.candidates = candidates;
+			this.s = s;
+			this.p = p;
+			this.o = o;
+			this.c = c;
+		}
+
+		boolean accept(int slot) {
+			int i = slot * 4;
+			if (quads[i] == REMOVED || s >= 0 && quads[i] != s || p >= 0 && quads[i + 1] != p
+					|| o >= 0 && quads[i + 2] != o) {
+				return false;
+			}
+			if (c == null) {
+				return true;
+			}
+			int ctx = quads[i + 3];
+			for (int id : c) {
+				if (id == ctx) {
+					return true;
+				}
+			}
+			return false;
+		}
+
+		int nextSlot() {
+			if (next < 0) {
+				int limit = candidates == null ? slots : candidates.size;
+				while (position < limit) {
+					int slot = candidates == null ? position : candidates.data[position];
+					position++;
+					// posting lists still contain removed statements
+					if (accept(slot)) {
+						next = slot;
+						break;
+					}
+				}
+			}
+			return next;
+		}
+
+		public boolean hasNext() {
+			return nextSlot() >= 0;
+		}
+
+		public IStatement next() {
+			return statement(nextId());
+		}
+
+		int nextId() {
+			if (nextSlot() < 0) {
+				throw new NoSuchElementException();
+			}
+			last = next;
+			next = -1;
+			return last;
+		}
+
+		public void remove() {
+			if (last < 0) {
+				throw new IllegalStateException();
+			}
+			removeSlot(last);
+			last = -1;
+		}
+	}
+
+	/**
+	 * A set view of the values at one position of the statements that match
+	 * a pattern.
+	 */
+	protected class ValueSet<V> extends AbstractSet<V> {
+		final int position;
+		final IReference subj, pred;
+		final Object obj;
+		final IReference[] contexts;
+
+		/**
+		 * Creates a view for the given position where the pattern value at
+		 * the position itself is ignored.
+		 */
+		ValueSet(int position, IReference subj, IReference pred, Object obj, IReference... contexts) {
+			this.position = position;
+			this.subj = subj;
+			this.pred = pred;
+			this.obj = obj;
+			this.contexts = contexts;
+		}
+
+		QuadIterator statements() {
+			switch (position) {
+			case SUBJ:
+				return match(null, pred, obj, contexts);
+			case PRED:
+				return match(subj, null, obj, contexts);
+			case OBJ:
+				return match(subj, pred, null, contexts);
+			default:
+				return match(subj, pred, obj);
+			}
+		}
+
+		Object[] pattern(Object value) {
+			switch (position) {
+			case SUBJ:
+				return new Object[] { value, pred, obj, contexts };
+			case PRED:
+				return new Object[] { subj, value, obj, contexts };
+			case OBJ:
+				return new Object[] { subj, pred, value, contexts };
+			default:
+				return new Object[] { subj, pred, obj, new IReference[] { (IReference) value } };
+			}
+		}
+
+		boolean acceptsValue(Object value) {
+			switch (position) {
+			case OBJ:
+				return value != null;
+			case CTX:
+				return value == null || value instanceof IReference;
+			default:
+				return value instanceof IReference;
+			}
+		}
+
+		@Override
+		public Iterator<V> iterator() {
+			final BitSet seen = new BitSet();
+			final QuadIterator iter = statements();
+			return new Iterator<V>() {
+				int next = -1;
+				int current = -1;
+
+				public boolean hasNext() {
+					while (next < 0 && iter.hasNext()) {
+						int id = quads[iter.nextId() * 4 + position];
+						if (!seen.get(id)) {
+							seen.set(id);
+							next = id;
+						}
+					}
+					return next >= 0;
+				}
+
+				@SuppressWarnings("unchecked")
+				public V next() {
+					if (!hasNext()) {
+						throw new NoSuchElementException();
+					}
+					current = next;
+					next = -1;
+					return (V) values.get(current);
+				}
+
+				public void remove() {
+					if (current < 0) {
+						throw new IllegalStateException();
+					}
+					ValueSet.this.remove(values.get(current));
+					current = -1;
+				}
+			};
+		}
+
+		@Override
+		public int size() {
+			BitSet seen = new BitSet();
+			QuadIterator iter = statements();
+			while (iter.hasNext()) {
+				seen.set(quads[iter.nextId() * 4 + position]);
+			}
+			return seen.cardinality();
+		}
+
+		@Override
+		public boolean contains(Object o) {
+			if (!acceptsValue(o)) {
+				return false;
+			}
+			Object[] p = pattern(o);
+			return CompactGraph.this.contains((IReference) p[0], (IReference) p[1], p[2], (IReference[]) p[3]);
+		}
+
+		@Override
+		public boolean remove(Object o) {
+			if (!acceptsValue(o)) {
+				return false;
+			}
+			Object[] p = pattern(o);
+			return CompactGraph.this.remove((IReference) p[0], (IReference) p[1], p[2], (IReference[]) p[3]);
+		}
+
+		@Override
+		public boolean add(V value) {
+			Object[] p = pattern(value);
+			if (p[0] == null || p[1] == null || p[2] == null) {
+				throw new UnsupportedOperationException("Incomplete statement");
+			}
+			if (contains(value)) {
+				return false;
+			}
+			return CompactGraph.this.add((IReference) p[0], (IReference) p[1], p[2], (IReference[]) p[3]);
+		}
+
+		@Override
+		public void clear() {
+			Object[] p = pattern(null);
+			if (position == CTX) {
+				CompactGraph.this.remove(subj, pred, obj);
+			} else {
+				CompactGraph.this.remove((IReference) p[0], (IReference) p[1], p[2], (IReference[]) p[3]);
+			}
+		}
+	}
+
+	/**
+	 * A view of the statements of this graph that match a pattern.
+	 */
+	protected class FilteredGraph extends AbstractSet<IStatement> implements IGraph {
+		private static final long serialVersionUID = -6208464307452226455L;
+
+		protected IReference subj;
+
+		protected IReference pred;
+
+		protected Object obj;
+
+		protected IReference[] contexts;
+
+		public FilteredGraph(IReference subj, IReference pred, Object obj, IReference... contexts) {
+			this.subj = subj;
+			this.pred = pred;
+			this.obj = obj;
+			this.contexts = notNull(contexts);
+		}
+
+		@Override
+		public Iterator<IStatement> iterator() {
+			return CompactGraph.this.match(subj, pred, obj, contexts);
+		}
+
+		@Override
+		public int size() {
+			int size = 0;
+			QuadIterator iter = CompactGraph.this.match(subj, pred, obj, contexts);
+			while (iter.nextSlot() >= 0) {
+				size++;
+				iter.nextId();
+			}
+			return size;
+		}
+
+		@Override
+		public boolean contains(Object o) {
+			if (o instanceof IStatement && accept((IStatement) o)) {
+				return CompactGraph.this.contains(o);
+			}
+			return false;
+		}
+
+		@Override
+		public boolean add(IStatement st) {
+			if (accept(st)) {
+				return CompactGraph.this.add(st);
+			}
+			throw new IllegalArgumentException("Statement is filtered out of view: " + st);
+		}
+
+		public boolean add(IReference s, IReference p, Object o, IReference... c) {
+			if (!accept(s, p, o, c)) {
+				throw new IllegalArgumentException("Statement is filtered out of view");
+			}
+			return CompactGraph.this.add(s == null ? subj : s, p == null ? pred : p, o == null ? obj : o,
+					c != null && c.length == 0 ? contexts : c);
+		}
+
+		@Override
+		public void clear() {
+			CompactGraph.this.remove(subj, pred, obj, contexts);
+		}
+
+		public boolean clear(IReference... c) {
+			c = notNull(c);
+			if (c.length == 0) {
+				return remove(subj, pred, obj, contexts);
+			} else if (matches(c, contexts)) {
+				return CompactGraph.this.remove(subj, pred, obj, c);
+			} else {
+				return false;
+			}
+		}
+
+		public boolean remove(IReference s, IReference p, Object o, IReference... c) {
+			if (!accept(s, p, o, c)) {
+				return false;
+			}
+			return CompactGraph.this.remove(s == null ? subj : s, p == null ? pred : p, o == null ? obj : o,
+					c != null && c.length == 0 ? contexts : c);
+		}
+
+		public boolean contains(IReference s, IReference p, Object o, IReference... c) {
+			if (!accept(s, p, o, c)) {
+				return false;
+			}
+			return CompactGraph.this.contains(s == null ? subj : s, p == null ? pred : p, o == null ? obj : o,
+					c != null && c.length == 0 ? contexts : c);
+		}
+
+		public IGraph filter(IReference s, IReference p, Object o, IReference... c) {
+			if (!accept(s, p, o, c)) {
+				return EMPTY_GRAPH;
+			}
+			return CompactGraph.this.filter(s == null ? subj : s, p == null ? pred : p, o == null ? obj : o,
+					c != null && c.length == 0 ? contexts : c);
+		}
+
+		@Override
+		public IExtendedIterator<IStatement> match(IReference subject, IReference predicate, IValue object,
+				boolean includeInferred, IReference... contexts) {
+			return WrappedIterator.create(filter(subject, predicate, object, contexts).iterator());
+		}
+
+		@Override
+		public boolean hasMatch(IReference subject, IReference predicate, IValue object, boolean includeInferred,
+				IReference... contexts) {
+			return match(subject, predicate, object, includeInferred, contexts).hasNext();
+		}
+
+		public Set<IReference> contexts() {
+			if (contexts != null && contexts.length > 0) {
+				return unmodifiableSet(new LinkedHashSet<IReference>(asList(contexts)));
+			}
+			return new ValueSet<>(CTX, subj, pred, obj);
+		}
+
+		public Set<Object> objects() {
+			if (obj != null) {
+				return Collections.singleton(obj);
+			}
+			return new ValueSet<>(OBJ, subj, pred, null, contexts);
+		}
+
+		public Set<IReference> predicates() {
+			if (pred != null) {
+				return Collections.singleton(pred);
+			}
+			return new ValueSet<>(PRED, subj, null, obj, contexts);
+		}
+
+		public Set<IReference> subjects() {
+			if (subj != null) {
+				return Collections.singleton(subj);
+			}
+			return new ValueSet<>(SUBJ, null, pred, obj, contexts);
+		}
+
+		public Object objectValue() throws KommaException {
+			return CompactGraph.objectValue(objects());
+		}
+
+		public ILiteral objectLiteral() throws KommaException {
+			return CompactGraph.objectLiteral(objectValue());
+		}
+
+		public IReference objectReference() throws KommaException {
+			return CompactGraph.objectReference(objectValue());
+		}
+
+		public String objectString() throws KommaException {
+			return CompactGraph.objectString(objectValue());
+		}
+
+		@Override
+		public void rename(IReference source, IReference target) {
+			LinkedHashGraph.rename(this, source, target);
+		}
+
+		@Override
+		public int hashCode() {
+			return size();
+		}
+
+		@Override
+		public boolean equals(Object o) {
+			if (this == o) {
+				return true;
+			}
+			if (o instanceof IGraph) {
+				return GraphUtil.equals(this, (IGraph) o);
+			}
+			return false;
+		}
+
+		private boolean accept(IStatement st) {
+			return accept(st.getSubject(), st.getPredicate(), st.getObject(), st.getContext());
+		}
+
+		private boolean accept(IReference s, IReference p, Object o, IReference... c) {
+			if (subj != null && !subj.equals(s)) {
+				return false;
+			}
+			if (pred != null && !pred.equals(p)) {
+				return false;
+			}
+			if (obj != null && !obj.equals(o)) {
+				return false;
+			}
+			return matches(notNull(c), contexts);
+		}
+	}
+
+	private void writeObject(ObjectOutputStream s) throws IOException {
+		s.defaultWriteObject();
+		s.writeInt(size);
+		for (int slot = 0; slot < slots; slot++) {
+			if (quads[slot * 4] != REMOVED) {
+				s.writeObject(statement(slot));
+			}
+		}
+	}
+
+	private void readObject(ObjectInputStream s) throws IOException, ClassNotFoundException {
+		s.defaultReadObject();
+		int size = s.readInt();
+		init(Math.max(size, 16));
+		for (int i = 0; i < size; i++) {
+			add((Statement) s.readObject());
+		}
+	}
+
+	/**
+	 * Verifies that the supplied contexts parameter is not <tt>null</tt>,
+	 * returning the default context if it is.
+	 */
+	static IReference[] notNull(IReference... contexts) {
+		return LinkedHashGraph.notNull(contexts);
+	}
+
+	/**
+	 * Tests if each of the statement contexts matches one of the pattern
+	 * contexts where an empty pattern matches any context.
+	 */
+	static boolean matches(IReference[] stContexts, IReference[] contexts) {
+		if (contexts.length == 0) {
+			return true;
+		}
+		for (IReference stContext : stContexts) {
+			boolean matches = false;
+			for (IReference context : contexts) {
+				if (context == null ? stContext == null : context.equals(stContext)) {
+					matches = true;
+					break;
+				}
+			}
+			if (!matches) {
+				return false;
+			}
+		}
+		return true;
+	}
+}
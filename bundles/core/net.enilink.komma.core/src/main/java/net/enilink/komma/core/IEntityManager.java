@@ -289,6 +289,11 @@ public interface IEntityManager extends AutoCloseable {
 
 	/**
 	 * Creates an iteration of entities that implement this <code>role</code>.
+	 * <p>
+	 * The entities may be materialized in pages like with
+	 * {@link IQueryBase#setPageSize(int)}. Hence the types of the entities of
+	 * a page are read before the first entity is returned. Use a query without
+	 * a page size to convert each entity when it is reached.
 	 * 
 	 * @param role
 	 *            concept or behaviour to be translated to one or more
@@ -62,6 +62,69 @@ public interface IQueryBase<Q extends IQueryBase<Q>> {
 	 */
 	int getMaxResults();
 
+	/**
+	 * The number of results that are materialized at once. Returns 0 if
+	 * setPageSize was not applied to the query object or is not supported by
+	 * the implementation.
+	 * 
+	 * @return number of results per page
+	 */
+	default int getPageSize() {
+		return 0;
+	}
+
+	/**
+	 * Materializes the results in pages of <code>pageSize</code> elements. The
+	 * types of all resources within a page are retrieved by a single query
+	 * instead of one query per resource.
+	 * 
+	 * <p>
+	 * Paging does not change the results. Implementations that do not support
+	 * it ignore the page size.
+	 * 
+	 * @param pageSize
+	 *            The number of results per page or 0 to convert each result
+	 *            individually
+	 */
+	@SuppressWarnings("unchecked")
+	default Q setPageSize(int pageSize) {
+		return (Q) this;
+	}
+
+	/**
+	 * Returns <code>true</code> if the results of a CONSTRUCT query are
+	 * streamed. Returns false if setStreaming was not applied to the query
+	 * object.
+	 * 
+	 * @return <code>true</code> if results are streamed, else
+	 *         <code>false</code>
+	 */
+	default boolean isStreaming() {
+		return false;
+	}
+
+	/**
+	 * Converts each result of a CONSTRUCT query as soon as all of its
+	 * statements have been read instead of reading the whole result first.
+	 * Each result is initialized from a graph that contains only its own
+	 * statements.
+	 * <p>
+	 * This requires that the statements of each result are contiguous, e.g. by
+	 * ordering the query by the result variable, and that each result starts
+	 * with its <code>komma:Result</code> marker. Result descriptors ensure
+	 * this or read the whole result if they are ordered by other variables.
+	 * <p>
+	 * Streaming does not change the results. Implementations that do not
+	 * support it always read the whole result.
+	 * 
+	 * @param streaming
+	 *            <code>true</code> if results should be streamed
+	 */
+	@SuppressWarnings("unchecked")
+	default Q setStreaming(boolean streaming) {
+		return (Q) this;
+	}
+
 	/**
 	 * Skips to the <code>startPosition</code> of the results.
 	 * 
@@ -69,6 +132,31 @@ public interface IQueryBase<Q extends IQueryBase<Q>> {
 	 */
 	Q setFirstResult(int startPosition);
 
+	/**
+	 * Resumes the results of an ordered query after the row where the ORDER BY
+	 * key <code>name</code> has the given <code>value</code>. Other than
+	 * {@link #setFirstResult(int)} the preceding results are not enumerated by
+	 * the store, hence a deep page is as fast as the first one.
+	 * <p>
+	 * The keys must be a prefix of the ORDER BY clause and should identify a
+	 * row uniquely, e.g. by ordering by the subject variable last. The values
+	 * are compared in the order of ORDER BY, hence keys may be IRIs, blank
+	 * nodes or literals of mixed types. Rows with unbound keys are skipped.
+	 * 
+	 * @param name
+	 *            The name of an ORDER BY variable
+	 * @param value
+	 *            The value of the variable within the last row of the previous
+	 *            page or <code>null</code> to remove the key
+	 * @return The query object
+	 * @throws UnsupportedOperationException
+	 *             if the implementation does not support keysets
+	 */
+	default Q setKeyset(String name, Object value) {
+		throw new UnsupportedOperationException(
+				"Keyset pagination is not supported");
+	}
+
 	/**
 	 * Assigns an entity or literal to the given name.
 	 * 
@@ -14,4 +14,29 @@ public class Properties {
 	 * The corresponding value should be an integer.
 	 */
 	public static final String TIMEOUT = "net.enilink.komma.query.timeout";
+
+	/**
+	 * Property for setting the number of results that are skipped by the store
+	 * before the first result is returned.
+	 * 
+	 * The corresponding value should be an integer.
+	 */
+	public static final String OFFSET = "net.enilink.komma.query.offset";
+
+	/**
+	 * Property for setting the maximum number of results that are returned by
+	 * the store.
+	 * 
+	 * The corresponding value should be an integer.
+	 */
+	public static final String LIMIT = "net.enilink.komma.query.limit";
+
+	/**
+	 * Property for resuming the results of an ordered query after the row with
+	 * the given values for the ORDER BY keys.
+	 * 
+	 * The corresponding value should be a map from variable names to
+	 * {@link IValue}s.
+	 */
+	public static final String KEYSET = "net.enilink.komma.query.keyset";
 }
@@ -15,17 +15,16 @@
 package net.enilink.komma.core;
 
 import java.io.File;
-import java.io.Serial;
+import java.lang.ref.Reference;
+import java.lang.ref.ReferenceQueue;
 import java.lang.ref.WeakReference;
 import java.util.ArrayList;
 import java.util.Collections;
-import java.util.HashMap;
 import java.util.HashSet;
-import java.util.Iterator;
 import java.util.List;
-import java.util.Map;
 import java.util.Set;
 import java.util.StringTokenizer;
+import java.util.concurrent.ConcurrentHashMap;
 
 /**
  * Helper class for Uniform Resource Identifiers (URIs), as specified by <a
@@ -136,37 +135,60 @@ public final class URIs {
 	// the fragment.
 	private static final URICache uriCache = new URICache();
 
-	private static class URICache extends HashMap<String, WeakReference<URI>> {
-		@Serial
-		private static final long serialVersionUID = 1L;
+	static class URICache {
+		/**
+		 * A weak reference that remembers its key, so that it can be removed
+		 * from the map after its URI was garbage collected.
+		 */
+		static class Entry extends WeakReference<URI> {
+			final String key;
+
+			Entry(String key, URI value, ReferenceQueue<URI> queue) {
+				super(value, queue);
+				this.key = key;
+			}
+		}
 
-		static final int MIN_LIMIT = 1000;
-		int count;
-		int limit = MIN_LIMIT;
+		final ConcurrentHashMap<String, Entry> entries = new ConcurrentHashMap<>();
 
-		public synchronized URI get(String key) {
-			WeakReference<URI> reference = super.get(key);
-			return reference == null ? null : reference.get();
+		final ReferenceQueue<URI> queue = new ReferenceQueue<>();
+
+		public URI get(String key) {
+			Entry entry = entries.get(key);
+			return entry == null ? null : entry.get();
 		}
 
-		public synchronized void put(String key, URI value) {
-			super.put(key, new WeakReference<URI>(value));
-			if (++count > limit) {
-				cleanGCedValues();
+		/**
+		 * Adds the given URI to the cache unless another thread has already
+		 * cached an URI for the same key.
+		 *
+		 * @return the cached URI
+		 */
+		public URI intern(String key, URI value) {
+			expungeStaleEntries();
+			Entry newEntry = new Entry(key, value, queue);
+			while (true) {
+				Entry entry = entries.putIfAbsent(key, newEntry);
+				if (entry == null) {
+					return value;
+				}
+				URI existing = entry.get();
+				if (existing != null) {
+					return existing;
+				}
+				if (entries.replace(key, entry, newEntry)) {
+					return value;
+				}
 			}
 		}
 
-		private void cleanGCedValues() {
-			for (Iterator<Map.Entry<String, WeakReference<URI>>> i = entrySet()
-					.iterator(); i.hasNext(); ) {
-				Map.Entry<String, WeakReference<URI>> entry = i.next();
-				WeakReference<URI> reference = entry.getValue();
-				if (reference.get() == null) {
-					i.remove();
-				}
+		private void expungeStaleEntries() {
+			Reference<? extends URI> reference;
+			while ((reference = queue.poll()) != null) {
+				Entry entry = (Entry) reference;
+				// the entry may have already been replaced
+				entries.remove(entry.key, entry);
 			}
-			count = 0;
-			limit = Math.max(MIN_LIMIT, size() / 2);
 		}
 	}
 
@@ -584,8 +606,7 @@ public final class URIs {
 		URI result = uriCache.get(base);
 
 		if (result == null) {
-			result = parseIntoURI(base);
-			uriCache.put(base, result);
+			result = uriCache.intern(base, parseIntoURI(base));
 		}
 
 		if (fragment != null) {
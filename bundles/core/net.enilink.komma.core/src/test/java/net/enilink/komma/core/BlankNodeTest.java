@@ -0,0 +1,104 @@
+/*******************************************************************************
+ * Copyright (c) 2026 Fraunhofer IWU and others.
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * Contributors:
+ *     Fraunhofer IWU - initial API and implementation
+ *******************************************************************************/
+package net.enilink.komma.core;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CyclicBarrier;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+import org.junit.jupiter.api.Test;
+
+/**
+ * Tests the uniqueness of generated blank node IDs.
+ */
+public class BlankNodeTest {
+	/**
+	 * Returns the prefix of the range of the given ID.
+	 */
+	static String rangePrefix(String id) {
+		return id.substring(0, id.indexOf('x') + 1);
+	}
+
+	@Test
+	public void testRollover() {
+		BlankNode.startRange(3);
+		String first = BlankNode.generateId();
+		List<String> ids = new ArrayList<>();
+		for (int i = 0; i < 5; i++) {
+			ids.add(BlankNode.generateId());
+		}
+		assertEquals(rangePrefix(first), rangePrefix(ids.get(1)));
+		// the range is exhausted after three IDs
+		String next = ids.get(2);
+		assertNotEquals(rangePrefix(first), rangePrefix(next));
+		assertTrue(next.endsWith("x0"), next);
+		assertEquals(rangePrefix(next), rangePrefix(ids.get(4)));
+		ids.add(first);
+		assertEquals(6, ids.stream().distinct().count());
+	}
+
+	@Test
+	public void testUniqueAcrossThreadsAndRollovers() throws Exception {
+		int threads = 8;
+		int idsPerThread = 20000;
+		Set<String> ids = ConcurrentHashMap.newKeySet();
+		Set<String> prefixes = ConcurrentHashMap.newKeySet();
+		AtomicBoolean generating = new AtomicBoolean(true);
+		CyclicBarrier start = new CyclicBarrier(threads + 1);
+		ExecutorService executor = Executors.newFixedThreadPool(threads + 1);
+		try {
+			List<Future<?>> generators = new ArrayList<>();
+			for (int t = 0; t < threads; t++) {
+				generators.add(executor.submit(() -> {
+					start.await(10, TimeUnit.SECONDS);
+					for (int i = 0; i < idsPerThread; i++) {
+						String id = BlankNode.generateId();
+						assertTrue(ids.add(id), "Duplicate ID " + id);
+						prefixes.add(rangePrefix(id));
+					}
+					return null;
+				}));
+			}
+			// let the ranges of the generators overflow repeatedly
+			Future<?> rollover = executor.submit(() -> {
+				start.await(10, TimeUnit.SECONDS);
+				while (generating.get()) {
+					BlankNode.startRange(100);
+					Thread.sleep(1);
+				}
+				return null;
+			});
+			try {
+				for (Future<?> generator : generators) {
+					generator.get(60, TimeUnit.SECONDS);
+				}
+			} finally {
+				generating.set(false);
+			}
+			rollover.get(10, TimeUnit.SECONDS);
+		} finally {
+			executor.shutdownNow();
+		}
+		assertEquals(threads * idsPerThread, ids.size());
+		assertTrue(prefixes.size() > 1, "The ranges must have rolled over");
+	}
+}
@@ -0,0 +1,153 @@
+/*******************************************************************************
+ * Copyright (c) 2026 Fraunhofer IWU and others.
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * Contributors:
+ *     Fraunhofer IWU - initial API and implementation
+ *******************************************************************************/
+package net.enilink.komma.core;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Random;
+
+import org.junit.jupiter.api.Test;
+
+/**
+ * Compares {@link CompactGraph} with {@link LinkedHashGraph} for random
+ * sequences of modifications.
+ */
+public class CompactGraphTest {
+	static final String NS = "urn:test:graph:";
+
+	final IReference[] resources = { URIs.createURI(NS + "a"), URIs.createURI(NS + "b"), URIs.createURI(NS + "c"),
+			URIs.createURI(NS + "d"), new BlankNode("b1"), new BlankNode("b2") };
+
+	final IReference[] predicates = { URIs.createURI(NS + "p"), URIs.createURI(NS + "q"), URIs.createURI(NS + "r") };
+
+	final Object[] objects = { resources[0], resources[1], resources[4], new Literal("x"), new Literal("y"),
+			new Literal("1", URIs.createURI("http://www.w3.org/2001/XMLSchema#int")) };
+
+	final IReference[] contexts = { null, URIs.createURI(NS + "g1"), URIs.createURI(NS + "g2") };
+
+	Random random;
+
+	<T> T pick(T[] values) {
+		return values[random.nextInt(values.length)];
+	}
+
+	<T> T pickOrNull(T[] values) {
+		return random.nextInt(3) == 0 ? null : pick(values);
+	}
+
+	IReference[] pickContexts() {
+		int count = random.nextInt(3);
+		IReference[] ctxs = new IReference[count];
+		for (int i = 0; i < count; i++) {
+			ctxs[i] = pick(contexts);
+		}
+		return ctxs;
+	}
+
+	void assertSameContent(IGraph expected, IGraph actual, String step) {
+		assertEquals(new ArrayList<>(expected), new ArrayList<>(actual), step);
+		assertEquals(expected.size(), actual.size(), step);
+		assertEquals(new ArrayList<>(expected.subjects()), new ArrayList<>(actual.subjects()), step);
+		assertEquals(new ArrayList<>(expected.predicates()), new ArrayList<>(actual.predicates()), step);
+		assertEquals(new ArrayList<>(expected.objects()), new ArrayList<>(actual.objects()), step);
+		assertEquals(new ArrayList<>(expected.contexts()), new ArrayList<>(actual.contexts()), step);
+	}
+
+	void compare(long seed) {
+		random = new Random(seed);
+		IGraph expected = new LinkedHashGraph();
+		IGraph actual = new CompactGraph();
+		for (int i = 0; i < 2000; i++) {
+			String step = "seed " + seed + ", step " + i;
+			IReference s = pickOrNull(resources);
+			IReference p = pickOrNull(predicates);
+			Object o = pickOrNull(objects);
+			IReference[] ctxs = pickContexts();
+			switch (random.nextInt(10)) {
+			case 0:
+			case 1:
+			case 2:
+			case 3: {
+				IReference ctx = pick(contexts);
+				IStatement stmt = new Statement(pick(resources), pick(predicates), pick(objects), ctx);
+				assertEquals(expected.add(stmt), actual.add(stmt), step);
+				break;
+			}
+			case 4:
+				assertEquals(expected.remove(s, p, o, ctxs), actual.remove(s, p, o, ctxs), step);
+				break;
+			case 5: {
+				IStatement stmt = new Statement(pick(resources), pick(predicates), pick(objects), pick(contexts));
+				assertEquals(expected.remove(stmt), actual.remove(stmt), step);
+				break;
+			}
+			case 6: {
+				// removal through an iterator of a filtered view
+				int skip = random.nextInt(3);
+				Iterator<IStatement> expectedIt = expected.filter(s, p, o, ctxs).iterator();
+				Iterator<IStatement> actualIt = actual.filter(s, p, o, ctxs).iterator();
+				while (expectedIt.hasNext()) {
+					assertEquals(expectedIt.next(), actualIt.next(), step);
+					if (skip-- == 0) {
+						expectedIt.remove();
+						actualIt.remove();
+					}
+				}
+				assertEquals(false, actualIt.hasNext(), step);
+				break;
+			}
+			case 7: {
+				// removal through a view of the subjects
+				IReference subject = pick(resources);
+				assertEquals(expected.filter(null, p, null).subjects().remove(subject),
+						actual.filter(null, p, null).subjects().remove(subject), step);
+				break;
+			}
+			case 8:
+				if (random.nextInt(10) == 0) {
+					IReference source = pick(resources);
+					IReference target = pick(resources);
+					expected.rename(source, target);
+					actual.rename(source, target);
+				} else if (random.nextInt(5) == 0) {
+					assertEquals(expected.clear(ctxs), actual.clear(ctxs), step);
+				}
+				break;
+			default:
+				assertEquals(expected.contains(s, p, o, ctxs), actual.contains(s, p, o, ctxs), step);
+				assertSameContent(expected.filter(s, p, o, ctxs), actual.filter(s, p, o, ctxs), step);
+			}
+			assertSameContent(expected, actual, step);
+		}
+		assertEquals(expected, actual);
+		assertEquals(expected.hashCode(), actual.hashCode());
+	}
+
+	@Test
+	public void testRandomModifications() {
+		for (long seed = 0; seed < 20; seed++) {
+			compare(seed);
+		}
+	}
+
+	@Test
+	public void testCopy() {
+		random = new Random(42);
+		List<IStatement> statements = new ArrayList<>();
+		for (int i = 0; i < 500; i++) {
+			statements.add(new Statement(pick(resources), pick(predicates), pick(objects), pick(contexts)));
+		}
+		assertSameContent(new LinkedHashGraph(statements), new CompactGraph(statements), "copy");
+	}
+}
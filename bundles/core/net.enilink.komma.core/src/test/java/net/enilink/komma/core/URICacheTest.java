@@ -0,0 +1,94 @@
+/*******************************************************************************
+ * Copyright (c) 2026 Fraunhofer IWU and others.
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * Contributors:
+ *     Fraunhofer IWU - initial API and implementation
+ *******************************************************************************/
+package net.enilink.komma.core;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNotSame;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.lang.ref.WeakReference;
+
+import org.junit.jupiter.api.Test;
+
+/**
+ * Tests the interning and the cleanup of the weak URI cache.
+ */
+public class URICacheTest {
+	static final String NS = "urn:test:cache:";
+
+	/**
+	 * Runs the garbage collector until the given reference is cleared.
+	 */
+	static void collect(WeakReference<?> reference) throws InterruptedException {
+		for (int i = 0; i < 100 && reference.get() != null; i++) {
+			System.gc();
+			Thread.sleep(10);
+		}
+		assertNull(reference.get(), "The URI must be garbage collected");
+	}
+
+	@Test
+	public void testInterning() {
+		URIs.URICache cache = new URIs.URICache();
+		URI first = URIs.createURI(NS + "a");
+		assertSame(first, cache.intern(NS + "a", first));
+		assertSame(first, cache.get(NS + "a"));
+
+		// a URI that is created later for the same key is replaced by the
+		// cached one
+		URI second = URIs.createURI(NS + "b");
+		assertNotSame(first, second);
+		assertSame(first, cache.intern(NS + "a", second));
+		assertSame(first, cache.get(NS + "a"));
+		assertNull(cache.get(NS + "b"));
+	}
+
+	@Test
+	public void testCreateURIIsInterned() {
+		URI uri = URIs.createURI(NS + "interned");
+		assertSame(uri, URIs.createURI(NS + "interned"));
+		// the fragment is appended to the cached URI
+		assertSame(uri, URIs.createURI(NS + "interned#fragment").trimFragment());
+	}
+
+	@Test
+	public void testCleanup() throws Exception {
+		URIs.URICache cache = new URIs.URICache();
+		WeakReference<URI> reference = new WeakReference<>(cache.intern(NS + "a", URIs.createURI(NS + "a")));
+		assertTrue(cache.entries.containsKey(NS + "a"));
+
+		collect(reference);
+		assertNull(cache.get(NS + "a"));
+
+		// stale entries are removed when other URIs are interned
+		URI other = URIs.createURI(NS + "b");
+		cache.intern(NS + "b", other);
+		assertFalse(cache.entries.containsKey(NS + "a"));
+		assertEquals(1, cache.entries.size());
+		assertSame(other, cache.get(NS + "b"));
+	}
+
+	@Test
+	public void testReplaceCollectedURI() throws Exception {
+		URIs.URICache cache = new URIs.URICache();
+		WeakReference<URI> reference = new WeakReference<>(cache.intern(NS + "a", URIs.createURI(NS + "a")));
+		collect(reference);
+
+		// a new URI for the same key is cached instead of the collected one
+		URI uri = URIs.createURI(NS + "a");
+		assertSame(uri, cache.intern(NS + "a", uri));
+		assertSame(uri, cache.get(NS + "a"));
+		assertEquals(1, cache.entries.size());
+	}
+}
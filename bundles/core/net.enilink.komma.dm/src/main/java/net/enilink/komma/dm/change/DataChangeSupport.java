@@ -5,23 +5,38 @@
  */
 package net.enilink.komma.dm.change;
 
+import net.enilink.komma.core.IReference;
 import net.enilink.komma.core.IStatement;
 import net.enilink.komma.core.URI;
 import net.enilink.komma.dm.IDataManager;
 import net.enilink.komma.dm.internal.change.AddChange;
+import net.enilink.komma.dm.internal.change.GraphChange;
 import net.enilink.komma.dm.internal.change.NamespaceChange;
 import net.enilink.komma.dm.internal.change.RemoveChange;
 
 import java.util.ArrayList;
+import java.util.Collection;
+import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.WeakHashMap;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
 import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.CopyOnWriteArraySet;
+import java.util.concurrent.Executor;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
 
 /**
  * Tracks changes to an {@link IDataManager} by implementing the interface
  * {@link IDataChangeSupport}.
+ * <p>
+ * By default, all listeners are notified synchronously on the thread that
+ * commits the changes. Optionally, the changes of a transaction can be
+ * {@link #setCoalescing(boolean) coalesced} and the non-internal listeners
+ * can be notified {@link #setAsyncExecutor(Executor, int) asynchronously}.
  *
  */
 public class DataChangeSupport implements IDataChangeSupport {
@@ -42,6 +57,14 @@ public class DataChangeSupport implements IDataChangeSupport {
 	private volatile Mode defaultMode = Mode.VERIFY_NONE;
 	private final ThreadLocal<Mode> perThreadMode = new ThreadLocal<>();
 
+	private volatile boolean coalescing = false;
+
+	private volatile Executor asyncExecutor;
+	private volatile BlockingQueue<List<IDataChange>> pendingChanges;
+	private final AtomicBoolean dispatching = new AtomicBoolean(false);
+	private final Object deliveryMonitor = new Object();
+	private long enqueuedCount, deliveredCount;
+
 	@Override
 	public void add(IDataManager dm, IStatement stmt) {
 		addChange(dm, new AddChange(stmt));
@@ -63,6 +86,10 @@ public class DataChangeSupport implements IDataChangeSupport {
 	@Override
 	public void close(IDataManager dm) {
 		activeDataManagers.remove(dm);
+		// data managers may be reused by pools, hence options are also reset
+		synchronized (dataManagerOptions) {
+			dataManagerOptions.remove(dm);
+		}
 	}
 
 	@Override
@@ -106,10 +133,165 @@ public class DataChangeSupport implements IDataChangeSupport {
 		}
 	}
 
+	@Override
+	public void graphOperation(IDataManager dm, IGraphChange.Operation operation, IReference source,
+			IReference target) {
+		addChange(dm, new GraphChange(operation, source, target));
+	}
+
 	protected void handleChanges(List<IDataChange> committed) {
+		if (coalescing) {
+			committed = coalesce(committed);
+			if (committed.isEmpty()) {
+				return;
+			}
+		}
 		notifyListeners(committed);
 	}
 
+	/**
+	 * Removes changes that cancel each other out and groups the remaining
+	 * statement changes by subject. Namespace changes are kept in their
+	 * original order and precede all statement changes. Graph changes and
+	 * statement changes with wildcards (a <code>null</code> subject, predicate
+	 * or object) act as barriers, statement changes are neither coalesced nor
+	 * reordered across them.
+	 * <p>
+	 * An addition followed by a removal of the same statement (or vice versa)
+	 * only cancels out if both changes were effective. This is the case for
+	 * stores that report the actual changes or if changes are verified by
+	 * using {@link Mode#VERIFY_ALL}.
+	 * 
+	 * @param changes
+	 *            The changes in the order in which they were recorded
+	 * @return The coalesced changes
+	 */
+	protected List<IDataChange> coalesce(List<IDataChange> changes) {
+		List<IDataChange> result = new ArrayList<>(changes.size());
+		Map<Object, Map<IStatement, IDataChange>> bySubject = new LinkedHashMap<>();
+		for (IDataChange change : changes) {
+			if (change instanceof IStatementChange && !isWildcard(((IStatementChange) change).getStatement())) {
+				IStatementChange stmtChange = (IStatementChange) change;
+				IStatement stmt = stmtChange.getStatement();
+				Map<IStatement, IDataChange> group = bySubject.computeIfAbsent(stmt.getSubject(),
+						k -> new LinkedHashMap<>());
+				IDataChange existing = group.get(stmt);
+				if (existing == null) {
+					group.put(stmt, change);
+				} else if (((IStatementChange) existing).isAdd() != stmtChange.isAdd()) {
+					// add and remove of the same statement cancel out
+					group.remove(stmt);
+				}
+			} else if (change instanceof IGraphChange || change instanceof IStatementChange) {
+				// the statements affected by a graph change or a wildcard
+				// statement change are unknown
+				for (Map<IStatement, IDataChange> group : bySubject.values()) {
+					result.addAll(group.values());
+				}
+				bySubject.clear();
+				result.add(change);
+			} else {
+				result.add(change);
+			}
+		}
+		for (Map<IStatement, IDataChange> group : bySubject.values()) {
+			result.addAll(group.values());
+		}
+		return result;
+	}
+
+	private static boolean isWildcard(IStatement stmt) {
+		return stmt.getSubject() == null || stmt.getPredicate() == null || stmt.getObject() == null;
+	}
+
+	/**
+	 * Returns if the changes of a transaction are coalesced before listeners
+	 * are notified.
+	 * 
+	 * @return <code>true</code> if changes are coalesced, else
+	 *         <code>false</code>
+	 */
+	public boolean isCoalescing() {
+		return coalescing;
+	}
+
+	/**
+	 * Controls if the changes of a transaction are coalesced before listeners
+	 * are notified.
+	 * 
+	 * @param coalescing
+	 *            <code>true</code> if changes should be coalesced
+	 * @see #coalesce(List)
+	 */
+	public void setCoalescing(boolean coalescing) {
+		this.coalescing = coalescing;
+	}
+
+	/**
+	 * Configures an executor that is used to notify all non-internal
+	 * listeners. The listeners are notified in the order of the commits but
+	 * not on the committing thread. Internal listeners are always notified
+	 * synchronously.
+	 * <p>
+	 * If already <code>maxPending</code> change sets are waiting for their
+	 * delivery then a committing thread is blocked until the listeners catch
+	 * up.
+	 * 
+	 * @param executor
+	 *            The executor or <code>null</code> to notify all listeners
+	 *            synchronously
+	 * @param maxPending
+	 *            The maximum number of change sets that are not yet delivered
+	 */
+	public synchronized void setAsyncExecutor(Executor executor, int maxPending) {
+		if (executor != null && maxPending < 1) {
+			throw new IllegalArgumentException("The number of pending change sets must be positive.");
+		}
+		BlockingQueue<List<IDataChange>> previous = pendingChanges;
+		if (executor != null) {
+			pendingChanges = new ArrayBlockingQueue<>(maxPending);
+		} else {
+			pendingChanges = null;
+		}
+		asyncExecutor = executor;
+		if (previous != null) {
+			// deliver remaining changes of the previous configuration
+			List<IDataChange> changes;
+			while ((changes = previous.poll()) != null) {
+				deliver(changes);
+			}
+		}
+	}
+
+	/**
+	 * Waits until all changes that were committed before the invocation of
+	 * this method have been delivered to the asynchronously notified
+	 * listeners.
+	 * 
+	 * @param timeout
+	 *            The maximum time to wait
+	 * @param unit
+	 *            The unit of the timeout
+	 * @return <code>true</code> if all changes were delivered, else
+	 *         <code>false</code> if the timeout elapsed
+	 * @throws InterruptedException
+	 *             if the current thread was interrupted while waiting
+	 */
+	public boolean awaitDelivery(long timeout, TimeUnit unit) throws InterruptedException {
+		long deadline = System.nanoTime() + unit.toNanos(timeout);
+		synchronized (deliveryMonitor) {
+			long target = enqueuedCount;
+			while (deliveredCount < target) {
+				long remaining = deadline - System.nanoTime();
+				if (remaining <= 0) {
+					return false;
+				}
+				TimeUnit.NANOSECONDS.timedWait(deliveryMonitor, remaining);
+			}
+			return true;
+		}
+	}
+
 	@Override
 	public boolean isEnabled(IDataManager dm) {
 		Boolean perThreadEnabledValue = perThreadEnabled.get();
@@ -127,11 +309,75 @@ public class DataChangeSupport implements IDataChangeSupport {
 		for (IDataChangeListener internalChangeListener : internalListeners) {
 			internalChangeListener.dataChanged(changes);
 		}
-		for (IDataChangeListener changeListener : listeners) {
+		BlockingQueue<List<IDataChange>> pending = pendingChanges;
+		if (pending == null || listeners.isEmpty()) {
+			notifyListeners(listeners, changes);
+			return;
+		}
+		synchronized (deliveryMonitor) {
+			enqueuedCount++;
+		}
+		try {
+			// blocks if the listeners can not keep up with the changes
+			pending.put(changes);
+		} catch (InterruptedException e) {
+			Thread.currentThread().interrupt();
+			deliver(changes);
+			return;
+		}
+		scheduleDispatch(pending);
+	}
+
+	private void notifyListeners(Collection<IDataChangeListener> changeListeners, List<IDataChange> changes) {
+		for (IDataChangeListener changeListener : changeListeners) {
 			changeListener.dataChanged(changes);
 		}
 	}
 
+	private void scheduleDispatch(BlockingQueue<List<IDataChange>> pending) {
+		if (dispatching.compareAndSet(false, true)) {
+			Executor executor = asyncExecutor;
+			try {
+				if (executor == null) {
+					throw new RejectedExecutionException();
+				}
+				executor.execute(() -> dispatch(pending));
+			} catch (RejectedExecutionException e) {
+				// fall back to the current thread
+				dispatch(pending);
+			}
+		}
+	}
+
+	private void dispatch(BlockingQueue<List<IDataChange>> pending) {
+		try {
+			List<IDataChange> changes;
+			while ((changes = pending.poll()) != null) {
+				deliver(changes);
+			}
+		} finally {
+			dispatching.set(false);
+		}
+		// changes may have been added after the last poll
+		if (!pending.isEmpty()) {
+			scheduleDispatch(pending);
+		}
+	}
+
+	private void deliver(List<IDataChange> changes) {
+		try {
+			notifyListeners(listeners, changes);
+		} catch (RuntimeException e) {
+			Thread thread = Thread.currentThread();
+			thread.getUncaughtExceptionHandler().uncaughtException(thread, e);
+		} finally {
+			synchronized (deliveryMonitor) {
+				deliveredCount++;
+				deliveryMonitor.notifyAll();
+			}
+		}
+	}
+
 	@Override
 	public void remove(IDataManager dm, IStatement stmt) {
 		addChange(dm, new RemoveChange(stmt));
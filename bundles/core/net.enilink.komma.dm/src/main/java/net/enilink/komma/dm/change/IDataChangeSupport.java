@@ -1,5 +1,6 @@
 package net.enilink.komma.dm.change;
 
+import net.enilink.komma.core.IReference;
 import net.enilink.komma.core.IStatement;
 import net.enilink.komma.core.URI;
 import net.enilink.komma.dm.IDataManager;
@@ -99,6 +100,21 @@ public interface IDataChangeSupport {
 	 */
 	Mode getMode(IDataManager dm);
 
+	/**
+	 * Tracks a graph operation that has been executed by the store as a
+	 * whole.
+	 * 
+	 * @param dm
+	 *            The data manager that executed the operation
+	 * @param operation
+	 *            The executed operation
+	 * @param source
+	 *            The source graph or <code>null</code> for the default graph
+	 * @param target
+	 *            The target graph or <code>null</code> for the default graph
+	 */
+	void graphOperation(IDataManager dm, IGraphChange.Operation operation, IReference source, IReference target);
+
 	/**
 	 * Returns <code>true</code> if change tracking is enabled for the given
 	 * data manager, else <code>false</code>.
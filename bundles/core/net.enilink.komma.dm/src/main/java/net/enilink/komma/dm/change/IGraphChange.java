@@ -0,0 +1,52 @@
+/*******************************************************************************
+ * Copyright (c) 2026 Fraunhofer IWU and others.
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * Contributors:
+ *     Fraunhofer IWU - initial API and implementation
+ *******************************************************************************/
+package net.enilink.komma.dm.change;
+
+import net.enilink.komma.core.IReference;
+
+/**
+ * A coarse change that affects a whole graph. It is recorded for graph
+ * operations that are executed by the store itself and hence are not tracked
+ * statement by statement.
+ */
+public interface IGraphChange {
+	/**
+	 * The graph-level operations as defined by SPARQL 1.1 Update.
+	 */
+	enum Operation {
+		/**
+		 * All statements of the source are added to the target.
+		 */
+		ADD,
+		/**
+		 * The target is cleared and all statements of the source are added
+		 * to it.
+		 */
+		COPY,
+		/**
+		 * The target is cleared, all statements of the source are added to
+		 * it and the source is cleared afterwards.
+		 */
+		MOVE
+	}
+
+	Operation getOperation();
+
+	/**
+	 * Returns the source graph or <code>null</code> for the default graph.
+	 */
+	IReference getSource();
+
+	/**
+	 * Returns the target graph or <code>null</code> for the default graph.
+	 */
+	IReference getTarget();
+}
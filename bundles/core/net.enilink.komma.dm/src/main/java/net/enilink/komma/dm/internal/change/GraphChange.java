@@ -0,0 +1,83 @@
+/*******************************************************************************
+ * Copyright (c) 2026 Fraunhofer IWU and others.
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * Contributors:
+ *     Fraunhofer IWU - initial API and implementation
+ *******************************************************************************/
+package net.enilink.komma.dm.internal.change;
+
+import net.enilink.komma.core.IReference;
+import net.enilink.komma.dm.IDataManager;
+import net.enilink.komma.dm.change.IDataChange;
+import net.enilink.komma.dm.change.IGraphChange;
+
+/**
+ * Internal command object representing a graph operation that was executed
+ * by the store.
+ * <p>
+ * The affected statements are unknown, hence this change can be redone but
+ * not undone.
+ */
+public class GraphChange implements IDataChange, IGraphChange {
+	private final Operation operation;
+
+	private final IReference source;
+
+	private final IReference target;
+
+	public GraphChange(Operation operation, IReference source, IReference target) {
+		this.operation = operation;
+		this.source = source;
+		this.target = target;
+	}
+
+	@Override
+	public Operation getOperation() {
+		return operation;
+	}
+
+	@Override
+	public IReference getSource() {
+		return source;
+	}
+
+	@Override
+	public IReference getTarget() {
+		return target;
+	}
+
+	@Override
+	public void redo(IDataManager dm) {
+		dm.createUpdate(toUpdate(), null, false).execute();
+	}
+
+	@Override
+	public void undo(IDataManager dm) {
+		throw new UnsupportedOperationException("Graph operations can not be undone.");
+	}
+
+	/**
+	 * Returns the SPARQL update that executes this operation.
+	 */
+	public String toUpdate() {
+		return new StringBuilder().append(operation.name()).append(' ')
+				.append(toGraph(source)).append(" TO ")
+				.append(toGraph(target)).toString();
+	}
+
+	private static String toGraph(IReference graph) {
+		return graph == null ? "DEFAULT" : "<" + graph.getURI() + ">";
+	}
+
+	@Override
+	public String toString() {
+		return new StringBuilder().append("graph ")
+				.append(operation.name().toLowerCase()).append(" [source=")
+				.append(source).append(", target=").append(target)
+				.append("]").toString();
+	}
+}
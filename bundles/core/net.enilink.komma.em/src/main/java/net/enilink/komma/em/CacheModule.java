@@ -13,7 +13,11 @@ package net.enilink.komma.em;
 import java.time.Duration;
 import java.time.temporal.ChronoUnit;
 import java.time.temporal.TemporalUnit;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashSet;
 import java.util.List;
+import java.util.Set;
 import java.util.concurrent.TimeUnit;
 
 import com.google.common.cache.Cache;
@@ -32,7 +36,10 @@ import net.enilink.komma.dm.change.DataChangeSupport;
 import net.enilink.komma.dm.change.IDataChange;
 import net.enilink.komma.dm.change.IDataChangeListener;
 import net.enilink.komma.dm.change.IDataChangeSupport;
+import net.enilink.komma.dm.change.IGraphChange;
 import net.enilink.komma.dm.change.IStatementChange;
+import net.enilink.komma.em.internal.CacheContextIndex;
+import net.enilink.komma.em.internal.CacheContextKey;
 import net.enilink.komma.em.internal.CachedEntity;
 import net.enilink.komma.em.util.IClosable;
 import net.enilink.vocab.owl.OWL;
@@ -43,10 +50,14 @@ public class CacheModule extends AbstractModule {
 		@Inject
 		Cache<Object, CachedEntity> cache;
 
+		@Inject
+		CacheContextIndex contextIndex;
+
 		@Override
 		public void close() {
 			if (cache != null) {
 				cache.invalidateAll();
+				contextIndex.clear();
 				cache = null;
 			}
 		}
@@ -94,7 +105,13 @@ public class CacheModule extends AbstractModule {
 
 	@Provides
 	@Singleton
-	Cache<Object, CachedEntity> provideCache(IDataChangeSupport changeSupport) {
+	CacheContextIndex provideContextIndex() {
+		return new CacheContextIndex();
+	}
+
+	@Provides
+	@Singleton
+	Cache<Object, CachedEntity> provideCache(IDataChangeSupport changeSupport, CacheContextIndex contextIndex) {
 		final Cache<Object, CachedEntity> cache = cacheBuilder.build();
 
 		IDataChangeListener refreshListener = new IDataChangeListener() {
@@ -114,8 +131,31 @@ public class CacheModule extends AbstractModule {
 				return refreshed;
 			}
 
+			/**
+			 * Removes the data of all entity managers whose read contexts
+			 * include any of the given contexts.
+			 */
+			void invalidateReadContexts(Set<IReference> contexts) {
+				contextIndex.invalidate(contextKey -> isAffected(contextKey, contexts));
+			}
+
+			boolean isAffected(Object contextKey, Set<IReference> contexts) {
+				if (!(contextKey instanceof CacheContextKey)) {
+					// the read contexts are unknown
+					return true;
+				}
+				for (IReference context : contexts) {
+					if (((CacheContextKey) contextKey).reads(context)) {
+						return true;
+					}
+				}
+				return false;
+			}
+
 			@Override
 			public void dataChanged(List<IDataChange> changes) {
+				Set<IReference> invalidatedContexts = null;
+				boolean defaultGraphChanged = false;
 				for (IDataChange change : changes) {
 					if (change instanceof IStatementChange) {
 						IStatement stmt = ((IStatementChange) change).getStatement();
@@ -130,13 +170,13 @@ public class CacheModule extends AbstractModule {
 						}
 						// TODO refresh all possible objects if stmtObject is null
 
-						// clear cache completely if owl:imports has
-						// changed
-						// TODO find a better approach instead of clearing the
-						// whole cache
+						// the imports closure of all entity managers that read
+						// the modified context may have changed
 						if (stmt.getContext() != null && OWL.PROPERTY_IMPORTS.equals(stmtPredicate)) {
-							cache.invalidateAll();
-							continue;
+							if (invalidatedContexts == null) {
+								invalidatedContexts = new HashSet<>();
+							}
+							invalidatedContexts.add(stmt.getContext());
 						}
 
 						// do only remove "properties" node from cache to ensure
@@ -155,8 +195,31 @@ public class CacheModule extends AbstractModule {
 						if (subjectRefreshed && RDF.PROPERTY_TYPE.equals(stmtPredicate)) {
 							cache.invalidate(stmtSubject);
 						}
+					} else if (change instanceof IGraphChange) {
+						// the affected statements are unknown, hence the data
+						// of all entity managers reading the graphs is removed
+						IGraphChange graphChange = (IGraphChange) change;
+						List<IReference> graphs = graphChange.getOperation() == IGraphChange.Operation.MOVE
+								? Arrays.asList(graphChange.getTarget(), graphChange.getSource())
+								: Collections.singletonList(graphChange.getTarget());
+						for (IReference graph : graphs) {
+							if (graph == null) {
+								defaultGraphChanged = true;
+							} else {
+								if (invalidatedContexts == null) {
+									invalidatedContexts = new HashSet<>();
+								}
+								invalidatedContexts.add(graph);
+							}
+						}
 					}
 				}
+				if (defaultGraphChanged) {
+					cache.invalidateAll();
+					contextIndex.clear();
+				} else if (invalidatedContexts != null) {
+					invalidateReadContexts(invalidatedContexts);
+				}
 			}
 		};
 		// ensure higher priority for this entity manager in the listener
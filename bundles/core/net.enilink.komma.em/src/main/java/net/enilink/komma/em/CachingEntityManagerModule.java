@@ -21,8 +21,10 @@ import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
 import com.google.common.cache.Cache;
+import com.google.inject.AbstractModule;
 import com.google.inject.Inject;
 import com.google.inject.Key;
+import com.google.inject.Module;
 import com.google.inject.Provides;
 import com.google.inject.Singleton;
 import com.google.inject.multibindings.Multibinder;
@@ -35,6 +37,8 @@ import net.enilink.composition.cache.behaviours.CacheBehaviourMethodProcessor;
 import net.enilink.composition.properties.PropertySet;
 import net.enilink.komma.core.IEntityManager;
 import net.enilink.komma.core.URI;
+import net.enilink.komma.em.internal.CacheContextIndex;
+import net.enilink.komma.em.internal.CacheContextKey;
 import net.enilink.komma.em.internal.CachedEntity;
 import net.enilink.komma.em.internal.CachingEntityManager;
 import net.enilink.komma.em.internal.Fqn;
@@ -46,19 +50,27 @@ public class CachingEntityManagerModule extends DecoratingEntityManagerModule {
 
 		requireBinding(new Key<Cache<Object, CachedEntity>>() {
 		});
+		requireBinding(CacheContextIndex.class);
+	}
 
-		Multibinder<BehaviourMethodProcessor> multibinder = Multibinder.newSetBinder(binder(),
-				BehaviourMethodProcessor.class);
-		multibinder.addBinding().to(CacheBehaviourMethodProcessor.class);
+	@Override
+	public Module getCompositionModule() {
+		return new AbstractModule() {
+			@Override
+			protected void configure() {
+				Multibinder<BehaviourMethodProcessor> multibinder = Multibinder.newSetBinder(binder(),
+						BehaviourMethodProcessor.class);
+				multibinder.addBinding().to(CacheBehaviourMethodProcessor.class);
+			}
+		};
 	}
 
 	@Provides
+	@Singleton
 	@Inject(optional = true)
-	Fqn provideContextKey(@Named("modifyContexts") Set<URI> modifyContexts) {
-		if (modifyContexts != null) {
-			return new Fqn(modifyContexts.toArray());
-		}
-		return new Fqn();
+	CacheContextKey provideContextKey(@Named("modifyContexts") Set<URI> modifyContexts,
+			@Named("readContexts") Set<URI> readContexts) {
+		return new CacheContextKey(modifyContexts, readContexts);
 	}
 
 	/**
@@ -69,10 +81,13 @@ public class CachingEntityManagerModule extends DecoratingEntityManagerModule {
 		protected static Logger log = LoggerFactory.getLogger(PropertyCache.class);
 
 		final Cache<Object, CachedEntity> cache;
-		final Fqn contextKey;
+		final CacheContextIndex contextIndex;
+		final CacheContextKey contextKey;
 
-		PropertyCache(Cache<Object, CachedEntity> cache, Fqn contextKey) {
+		PropertyCache(Cache<Object, CachedEntity> cache, CacheContextIndex contextIndex,
+				CacheContextKey contextKey) {
 			this.cache = cache;
+			this.contextIndex = contextIndex;
 			this.contextKey = contextKey;
 		}
 
@@ -95,6 +110,7 @@ public class CachingEntityManagerModule extends DecoratingEntityManagerModule {
 			}
 			try {
 				CachedEntity cached = cache.get(entity, CachedEntity.FACTORY);
+				contextIndex.add(contextKey, cached);
 				cached.put(contextKey, new Fqn(property, Arrays.asList(parameters)), value);
 			} catch (ExecutionException e) {
 				log.error("Error while caching property data.", e);
@@ -128,8 +144,9 @@ public class CachingEntityManagerModule extends DecoratingEntityManagerModule {
 
 	@Singleton
 	@Provides
-	IPropertyCache providePropertyCache(final Cache<Object, CachedEntity> cache, final Fqn contextKey) {
-		return new PropertyCache(cache, contextKey);
+	IPropertyCache providePropertyCache(final Cache<Object, CachedEntity> cache,
+			final CacheContextIndex contextIndex, final CacheContextKey contextKey) {
+		return new PropertyCache(cache, contextIndex, contextKey);
 	}
 
 	@Override
@@ -0,0 +1,269 @@
+/*******************************************************************************
+ * Copyright (c) 2026 Fraunhofer IWU and others.
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * Contributors:
+ *     Fraunhofer IWU - initial API and implementation
+ *******************************************************************************/
+package net.enilink.komma.em;
+
+import java.time.Duration;
+import java.util.Deque;
+import java.util.concurrent.ConcurrentLinkedDeque;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.LongAdder;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import net.enilink.komma.core.ITransaction;
+import net.enilink.komma.dm.IDataManager;
+import net.enilink.komma.dm.IDataManagerFactory;
+import net.enilink.komma.dm.change.IDataChangeSupport;
+import net.enilink.komma.em.util.IClosable;
+
+/**
+ * A bounded pool of {@link IDataManager}s that allows to reuse data managers
+ * (and their underlying connections and query caches) across different units
+ * of work.
+ * <p>
+ * Data managers are acquired by {@link ThreadLocalDataManager} when a unit of
+ * work first accesses the store and released when the unit of work ends. At
+ * most <code>maxIdle</code> data managers are kept open, data managers that
+ * have not been used for longer than <code>maxIdleTime</code> are closed.
+ */
+public class DataManagerPool implements IClosable {
+	private final static Logger log = LoggerFactory.getLogger(DataManagerPool.class);
+
+	static class IdleEntry {
+		final IDataManager dm;
+		final long releasedAt;
+
+		IdleEntry(IDataManager dm, long releasedAt) {
+			this.dm = dm;
+			this.releasedAt = releasedAt;
+		}
+	}
+
+	protected final IDataManagerFactory dmFactory;
+	protected final IDataChangeSupport changeSupport;
+	protected final int maxIdle;
+	protected final long maxIdleNanos;
+
+	// most recently released data managers are at the head
+	private final Deque<IdleEntry> idle = new ConcurrentLinkedDeque<>();
+	private final AtomicInteger idleCount = new AtomicInteger();
+	private final AtomicInteger activeCount = new AtomicInteger();
+
+	private final LongAdder created = new LongAdder();
+	private final LongAdder reused = new LongAdder();
+	private final LongAdder evicted = new LongAdder();
+
+	private volatile boolean closed;
+
+	/**
+	 * Creates a new pool for data managers.
+	 *
+	 * @param dmFactory
+	 *            The factory for creating new data managers
+	 * @param changeSupport
+	 *            The change support that tracks changes of the data managers
+	 * @param maxIdle
+	 *            The maximum number of idle data managers that are kept open
+	 * @param maxIdleTime
+	 *            The time after which unused data managers are closed
+	 */
+	public DataManagerPool(IDataManagerFactory dmFactory, IDataChangeSupport changeSupport, int maxIdle,
+			Duration maxIdleTime) {
+		this.dmFactory = dmFactory;
+		this.changeSupport = changeSupport;
+		this.maxIdle = maxIdle;
+		this.maxIdleNanos = maxIdleTime.toNanos();
+	}
+
+	/**
+	 * Returns an open data manager that is either taken from the pool or newly
+	 * created.
+	 *
+	 * @return An open data manager
+	 */
+	public IDataManager acquire() {
+		evictExpired();
+		IdleEntry entry;
+		while ((entry = pollIdle()) != null) {
+			if (entry.dm.isOpen()) {
+				reused.increment();
+				activeCount.incrementAndGet();
+				return entry.dm;
+			}
+		}
+		IDataManager dm = dmFactory.get();
+		created.increment();
+		activeCount.incrementAndGet();
+		return dm;
+	}
+
+	/**
+	 * Returns the given data manager to the pool. Active transactions are
+	 * rolled back and pending changes are discarded. The data manager is closed
+	 * if the pool is already full or closed.
+	 *
+	 * @param dm
+	 *            The data manager that was acquired by {@link #acquire()}
+	 */
+	public void release(IDataManager dm) {
+		activeCount.decrementAndGet();
+		boolean reusable = false;
+		try {
+			if (dm.isOpen()) {
+				if (closed) {
+					closeQuietly(dm);
+				} else {
+					reusable = reset(dm);
+				}
+			}
+		} finally {
+			// discard pending changes and any options for the data manager
+			changeSupport.close(dm);
+		}
+		if (reusable) {
+			if (!offerIdle(dm)) {
+				closeQuietly(dm);
+			}
+			evictExpired();
+		}
+	}
+
+	/**
+	 * Rolls back an active transaction of the data manager.
+	 *
+	 * @return <code>true</code> if the data manager can be reused, else
+	 *         <code>false</code> if it was closed
+	 */
+	private boolean reset(IDataManager dm) {
+		try {
+			ITransaction transaction = dm.getTransaction();
+			if (transaction != null && transaction.isActive()) {
+				transaction.rollback();
+			}
+			return true;
+		} catch (Exception e) {
+			log.warn("Failed to reset data manager.", e);
+			closeQuietly(dm);
+			return false;
+		}
+	}
+
+	/**
+	 * Adds the data manager to the idle data managers if the pool is neither
+	 * full nor closed.
+	 *
+	 * @return <code>true</code> if the data manager is owned by the pool, else
+	 *         <code>false</code>
+	 */
+	private boolean offerIdle(IDataManager dm) {
+		// reserve a slot first to respect the limit for concurrent releases
+		if (idleCount.incrementAndGet() > maxIdle) {
+			idleCount.decrementAndGet();
+			return false;
+		}
+		IdleEntry entry = new IdleEntry(dm, System.nanoTime());
+		idle.offerFirst(entry);
+		// the pool may have been closed concurrently, if the entry is already
+		// gone then it was closed by close()
+		return !closed || !removeIdle(entry);
+	}
+
+	private IdleEntry pollIdle() {
+		IdleEntry entry = idle.pollFirst();
+		if (entry != null) {
+			idleCount.decrementAndGet();
+		}
+		return entry;
+	}
+
+	private boolean removeIdle(IdleEntry entry) {
+		if (idle.removeLastOccurrence(entry)) {
+			idleCount.decrementAndGet();
+			return true;
+		}
+		return false;
+	}
+
+	/**
+	 * Closes all idle data managers that have not been used within the
+	 * configured idle time.
+	 */
+	public void evictExpired() {
+		long now = System.nanoTime();
+		IdleEntry entry;
+		while ((entry = idle.peekLast()) != null && now - entry.releasedAt > maxIdleNanos) {
+			if (removeIdle(entry)) {
+				evicted.increment();
+				closeQuietly(entry.dm);
+			}
+		}
+	}
+
+	@Override
+	public void close() {
+		closed = true;
+		IdleEntry entry;
+		while ((entry = pollIdle()) != null) {
+			closeQuietly(entry.dm);
+		}
+	}
+
+	protected void closeQuietly(IDataManager dm) {
+		try {
+			dm.close();
+		} catch (Exception e) {
+			log.debug("Failed to close data manager.", e);
+		}
+	}
+
+	/**
+	 * The number of data managers that are currently in use.
+	 */
+	public int getActiveCount() {
+		return activeCount.get();
+	}
+
+	/**
+	 * The number of open data managers that are currently unused.
+	 */
+	public int getIdleCount() {
+		return idleCount.get();
+	}
+
+	/**
+	 * The total number of data managers created by this pool.
+	 */
+	public long getCreatedCount() {
+		return created.sum();
+	}
+
+	/**
+	 * The total number of requests that were served by an idle data manager.
+	 */
+	public long getReusedCount() {
+		return reused.sum();
+	}
+
+	/**
+	 * The total number of idle data managers that were closed because of the
+	 * idle timeout.
+	 */
+	public long getEvictedCount() {
+		return evicted.sum();
+	}
+
+	@Override
+	public String toString() {
+		return "DataManagerPool [active=" + getActiveCount() + ", idle=" + getIdleCount() + ", created="
+				+ getCreatedCount() + ", reused=" + getReusedCount() + ", evicted=" + getEvictedCount() + "]";
+	}
+}
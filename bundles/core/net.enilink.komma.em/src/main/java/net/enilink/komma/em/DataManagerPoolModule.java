@@ -0,0 +1,69 @@
+/*******************************************************************************
+ * Copyright (c) 2026 Fraunhofer IWU and others.
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * Contributors:
+ *     Fraunhofer IWU - initial API and implementation
+ *******************************************************************************/
+package net.enilink.komma.em;
+
+import java.time.Duration;
+import java.time.temporal.ChronoUnit;
+
+import com.google.inject.AbstractModule;
+import com.google.inject.Provides;
+import com.google.inject.Singleton;
+import com.google.inject.TypeLiteral;
+import com.google.inject.multibindings.Multibinder;
+
+import net.enilink.komma.dm.IDataManagerFactory;
+import net.enilink.komma.dm.change.IDataChangeSupport;
+import net.enilink.komma.em.util.IClosable;
+
+/**
+ * Enables the reuse of data managers across units of work by binding a
+ * {@link DataManagerPool} that is used by {@link ThreadLocalDataManager}.
+ */
+public class DataManagerPoolModule extends AbstractModule {
+	public static final int DEFAULT_MAX_IDLE = 16;
+
+	public static final Duration DEFAULT_MAX_IDLE_TIME = Duration.of(1, ChronoUnit.MINUTES);
+
+	protected final int maxIdle;
+
+	protected final Duration maxIdleTime;
+
+	/**
+	 * Constructs an instance of the pool module with {@link #DEFAULT_MAX_IDLE}
+	 * and {@link #DEFAULT_MAX_IDLE_TIME}.
+	 */
+	public DataManagerPoolModule() {
+		this(DEFAULT_MAX_IDLE, DEFAULT_MAX_IDLE_TIME);
+	}
+
+	/**
+	 * Constructs an instance of the pool module with a specific size and idle
+	 * time.
+	 */
+	public DataManagerPoolModule(int maxIdle, Duration maxIdleTime) {
+		this.maxIdle = maxIdle;
+		this.maxIdleTime = maxIdleTime;
+	}
+
+	@Override
+	protected void configure() {
+		Multibinder<IClosable> closableBinder = Multibinder.<IClosable> newSetBinder(binder(),
+				new TypeLiteral<IClosable>() {
+				});
+		closableBinder.addBinding().to(DataManagerPool.class);
+	}
+
+	@Provides
+	@Singleton
+	DataManagerPool providePool(IDataManagerFactory dmFactory, IDataChangeSupport changeSupport) {
+		return new DataManagerPool(dmFactory, changeSupport, maxIdle, maxIdleTime);
+	}
+}
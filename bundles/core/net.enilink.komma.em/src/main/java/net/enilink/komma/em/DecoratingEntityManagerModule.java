@@ -14,27 +14,49 @@ import net.enilink.composition.cache.IPropertyCache;
 import net.enilink.composition.properties.PropertySetFactory;
 import net.enilink.composition.properties.komma.KommaPropertySetFactory;
 import net.enilink.komma.core.IEntityManager;
+import net.enilink.komma.core.IGraph;
 import net.enilink.komma.em.internal.DecoratingEntityManager;
 
 import com.google.inject.AbstractModule;
-import com.google.inject.Singleton;
+import com.google.inject.Module;
+import com.google.inject.Scopes;
 import com.google.inject.name.Names;
+import com.google.inject.util.Modules;
 
 public class DecoratingEntityManagerModule extends AbstractModule {
 	@Override
 	protected void configure() {
+		bindScope(ManagerScoped.class, Scopes.SINGLETON);
+
 		Class<? extends IEntityManager> managerClass = getManagerClass();
 		bind(managerClass);
 		bind(IEntityManager.class).annotatedWith(Names.named("unmanaged")).to(
-				managerClass);
+				managerClass).in(ManagerScoped.class);
 
 		Class<? extends PropertySetFactory> factoryClass = getPropertySetFactoryClass();
-		bind(factoryClass).in(Singleton.class);
+		bind(factoryClass).in(ManagerScoped.class);
 		bind(PropertySetFactory.class).to(factoryClass);
 
+		Class<? extends IGraph> graphClass = getGraphClass();
+		if (graphClass != null) {
+			bind(IGraph.class).to(graphClass);
+		}
+
 		bindNoopPropertyCache();
 	}
 
+	/**
+	 * Returns a module with additional composition bindings, like behaviour
+	 * method processors, that do not depend on a particular entity manager.
+	 * <p>
+	 * The module is installed once per entity manager factory together with
+	 * the {@link ManagerCompositionModule} while this module itself is
+	 * installed for each entity manager.
+	 */
+	public Module getCompositionModule() {
+		return Modules.EMPTY_MODULE;
+	}
+
 	protected Class<? extends IEntityManager> getManagerClass() {
 		return DecoratingEntityManager.class;
 	}
@@ -43,6 +65,18 @@ public class DecoratingEntityManagerModule extends AbstractModule {
 		return KommaPropertySetFactory.class;
 	}
 
+	/**
+	 * Returns the graph implementation, e.g. a
+	 * {@link net.enilink.komma.core.CompactGraph}, that is used for the
+	 * statements of query results that initialize beans.
+	 * 
+	 * @return Graph class or <code>null</code> to use a
+	 *         {@link net.enilink.komma.core.LinkedHashGraph}
+	 */
+	protected Class<? extends IGraph> getGraphClass() {
+		return null;
+	}
+
 	/**
 	 * Installs a no-op property cache to support beans that expect an existing property cache.
 	 */
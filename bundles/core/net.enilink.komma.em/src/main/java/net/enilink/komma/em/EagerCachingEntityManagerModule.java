@@ -18,12 +18,11 @@ import net.enilink.komma.core.IReference;
 import net.enilink.komma.em.internal.EagerCachingEntityManager;
 
 import com.google.inject.Provides;
-import com.google.inject.Singleton;
 
 public class EagerCachingEntityManagerModule extends
 		DecoratingEntityManagerModule {
 	@Provides
-	@Singleton
+	@ManagerScoped
 	Map<IReference, Object> provideEntityCache() {
 		return new ConcurrentHashMap<>();
 	}
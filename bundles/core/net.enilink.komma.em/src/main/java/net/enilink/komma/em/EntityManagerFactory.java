@@ -31,6 +31,16 @@ package net.enilink.komma.em;
 import java.util.Locale;
 import java.util.Set;
 
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import net.enilink.composition.BehaviourInjector;
+import net.enilink.composition.ClassResolver;
+import net.enilink.composition.DefaultBehaviourInjector;
+import net.enilink.composition.DefaultObjectFactory;
+import net.enilink.composition.ObjectFactory;
+import net.enilink.composition.asm.BehaviourMethodProcessor;
+import net.enilink.composition.mappers.RoleMapper;
 import net.enilink.komma.core.IDialect;
 import net.enilink.komma.core.IEntityManager;
 import net.enilink.komma.core.IEntityManagerFactory;
@@ -41,24 +51,33 @@ import net.enilink.komma.core.SparqlStandardDialect;
 import net.enilink.komma.core.URI;
 import net.enilink.komma.dm.IDataManager;
 import net.enilink.komma.dm.IDataManagerFactory;
+import net.enilink.komma.em.internal.ManagerScope;
 import net.enilink.komma.em.util.IClosable;
 
 import com.google.inject.AbstractModule;
+import com.google.inject.Binding;
 import com.google.inject.Inject;
 import com.google.inject.Injector;
 import com.google.inject.Key;
 import com.google.inject.Module;
 import com.google.inject.Provider;
 import com.google.inject.Provides;
-import com.google.inject.Singleton;
+import com.google.inject.Scope;
+import com.google.inject.Scopes;
 import com.google.inject.TypeLiteral;
+import com.google.inject.name.Named;
 import com.google.inject.name.Names;
+import com.google.inject.spi.Element;
+import com.google.inject.spi.Elements;
+import com.google.inject.util.Modules;
 
 /**
  * Creates {@link IEntityManager}s.
  * 
  */
 class EntityManagerFactory implements IEntityManagerFactory {
+	private static final Logger log = LoggerFactory.getLogger(EntityManagerFactory.class);
+
 	@Inject(optional = true)
 	Set<IClosable> closables;
 
@@ -82,6 +101,10 @@ class EntityManagerFactory implements IEntityManagerFactory {
 
 	volatile IEntityManager sharedManager;
 
+	volatile Injector templateInjector;
+
+	volatile Boolean sharedComposition;
+
 	EntityManagerFactory(KommaModule module, IProvider<Locale> locale, Module managerModule) {
 		this.module = module;
 		this.locale = locale;
@@ -91,16 +114,18 @@ class EntityManagerFactory implements IEntityManagerFactory {
 	public synchronized void close() {
 		if (open) {
 			if (parent == null) {
-				if (dmFactory != null) {
-					dmFactory.close();
-				}
-
+				// closables like pools of data managers may still hold
+				// connections that must be closed before the repository
 				if (closables != null) {
 					for (IClosable closable : closables) {
 						closable.close();
 					}
 					closables = null;
 				}
+
+				if (dmFactory != null) {
+					dmFactory.close();
+				}
 			}
 			open = false;
 		}
@@ -115,32 +140,14 @@ class EntityManagerFactory implements IEntityManagerFactory {
 	@Override
 	public IEntityManager create() {
 		ensureFactoryIsOpened();
-		return getManagerInjector(new AbstractModule() {
-			@Override
-			protected void configure() {
-				bind(IEntityManager.class).to(Key.get(IEntityManager.class, Names.named("unmanaged")))
-						.in(Singleton.class);
-			}
-
-			@Provides
-			IDataManager provideDataManager(IDataManagerFactory dataManagerFactory) {
-				return dataManagerFactory.get();
-			}
-		}).getInstance(IEntityManager.class);
+		return createManager(new ManagerScope.Context(null, false));
 	}
 
 	@Override
 	public IEntityManager create(final IEntityManager scope) {
 		ensureFactoryIsOpened();
-		return getManagerInjector(new AbstractModule() {
-			@Override
-			protected void configure() {
-				bind(IEntityManager.class).toInstance(scope);
-				// ensure that a shared thread-local instance is used
-				bind(IDataManager.class).to(Key.get(IDataManager.class, Names.named("thread-local")))
-					.in(Singleton.class);
-			}
-		}).getInstance(Key.get(IEntityManager.class, Names.named("unmanaged")));
+		// ensure that a shared thread-local data manager is used
+		return createManager(new ManagerScope.Context(scope, true));
 	}
 
 	@Override
@@ -167,17 +174,9 @@ class EntityManagerFactory implements IEntityManagerFactory {
 		if (sharedManager == null) {
 			synchronized (this) {
 				if (sharedManager == null) {
-					sharedManager = getManagerInjector(new AbstractModule() {
-						@Override
-						protected void configure() {
-							// use a thread-global instance, the entity manager is thread safe
-							bind(IEntityManager.class).to(Key.get(IEntityManager.class, Names.named("unmanaged")))
-									.in(Singleton.class);
-							// ensure that a shared thread-local instance is used
-							bind(IDataManager.class).to(Key.get(IDataManager.class, Names.named("thread-local")))
-									.in(Singleton.class);
-						}
-					}).getInstance(IEntityManager.class);
+					// use a thread-global instance with a shared thread-local data
+					// manager, the entity manager is thread safe
+					sharedManager = createManager(new ManagerScope.Context(null, true));
 				}
 			}
 		}
@@ -197,8 +196,132 @@ class EntityManagerFactory implements IEntityManagerFactory {
 		return parent;
 	}
 
-	protected synchronized Injector getManagerInjector(AbstractModule customModule) {
-		return injector.createChildInjector(customModule, new ManagerCompositionModule(module), new AbstractModule() {
+	/**
+	 * Creates an entity manager for the given <code>context</code>.
+	 * <p>
+	 * If the composition is shared then all entity managers of this factory
+	 * are created by the same template injector and the per-manager bindings
+	 * are held by the context. Otherwise a child injector is created for each
+	 * entity manager.
+	 */
+	protected IEntityManager createManager(ManagerScope.Context context) {
+		Key<IEntityManager> managerKey = Key.get(IEntityManager.class, Names.named("unmanaged"));
+		if (isCompositionShared()) {
+			Injector template = getTemplateInjector();
+			return context.call(() -> template.getInstance(managerKey));
+		}
+		// the bindings of other modules may not be split into shared and
+		// per-manager bindings
+		Module compositionModule = managerModule instanceof DecoratingEntityManagerModule
+				? ((DecoratingEntityManagerModule) managerModule).getCompositionModule()
+				: Modules.EMPTY_MODULE;
+		return injector.createChildInjector(new ManagerCompositionModule(module), createContextsModule(),
+				compositionModule, createManagerModule(Scopes.SINGLETON), new AbstractModule() {
+					@Override
+					protected void configure() {
+						bind(ManagerScope.Context.class).toInstance(context);
+					}
+				}).getInstance(managerKey);
+	}
+
+	/**
+	 * Returns a child injector with the bindings that are shared by all
+	 * entity managers of this factory. The injector is created once and holds
+	 * the role mapper, class resolver, literal converter and the other
+	 * composition singletons. The bindings of single entity managers are
+	 * {@link ManagerScoped} and resolved within the {@link ManagerScope.Context}
+	 * of the respective manager.
+	 */
+	protected Injector getTemplateInjector() {
+		Injector template = templateInjector;
+		if (template == null) {
+			synchronized (this) {
+				template = templateInjector;
+				if (template == null) {
+					Module compositionModule = ((DecoratingEntityManagerModule) managerModule).getCompositionModule();
+					templateInjector = template = injector.createChildInjector(new ManagerCompositionModule(module) {
+						@Override
+						protected void bindObjectFactory() {
+							bind(new Key<ObjectFactory<URI>>() {
+							}).to(ScopedObjectFactory.class).in(ManagerScoped.class);
+						}
+
+						@Override
+						protected void bindBehaviourInjector() {
+							bind(BehaviourInjector.class).to(ScopedBehaviourInjector.class).in(ManagerScoped.class);
+						}
+					}, createContextsModule(), compositionModule, createManagerModule(ManagerScope.INSTANCE),
+							new AbstractModule() {
+								@Override
+								protected void configure() {
+									bind(ManagerScope.Context.class).toProvider(ManagerScope::current);
+								}
+							});
+				}
+			}
+		}
+		return template;
+	}
+
+	/**
+	 * Tests if the composition bindings can be shared by all entity managers
+	 * of this factory. This is not the case if the manager module binds
+	 * behaviour method processors itself instead of returning them with
+	 * {@link DecoratingEntityManagerModule#getCompositionModule()}.
+	 */
+	protected boolean isCompositionShared() {
+		Boolean shared = sharedComposition;
+		if (shared == null) {
+			shared = managerModule instanceof DecoratingEntityManagerModule;
+			if (shared) {
+				for (Element element : Elements.getElements(managerModule)) {
+					if (element instanceof Binding<?> && BehaviourMethodProcessor.class
+							.equals(((Binding<?>) element).getKey().getTypeLiteral().getRawType())) {
+						log.warn("Module {} binds behaviour method processors within configure(), "
+								+ "they should be bound by getCompositionModule() instead. "
+								+ "Composition is not shared between entity managers.",
+								managerModule.getClass().getName());
+						shared = false;
+						break;
+					}
+				}
+			}
+			sharedComposition = shared;
+		}
+		return shared;
+	}
+
+	/**
+	 * Returns the manager module with the given implementation of the
+	 * {@link ManagerScoped} scope together with the bindings for the entity
+	 * manager and the data manager that depend on the
+	 * {@link ManagerScope.Context}.
+	 */
+	Module createManagerModule(Scope scope) {
+		return Modules.combine(Modules.override(managerModule).with(new AbstractModule() {
+			@Override
+			protected void configure() {
+				bindScope(ManagerScoped.class, scope);
+			}
+		}), new AbstractModule() {
+			@Provides
+			@ManagerScoped
+			IEntityManager provideEntityManager(ManagerScope.Context context,
+					@Named("unmanaged") Provider<IEntityManager> unmanaged) {
+				return context.getScope() != null ? context.getScope() : unmanaged.get();
+			}
+
+			@Provides
+			@ManagerScoped
+			IDataManager provideDataManager(ManagerScope.Context context,
+					@Named("thread-local") Provider<IDataManager> threadLocal) {
+				return context.isSharedDataManager() ? threadLocal.get() : dmFactory.get();
+			}
+		});
+	}
+
+	Module createContextsModule() {
+		return new AbstractModule() {
 			@Override
 			protected void configure() {
 				bind(IEntityManagerFactory.class).annotatedWith(Names.named("currentFactory"))
@@ -210,7 +333,40 @@ class EntityManagerFactory implements IEntityManagerFactory {
 
 				bind(Locale.class).toProvider(() -> locale == null ? Locale.getDefault() : locale.get());
 			}
-		}, managerModule);
+		};
+	}
+
+	/**
+	 * Object factory that creates objects within the context of its entity
+	 * manager.
+	 */
+	static class ScopedObjectFactory extends DefaultObjectFactory<URI> {
+		@Inject
+		ManagerScope.Context context;
+
+		@Inject
+		ScopedObjectFactory(RoleMapper<URI> mapper, ClassResolver<URI> resolver) {
+			super(mapper, resolver);
+		}
+
+		@Override
+		protected Object createInstance(Class<?> proxy) {
+			return context.call(() -> super.createInstance(proxy));
+		}
+	}
+
+	/**
+	 * Behaviour injector that injects behaviours within the context of their
+	 * entity manager.
+	 */
+	static class ScopedBehaviourInjector extends DefaultBehaviourInjector {
+		@Inject
+		ManagerScope.Context context;
+
+		@Override
+		public void injectMembers(Object behaviour) {
+			context.run(() -> super.injectMembers(behaviour));
+		}
 	}
 
 	@Override
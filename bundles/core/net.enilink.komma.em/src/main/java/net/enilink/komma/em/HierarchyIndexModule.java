@@ -0,0 +1,62 @@
+/*******************************************************************************
+ * Copyright (c) 2026 Fraunhofer IWU and others.
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * Contributors:
+ *     Fraunhofer IWU - initial API and implementation
+ *******************************************************************************/
+package net.enilink.komma.em;
+
+import com.google.inject.AbstractModule;
+import com.google.inject.Inject;
+import com.google.inject.Provides;
+import com.google.inject.Singleton;
+import com.google.inject.TypeLiteral;
+import com.google.inject.multibindings.Multibinder;
+
+import net.enilink.komma.dm.IDataManagerFactory;
+import net.enilink.komma.dm.change.DataChangeSupport;
+import net.enilink.komma.em.util.HierarchyIndex;
+import net.enilink.komma.em.util.IClosable;
+import net.enilink.komma.em.util.IDataIndex;
+
+/**
+ * Binds a {@link HierarchyIndex} that is used by the class and property
+ * behaviours to answer hierarchy requests without querying the store.
+ */
+public class HierarchyIndexModule extends AbstractModule {
+	static class HierarchyIndexClosable implements IClosable {
+		@Inject
+		HierarchyIndex index;
+
+		@Override
+		public void close() {
+			if (index != null) {
+				index.invalidate();
+				index = null;
+			}
+		}
+	}
+
+	@Override
+	protected void configure() {
+		Multibinder<IClosable> closableBinder = Multibinder.<IClosable> newSetBinder(binder(),
+				new TypeLiteral<IClosable>() {
+				});
+		closableBinder.addBinding().to(HierarchyIndexClosable.class);
+
+		Multibinder.newSetBinder(binder(), IDataIndex.class).addBinding().to(HierarchyIndex.class);
+	}
+
+	@Provides
+	@Singleton
+	HierarchyIndex provideHierarchyIndex(IDataManagerFactory dmFactory, DataChangeSupport changeSupport) {
+		HierarchyIndex index = new HierarchyIndex(dmFactory);
+		// ensure that the index is updated before other listeners are notified
+		changeSupport.addInternalChangeListener(index);
+		return index;
+	}
+}
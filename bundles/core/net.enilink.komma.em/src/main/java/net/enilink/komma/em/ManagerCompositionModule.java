@@ -1,18 +1,52 @@
 package net.enilink.komma.em;
 
+import java.io.BufferedReader;
+import java.io.File;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
 import java.lang.ref.Reference;
 import java.lang.ref.WeakReference;
+import java.nio.charset.StandardCharsets;
+import java.net.URL;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.Enumeration;
+import java.util.HashMap;
+import java.util.List;
 import java.util.Map;
+import java.util.TreeMap;
 import java.util.WeakHashMap;
 
+import net.enilink.composition.BehaviourFactory;
+import net.enilink.composition.BehaviourInjector;
 import net.enilink.composition.ClassDefiner;
 import net.enilink.composition.ClassResolver;
 import net.enilink.composition.CompositionModule;
+import net.enilink.composition.DefaultBehaviourInjector;
 import net.enilink.composition.DefaultObjectFactory;
 import net.enilink.composition.ObjectFactory;
+import net.enilink.composition.asm.AsmUtils;
+import net.enilink.composition.asm.BehaviourClassNode;
+import net.enilink.composition.asm.BehaviourClassProcessor;
+import net.enilink.composition.asm.BehaviourFactoryBase;
+import net.enilink.composition.asm.BehaviourMethodProcessor;
+import net.enilink.composition.asm.CompositeClassNode;
+import net.enilink.composition.asm.CompositeClassProcessor;
+import net.enilink.composition.asm.DefaultBehaviourFactory;
+import net.enilink.composition.asm.ExtendedClassNode;
+import net.enilink.composition.asm.ExtendedMethod;
+import net.enilink.composition.asm.util.BehaviourMethodGenerator;
+import net.enilink.composition.asm.util.ExtendedMethodGenerator;
+import net.enilink.composition.asm.util.InsnListGenerator;
+import net.enilink.composition.asm.util.MethodNodeGenerator;
 import net.enilink.composition.mappers.ComposedRoleMapper;
 import net.enilink.composition.mappers.RoleMapper;
 import net.enilink.composition.mappers.TypeFactory;
+import net.enilink.composition.properties.PropertySetFactory;
 import net.enilink.composition.mapping.IPropertyMapper;
 import net.enilink.composition.properties.mapper.CompoundPropertyMapper;
 import net.enilink.composition.properties.behaviours.PropertyMapperProcessor;
@@ -20,11 +54,16 @@ import net.enilink.composition.properties.mapper.IriAnnotationPropertyMapper;
 import net.enilink.composition.properties.sparql.SparqlBehaviourMethodProcessor;
 
 import com.google.inject.AbstractModule;
+import com.google.inject.Binding;
 import com.google.inject.Injector;
 import com.google.inject.Key;
 import com.google.inject.Provides;
 import com.google.inject.Singleton;
 import com.google.inject.TypeLiteral;
+import com.google.inject.name.Names;
+import com.google.inject.spi.DefaultBindingTargetVisitor;
+import com.google.inject.spi.InstanceBinding;
+import com.google.inject.spi.LinkedKeyBinding;
 
 import net.enilink.komma.core.*;
 import net.enilink.vocab.rdfs.RDFS;
@@ -33,8 +72,32 @@ import net.enilink.komma.em.internal.behaviours.EntitySupport;
 import net.enilink.komma.literals.LiteralConverter;
 
 public class ManagerCompositionModule extends AbstractModule {
+	/**
+	 * Name of a {@link File} binding or of a system property for the directory
+	 * where generated classes are cached between restarts.
+	 */
+	public static final String CLASS_CACHE = "net.enilink.komma.classcache";
+
+	/**
+	 * Version of the format of cached classes, changes to the generation of
+	 * classes must increase this value.
+	 */
+	private static final int CLASS_CACHE_FORMAT = 2;
+
+	/**
+	 * Classes that generate the composite and behaviour classes. Their
+	 * bytecode is part of the class cache version since a manifest with an
+	 * implementation version is not available in all environments.
+	 */
+	private static final List<Class<?>> GENERATOR_CLASSES = List.of(ManagerCompositionModule.class,
+			ClassDefiner.class, ClassResolver.class, AsmUtils.class, BehaviourClassNode.class,
+			BehaviourFactoryBase.class, CompositeClassNode.class, DefaultBehaviourFactory.class,
+			ExtendedClassNode.class, ExtendedMethod.class, BehaviourMethodGenerator.class,
+			ExtendedMethodGenerator.class, InsnListGenerator.class, MethodNodeGenerator.class);
+
 	private static Map<ClassLoader, WeakReference<ClassLoader>> classLoaders = new WeakHashMap<ClassLoader, WeakReference<ClassLoader>>();
 	private static Map<ClassLoader, WeakReference<ClassDefiner>> definers = new WeakHashMap<ClassLoader, WeakReference<ClassDefiner>>();
+	private static Map<ClassLoader, Map<String, WeakReference<ClassDefiner>>> cachedDefiners = new WeakHashMap<ClassLoader, Map<String, WeakReference<ClassDefiner>>>();
 
 	private KommaModule module;
 
@@ -98,14 +161,41 @@ public class ManagerCompositionModule extends AbstractModule {
 			protected void bindClassDefiner() {
 				// do not bind the class definer here
 			}
+
+			@Override
+			protected void bindBehaviourInjector() {
+				// bound together with the object factory
+			}
 		});
 
+		bindObjectFactory();
+		bindBehaviourInjector();
+
+		bind(new TypeLiteral<ClassResolver<URI>>() {
+		}).in(Singleton.class);
+	}
+
+	/**
+	 * Binds the {@link ObjectFactory}. The factory uses the injector that
+	 * created it for new objects and hence must be bound in an injector that
+	 * knows the current entity manager.
+	 */
+	protected void bindObjectFactory() {
 		bind(new Key<ObjectFactory<URI>>() {
 		}).to(new TypeLiteral<DefaultObjectFactory<URI>>() {
 		});
+	}
 
-		bind(new TypeLiteral<ClassResolver<URI>>() {
-		}).in(Singleton.class);
+	/**
+	 * Binds the {@link BehaviourInjector} of the composite objects. Like the
+	 * {@link ObjectFactory} it must be bound in an injector that knows the
+	 * current entity manager.
+	 */
+	protected void bindBehaviourInjector() {
+		// bind the implementation explicitly to ensure that it is created by
+		// this injector instead of a parent injector
+		bind(DefaultBehaviourInjector.class);
+		bind(BehaviourInjector.class).to(DefaultBehaviourInjector.class);
 	}
 
 	@Provides
@@ -174,7 +264,11 @@ public class ManagerCompositionModule extends AbstractModule {
 
 	@Provides
 	@Singleton
-	protected ClassDefiner provideSharedClassDefiner(ClassLoader cl) {
+	protected ClassDefiner provideSharedClassDefiner(ClassLoader cl, Injector injector) {
+		File cacheDir = getClassCacheDirectory(injector);
+		if (cacheDir != null || cl.getResource(ClassDefiner.PACKAGED_CLASSES + "versions") != null) {
+			return provideVersionedClassDefiner(cl, cacheDir, injector);
+		}
 		ClassDefiner definer = null;
 		synchronized (definers) {
 			WeakReference<ClassDefiner> ref = definers.get(cl);
@@ -200,4 +294,169 @@ public class ManagerCompositionModule extends AbstractModule {
 		}
 		return definer;
 	}
-}
\ No newline at end of file
+
+	protected File getClassCacheDirectory(Injector injector) {
+		Binding<File> binding = injector.getExistingBinding(Key.get(File.class, Names.named(CLASS_CACHE)));
+		if (binding != null) {
+			return binding.getProvider().get();
+		}
+		String dir = System.getProperty(CLASS_CACHE);
+		return dir == null || dir.isEmpty() ? null : new File(dir);
+	}
+
+	/**
+	 * Returns a class definer for the version of generated classes that is
+	 * specific to the roles of this module and the processors of the
+	 * injector. The definer uses classes that were packaged at build time for
+	 * this version and persists generated classes in <code>cacheDir</code> if
+	 * it is not <code>null</code>.
+	 */
+	protected ClassDefiner provideVersionedClassDefiner(ClassLoader cl, File cacheDir, Injector injector) {
+		String version = getClassCacheVersion(injector);
+		synchronized (cachedDefiners) {
+			Map<String, WeakReference<ClassDefiner>> versions = cachedDefiners.get(cl);
+			if (versions == null) {
+				versions = new HashMap<>();
+				cachedDefiners.put(cl, versions);
+			}
+			WeakReference<ClassDefiner> ref = versions.get(version);
+			ClassDefiner definer = ref != null ? ref.get() : null;
+			if (definer == null) {
+				definer = cacheDir != null ? ClassDefiner.createCached(cacheDir, version, cl) : new ClassDefiner(cl);
+				if (isPackagedVersion(cl, version)) {
+					definer.setPackagedVersion(version);
+				}
+				versions.put(version, new WeakReference<>(definer));
+			}
+			return definer;
+		}
+	}
+
+	/**
+	 * Returns <code>true</code> if classes for the given <code>version</code>
+	 * have been generated at build time.
+	 */
+	protected boolean isPackagedVersion(ClassLoader cl, String version) {
+		try {
+			Enumeration<URL> resources = cl.getResources(ClassDefiner.PACKAGED_CLASSES + "versions");
+			while (resources.hasMoreElements()) {
+				try (BufferedReader reader = new BufferedReader(
+						new InputStreamReader(resources.nextElement().openStream(), StandardCharsets.UTF_8))) {
+					if (reader.lines().anyMatch(line -> line.trim().equals(version))) {
+						return true;
+					}
+				}
+			}
+			return false;
+		} catch (IOException e) {
+			return false;
+		}
+	}
+
+	/**
+	 * Returns the bound behaviour factories, processors and the property set
+	 * factory, i.e. the parts of the entity manager module that take part in
+	 * the generation of classes. The implementation classes are sorted by the
+	 * bound type and their names.
+	 */
+	protected Map<String, Class<?>> getCompositionProcessors(Injector injector) {
+		DefaultBindingTargetVisitor<Object, Class<?>> targetClass = new DefaultBindingTargetVisitor<Object, Class<?>>() {
+			@Override
+			public Class<?> visit(LinkedKeyBinding<?> binding) {
+				return binding.getLinkedKey().getTypeLiteral().getRawType();
+			}
+
+			@Override
+			public Class<?> visit(InstanceBinding<?> binding) {
+				return binding.getInstance().getClass();
+			}
+
+			@Override
+			protected Class<?> visitOther(Binding<?> binding) {
+				return binding.getKey().getTypeLiteral().getRawType();
+			}
+		};
+		Map<String, Class<?>> processors = new TreeMap<>();
+		for (Injector i = injector; i != null; i = i.getParent()) {
+			for (Class<?> type : List.of(BehaviourFactory.class, BehaviourClassProcessor.class,
+					BehaviourMethodProcessor.class, CompositeClassProcessor.class, PropertySetFactory.class)) {
+				for (Binding<?> binding : i.findBindingsByType(TypeLiteral.get(type))) {
+					Class<?> processor = binding.acceptTargetVisitor(targetClass);
+					processors.put(type.getSimpleName() + " " + processor.getName(), processor);
+				}
+			}
+		}
+		return processors;
+	}
+
+	/**
+	 * Adds the given class together with all of its superclasses and
+	 * super-interfaces to <code>classes</code>. Generated classes depend on
+	 * the methods and annotations that roles inherit from their supertypes.
+	 */
+	protected void addTypeClosure(Class<?> javaClass, Map<String, Class<?>> classes) {
+		if (javaClass == null || javaClass == Object.class
+				|| classes.putIfAbsent(javaClass.getName(), javaClass) != null) {
+			return;
+		}
+		addTypeClosure(javaClass.getSuperclass(), classes);
+		for (Class<?> superInterface : javaClass.getInterfaces()) {
+			addTypeClosure(superInterface, classes);
+		}
+	}
+
+	/**
+	 * Computes a fingerprint of the roles and behaviours of this module and of
+	 * the processors of the injector including the bytecode of their classes,
+	 * of the supertypes of the roles and of the class generator itself. The
+	 * cache of generated classes is invalidated if the fingerprint changes.
+	 */
+	protected String getClassCacheVersion(Injector injector) {
+		List<String> entries = new ArrayList<>();
+		Map<String, Class<?>> classes = new TreeMap<>();
+		for (Collection<KommaModule.Association> associations : List.of(module.getAnnotations(),
+				module.getConcepts(), module.getBehaviours())) {
+			for (KommaModule.Association e : associations) {
+				entries.add(e.getJavaClass().getName() + " " + e.getRdfType());
+				addTypeClosure(e.getJavaClass(), classes);
+			}
+		}
+		Collections.sort(entries);
+		Map<String, Class<?>> processors = getCompositionProcessors(injector);
+		for (Class<?> javaClass : processors.values()) {
+			classes.put(javaClass.getName(), javaClass);
+		}
+		for (Class<?> javaClass : GENERATOR_CLASSES) {
+			classes.put(javaClass.getName(), javaClass);
+		}
+		try {
+			MessageDigest digest = MessageDigest.getInstance("SHA-256");
+			digest.update(String.valueOf(CLASS_CACHE_FORMAT).getBytes(StandardCharsets.UTF_8));
+			for (String entry : entries) {
+				digest.update(entry.getBytes(StandardCharsets.UTF_8));
+			}
+			for (String processor : processors.keySet()) {
+				digest.update(processor.getBytes(StandardCharsets.UTF_8));
+			}
+			for (Class<?> javaClass : classes.values()) {
+				ClassLoader loader = javaClass.getClassLoader();
+				if (loader == null) {
+					continue;
+				}
+				try (InputStream in = loader.getResourceAsStream(javaClass.getName().replace('.', '/') + ".class")) {
+					if (in != null) {
+						digest.update(in.readAllBytes());
+					}
+				}
+			}
+			StringBuilder version = new StringBuilder();
+			byte[] hash = digest.digest();
+			for (int i = 0; i < 8; i++) {
+				version.append(String.format("%02x", hash[i]));
+			}
+			return version.toString();
+		} catch (NoSuchAlgorithmException | IOException e) {
+			throw new KommaException(e);
+		}
+	}
+}
\ No newline at end of file
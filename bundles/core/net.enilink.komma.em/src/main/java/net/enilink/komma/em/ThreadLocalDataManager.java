@@ -24,6 +24,9 @@ public class ThreadLocalDataManager extends DelegatingDataManager {
 	@Inject
 	protected UnitOfWork uow;
 
+	@Inject(optional = true)
+	protected DataManagerPool pool;
+
 	private final ThreadLocal<IDataManager> delegate = new ThreadLocal<IDataManager>();
 
 	public ThreadLocalDataManager() {
@@ -34,13 +37,21 @@ public class ThreadLocalDataManager extends DelegatingDataManager {
 	public void close() {
 		IDataManager manager = delegate.get();
 		if (manager != null) {
-			manager.close();
 			delegate.remove();
+			release(manager);
+		}
+	}
+
+	protected void release(IDataManager manager) {
+		if (pool != null) {
+			pool.release(manager);
+		} else {
+			manager.close();
 		}
 	}
 	
 	protected IDataManager initialValue() {
-		return dmFactory.get();
+		return pool != null ? pool.acquire() : dmFactory.get();
 	}
 
 	@Override
@@ -50,6 +61,11 @@ public class ThreadLocalDataManager extends DelegatingDataManager {
 			if (!uow.isActive()) {
 				throw new KommaException("No active unit of work found.");
 			}
+			if (manager != null) {
+				// the closed data manager still counts as active for the pool
+				delegate.remove();
+				release(manager);
+			}
 			manager = initialValue();
 			uow.addCloseable(this);
 			delegate.set(manager);
@@ -10,7 +10,11 @@
  *******************************************************************************/
 package net.enilink.komma.em.concepts;
 
+import java.util.List;
+import java.util.Set;
+
 import net.enilink.commons.iterator.IExtendedIterator;
+import net.enilink.commons.iterator.WrappedIterator;
 import net.enilink.composition.traits.Behaviour;
 import net.enilink.komma.core.IQuery;
 import net.enilink.komma.core.IReference;
@@ -18,6 +22,8 @@ import net.enilink.komma.core.IResultDescriptor;
 import net.enilink.komma.core.KommaException;
 import net.enilink.komma.core.URI;
 import net.enilink.komma.em.results.ResultDescriptor;
+import net.enilink.komma.em.util.HierarchyIndex;
+import net.enilink.komma.em.util.HierarchyIndex.Hierarchy;
 import net.enilink.vocab.komma.KOMMA;
 import net.enilink.vocab.owl.OWL;
 import net.enilink.vocab.rdfs.RDFS;
@@ -25,10 +31,15 @@ import net.enilink.vocab.rdfs.RDFS;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
+import com.google.inject.Inject;
+import com.google.inject.name.Named;
+
 public abstract class ClassSupport extends BehaviorBase implements IClass,
 		Behaviour<IClass> {
 	private static Logger log = LoggerFactory.getLogger(ClassSupport.class);
 
+	private HierarchyIndex.View hierarchyIndex;
+
 	@SuppressWarnings("unlikely-arg-type")
 	private final String SELECT_DIRECT_SUBCLASSES(boolean named) {
 		StringBuilder sb = new StringBuilder(PREFIX);
@@ -128,6 +139,28 @@ public abstract class ClassSupport extends BehaviorBase implements IClass,
 				"komma:directNamedSuperClasses", "superClass", "subClass");
 	}
 
+	@Inject(optional = true)
+	protected void setHierarchyIndex(HierarchyIndex index, @Named("readContexts") Set<URI> readContexts,
+			@Named("modifyContexts") Set<URI> modifyContexts) {
+		this.hierarchyIndex = index.view(readContexts, modifyContexts);
+	}
+
+	/**
+	 * Returns the hierarchy index if it can be used instead of a query, else
+	 * <code>null</code>.
+	 */
+	protected HierarchyIndex.View getHierarchyIndex(boolean includeInferred) {
+		// the index contains neither inferred nor uncommitted statements
+		if (hierarchyIndex == null || includeInferred || getEntityManager().getTransaction().isActive()) {
+			return null;
+		}
+		return hierarchyIndex;
+	}
+
+	protected IExtendedIterator<IClass> toClasses(List<URI> uris) {
+		return WrappedIterator.create(uris.iterator()).mapWith(uri -> getEntityManager().find(uri, IClass.class));
+	}
+
 	public IExtendedIterator<IResource> getInstances() {
 		IQuery<?> query = getEntityManager().createQuery(SELECT_INSTANCES);
 		query.setParameter("class", this);
@@ -159,6 +192,17 @@ public abstract class ClassSupport extends BehaviorBase implements IClass,
 
 	protected IExtendedIterator<IClass> getSubClasses(boolean direct,
 			boolean includeInferred, boolean named) {
+		HierarchyIndex.View hierarchy = named ? getHierarchyIndex(includeInferred) : null;
+		// the root classes are determined by their types which are not indexed
+		if (hierarchy != null && !OWL.TYPE_THING.equals(getURI()) && !RDFS.TYPE_RESOURCE.equals(getURI())) {
+			if (direct) {
+				List<URI> subClasses = hierarchy.getDirectSubs(Hierarchy.CLASSES, getBehaviourDelegate(), true);
+				subClasses.remove(OWL.TYPE_NOTHING);
+				return toClasses(subClasses);
+			}
+			return toClasses(hierarchy.getSubs(Hierarchy.CLASSES, getBehaviourDelegate(), true));
+		}
+
 		String queryString;
 		if (direct) {
 			queryString = SELECT_DIRECT_SUBCLASSES(named);
@@ -201,6 +245,10 @@ public abstract class ClassSupport extends BehaviorBase implements IClass,
 
 	protected IExtendedIterator<IClass> getLeafSubClasses(
 			boolean includeInferred, boolean named) {
+		HierarchyIndex.View hierarchy = named ? getHierarchyIndex(includeInferred) : null;
+		if (hierarchy != null) {
+			return toClasses(hierarchy.getLeafSubs(Hierarchy.CLASSES, getBehaviourDelegate()));
+		}
 		IQuery<?> query = getEntityManager().createQuery(
 				SELECT_LEAF_SUBCLASSES(named), includeInferred);
 		query.setParameter("superClass", getBehaviourDelegate());
@@ -213,6 +261,10 @@ public abstract class ClassSupport extends BehaviorBase implements IClass,
 		log.info("Get super classes for {}", getBehaviourDelegate());
 		// [PERFORMANCE] direct named super-classes are retrieved without
 		// inference
+		HierarchyIndex.View hierarchy = getHierarchyIndex(false);
+		if (hierarchy != null) {
+			return toClasses(hierarchy.getDirectSupers(Hierarchy.CLASSES, getBehaviourDelegate(), true));
+		}
 		return getEntityManager()
 				.createQuery(DIRECT_NAMED_SUPERCLASSES_DESC().toQueryString(),
 						false).setParameter("subClass", getBehaviourDelegate())
@@ -10,7 +10,9 @@
  *******************************************************************************/
 package net.enilink.komma.em.concepts;
 
+import java.util.Collection;
 import java.util.Comparator;
+import java.util.Map;
 import java.util.Set;
 
 import net.enilink.commons.iterator.IExtendedIterator;
@@ -347,6 +349,33 @@ public interface IResource extends Resource {
 	 */
 	void refresh(IReference property);
 
+	/**
+	 * Initializes the cached values of multiple RDF properties, e.g. with values
+	 * that were retrieved in bulk by a single query.
+	 * 
+	 * <p>
+	 * The cardinalities of all given properties are determined at once and the
+	 * values of each property are cached as if they were read by
+	 * {@link #get(IReference)}. Properties whose values are already cached and
+	 * ordered containment properties are left unchanged.
+	 * 
+	 * @param values
+	 *            the complete values for each RDF property
+	 */
+	void initProperties(Map<? extends IReference, ? extends Collection<?>> values);
+
+	/**
+	 * Returns whether the values of the given RDF property are cached and
+	 * hence can be returned by {@link #get(IReference)} without accessing the
+	 * underlying store.
+	 * 
+	 * @param property
+	 *            an RDF property
+	 * @return <code>true</code> if the values of <code>property</code> are
+	 *         cached, else <code>false</code>
+	 */
+	boolean isCached(IReference property);
+
 	/**
 	 * Sets the value of a single- or multi-valued property.
 	 * 
@@ -27,8 +27,14 @@ import net.enilink.vocab.owl.FunctionalProperty;
 import net.enilink.komma.core.IEntity;
 import net.enilink.komma.core.IQuery;
 import net.enilink.komma.core.IReference;
+import net.enilink.komma.core.URI;
+import net.enilink.komma.em.util.HierarchyIndex;
+import net.enilink.komma.em.util.HierarchyIndex.Hierarchy;
 import net.enilink.komma.em.util.KommaUtil;
 
+import com.google.inject.Inject;
+import com.google.inject.name.Named;
+
 public abstract class PropertySupport extends BehaviorBase implements
 		IProperty, Behaviour<IProperty> {
 	private static final String SELECT_DIRECT_SUBPROPERTIES(boolean named) {
@@ -106,6 +112,14 @@ public abstract class PropertySupport extends BehaviorBase implements
 			+ "?property rdfs:range ?range " //
 			+ " }";
 
+	private HierarchyIndex.View hierarchyIndex;
+
+	@Inject(optional = true)
+	protected void setHierarchyIndex(HierarchyIndex index, @Named("readContexts") Set<URI> readContexts,
+			@Named("modifyContexts") Set<URI> modifyContexts) {
+		this.hierarchyIndex = index.view(readContexts, modifyContexts);
+	}
+
 	@Override
 	public boolean isContainment() {
 		if (getBehaviourDelegate() instanceof DatatypeProperty) {
@@ -125,6 +139,14 @@ public abstract class PropertySupport extends BehaviorBase implements
 	@SuppressWarnings("unchecked")
 	protected IExtendedIterator<IProperty> getSubProperties(boolean direct,
 			boolean includeInferred) {
+		// the index contains neither inferred nor uncommitted statements
+		if (hierarchyIndex != null && !includeInferred && !getEntityManager().getTransaction().isActive()) {
+			List<URI> subProperties = direct
+					? hierarchyIndex.getDirectSubs(Hierarchy.PROPERTIES, getBehaviourDelegate(), false)
+					: hierarchyIndex.getSubs(Hierarchy.PROPERTIES, getBehaviourDelegate(), false);
+			return WrappedIterator.create(subProperties.iterator())
+					.mapWith(uri -> getEntityManager().find(uri, IProperty.class));
+		}
 		IQuery<?> query = getEntityManager().createQuery(
 				direct ? SELECT_DIRECT_SUBPROPERTIES(true)
 						: SELECT_SUBPROPERTIES(true), includeInferred);
@@ -10,9 +10,11 @@
  *******************************************************************************/
 package net.enilink.komma.em.concepts;
 
+import java.util.ArrayList;
 import java.util.Collection;
 import java.util.HashMap;
 import java.util.Iterator;
+import java.util.List;
 import java.util.Map;
 import java.util.Set;
 
@@ -23,7 +25,6 @@ import net.enilink.composition.properties.util.UnmodifiablePropertySet;
 import net.enilink.composition.traits.Behaviour;
 
 import com.google.inject.Inject;
-import com.google.inject.Injector;
 
 import net.enilink.commons.iterator.ConvertingIterator;
 import net.enilink.commons.iterator.IExtendedIterator;
@@ -62,8 +63,7 @@ public abstract class ResourceSupport extends BehaviorBase implements
 			}
 			if (property instanceof IProperty
 					&& ((IProperty) property).isOrderedContainment()) {
-				propertySet = new OrderedPropertySet<>(getBehaviourDelegate(), property);
-				injector.injectMembers(propertySet);
+				propertySet = new OrderedPropertySet<>(getBehaviourDelegate(), property, propertySetFactory);
 			} else {
 				Object self = getBehaviourDelegate();
 				if (self instanceof PropertySetOwner) {
@@ -83,6 +83,20 @@ public abstract class ResourceSupport extends BehaviorBase implements
 			return propertySet;
 		}
 
+		synchronized boolean init(Collection<?> values) {
+			if (property instanceof IProperty
+					&& ((IProperty) property).isOrderedContainment()) {
+				return false;
+			}
+			getPropertySet().init(values);
+			return true;
+		}
+
+		synchronized boolean isCached() {
+			return single != null && propertySet != null
+					&& propertySet.isCached();
+		}
+
 		boolean isSingle() {
 			if (single == null) {
 				// the following code checks if property is functional
@@ -109,9 +123,7 @@ public abstract class ResourceSupport extends BehaviorBase implements
 			+ "{?class rdfs:subClassOf ?restriction . ?restriction owl:onProperty ?property}}}" //
 			+ "}";
 
-	private static final String SELECT_APPLICABLE_CARDINALITY = PREFIX //
-			+ "SELECT DISTINCT ?min ?max " //
-			+ "WHERE { " //
+	private static final String APPLICABLE_CARDINALITY_WHERE = "WHERE { " //
 			+ "?resource a ?class ." // given resource has type class
 			+ "?class rdfs:subClassOf ?restriction ." // class has a local
 			// restriction
@@ -131,7 +143,13 @@ public abstract class ResourceSupport extends BehaviorBase implements
 			+ "OPTIONAL {"
 			+ "?restriction owl:qualifiedCardinality ?min ."
 			+ "?restriction owl:qualifiedCardinality ?max ." + //
-			"}}} ORDER BY DESC(?min) ?max";
+			"}}}";
+
+	private static final String SELECT_APPLICABLE_CARDINALITY = PREFIX //
+			+ "SELECT DISTINCT ?min ?max " + APPLICABLE_CARDINALITY_WHERE + " ORDER BY DESC(?min) ?max";
+
+	private static final String SELECT_APPLICABLE_CARDINALITIES = PREFIX //
+			+ "SELECT DISTINCT ?property ?min ?max " + APPLICABLE_CARDINALITY_WHERE;
 
 	private static final String SELECT_APPLICABLE_CHILD_PROPERTIES = PREFIX //
 			+ "SELECT DISTINCT ?property " //
@@ -226,9 +244,6 @@ public abstract class ResourceSupport extends BehaviorBase implements
 				+ "}";
 	}
 
-	@Inject
-	private Injector injector;
-
 	private Map<IReference, PropertyInfo> properties;
 
 	@Override
@@ -269,23 +284,28 @@ public abstract class ResourceSupport extends BehaviorBase implements
 		query.setParameter("resource", getBehaviourDelegate());
 		query.setParameter("property", property);
 
-		int min = 0;
-		int max = Integer.MAX_VALUE;
+		int[] minMax = { 0, Integer.MAX_VALUE };
 		for (//
 		@SuppressWarnings("rawtypes")
 		Iterator<IBindings> it = query.evaluate(IBindings.class); it.hasNext();) {
-			IBindings<?> values = it.next();
+			addCardinality(minMax, it.next());
+		}
+		return toCardinality(property, minMax);
+	}
 
-			if (values.get("min") instanceof Number) {
-				min = Math.max(min, ((Number) values.get("min")).intValue());
-			}
-			if (values.get("max") instanceof Number) {
-				max = Math.min(max, ((Number) values.get("max")).intValue());
-			}
+	private void addCardinality(int[] minMax, IBindings<?> values) {
+		if (values.get("min") instanceof Number) {
+			minMax[0] = Math.max(minMax[0], ((Number) values.get("min")).intValue());
 		}
+		if (values.get("max") instanceof Number) {
+			minMax[1] = Math.min(minMax[1], ((Number) values.get("max")).intValue());
+		}
+	}
 
+	private Pair<Integer, Integer> toCardinality(IReference property, int[] minMax) {
+		int min = minMax[0];
 		// if min is greater than max, then max = min
-		max = Math.max(min, max);
+		int max = Math.max(min, minMax[1]);
 		// handle functional properties
 		if (max > 1
 				&& getEntityManager().find(property) instanceof FunctionalProperty) {
@@ -525,6 +545,53 @@ public abstract class ResourceSupport extends BehaviorBase implements
 		}
 	}
 
+	@Override
+	public void initProperties(Map<? extends IReference, ? extends Collection<?>> values) {
+		List<PropertyInfo> unknownCardinality = new ArrayList<>();
+		for (Map.Entry<? extends IReference, ? extends Collection<?>> entry : values.entrySet()) {
+			PropertyInfo propertyInfo = ensurePropertyInfo(entry.getKey());
+			if (propertyInfo.init(entry.getValue()) && propertyInfo.single == null) {
+				unknownCardinality.add(propertyInfo);
+			}
+		}
+		if (unknownCardinality.isEmpty()) {
+			return;
+		}
+
+		// determine the cardinalities of all properties with one query
+		IQuery<?> query = getEntityManager().createQuery(
+				SELECT_APPLICABLE_CARDINALITIES);
+		query.setParameter("resource", getBehaviourDelegate());
+		Map<IReference, int[]> cardinalities = new HashMap<>();
+		for (//
+		@SuppressWarnings("rawtypes")
+		Iterator<IBindings> it = query.evaluate(IBindings.class); it.hasNext();) {
+			IBindings<?> bindings = it.next();
+			if (bindings.get("property") instanceof IReference) {
+				addCardinality(cardinalities.computeIfAbsent(
+						(IReference) bindings.get("property"),
+						p -> new int[] { 0, Integer.MAX_VALUE }), bindings);
+			}
+		}
+		for (PropertyInfo propertyInfo : unknownCardinality) {
+			// same as isSingle()
+			IReference property = propertyInfo.property;
+			int[] minMax = cardinalities.get(property);
+			boolean single = property instanceof FunctionalProperty
+					|| minMax != null && Math.max(minMax[0], minMax[1]) <= 1;
+			if (!single && !(property instanceof IEntity)) {
+				single = getEntityManager().find(property) instanceof FunctionalProperty;
+			}
+			propertyInfo.single = single;
+		}
+	}
+
+	@Override
+	public boolean isCached(IReference property) {
+		PropertyInfo propertyInfo = getPropertyInfo(property);
+		return propertyInfo != null && propertyInfo.isCached();
+	}
+
 	@Override
 	public void removeProperty(IReference property) {
 		getEntityManager().remove(new Statement(this, property, null));
@@ -31,6 +31,7 @@ package net.enilink.komma.em.internal;
 import com.google.common.collect.MapMaker;
 import com.google.inject.Inject;
 import com.google.inject.Injector;
+import com.google.inject.MembersInjector;
 import com.google.inject.Provider;
 import com.google.inject.name.Named;
 import net.enilink.commons.iterator.ConvertingIterator;
@@ -75,6 +76,7 @@ public abstract class AbstractEntityManager implements IEntityManager, IEntityMa
 
 	private static final URI RESULT_NODE = RESULTS.TYPE_RESULT;
 	private static final URI[] NO_CONTEXTS = new URI[0];
+	private static final int DEFAULT_PAGE_SIZE = 100;
 	protected static Logger log = LoggerFactory.getLogger(AbstractEntityManager.class);
 	protected IDataManager dm;
 
@@ -83,6 +85,11 @@ public abstract class AbstractEntityManager implements IEntityManager, IEntityMa
 
 	@Inject
 	protected Injector injector;
+	/**
+	 * Context of this manager if it shares its injector with other managers.
+	 */
+	@Inject(optional = true)
+	protected ManagerScope.Context context;
 	protected Map<String, Object> properties;
 	private ClassResolver<URI> classResolver;
 	@Inject
@@ -91,6 +98,7 @@ public abstract class AbstractEntityManager implements IEntityManager, IEntityMa
 	private Provider<Locale> locale;
 	private RoleMapper<URI> mapper;
 	private final Map<Object, IReference> merged = new MapMaker().weakKeys().makeMap();
+	private final Map<Class<?>, MembersInjector<Object>> membersInjectors = new ConcurrentHashMap<>();
 	private volatile ResourceManager resourceManager;
 	private volatile TypeManager typeManager;
 	private final Map<URI, String> uriToPrefix = new ConcurrentHashMap<>();
@@ -222,9 +230,20 @@ public abstract class AbstractEntityManager implements IEntityManager, IEntityMa
 		return createNamed(null, concepts);
 	}
 
-	@SuppressWarnings("unchecked")
 	public Object createBean(IReference resource, Collection<URI> entityTypes, Collection<Class<?>> concepts,
 	                         boolean restrictTypes, boolean initialize, IGraph graph) {
+		return createBean(resource, entityTypes, concepts, restrictTypes, initialize, graph, null);
+	}
+
+	/**
+	 * Creates a bean for the given resource.
+	 *
+	 * @param knownTypes the already retrieved types of the resource or <code>null</code>
+	 *                   if the types should be read from the store
+	 */
+	@SuppressWarnings("unchecked")
+	protected Object createBean(IReference resource, Collection<URI> entityTypes, Collection<Class<?>> concepts,
+	                            boolean restrictTypes, boolean initialize, IGraph graph, Collection<URI> knownTypes) {
 		if (resource == null) {
 			throw new IllegalArgumentException("Resource argument must not be null.");
 		}
@@ -256,7 +275,7 @@ public abstract class AbstractEntityManager implements IEntityManager, IEntityMa
 				}
 			}
 			if (retrieveTypes) {
-				entityTypes.addAll(getTypeManager().getTypes(resource));
+				entityTypes.addAll(knownTypes != null ? knownTypes : getTypeManager().getTypes(resource));
 			}
 		}
 		if (concepts != null && !concepts.isEmpty()) {
@@ -291,9 +310,9 @@ public abstract class AbstractEntityManager implements IEntityManager, IEntityMa
 	protected IEntity createBeanForClass(IReference resource, Class<?> type) {
 		Object obj;
 		try {
-			obj = type.getDeclaredConstructor().newInstance();
+			obj = classResolver.getInstanceFactory(type).get();
 
-			injector.injectMembers(obj);
+			injectMembers(getMembersInjector(type), obj);
 
 			assert obj instanceof IEntityManagerAware : "core roles are not registered, check your deployed classpath";
 			IEntityManagerAware bean = (IEntityManagerAware) obj;
@@ -304,6 +323,27 @@ public abstract class AbstractEntityManager implements IEntityManager, IEntityMa
 		}
 	}
 
+	/**
+	 * Injects the given object within the context of this manager.
+	 */
+	private <T> void injectMembers(MembersInjector<T> membersInjector, T instance) {
+		if (context == null) {
+			membersInjector.injectMembers(instance);
+		} else {
+			context.run(() -> membersInjector.injectMembers(instance));
+		}
+	}
+
+	@SuppressWarnings("unchecked")
+	private MembersInjector<Object> getMembersInjector(Class<?> type) {
+		MembersInjector<Object> membersInjector = membersInjectors.get(type);
+		if (membersInjector == null) {
+			membersInjector = (MembersInjector<Object>) injector.getMembersInjector(type);
+			membersInjectors.put(type, membersInjector);
+		}
+		return membersInjector;
+	}
+
 	public ILiteral createLiteral(Object value, URI datatype) {
 		return literalConverter.createLiteral(value, datatype);
 	}
@@ -397,7 +437,7 @@ public abstract class AbstractEntityManager implements IEntityManager, IEntityMa
 		log.debug("Query: {}", query);
 
 		IQuery<?> result = new Query<>(this, dm.createQuery(query, baseURI, includeInferred, readContexts));
-		injector.injectMembers(result);
+		injectMembers(injector::injectMembers, result);
 		if (properties != null) {
 			// set properties on the query object
 			for (String propertyName : result.getSupportedProperties()) {
@@ -424,9 +464,9 @@ public abstract class AbstractEntityManager implements IEntityManager, IEntityMa
 		log.debug("Update: {}", update);
 
 		IDataManagerUpdate dmUpdate = dm.createUpdate(update, baseURI, includeInferred, readContexts, modifyContexts);
-		injector.injectMembers(dmUpdate);
+		injectMembers(injector::injectMembers, dmUpdate);
 		IUpdate result = new Update(this, dmUpdate);
-		injector.injectMembers(result);
+		injectMembers(injector::injectMembers, result);
 		return result;
 	}
 
@@ -487,12 +527,46 @@ public abstract class AbstractEntityManager implements IEntityManager, IEntityMa
 		return createBean(reference, null, concepts, false, true, null);
 	}
 
+	@Override
+	public List<Object> find(List<? extends IReference> resources, Collection<Class<?>> concepts) {
+		List<Object> beans = new ArrayList<>(resources.size());
+		if (resources.size() == 1) {
+			beans.add(find(resources.get(0), concepts));
+			return beans;
+		}
+		List<IReference> unknown = new ArrayList<>(resources.size());
+		for (IReference resource : resources) {
+			if (!isMaterialized(resource)) {
+				unknown.add(resource);
+			}
+		}
+		Map<IReference, Collection<URI>> types = unknown.isEmpty() ? Collections.emptyMap()
+				: getTypeManager().getTypes(unknown);
+		for (IReference resource : resources) {
+			beans.add(createBean(resource, null, concepts, false, true, null, types.get(resource)));
+		}
+		return beans;
+	}
+
+	/**
+	 * Returns <code>true</code> if a bean for the given resource can be
+	 * created without reading its types from the store.
+	 */
+	protected boolean isMaterialized(IReference resource) {
+		return false;
+	}
+
+	/**
+	 * Returns the entities in pages of DEFAULT_PAGE_SIZE elements to
+	 * read their types with one query per page.
+	 */
+	@Override
 	public <T> IExtendedIterator<T> findAll(final Class<T> concept) {
 		StringBuilder querySb = new StringBuilder();
 		querySb.append("SELECT DISTINCT ?subj WHERE {");
 		appendFilter(concept, querySb);
 		querySb.append("}");
-		return createQuery(querySb.toString()).bindResultType(concept).evaluate();
+		return createQuery(querySb.toString()).bindResultType(concept).setPageSize(DEFAULT_PAGE_SIZE).evaluate();
 	}
 
 	@Override
@@ -0,0 +1,82 @@
+package net.enilink.komma.em.internal;
+
+import java.util.Collections;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.function.Predicate;
+
+import com.google.common.collect.MapMaker;
+
+/**
+ * An index of the {@link CachedEntity cached entities} that contain data for a
+ * specific context key (usually a {@link CacheContextKey}).
+ * <p>
+ * The index is used to remove the data of some contexts from a shared cache
+ * without iterating over all of its entries. Cached entities are only weakly
+ * referenced, hence entities that are evicted from the cache are automatically
+ * removed from the index.
+ */
+public class CacheContextIndex {
+	private final ConcurrentMap<Object, Set<CachedEntity>> entitiesByContext = new ConcurrentHashMap<>();
+
+	/**
+	 * Registers the given entity for a context key. This method should be
+	 * called before any data for the context key is stored in the entity.
+	 *
+	 * @param contextKey
+	 *            the context key
+	 * @param entity
+	 *            the cached entity
+	 */
+	public void add(Object contextKey, CachedEntity entity) {
+		Set<CachedEntity> entities = entitiesByContext.get(contextKey);
+		if (entities == null) {
+			entities = entitiesByContext.computeIfAbsent(contextKey, k -> {
+				Map<CachedEntity, Boolean> map = new MapMaker().weakKeys().makeMap();
+				return Collections.newSetFromMap(map);
+			});
+		}
+		// avoid writes for entities that are already known
+		if (!entities.contains(entity)) {
+			entities.add(entity);
+		}
+	}
+
+	/**
+	 * Removes the data of all context keys that match the given filter from
+	 * the indexed entities.
+	 *
+	 * @param filter
+	 *            the filter that selects the context keys
+	 */
+	public void invalidate(Predicate<Object> filter) {
+		for (Object contextKey : entitiesByContext.keySet()) {
+			if (filter.test(contextKey)) {
+				Set<CachedEntity> entities = entitiesByContext.remove(contextKey);
+				if (entities != null) {
+					for (CachedEntity entity : entities) {
+						entity.clearContexts(contextKey::equals);
+					}
+				}
+			}
+		}
+	}
+
+	/**
+	 * Returns the context keys that are currently indexed.
+	 *
+	 * @return the indexed context keys
+	 */
+	public Set<Object> contexts() {
+		return Collections.unmodifiableSet(entitiesByContext.keySet());
+	}
+
+	/**
+	 * Removes all entries from this index.
+	 */
+	public void clear() {
+		entitiesByContext.clear();
+	}
+}
@@ -0,0 +1,91 @@
+package net.enilink.komma.em.internal;
+
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.Set;
+
+import net.enilink.komma.core.IReference;
+import net.enilink.komma.core.URI;
+
+/**
+ * The key that is used to store the data of an entity manager within a shared
+ * entity cache.
+ * <p>
+ * It consists of the modifiable contexts and the readable contexts (e.g. the
+ * imports closure of a model) of the entity manager. Hence, managers with
+ * different read contexts do not share cached data and the cached data of a
+ * manager can be invalidated if one of its read contexts changes.
+ */
+public class CacheContextKey {
+	private final Set<URI> modifyContexts;
+	private final Set<URI> readContexts;
+	private transient int hashCode = 0;
+
+	public CacheContextKey(Set<URI> modifyContexts, Set<URI> readContexts) {
+		// the sets may contain null for the default graph
+		this.modifyContexts = modifyContexts == null ? Collections.emptySet()
+				: Collections.unmodifiableSet(new HashSet<>(modifyContexts));
+		this.readContexts = readContexts == null ? Collections.emptySet()
+				: Collections.unmodifiableSet(new HashSet<>(readContexts));
+	}
+
+	/**
+	 * Returns the contexts that are modified by the associated entity manager.
+	 *
+	 * @return the modifiable contexts
+	 */
+	public Set<URI> getModifyContexts() {
+		return modifyContexts;
+	}
+
+	/**
+	 * Returns the contexts that are read by the associated entity manager.
+	 *
+	 * @return the readable contexts
+	 */
+	public Set<URI> getReadContexts() {
+		return readContexts;
+	}
+
+	/**
+	 * Tests if data for this key may have been read from the given context.
+	 *
+	 * @param context
+	 *            the context (named graph)
+	 * @return <code>true</code> if the entity manager reads the given context
+	 *         or if the manager reads from all contexts, else
+	 *         <code>false</code>
+	 */
+	public boolean reads(IReference context) {
+		if (readContexts.isEmpty() && modifyContexts.isEmpty()) {
+			// the default context includes all named graphs
+			return true;
+		}
+		URI uri = context.getURI();
+		return uri != null && (readContexts.contains(uri) || modifyContexts.contains(uri));
+	}
+
+	/**
+	 * Computes hash code and caches it.
+	 */
+	@Override
+	public int hashCode() {
+		if (hashCode == 0) {
+			hashCode = 31 * modifyContexts.hashCode() + readContexts.hashCode();
+		}
+		return hashCode;
+	}
+
+	@Override
+	public boolean equals(Object obj) {
+		if (this == obj) {
+			return true;
+		}
+		if (!(obj instanceof CacheContextKey)) {
+			return false;
+		}
+		CacheContextKey other = (CacheContextKey) obj;
+		return hashCode() == other.hashCode() && modifyContexts.equals(other.modifyContexts)
+				&& readContexts.equals(other.readContexts);
+	}
+}
@@ -1,15 +1,21 @@
 package net.enilink.komma.em.internal;
 
-import java.util.HashMap;
+import java.util.Collections;
 import java.util.Map;
 import java.util.Set;
 import java.util.concurrent.Callable;
-
-import com.google.common.collect.ImmutableSet;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.atomic.AtomicReferenceFieldUpdater;
+import java.util.function.Predicate;
 
 /**
  * A wrapper for caching a specific RDF resource (entity) with its properties in
  * different contexts (named graphs or models).
+ * <p>
+ * This class is thread-safe. All read operations are lock-free and do not
+ * allocate, updates are handled by the striped locking of the underlying
+ * {@link ConcurrentHashMap}s.
  */
 public class CachedEntity {
 	/**
@@ -17,17 +23,37 @@ public class CachedEntity {
 	 */
 	public static final Callable<CachedEntity> FACTORY = () -> new CachedEntity();
 
-	final Map<Object, Object> contextToSelf = new HashMap<>();
-	Map<Object, Map<Object, Object>> contextToProperties;
+	@SuppressWarnings("rawtypes")
+	private static final AtomicReferenceFieldUpdater<CachedEntity, ConcurrentMap> PROPERTIES_UPDATER = AtomicReferenceFieldUpdater
+			.newUpdater(CachedEntity.class, ConcurrentMap.class, "contextToProperties");
 
-	Map<Object, Object> ensureProperties(Object context) {
-		if (contextToProperties == null) {
-			contextToProperties = new HashMap<>();
+	final ConcurrentMap<Object, Object> contextToSelf = new ConcurrentHashMap<>(2);
+	final Set<Object> contexts = Collections.unmodifiableSet(contextToSelf.keySet());
+
+	/**
+	 * Lazily initialized since many cached entities are never used to store
+	 * any property values.
+	 */
+	volatile ConcurrentMap<Object, Map<Object, Object>> contextToProperties;
+
+	ConcurrentMap<Object, Map<Object, Object>> ensureContextToProperties() {
+		ConcurrentMap<Object, Map<Object, Object>> result = contextToProperties;
+		if (result == null) {
+			PROPERTIES_UPDATER.compareAndSet(this, null, new ConcurrentHashMap<>(2));
+			result = contextToProperties;
 		}
-		Map<Object, Object> properties = contextToProperties.get(context);
+		return result;
+	}
+
+	Map<Object, Object> ensureProperties(Object context) {
+		ConcurrentMap<Object, Map<Object, Object>> contextMap = ensureContextToProperties();
+		Map<Object, Object> properties = contextMap.get(context);
 		if (properties == null) {
-			properties = new HashMap<>();
-			contextToProperties.put(context, properties);
+			Map<Object, Object> newProperties = new ConcurrentHashMap<>();
+			properties = contextMap.putIfAbsent(context, newProperties);
+			if (properties == null) {
+				properties = newProperties;
+			}
 		}
 		return properties;
 	}
@@ -46,7 +72,11 @@ public class CachedEntity {
 	 * @return previous value associated with specified property, or
 	 *         <code>null</code> if there was no mapping for property.
 	 */
-	public synchronized Object put(Object context, Object property, Object value) {
+	public Object put(Object context, Object property, Object value) {
+		if (value == null) {
+			// concurrent maps do not support null values
+			return remove(context, property);
+		}
 		return ensureProperties(context).put(property, value);
 	}
 
@@ -61,8 +91,9 @@ public class CachedEntity {
 	 *            property whose mapping is to be removed from the entity
 	 * @return previous value associated with specified entity's property
 	 */
-	public synchronized Object remove(Object context, Object property) {
-		Map<Object, Object> properties = contextToProperties == null ? null : contextToProperties.get(context);
+	public Object remove(Object context, Object property) {
+		Map<Object, Map<Object, Object>> contextMap = contextToProperties;
+		Map<Object, Object> properties = contextMap == null ? null : contextMap.get(context);
 		if (properties == null) {
 			return null;
 		}
@@ -76,8 +107,9 @@ public class CachedEntity {
 	 *            context for the entity to remove
 	 * @return true if the data was removed, false if the data was not found
 	 */
-	public synchronized boolean clearProperties(Object context) {
-		return contextToProperties != null && contextToProperties.remove(context) != null;
+	public boolean clearProperties(Object context) {
+		Map<Object, Map<Object, Object>> contextMap = contextToProperties;
+		return contextMap != null && contextMap.remove(context) != null;
 	}
 
 	/**
@@ -85,9 +117,10 @@ public class CachedEntity {
 	 *
 	 * @return true if the data was removed, false if the data was not found
 	 */
-	public synchronized boolean clearProperties() {
-		if (contextToProperties != null) {
-			contextToProperties.clear();
+	public boolean clearProperties() {
+		Map<Object, Map<Object, Object>> contextMap = contextToProperties;
+		if (contextMap != null) {
+			contextMap.clear();
 			return true;
 		}
 		return false;
@@ -103,8 +136,9 @@ public class CachedEntity {
 	 * @return returns data for the specified property of the entity denoted by
 	 *         context.
 	 */
-	public synchronized Object get(Object context, Object property) {
-		Map<Object, Object> properties = contextToProperties == null ? null : contextToProperties.get(context);
+	public Object get(Object context, Object property) {
+		Map<Object, Map<Object, Object>> contextMap = contextToProperties;
+		Map<Object, Object> properties = contextMap == null ? null : contextMap.get(context);
 		if (properties == null) {
 			return null;
 		}
@@ -113,46 +147,70 @@ public class CachedEntity {
 
 	/**
 	 * The contexts for which the entity is currently cached.
-	 * 
+	 * <p>
+	 * The returned set is an unmodifiable live view that may be iterated
+	 * while the entity is concurrently modified.
+	 *
 	 * @return the contexts for which the entity is cached
 	 */
-	public synchronized Set<Object> contexts() {
-		return ImmutableSet.copyOf(contextToSelf.keySet());
+	public Set<Object> contexts() {
+		return contexts;
 	}
 
 	/**
 	 * Returns the cached entity for the given context.
-	 * 
+	 *
 	 * @param context
 	 *            The context for which the entity should be retrieved.
 	 * @return The entity instance or <code>null</code>.
 	 */
-	public synchronized Object getSelf(Object context) {
+	public Object getSelf(Object context) {
 		return contextToSelf.get(context);
 	}
 
 	/**
 	 * Sets the cached entity for the given context.
-	 * 
+	 *
 	 * @param context
 	 *            The context for which the entity should be cached.
 	 * @param self
 	 *            The entity that should be cached.
 	 * @return The previous cached entity or <code>null</code>.
 	 */
-	public synchronized Object setSelf(Object context, Object self) {
+	public Object setSelf(Object context, Object self) {
+		if (self == null) {
+			return contextToSelf.remove(context);
+		}
 		return contextToSelf.put(context, self);
 	}
 
 	/**
 	 * Clears the cached entity for the given context.
-	 * 
+	 *
 	 * @param context
 	 *            The context for which the entity should be removed.
 	 * @return <code>true</code> if the entity was cached for the given context,
 	 *         else <code>false</code>.
 	 */
-	public synchronized boolean clearSelf(Object context) {
+	public boolean clearSelf(Object context) {
 		return contextToSelf.remove(context) != null;
 	}
-}
\ No newline at end of file
+
+	/**
+	 * Removes the cached entity and all its property data for each context
+	 * that matches the given filter.
+	 *
+	 * @param filter
+	 *            The filter that selects the contexts to remove.
+	 * @return <code>true</code> if any data was removed, else
+	 *         <code>false</code>.
+	 */
+	public boolean clearContexts(Predicate<Object> filter) {
+		boolean removed = contextToSelf.keySet().removeIf(filter);
+		Map<Object, Map<Object, Object>> contextMap = contextToProperties;
+		if (contextMap != null) {
+			removed |= contextMap.keySet().removeIf(filter);
+		}
+		return removed;
+	}
+}
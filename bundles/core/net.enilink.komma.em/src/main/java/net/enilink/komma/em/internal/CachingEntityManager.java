@@ -27,11 +27,14 @@ import net.enilink.komma.core.URI;
 public class CachingEntityManager extends DecoratingEntityManager {
 
 	@Inject
-	Fqn contextKey;
+	CacheContextKey contextKey;
 
 	@Inject
 	Cache<Object, CachedEntity> cache;
 
+	@Inject
+	CacheContextIndex contextIndex;
+
 	@Inject
 	IPropertyCache propertyCache;
 
@@ -40,8 +43,9 @@ public class CachingEntityManager extends DecoratingEntityManager {
 		super(decorators);
 	}
 
-	public Object createBean(IReference resource, Collection<URI> types, Collection<Class<?>> concepts,
-			boolean restrictTypes, boolean initialize, IGraph graph) {
+	@Override
+	protected Object createBean(IReference resource, Collection<URI> types, Collection<Class<?>> concepts,
+			boolean restrictTypes, boolean initialize, IGraph graph, Collection<URI> knownTypes) {
 		CachedEntity cached = cache.getIfPresent(resource);
 		Object element = cached != null ? cached.getSelf(contextKey) : null;
 		if (element != null) {
@@ -61,7 +65,7 @@ public class CachingEntityManager extends DecoratingEntityManager {
 				return element;
 			}
 		}
-		Object entity = super.createBean(resource, types, concepts, restrictTypes, initialize, graph);
+		Object entity = super.createBean(resource, types, concepts, restrictTypes, initialize, graph, knownTypes);
 		// do not cache entities created during transactions or with restricted
 		// types
 		if (!(restrictTypes || getTransaction().isActive()) &&
@@ -69,6 +73,7 @@ public class CachingEntityManager extends DecoratingEntityManager {
 				entity instanceof IEntity) {
 			try {
 				CachedEntity cachedEntity = cache.get(resource, CachedEntity.FACTORY);
+				contextIndex.add(contextKey, cachedEntity);
 				cachedEntity.setSelf(contextKey, entity);
 			} catch (ExecutionException e) {
 				log.error("Exception while caching entity.", e);
@@ -77,6 +82,12 @@ public class CachingEntityManager extends DecoratingEntityManager {
 		return entity;
 	}
 
+	@Override
+	protected boolean isMaterialized(IReference resource) {
+		CachedEntity cached = cache.getIfPresent(resource);
+		return cached != null && cached.getSelf(contextKey) != null;
+	}
+
 	@Override
 	protected void initializeCache(Object entity, Object property, Object value) {
 		log.trace("init cache for {}/{}: {}", new Object[] { entity, property, value });
@@ -1,6 +1,7 @@
 package net.enilink.komma.em.internal;
 
 import java.util.Collection;
+import java.util.List;
 
 import net.enilink.komma.core.IEntityManager;
 import net.enilink.komma.core.IReference;
@@ -8,5 +9,17 @@ import net.enilink.komma.core.IReference;
 public interface IEntityManagerInternal extends IEntityManager {
 	Object find(IReference resource, Collection<Class<?>> concepts);
 
+	/**
+	 * Creates the objects for multiple resources at once. The types of all
+	 * resources are retrieved by a single query.
+	 * 
+	 * @param resources
+	 *            The resources
+	 * @param concepts
+	 *            The concepts that should be implemented by all objects
+	 * @return The objects in the same order as <code>resources</code>
+	 */
+	List<Object> find(List<? extends IReference> resources, Collection<Class<?>> concepts);
+
 	Object findRestricted(IReference resource, Collection<Class<?>> concepts);
 }
\ No newline at end of file
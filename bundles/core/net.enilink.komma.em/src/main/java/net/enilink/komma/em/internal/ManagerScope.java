@@ -0,0 +1,140 @@
+/*******************************************************************************
+ * Copyright (c) 2026 Fraunhofer IWU and others.
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * Contributors:
+ *     Fraunhofer IWU - initial API and implementation
+ *******************************************************************************/
+package net.enilink.komma.em.internal;
+
+import java.util.HashMap;
+import java.util.Map;
+import java.util.function.Supplier;
+
+import com.google.inject.Key;
+import com.google.inject.OutOfScopeException;
+import com.google.inject.Provider;
+import com.google.inject.Scope;
+
+import net.enilink.komma.core.IEntityManager;
+import net.enilink.komma.em.ManagerScoped;
+
+/**
+ * Implementation of the {@link ManagerScoped} scope for entity managers that
+ * share a single injector.
+ * <p>
+ * The instances of an entity manager are held by its {@link Context}. The
+ * context is active while the manager is created and while it creates and
+ * injects beans, queries and behaviours.
+ */
+public class ManagerScope implements Scope {
+	public static final ManagerScope INSTANCE = new ManagerScope();
+
+	private static final ThreadLocal<Context> current = new ThreadLocal<>();
+
+	/**
+	 * The scoped instances and the parameters of a single entity manager.
+	 */
+	public static class Context {
+		private final Map<Key<?>, Object> instances = new HashMap<>();
+
+		private final IEntityManager scope;
+
+		private final boolean sharedDataManager;
+
+		/**
+		 * Creates a new context.
+		 * 
+		 * @param scope
+		 *            The entity manager that is injected into the beans and
+		 *            behaviours or <code>null</code> if the created manager
+		 *            itself should be injected
+		 * @param sharedDataManager
+		 *            <code>true</code> if the thread-local data manager should be
+		 *            used, else a new data manager is created
+		 */
+		public Context(IEntityManager scope, boolean sharedDataManager) {
+			this.scope = scope;
+			this.sharedDataManager = sharedDataManager;
+		}
+
+		public IEntityManager getScope() {
+			return scope;
+		}
+
+		public boolean isSharedDataManager() {
+			return sharedDataManager;
+		}
+
+		/**
+		 * Runs the given <code>supplier</code> with this context as the active
+		 * context of the current thread.
+		 */
+		public <T> T call(Supplier<T> supplier) {
+			Context previous = current.get();
+			current.set(this);
+			try {
+				return supplier.get();
+			} finally {
+				if (previous == null) {
+					current.remove();
+				} else {
+					current.set(previous);
+				}
+			}
+		}
+
+		/**
+		 * Runs the given <code>runnable</code> with this context as the active
+		 * context of the current thread.
+		 */
+		public void run(Runnable runnable) {
+			call(() -> {
+				runnable.run();
+				return null;
+			});
+		}
+
+		@SuppressWarnings("unchecked")
+		synchronized <T> T get(Key<T> key, Provider<T> unscoped) {
+			Object instance = instances.get(key);
+			if (instance == null) {
+				T created = unscoped.get();
+				// a circular dependency may already have stored an instance
+				instance = instances.get(key);
+				if (instance == null) {
+					instance = created;
+					instances.put(key, instance);
+				}
+			}
+			return (T) instance;
+		}
+	}
+
+	/**
+	 * Returns the active context of the current thread.
+	 * 
+	 * @throws OutOfScopeException
+	 *             if no context is active
+	 */
+	public static Context current() {
+		Context context = current.get();
+		if (context == null) {
+			throw new OutOfScopeException("Cannot access a binding of an entity manager outside of its scope");
+		}
+		return context;
+	}
+
+	@Override
+	public <T> Provider<T> scope(Key<T> key, Provider<T> unscoped) {
+		return () -> current().get(key, unscoped);
+	}
+
+	@Override
+	public String toString() {
+		return ManagerScoped.class.getSimpleName();
+	}
+}
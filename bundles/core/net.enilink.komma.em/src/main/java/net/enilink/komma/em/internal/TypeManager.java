@@ -31,22 +31,39 @@ package net.enilink.komma.em.internal;
 import java.util.ArrayList;
 import java.util.Collection;
 import java.util.Collections;
+import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
 
 import net.enilink.commons.iterator.IExtendedIterator;
 import net.enilink.vocab.rdf.RDF;
 import net.enilink.vocab.rdfs.RDFS;
 import net.enilink.komma.dm.IDataManager;
+import net.enilink.komma.core.IBindings;
+import net.enilink.komma.core.ILiteral;
 import net.enilink.komma.core.IReference;
 import net.enilink.komma.core.IStatement;
 import net.enilink.komma.core.Statement;
+import net.enilink.komma.core.IValue;
 import net.enilink.komma.core.URI;
+import net.enilink.komma.dm.IDataManagerQuery;
 
 /**
  * Reads and manages the rdf:type statements of objects.
  * 
  */
 public class TypeManager {
+	/**
+	 * The maximum number of resources whose types are read by one query.
+	 */
+	static final int MAX_BATCH_SIZE = 128;
+
+	/**
+	 * Queries for batches of resources by their number of parameters.
+	 */
+	private static final Map<Integer, String> batchQueries = new ConcurrentHashMap<>();
+
 	IDataManager dm;
 	IReference[] readContexts;
 	IReference[] modifyContexts;
@@ -93,6 +110,99 @@ public class TypeManager {
 		}
 	}
 
+	/**
+	 * Retrieves the types of multiple resources at once.
+	 * <p>
+	 * The types of named resources are read by one query per batch of at
+	 * most {@link #MAX_BATCH_SIZE} resources. The resources are bound as
+	 * parameters and the number of parameters is rounded up to a power of two,
+	 * hence only a few distinct queries have to be parsed. The types of blank
+	 * nodes are read individually.
+	 * 
+	 * @param resources
+	 *            The resources whose types should be retrieved
+	 * @return A map with the types for each of the given resources
+	 */
+	public Map<IReference, Collection<URI>> getTypes(
+			Collection<? extends IReference> resources) {
+		Map<IReference, Collection<URI>> typesMap = new LinkedHashMap<IReference, Collection<URI>>();
+		Map<URI, List<URI>> byUri = new LinkedHashMap<URI, List<URI>>();
+		for (IReference resource : resources) {
+			URI uri = resource.getURI();
+			if (uri == null) {
+				typesMap.put(resource, getTypes(resource));
+			} else {
+				List<URI> types = byUri.get(uri);
+				if (types == null) {
+					types = new ArrayList<URI>(2);
+					byUri.put(uri, types);
+				}
+				typesMap.put(resource, types);
+			}
+		}
+		List<URI> batch = new ArrayList<URI>(Math.min(byUri.size(), MAX_BATCH_SIZE));
+		for (URI uri : byUri.keySet()) {
+			batch.add(uri);
+			if (batch.size() == MAX_BATCH_SIZE) {
+				readTypes(batch, byUri);
+				batch.clear();
+			}
+		}
+		if (!batch.isEmpty()) {
+			readTypes(batch, byUri);
+		}
+		return typesMap;
+	}
+
+	/**
+	 * Returns a query with <code>size</code> parameters <code>?s0</code>,
+	 * <code>?s1</code>, ... that returns the types <code>?t</code> of each
+	 * parameter together with the parameter's index <code>?i</code>.
+	 */
+	static String batchQuery(int size) {
+		return batchQueries.computeIfAbsent(size, n -> {
+			StringBuilder query = new StringBuilder("SELECT DISTINCT ?i ?t WHERE { ");
+			for (int i = 0; i < n; i++) {
+				if (i > 0) {
+					query.append(" UNION ");
+				}
+				query.append("{ ?s").append(i).append(" <").append(RDF.PROPERTY_TYPE)
+						.append("> ?t BIND (").append(i).append(" AS ?i) }");
+			}
+			return query.append(" }").toString();
+		});
+	}
+
+	private void readTypes(List<URI> batch, Map<URI, List<URI>> byUri) {
+		int size = Integer.highestOneBit(batch.size());
+		if (size < batch.size()) {
+			size <<= 1;
+		}
+		IDataManagerQuery<IBindings<IValue>> query = dm.createQuery(
+				batchQuery(size), null, true, readContexts);
+		for (int i = 0; i < size; i++) {
+			// unused parameters repeat the last resource
+			query.setParameter("s" + i, batch.get(Math.min(i, batch.size() - 1)));
+		}
+		IExtendedIterator<IBindings<IValue>> result = query.evaluate();
+		try {
+			while (result.hasNext()) {
+				IBindings<IValue> bindings = result.next();
+				IValue i = bindings.get("i");
+				IValue t = bindings.get("t");
+				if (i instanceof ILiteral && t instanceof IReference
+						&& ((IReference) t).getURI() != null) {
+					int index = Integer.parseInt(((ILiteral) i).getLabel());
+					if (index < batch.size()) {
+						byUri.get(batch.get(index)).add(((IReference) t).getURI());
+					}
+				}
+			}
+		} finally {
+			result.close();
+		}
+	}
+
 	public void removeType(IReference resource, URI type) {
 		dm.remove(new Statement(resource, RDF.PROPERTY_TYPE, type), modifyContexts);
 	}
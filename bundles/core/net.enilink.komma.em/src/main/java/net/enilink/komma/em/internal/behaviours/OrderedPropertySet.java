@@ -22,6 +22,7 @@ import net.enilink.commons.iterator.IExtendedIterator;
 import net.enilink.commons.iterator.WrappedIterator;
 import net.enilink.commons.util.IPartialOrderProvider;
 import net.enilink.commons.util.LinearExtension;
+import net.enilink.composition.properties.PropertySetFactory;
 import net.enilink.composition.properties.komma.KommaPropertySet;
 import net.enilink.composition.properties.komma.KommaPropertySetFactory;
 import net.enilink.composition.properties.traits.Refreshable;
@@ -137,8 +138,9 @@ public class OrderedPropertySet<E> extends KommaPropertySet<E> implements
 		}
 	};
 
-	public OrderedPropertySet(IReference subject, IReference property) {
+	public OrderedPropertySet(IReference subject, IReference property, PropertySetFactory factory) {
 		super(subject, property);
+		setFactory(factory);
 	}
 
 	@Override
@@ -32,6 +32,8 @@ import java.util.Arrays;
 import java.util.Iterator;
 import java.util.LinkedHashSet;
 import java.util.List;
+import java.util.NoSuchElementException;
+import java.util.function.Supplier;
 
 import net.enilink.commons.iterator.NiceIterator;
 import net.enilink.vocab.rdf.RDF;
@@ -40,6 +42,7 @@ import net.enilink.komma.em.util.RESULTS;
 import net.enilink.komma.core.IGraph;
 import net.enilink.komma.core.IGraphResult;
 import net.enilink.komma.core.IReference;
+import net.enilink.komma.core.IStatement;
 import net.enilink.komma.core.ITupleResult;
 import net.enilink.komma.core.LinkedHashGraph;
 
@@ -52,7 +55,10 @@ import net.enilink.komma.core.LinkedHashGraph;
 public class ProjectedGraphIterator extends NiceIterator<Object> implements
 		ITupleResult<Object> {
 	protected static IGraph asGraph(IGraphResult result) {
-		IGraph graph = new LinkedHashGraph();
+		return asGraph(result, new LinkedHashGraph());
+	}
+
+	protected static IGraph asGraph(IGraphResult result, IGraph graph) {
 		while (result.hasNext()) {
 			graph.add(result.next());
 		}
@@ -72,6 +78,18 @@ public class ProjectedGraphIterator extends NiceIterator<Object> implements
 
 	private ResultInfo resultInfo;
 
+	/**
+	 * The remaining statements if the results are streamed, else
+	 * <code>null</code>.
+	 */
+	private IGraphResult result;
+
+	private Supplier<IGraph> graphFactory;
+
+	private IReference nextResource;
+
+	private IStatement nextGroupStart;
+
 	protected ProjectedGraphIterator(IEntityManagerInternal manager,
 			IGraph resultGraph, int maxResults, ResultInfo resultInfo) {
 		this.resourceIt = new LinkedHashSet<IReference>(resultGraph.filter(
@@ -91,6 +109,67 @@ public class ProjectedGraphIterator extends NiceIterator<Object> implements
 		this(manager, asGraph(result), maxResults, resultInfo);
 	}
 
+	public ProjectedGraphIterator(IEntityManagerInternal manager,
+			IGraphResult result, IGraph graph, int maxResults,
+			ResultInfo resultInfo) {
+		this(manager, asGraph(result, graph), maxResults, resultInfo);
+	}
+
+	/**
+	 * Creates an iterator that converts each result as soon as all of its
+	 * statements have been read. The result is initialized from its own graph
+	 * that is created by <code>graphFactory</code>.
+	 * <p>
+	 * This requires that the statements of each result are contiguous, e.g.
+	 * by ordering the query by the result variable. A result starts with its
+	 * <code>komma:Result</code> marker and ends with the marker of the next
+	 * result.
+	 */
+	public ProjectedGraphIterator(IEntityManagerInternal manager,
+			IGraphResult result, Supplier<IGraph> graphFactory,
+			int maxResults, ResultInfo resultInfo) {
+		this.result = result;
+		this.graphFactory = graphFactory;
+		this.manager = manager;
+		this.maxResults = maxResults;
+		this.resultInfo = resultInfo;
+	}
+
+	/**
+	 * Reads the statements of the next result into a new graph.
+	 */
+	protected void readNextResult() {
+		IReference resource = null;
+		IGraph graph = graphFactory.get();
+		while (nextGroupStart != null || result.hasNext()) {
+			IStatement stmt = nextGroupStart != null ? nextGroupStart
+					: result.next();
+			nextGroupStart = null;
+			if (RDF.PROPERTY_TYPE.equals(stmt.getPredicate())
+					&& RESULTS.TYPE_RESULT.equals(stmt.getObject())) {
+				if (resource == null) {
+					resource = stmt.getSubject();
+				} else if (!resource.equals(stmt.getSubject())) {
+					// first statement of the following result
+					nextGroupStart = stmt;
+					break;
+				}
+			} else {
+				graph.add(stmt);
+			}
+		}
+		nextResource = resource;
+		resultGraph = graph;
+	}
+
+	@Override
+	public void close() {
+		if (result != null) {
+			result.close();
+		}
+		super.close();
+	}
+
 	protected Object convert(IReference resource) {
 		return manager.toInstance(resource,
 				resultInfo != null ? resultInfo.types.get(0) : null,
@@ -108,14 +187,30 @@ public class ProjectedGraphIterator extends NiceIterator<Object> implements
 			close();
 			return false;
 		}
+		if (result != null) {
+			if (nextResource == null) {
+				readNextResult();
+			}
+			return nextResource != null;
+		}
 		return resourceIt.hasNext();
 	}
 
 	@Override
 	public Object next() {
 		try {
+			IReference resource;
+			if (result != null) {
+				if (!hasNext()) {
+					throw new NoSuchElementException();
+				}
+				resource = nextResource;
+				nextResource = null;
+			} else {
+				resource = resourceIt.next();
+			}
 			position++;
-			return convert(resourceIt.next());
+			return convert(resource);
 		} finally {
 			if (maxResults > 0 && position >= maxResults) {
 				close();
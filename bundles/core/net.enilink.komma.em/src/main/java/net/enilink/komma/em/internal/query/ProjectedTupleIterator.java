@@ -28,6 +28,9 @@
  */
 package net.enilink.komma.em.internal.query;
 
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Deque;
 import java.util.Iterator;
 import java.util.List;
 
@@ -48,10 +51,19 @@ import net.enilink.komma.core.URI;
 public class ProjectedTupleIterator extends
 		ConvertingIterator<IBindings<IValue>, Object> implements
 		ITupleResult<Object> {
+	/**
+	 * Placeholder for <code>null</code> values within a page.
+	 */
+	private static final Object NULL = new Object();
+
 	private IEntityManagerInternal manager;
 
 	private int maxResults;
 
+	private Deque<Object> page;
+
+	private int pageSize;
+
 	private int position;
 
 	private ITupleResult<IBindings<IValue>> result;
@@ -68,6 +80,24 @@ public class ProjectedTupleIterator extends
 		this.resultInfo = resultInfo;
 	}
 
+	/**
+	 * Creates an iterator that converts the results in pages of
+	 * <code>pageSize</code> elements.
+	 */
+	public ProjectedTupleIterator(IEntityManagerInternal manager,
+			ITupleResult<IBindings<IValue>> result, int maxResults,
+			ResultInfo resultInfo, int pageSize) {
+		this(manager, result, maxResults, resultInfo);
+		// restricted types and URIs do not require a lookup of types
+		if (pageSize > 1
+				&& (resultInfo == null || !resultInfo.typeRestricted
+						&& (resultInfo.types.isEmpty() || resultInfo.types
+								.get(0) != URI.class))) {
+			this.pageSize = pageSize;
+			this.page = new ArrayDeque<Object>(pageSize);
+		}
+	}
+
 	@Override
 	protected Object convert(IBindings<IValue> solution) {
 		Iterator<IValue> it = solution.iterator();
@@ -94,6 +124,44 @@ public class ProjectedTupleIterator extends
 		return manager.toInstance(value, null, null);
 	}
 
+	/**
+	 * Reads the next page of results and converts all contained resources at
+	 * once.
+	 */
+	protected void fetchPage() {
+		int limit = pageSize;
+		if (maxResults > 0) {
+			limit = Math.min(limit, maxResults - position);
+		}
+		List<IValue> values = new ArrayList<IValue>(limit);
+		List<IReference> resources = new ArrayList<IReference>(limit);
+		while (values.size() < limit && result.hasNext()) {
+			Iterator<IValue> it = result.next().iterator();
+			IValue value = it.hasNext() ? it.next() : null;
+			values.add(value);
+			if (value instanceof IReference) {
+				resources.add((IReference) value);
+			}
+		}
+		Iterator<Object> beans = resources.isEmpty() ? null : manager.find(
+				resources, resultInfo != null ? resultInfo.types : null)
+				.iterator();
+		for (IValue value : values) {
+			if (value == null) {
+				page.add(NULL);
+			} else if (value instanceof IReference) {
+				page.add(beans.next());
+			} else {
+				page.add(toInstance(value));
+			}
+		}
+	}
+
+	private Object toInstance(IValue value) {
+		return manager.toInstance(value,
+				resultInfo != null ? resultInfo.types.get(0) : null, null);
+	}
+
 	@Override
 	public List<String> getBindingNames() {
 		return result.getBindingNames();
@@ -148,12 +216,23 @@ public class ProjectedTupleIterator extends
 			close();
 			return false;
 		}
+		if (page != null && !page.isEmpty()) {
+			return true;
+		}
 		return super.hasNext();
 	}
 
 	@Override
 	public Object next() {
 		try {
+			if (page != null) {
+				if (page.isEmpty()) {
+					fetchPage();
+				}
+				Object next = page.remove();
+				position++;
+				return next == NULL ? null : next;
+			}
 			position++;
 			return super.next();
 		} finally {
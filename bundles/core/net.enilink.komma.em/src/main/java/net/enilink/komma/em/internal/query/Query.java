@@ -3,6 +3,7 @@ package net.enilink.komma.em.internal.query;
 import java.util.ArrayList;
 import java.util.Collections;
 import java.util.HashMap;
+import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.Set;
@@ -12,19 +13,24 @@ import net.enilink.commons.iterator.IExtendedIterator;
 import net.enilink.composition.mappers.RoleMapper;
 import net.enilink.komma.core.IBindings;
 import net.enilink.komma.core.IBooleanResult;
+import net.enilink.komma.core.IGraph;
 import net.enilink.komma.core.IGraphResult;
 import net.enilink.komma.core.IQuery;
 import net.enilink.komma.core.IReferenceable;
 import net.enilink.komma.core.IStatement;
 import net.enilink.komma.core.ITupleResult;
 import net.enilink.komma.core.IValue;
+import net.enilink.komma.core.KommaException;
+import net.enilink.komma.core.LinkedHashGraph;
 import net.enilink.komma.core.NoResultException;
 import net.enilink.komma.core.NonUniqueResultException;
+import net.enilink.komma.core.Properties;
 import net.enilink.komma.core.URI;
 import net.enilink.komma.dm.IDataManagerQuery;
 import net.enilink.komma.em.internal.IEntityManagerInternal;
 
 import com.google.inject.Inject;
+import com.google.inject.Provider;
 
 public class Query<R> extends QueryBase<IQuery<R>> implements IQuery<R> {
 	protected IEntityManagerInternal manager;
@@ -37,6 +43,13 @@ public class Query<R> extends QueryBase<IQuery<R>> implements IQuery<R> {
 	@Inject
 	RoleMapper<URI> roleMapper;
 
+	/**
+	 * Creates the graphs for the results of graph queries, a
+	 * {@link LinkedHashGraph} is used if {@link IGraph} is not bound.
+	 */
+	@Inject(optional = true)
+	Provider<IGraph> graphProvider;
+
 	public Query(IEntityManagerInternal manager, IDataManagerQuery<?> query) {
 		this.manager = manager;
 		this.query = query;
@@ -80,8 +93,31 @@ public class Query<R> extends QueryBase<IQuery<R>> implements IQuery<R> {
 	private <T> IExtendedIterator<T> evaluateQuery(Class<T> resultType,
 			Map<String, ResultInfo> resultInfos) {
 		IExtendedIterator<?> iter;
-		IExtendedIterator<?> result = query.evaluate();
+		int skip = firstResult;
 		int max = maxResults <= 0 ? 0 : maxResults + firstResult;
+		Set<String> supportedProperties = query.getSupportedProperties();
+		if (supportedProperties.contains(Properties.OFFSET)
+				&& supportedProperties.contains(Properties.LIMIT)) {
+			// the store skips and limits the results
+			query.setProperty(Properties.OFFSET, firstResult);
+			query.setProperty(Properties.LIMIT, maxResults);
+			skip = 0;
+			max = maxResults <= 0 ? 0 : maxResults;
+		}
+		if (keyset != null && !keyset.isEmpty()) {
+			if (!supportedProperties.contains(Properties.KEYSET)) {
+				throw new KommaException(
+						"Keyset pagination is not supported by query: " + query);
+			}
+			Map<String, IValue> keyValues = new LinkedHashMap<String, IValue>();
+			for (Map.Entry<String, Object> entry : keyset.entrySet()) {
+				keyValues.put(entry.getKey(), toValue(entry.getValue()));
+			}
+			query.setProperty(Properties.KEYSET, keyValues);
+		} else if (supportedProperties.contains(Properties.KEYSET)) {
+			query.setProperty(Properties.KEYSET, null);
+		}
+		IExtendedIterator<?> result = query.evaluate();
 
 		if (result instanceof ITupleResult) {
 			List<String> names = ((ITupleResult<?>) result).getBindingNames();
@@ -112,7 +148,8 @@ public class Query<R> extends QueryBase<IQuery<R>> implements IQuery<R> {
 					}
 				}
 				iter = new ProjectedTupleIterator(manager,
-						(ITupleResult<IBindings<IValue>>) result, max, info);
+						(ITupleResult<IBindings<IValue>>) result, max, info,
+						pageSize);
 			}
 		} else if (result instanceof IGraphResult) {
 			// resultType not given directly, check for bound result type
@@ -126,9 +163,17 @@ public class Query<R> extends QueryBase<IQuery<R>> implements IQuery<R> {
 				iter = new GraphIterator(manager, (IGraphResult) result, max,
 						resultInfos == null
 								|| !resultInfos.get(null).typeRestricted);
+			} else if (streaming) {
+				iter = new ProjectedGraphIterator(manager,
+						(IGraphResult) result,
+						() -> graphProvider != null ? graphProvider.get()
+								: new LinkedHashGraph(), max,
+						resultInfos != null ? resultInfos.get(null) : null);
 			} else {
 				iter = new ProjectedGraphIterator(manager,
-						(IGraphResult) result, max,
+						(IGraphResult) result,
+						graphProvider != null ? graphProvider.get()
+								: new LinkedHashGraph(), max,
 						resultInfos != null ? resultInfos.get(null) : null);
 			}
 		} else {
@@ -136,9 +181,9 @@ public class Query<R> extends QueryBase<IQuery<R>> implements IQuery<R> {
 		}
 
 		opened.put(iter, Boolean.TRUE);
-		// skip elements if limit is used
-		if (firstResult > 0) {
-			for (int i = 0; i < firstResult && iter.hasNext(); i++) {
+		// skip elements if offset is not handled by the store
+		if (skip > 0) {
+			for (int i = 0; i < skip && iter.hasNext(); i++) {
 				iter.next();
 			}
 		}
@@ -207,18 +252,17 @@ public class Query<R> extends QueryBase<IQuery<R>> implements IQuery<R> {
 	}
 
 	public IQuery<R> setParameter(String name, Object value) {
-		if (value == null) {
-			doSetParameter(name, null);
-		} else {
-			if (value instanceof IReferenceable) {
-				value = ((IReferenceable) value).getReference();
-			}
-			doSetParameter(name, value instanceof IValue ? (IValue) value
-					: manager.toValue(value));
-		}
+		doSetParameter(name, value == null ? null : toValue(value));
 		return this;
 	}
 
+	private IValue toValue(Object value) {
+		if (value instanceof IReferenceable) {
+			value = ((IReferenceable) value).getReference();
+		}
+		return value instanceof IValue ? (IValue) value : manager.toValue(value);
+	}
+
 	public IQuery<R> setTypeParameter(String name, Class<?> concept) {
 		doSetParameter(name, roleMapper.findType(concept));
 		return this;
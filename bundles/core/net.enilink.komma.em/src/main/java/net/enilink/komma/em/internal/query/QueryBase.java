@@ -13,6 +13,7 @@ package net.enilink.komma.em.internal.query;
 import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.HashMap;
+import java.util.LinkedHashMap;
 import java.util.Map;
 
 import net.enilink.komma.core.IQueryBase;
@@ -21,6 +22,9 @@ public abstract class QueryBase<Q extends IQueryBase<Q>> implements
 		IQueryBase<Q> {
 	protected int firstResult;
 	protected int maxResults;
+	protected int pageSize;
+	protected boolean streaming;
+	protected Map<String, Object> keyset;
 	protected Map<String, ResultInfo> resultInfos;
 
 	@SuppressWarnings("unchecked")
@@ -62,6 +66,14 @@ public abstract class QueryBase<Q extends IQueryBase<Q>> implements
 		return maxResults;
 	}
 
+	public int getPageSize() {
+		return pageSize;
+	}
+
+	public boolean isStreaming() {
+		return streaming;
+	}
+
 	@SuppressWarnings("unchecked")
 	protected <NQ extends IQueryBase<NQ>> NQ doRestrictResultType(
 			Class<?> resultType, Class<?>... resultTypes) {
@@ -89,15 +101,46 @@ public abstract class QueryBase<Q extends IQueryBase<Q>> implements
 		return (Q) this;
 	}
 
+	@SuppressWarnings("unchecked")
+	public Q setKeyset(String name, Object value) {
+		if (value == null) {
+			if (keyset != null) {
+				keyset.remove(name);
+			}
+		} else {
+			if (keyset == null) {
+				keyset = new LinkedHashMap<String, Object>();
+			}
+			keyset.put(name, value);
+		}
+		return (Q) this;
+	}
+
 	@SuppressWarnings("unchecked")
 	public Q setMaxResults(int maxResult) {
 		this.maxResults = maxResult;
 		return (Q) this;
 	}
 
+	@SuppressWarnings("unchecked")
+	public Q setPageSize(int pageSize) {
+		this.pageSize = pageSize;
+		return (Q) this;
+	}
+
+	@SuppressWarnings("unchecked")
+	public Q setStreaming(boolean streaming) {
+		this.streaming = streaming;
+		return (Q) this;
+	}
+
 	public void initializeFrom(QueryBase<?> other) {
 		this.resultInfos = other.resultInfos;
 		this.firstResult = other.firstResult;
 		this.maxResults = other.maxResults;
+		this.pageSize = other.pageSize;
+		this.streaming = other.streaming;
+		this.keyset = other.keyset == null ? null
+				: new LinkedHashMap<String, Object>(other.keyset);
 	}
 }
@@ -53,6 +53,8 @@ public class ResultDescriptor<R> extends QueryBase<IResultDescriptor<R>> impleme
 	protected static Pattern PN_LOCAL = Pattern.compile("(?:" + PN_CHARS_U + "|[:0-9]|" + PLX + ")((?:" + PN_CHARS
 			+ "|[.:]|" + PLX + ")*(?:" + PN_CHARS + "|:|" + PLX + "))?");
 	protected static Pattern PNAME_LN = Pattern.compile(PNAME_NS + "(" + PN_LOCAL + ")");
+	protected static Pattern ORDER_BY = Pattern.compile("\\border\\s+by\\b", Pattern.CASE_INSENSITIVE);
+	protected static Pattern LIMIT_OR_OFFSET = Pattern.compile("\\b(?:limit|offset)\\b", Pattern.CASE_INSENSITIVE);
 	protected boolean includeInferred;
 
 	protected Map<String, Object> parameters;
@@ -160,6 +162,10 @@ public class ResultDescriptor<R> extends QueryBase<IResultDescriptor<R>> impleme
 			IQuery<?> query = manager.createQuery(sparql, getIncludeInferred());
 
 			((QueryBase<?>) query).initializeFrom(this);
+			if (streaming && !isStreamable()) {
+				// the statements of a result may not be contiguous
+				query.setStreaming(false);
+			}
 			if (parameters != null) {
 				for (Map.Entry<String, Object> entry : parameters.entrySet()) {
 					query.setParameter(entry.getKey(), entry.getValue());
@@ -188,11 +194,43 @@ public class ResultDescriptor<R> extends QueryBase<IResultDescriptor<R>> impleme
 		return resultVariable;
 	}
 
+	/**
+	 * Returns <code>true</code> if the statements of each result are
+	 * contiguous, i.e. if the solutions are ordered by the result variable
+	 * first.
+	 */
+	protected boolean isStreamable() {
+		if (constructTemplate.length() == 0 || resultVariable == null) {
+			return false;
+		}
+		String modifiers = queryFragment.modifiers;
+		Matcher order = ORDER_BY.matcher(modifiers);
+		if (!order.find()) {
+			return true;
+		}
+		// the solutions must be ordered by the result variable first
+		Matcher first = Pattern.compile("\\s*(?:(?:asc|desc)\\s*\\(\\s*)?\\?" + Pattern.quote(resultVariable) + "\\b",
+				Pattern.CASE_INSENSITIVE).matcher(modifiers);
+		return first.region(order.end(), modifiers.length()).lookingAt();
+	}
+
 	public String toQueryString() {
-		return (constructTemplate.length() == 0 ? "ask" : "construct { " + constructTemplate + " } where") +
+		String modifiers = queryFragment.modifiers;
+		String template = constructTemplate;
+		if (streaming && isStreamable()) {
+			// streamed results require that the statements of each result are
+			// contiguous and that each result starts with its marker
+			template = "?" + resultVariable + " a " + RESULT_NODE + " . " + template;
+			if (!ORDER_BY.matcher(modifiers).find()) {
+				Matcher m = LIMIT_OR_OFFSET.matcher(modifiers);
+				int pos = m.find() ? m.start() : modifiers.length();
+				modifiers = modifiers.substring(0, pos) + " order by ?" + resultVariable + " " + modifiers.substring(pos);
+			}
+		}
+		return (template.length() == 0 ? "ask" : "construct { " + template + " } where") +
 				" { " +
 				queryFragment.whereClause +
-				" } " + queryFragment.modifiers;
+				" } " + modifiers;
 	}
 
 	@Override
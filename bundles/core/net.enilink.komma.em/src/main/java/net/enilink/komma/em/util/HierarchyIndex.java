@@ -0,0 +1,541 @@
+/*******************************************************************************
+ * Copyright (c) 2026 Fraunhofer IWU and others.
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * Contributors:
+ *     Fraunhofer IWU - initial API and implementation
+ *******************************************************************************/
+package net.enilink.komma.em.util;
+
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Queue;
+import java.util.Set;
+import java.util.concurrent.locks.ReadWriteLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+import java.util.function.Supplier;
+
+import net.enilink.commons.iterator.IExtendedIterator;
+import net.enilink.komma.core.IReference;
+import net.enilink.komma.core.IReferenceable;
+import net.enilink.komma.core.IStatement;
+import net.enilink.komma.core.URI;
+import net.enilink.komma.dm.IDataManager;
+import net.enilink.komma.dm.IDataManagerFactory;
+import net.enilink.komma.dm.change.IDataChange;
+import net.enilink.komma.dm.change.IDataChangeListener;
+import net.enilink.komma.dm.change.INamespaceChange;
+import net.enilink.komma.dm.change.IStatementChange;
+import net.enilink.vocab.rdfs.RDFS;
+
+/**
+ * An in-memory index of the explicitly asserted class and property
+ * hierarchies (<code>rdfs:subClassOf</code> and
+ * <code>rdfs:subPropertyOf</code>) of a store.
+ * <p>
+ * The index is loaded on first access and then maintained incrementally from
+ * the tracked data changes. Each edge remembers the contexts in which it is
+ * asserted, hence the index can answer requests for arbitrary read contexts
+ * by using a {@link View}. Changes whose effect on the hierarchies is unknown,
+ * e.g. graph operations that are executed by the store, invalidate the index
+ * and it is reloaded on the next access. Contexts that are changed without
+ * tracking, e.g. while a model is loaded, have to be reported with
+ * {@link #invalidate(IReference)} and only their edges are reloaded.
+ * <p>
+ * Inferred statements are not indexed. The results are equivalent to queries
+ * that are evaluated without inference.
+ */
+public class HierarchyIndex implements IDataChangeListener, IDataIndex {
+	public enum Hierarchy {
+		CLASSES(RDFS.PROPERTY_SUBCLASSOF), PROPERTIES(RDFS.PROPERTY_SUBPROPERTYOF);
+
+		final URI predicate;
+
+		Hierarchy(URI predicate) {
+			this.predicate = predicate;
+		}
+	}
+
+	/**
+	 * Placeholder for the default context.
+	 */
+	private static final Object DEFAULT_CONTEXT = new Object();
+
+	private static final Comparator<URI> URI_ORDER = Comparator.comparing(URI::toString);
+
+	/**
+	 * The edges of one hierarchy in both directions. Each edge is mapped to
+	 * the contexts in which it is asserted.
+	 */
+	static class Relation {
+		final Map<Object, Map<Object, Set<Object>>> supers = new HashMap<>();
+		final Map<Object, Map<Object, Set<Object>>> subs = new HashMap<>();
+
+		void add(Object sub, Object sup, Object context) {
+			supers.computeIfAbsent(sub, k -> new HashMap<>()).computeIfAbsent(sup, k -> new HashSet<>(2))
+					.add(context);
+			subs.computeIfAbsent(sup, k -> new HashMap<>()).computeIfAbsent(sub, k -> new HashSet<>(2))
+					.add(context);
+		}
+
+		/**
+		 * Removes all edges that match the given pattern where
+		 * <code>null</code> is a wild card for sub or super nodes.
+		 */
+		void remove(Object sub, Object sup, Object context) {
+			if (sub != null && sup != null) {
+				removeEdge(supers, sub, sup, context);
+				removeEdge(subs, sup, sub, context);
+			} else if (sub != null) {
+				for (Object other : neighbours(supers, sub)) {
+					remove(sub, other, context);
+				}
+			} else if (sup != null) {
+				for (Object other : neighbours(subs, sup)) {
+					remove(other, sup, context);
+				}
+			} else {
+				for (Object other : new ArrayList<>(supers.keySet())) {
+					remove(other, null, context);
+				}
+			}
+		}
+
+		private static List<Object> neighbours(Map<Object, Map<Object, Set<Object>>> edges, Object node) {
+			Map<Object, Set<Object>> neighbours = edges.get(node);
+			return neighbours == null ? Collections.emptyList() : new ArrayList<>(neighbours.keySet());
+		}
+
+		private static void removeEdge(Map<Object, Map<Object, Set<Object>>> edges, Object from, Object to,
+				Object context) {
+			Map<Object, Set<Object>> neighbours = edges.get(from);
+			if (neighbours != null) {
+				Set<Object> contexts = neighbours.get(to);
+				if (contexts != null && contexts.remove(context) && contexts.isEmpty()) {
+					neighbours.remove(to);
+					if (neighbours.isEmpty()) {
+						edges.remove(from);
+					}
+				}
+			}
+		}
+
+		void clear() {
+			supers.clear();
+			subs.clear();
+		}
+	}
+
+	/**
+	 * Access to the hierarchies as seen by an entity manager with specific
+	 * read and modify contexts.
+	 * <p>
+	 * All methods return only named nodes in the order of their URIs.
+	 */
+	public class View {
+		final Set<URI> readContexts;
+		final Set<URI> modifyContexts;
+
+		View(Set<URI> readContexts, Set<URI> modifyContexts) {
+			this.readContexts = readContexts;
+			this.modifyContexts = modifyContexts;
+		}
+
+		boolean isVisible(Set<Object> contexts) {
+			if (readContexts.isEmpty() && modifyContexts.isEmpty()) {
+				// the default context includes all named graphs
+				return true;
+			}
+			for (Object context : contexts) {
+				if (readContexts.contains(context) || modifyContexts.contains(context)) {
+					return true;
+				}
+			}
+			return false;
+		}
+
+		List<Object> neighbours(Map<Object, Map<Object, Set<Object>>> edges, Object node) {
+			Map<Object, Set<Object>> neighbours = edges.get(node);
+			if (neighbours == null) {
+				return Collections.emptyList();
+			}
+			List<Object> result = new ArrayList<>(neighbours.size());
+			for (Map.Entry<Object, Set<Object>> edge : neighbours.entrySet()) {
+				if (isVisible(edge.getValue())) {
+					result.add(edge.getKey());
+				}
+			}
+			return result;
+		}
+
+		boolean hasEdge(Relation relation, Object sub, Object sup) {
+			Map<Object, Set<Object>> neighbours = relation.supers.get(sub);
+			Set<Object> contexts = neighbours == null ? null : neighbours.get(sup);
+			return contexts != null && isVisible(contexts);
+		}
+
+		/**
+		 * Tests if <code>sub</code> is related to <code>sup</code> through
+		 * another node by two asserted edges.
+		 */
+		boolean hasIntermediate(Relation relation, Object sub, Object sup, boolean namedIntermediates) {
+			for (Object other : neighbours(relation.supers, sub)) {
+				if (!other.equals(sub) && !other.equals(sup) && (!namedIntermediates || other instanceof URI)
+						&& hasEdge(relation, other, sup)) {
+					return true;
+				}
+			}
+			return false;
+		}
+
+		/**
+		 * Returns the direct sub nodes of the given node. A sub node is
+		 * direct if it is not also a sub node of another sub node of the
+		 * given node.
+		 *
+		 * @param namedIntermediates
+		 *            <code>true</code> if only named nodes are considered as
+		 *            intermediate nodes
+		 */
+		public List<URI> getDirectSubs(Hierarchy hierarchy, IReference node, boolean namedIntermediates) {
+			Object key = key(node);
+			return read(() -> {
+				Relation relation = relation(hierarchy);
+				List<URI> result = new ArrayList<>();
+				for (Object sub : neighbours(relation.subs, key)) {
+					if (sub instanceof URI && !sub.equals(key)
+							&& !hasIntermediate(relation, sub, key, namedIntermediates)) {
+						result.add((URI) sub);
+					}
+				}
+				return sorted(result);
+			});
+		}
+
+		/**
+		 * Returns the direct super nodes of the given node.
+		 *
+		 * @see #getDirectSubs(Hierarchy, IReference, boolean)
+		 */
+		public List<URI> getDirectSupers(Hierarchy hierarchy, IReference node, boolean namedIntermediates) {
+			Object key = key(node);
+			return read(() -> {
+				Relation relation = relation(hierarchy);
+				List<URI> result = new ArrayList<>();
+				for (Object sup : neighbours(relation.supers, key)) {
+					if (sup instanceof URI && !sup.equals(key)
+							&& !hasIntermediate(relation, key, sup, namedIntermediates)) {
+						result.add((URI) sup);
+					}
+				}
+				return sorted(result);
+			});
+		}
+
+		/**
+		 * Returns the sub nodes of the given node.
+		 *
+		 * @param transitive
+		 *            <code>true</code> if the transitive closure should be
+		 *            returned, else only nodes with an asserted edge to the
+		 *            given node are returned
+		 */
+		public List<URI> getSubs(Hierarchy hierarchy, IReference node, boolean transitive) {
+			Object key = key(node);
+			return read(() -> sorted(named(closure(relation(hierarchy).subs, key, transitive, false), key)));
+		}
+
+		/**
+		 * Returns the super nodes of the given node.
+		 *
+		 * @see #getSubs(Hierarchy, IReference, boolean)
+		 */
+		public List<URI> getSupers(Hierarchy hierarchy, IReference node, boolean transitive) {
+			Object key = key(node);
+			return read(() -> sorted(named(closure(relation(hierarchy).supers, key, transitive, false), key)));
+		}
+
+		/**
+		 * Returns the node itself and all of its transitive sub nodes that do
+		 * not have sub nodes on their own.
+		 */
+		public List<URI> getLeafSubs(Hierarchy hierarchy, IReference node) {
+			Object key = key(node);
+			return read(() -> {
+				Relation relation = relation(hierarchy);
+				List<URI> result = new ArrayList<>();
+				for (Object sub : closure(relation.subs, key, true, true)) {
+					if (sub instanceof URI && isLeaf(relation, sub)) {
+						result.add((URI) sub);
+					}
+				}
+				return sorted(result);
+			});
+		}
+
+		boolean isLeaf(Relation relation, Object node) {
+			for (Object sub : neighbours(relation.subs, node)) {
+				if (!sub.equals(node)) {
+					return false;
+				}
+			}
+			return true;
+		}
+
+		/**
+		 * Tests if the given node has any named sub nodes except itself.
+		 */
+		public boolean hasSubs(Hierarchy hierarchy, IReference node) {
+			Object key = key(node);
+			return read(() -> {
+				for (Object sub : neighbours(relation(hierarchy).subs, key)) {
+					if (sub instanceof URI && !sub.equals(key)) {
+						return true;
+					}
+				}
+				return false;
+			});
+		}
+
+		Set<Object> closure(Map<Object, Map<Object, Set<Object>>> edges, Object start, boolean transitive,
+				boolean reflexive) {
+			Set<Object> result = new LinkedHashSet<>();
+			if (reflexive) {
+				result.add(start);
+			}
+			Queue<Object> queue = new ArrayDeque<>();
+			queue.add(start);
+			while (!queue.isEmpty()) {
+				for (Object next : neighbours(edges, queue.remove())) {
+					if (result.add(next) && transitive) {
+						queue.add(next);
+					}
+				}
+			}
+			return result;
+		}
+
+		List<URI> named(Collection<Object> nodes, Object exclude) {
+			List<URI> result = new ArrayList<>(nodes.size());
+			for (Object node : nodes) {
+				if (node instanceof URI && !node.equals(exclude)) {
+					result.add((URI) node);
+				}
+			}
+			return result;
+		}
+	}
+
+	private final IDataManagerFactory dmFactory;
+
+	private final Relation classes = new Relation();
+
+	private final Relation properties = new Relation();
+
+	private final ReadWriteLock lock = new ReentrantReadWriteLock();
+
+	private boolean loaded;
+
+	/**
+	 * Contexts whose edges have to be reloaded before the next access.
+	 */
+	private final Map<Object, IReference> staleContexts = new HashMap<>();
+
+	public HierarchyIndex(IDataManagerFactory dmFactory) {
+		this.dmFactory = dmFactory;
+	}
+
+	/**
+	 * Returns a view of the hierarchies for the given contexts. If both sets
+	 * of contexts are empty then all contexts are visible.
+	 */
+	public View view(Set<URI> readContexts, Set<URI> modifyContexts) {
+		return new View(readContexts == null ? Collections.emptySet() : readContexts,
+				modifyContexts == null ? Collections.emptySet() : modifyContexts);
+	}
+
+	Relation relation(Hierarchy hierarchy) {
+		return hierarchy == Hierarchy.CLASSES ? classes : properties;
+	}
+
+	static Object key(IReference reference) {
+		if (reference instanceof IReferenceable) {
+			reference = ((IReferenceable) reference).getReference();
+		}
+		URI uri = reference.getURI();
+		// blank nodes of different implementations are equal if their IDs
+		// are equal
+		return uri != null ? uri : reference.toString();
+	}
+
+	static List<URI> sorted(List<URI> uris) {
+		uris.sort(URI_ORDER);
+		return uris;
+	}
+
+	<T> T read(Supplier<T> query) {
+		while (true) {
+			lock.readLock().lock();
+			try {
+				if (loaded && staleContexts.isEmpty()) {
+					return query.get();
+				}
+			} finally {
+				lock.readLock().unlock();
+			}
+			load();
+		}
+	}
+
+	void load() {
+		lock.writeLock().lock();
+		try {
+			if (loaded && staleContexts.isEmpty()) {
+				return;
+			}
+			IDataManager dm = dmFactory.get();
+			try {
+				if (!loaded) {
+					classes.clear();
+					properties.clear();
+					load(dm);
+				} else {
+					for (Map.Entry<Object, IReference> context : staleContexts.entrySet()) {
+						for (Hierarchy hierarchy : Hierarchy.values()) {
+							relation(hierarchy).remove(null, null, context.getKey());
+						}
+						load(dm, context.getValue());
+					}
+				}
+			} finally {
+				dm.close();
+			}
+			staleContexts.clear();
+			loaded = true;
+		} finally {
+			lock.writeLock().unlock();
+		}
+	}
+
+	void load(IDataManager dm, IReference... contexts) {
+		for (Hierarchy hierarchy : Hierarchy.values()) {
+			Relation relation = relation(hierarchy);
+			try (IExtendedIterator<IStatement> stmts = dm.match(null, hierarchy.predicate, null, false, contexts)) {
+				for (IStatement stmt : stmts) {
+					if (stmt.getObject() instanceof IReference) {
+						relation.add(key(stmt.getSubject()), key((IReference) stmt.getObject()), context(stmt));
+					}
+				}
+			}
+		}
+	}
+
+	/**
+	 * Discards the indexed data. The index is reloaded on the next access.
+	 */
+	public void invalidate() {
+		lock.writeLock().lock();
+		try {
+			loaded = false;
+			staleContexts.clear();
+			classes.clear();
+			properties.clear();
+		} finally {
+			lock.writeLock().unlock();
+		}
+	}
+
+	/**
+	 * Discards the indexed data of the given context. The edges of the
+	 * context are reloaded on the next access.
+	 */
+	@Override
+	public void invalidate(IReference context) {
+		if (context == null) {
+			invalidate();
+			return;
+		}
+		lock.writeLock().lock();
+		try {
+			if (loaded) {
+				staleContexts.put(key(context), context);
+			}
+		} finally {
+			lock.writeLock().unlock();
+		}
+	}
+
+	static Object context(IStatement stmt) {
+		return stmt.getContext() == null ? DEFAULT_CONTEXT : key(stmt.getContext());
+	}
+
+	@Override
+	public void dataChanged(List<IDataChange> changes) {
+		lock.writeLock().lock();
+		try {
+			if (!loaded) {
+				// changes are reflected when the index is loaded
+				return;
+			}
+			for (IDataChange change : changes) {
+				if (change instanceof IStatementChange) {
+					IStatementChange stmtChange = (IStatementChange) change;
+					IStatement stmt = stmtChange.getStatement();
+					IReference predicate = stmt.getPredicate();
+					if (predicate == null) {
+						// a removal with a wild card for the predicate
+						for (Hierarchy hierarchy : Hierarchy.values()) {
+							apply(hierarchy, stmtChange);
+						}
+					} else {
+						for (Hierarchy hierarchy : Hierarchy.values()) {
+							if (hierarchy.predicate.equals(predicate)) {
+								apply(hierarchy, stmtChange);
+							}
+						}
+					}
+				} else if (!(change instanceof INamespaceChange)) {
+					// the affected statements are unknown
+					loaded = false;
+					staleContexts.clear();
+					classes.clear();
+					properties.clear();
+					return;
+				}
+			}
+		} finally {
+			lock.writeLock().unlock();
+		}
+	}
+
+	void apply(Hierarchy hierarchy, IStatementChange change) {
+		IStatement stmt = change.getStatement();
+		Object object = stmt.getObject();
+		if (object != null && !(object instanceof IReference)) {
+			// literals are not part of a hierarchy
+			return;
+		}
+		Object sub = stmt.getSubject() == null ? null : key(stmt.getSubject());
+		Object sup = object == null ? null : key((IReference) object);
+		if (change.isAdd()) {
+			if (!stmt.isInferred() && sub != null && sup != null) {
+				relation(hierarchy).add(sub, sup, context(stmt));
+			}
+		} else {
+			// removals may contain wild cards and are not reliably marked
+			// as explicit or inferred
+			relation(hierarchy).remove(sub, sup, context(stmt));
+		}
+	}
+}
@@ -0,0 +1,29 @@
+/*******************************************************************************
+ * Copyright (c) 2026 Fraunhofer IWU and others.
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * Contributors:
+ *     Fraunhofer IWU - initial API and implementation
+ *******************************************************************************/
+package net.enilink.komma.em.util;
+
+import net.enilink.komma.core.IReference;
+
+/**
+ * An in-memory index of store data that is maintained from the tracked data
+ * changes.
+ */
+public interface IDataIndex {
+	/**
+	 * Notifies this index that the data of a context has been changed without
+	 * tracking the changes, e.g. while a model is loaded.
+	 * 
+	 * @param context
+	 *            the changed context or <code>null</code> if any context may
+	 *            have been changed
+	 */
+	void invalidate(IReference context);
+}
@@ -0,0 +1,551 @@
+/*******************************************************************************
+ * Copyright (c) 2026 Fraunhofer IWU and others.
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * Contributors:
+ *     Fraunhofer IWU - initial API and implementation
+ *******************************************************************************/
+package net.enilink.komma.em.util;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.Iterator;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.NavigableMap;
+import java.util.Set;
+import java.util.TreeMap;
+import java.util.concurrent.locks.ReadWriteLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+import java.util.function.Supplier;
+import java.util.regex.Pattern;
+
+import net.enilink.commons.iterator.IExtendedIterator;
+import net.enilink.komma.core.ILiteral;
+import net.enilink.komma.core.IReference;
+import net.enilink.komma.core.IReferenceable;
+import net.enilink.komma.core.IStatement;
+import net.enilink.komma.core.URI;
+import net.enilink.komma.dm.IDataManager;
+import net.enilink.komma.dm.IDataManagerFactory;
+import net.enilink.komma.dm.change.IDataChange;
+import net.enilink.komma.dm.change.IDataChangeListener;
+import net.enilink.komma.dm.change.INamespaceChange;
+import net.enilink.komma.dm.change.IStatementChange;
+import net.enilink.vocab.rdfs.RDFS;
+
+/**
+ * An in-memory prefix index over the names and labels of the named resources
+ * of a store.
+ * <p>
+ * The names of a resource are the segments of its URI that follow the last
+ * <code>#</code> or <code>/</code> and any subsequent <code>:</code>, e.g.
+ * <code>http://example.org/ns#a:b</code> is indexed as <code>a:b</code> and
+ * <code>b</code>. Labels are the lexical values of explicit
+ * <code>rdfs:label</code> statements. Both are matched case-sensitively by
+ * prefix where <code>*</code> and <code>?</code> may be used as wild cards
+ * after the first character.
+ * <p>
+ * The index is loaded on first access and then maintained incrementally from
+ * the tracked data changes. Loading reads the store without holding the lock
+ * of the index, changes that are tracked in the meantime are applied
+ * afterwards. Contexts that are changed without tracking, e.g. while a model
+ * is loaded, have to be reported with {@link #invalidate(IReference)} and
+ * only their data is reloaded.
+ * <p>
+ * A resource is only removed from the name index if its contexts are
+ * reloaded, since the removal of a single statement does not tell if other
+ * statements about the resource remain. Hence the results of
+ * {@link #find(String, String, URI, int)} are candidates that should be
+ * verified against the store, e.g. by a query with a <code>VALUES</code>
+ * clause.
+ */
+public class TextIndex implements IDataChangeListener, IDataIndex {
+	/**
+	 * Placeholder for the default context.
+	 */
+	private static final Object DEFAULT_CONTEXT = new Object();
+
+	/**
+	 * The indexed names and labels, either of the whole store or of some
+	 * contexts that are currently reloaded.
+	 */
+	static class Terms {
+		/**
+		 * Maps names to resources and the contexts where they are used as
+		 * subject.
+		 */
+		final NavigableMap<String, Map<URI, Set<Object>>> names = new TreeMap<>();
+
+		/**
+		 * Maps resources to the contexts where they are used as subject. The
+		 * sets are shared with {@link #names}.
+		 */
+		final Map<URI, Set<Object>> subjects = new HashMap<>();
+
+		/**
+		 * Maps labels to resources and the contexts where the labels are
+		 * asserted.
+		 */
+		final NavigableMap<String, Map<URI, Set<Object>>> labels = new TreeMap<>();
+
+		/**
+		 * The labels of each resource, required to apply removals with a
+		 * wild card for the label.
+		 */
+		final Map<URI, Set<String>> labelsByResource = new HashMap<>();
+
+		void load(IDataManager dm, IReference... contexts) {
+			try (IExtendedIterator<IStatement> stmts = dm.match(null, null, null, false, contexts)) {
+				for (IStatement stmt : stmts) {
+					add(stmt);
+				}
+			}
+		}
+
+		void add(IStatement stmt) {
+			Object subject = key(stmt.getSubject());
+			if (!(subject instanceof URI)) {
+				return;
+			}
+			URI uri = (URI) subject;
+			Object context = context(stmt);
+			addSubject(uri, context);
+			if (RDFS.PROPERTY_LABEL.equals(stmt.getPredicate()) && stmt.getObject() instanceof ILiteral) {
+				addLabel(uri, ((ILiteral) stmt.getObject()).getLabel(), context);
+			}
+		}
+
+		void addSubject(URI uri, Object context) {
+			Set<Object> contexts = subjects.get(uri);
+			if (contexts == null) {
+				contexts = new HashSet<>(2);
+				subjects.put(uri, contexts);
+				for (String name : names(uri)) {
+					names.computeIfAbsent(name, k -> new HashMap<>(2)).put(uri, contexts);
+				}
+			}
+			contexts.add(context);
+		}
+
+		void addLabel(URI uri, String label, Object context) {
+			labels.computeIfAbsent(label, k -> new HashMap<>(2)).computeIfAbsent(uri, k -> new HashSet<>(2))
+					.add(context);
+			labelsByResource.computeIfAbsent(uri, k -> new HashSet<>(2)).add(label);
+		}
+
+		/**
+		 * Adds all names and labels of <code>other</code> to this index.
+		 */
+		void addAll(Terms other) {
+			other.subjects.forEach((uri, contexts) -> contexts.forEach(context -> addSubject(uri, context)));
+			other.labels.forEach((label, resources) -> resources
+					.forEach((uri, contexts) -> contexts.forEach(context -> addLabel(uri, label, context))));
+		}
+
+		void removeLabel(URI uri, String label, Object context) {
+			Map<URI, Set<Object>> resources = labels.get(label);
+			Set<Object> contexts = resources == null ? null : resources.get(uri);
+			if (contexts != null && contexts.remove(context) && contexts.isEmpty()) {
+				resources.remove(uri);
+				if (resources.isEmpty()) {
+					labels.remove(label);
+				}
+				Set<String> resourceLabels = labelsByResource.get(uri);
+				if (resourceLabels != null && resourceLabels.remove(label) && resourceLabels.isEmpty()) {
+					labelsByResource.remove(uri);
+				}
+			}
+		}
+
+		void removeLabels(URI uri, Object context) {
+			Set<String> resourceLabels = labelsByResource.get(uri);
+			if (resourceLabels != null) {
+				for (String label : new ArrayList<>(resourceLabels)) {
+					removeLabel(uri, label, context);
+				}
+			}
+		}
+
+		/**
+		 * Removes all names and labels of the given context.
+		 */
+		void removeContext(Object context) {
+			for (Iterator<Map.Entry<URI, Set<Object>>> it = subjects.entrySet().iterator(); it.hasNext();) {
+				Map.Entry<URI, Set<Object>> entry = it.next();
+				if (entry.getValue().remove(context) && entry.getValue().isEmpty()) {
+					it.remove();
+					for (String name : names(entry.getKey())) {
+						Map<URI, Set<Object>> resources = names.get(name);
+						if (resources != null && resources.remove(entry.getKey()) != null && resources.isEmpty()) {
+							names.remove(name);
+						}
+					}
+				}
+			}
+			for (URI uri : new ArrayList<>(labelsByResource.keySet())) {
+				removeLabels(uri, context);
+			}
+		}
+
+		/**
+		 * Applies a statement change to the index.
+		 */
+		void apply(IStatementChange change) {
+			IStatement stmt = change.getStatement();
+			if (change.isAdd()) {
+				if (!stmt.isInferred()) {
+					add(stmt);
+				}
+				return;
+			}
+			IReference predicate = stmt.getPredicate();
+			Object object = stmt.getObject();
+			if ((predicate != null && !RDFS.PROPERTY_LABEL.equals(predicate))
+					|| (object != null && !(object instanceof ILiteral))) {
+				// does not affect any labels
+				return;
+			}
+			Object context = context(stmt);
+			if (stmt.getSubject() == null) {
+				// removal of labels for arbitrary subjects
+				if (object != null) {
+					String label = ((ILiteral) object).getLabel();
+					Map<URI, Set<Object>> resources = labels.get(label);
+					if (resources != null) {
+						for (URI uri : new ArrayList<>(resources.keySet())) {
+							removeLabel(uri, label, context);
+						}
+					}
+				} else {
+					for (URI uri : new ArrayList<>(labelsByResource.keySet())) {
+						removeLabels(uri, context);
+					}
+				}
+				return;
+			}
+			Object subject = key(stmt.getSubject());
+			if (subject instanceof URI) {
+				if (object != null) {
+					removeLabel((URI) subject, ((ILiteral) object).getLabel(), context);
+				} else {
+					removeLabels((URI) subject, context);
+				}
+			}
+		}
+	}
+
+	private final IDataManagerFactory dmFactory;
+
+	private Terms terms = new Terms();
+
+	private final ReadWriteLock lock = new ReentrantReadWriteLock();
+
+	/**
+	 * Ensures that the index is loaded by one thread at a time.
+	 */
+	private final Object loadLock = new Object();
+
+	private boolean loaded;
+
+	/**
+	 * Incremented whenever the whole index is invalidated, used to discard
+	 * the results of concurrent loads.
+	 */
+	private int version;
+
+	/**
+	 * The contexts that have to be reloaded.
+	 */
+	private final Map<Object, IReference> staleContexts = new HashMap<>();
+
+	/**
+	 * Changes that are tracked while the store is read by {@link #load()} or
+	 * <code>null</code> if no load is in progress.
+	 */
+	private List<IDataChange> pendingChanges;
+
+	public TextIndex(IDataManagerFactory dmFactory) {
+		this.dmFactory = dmFactory;
+	}
+
+	/**
+	 * Tests if the given pattern can be answered by this index. The pattern
+	 * must start with a character that is not a wild card and must not
+	 * contain the separators <code>#</code> or <code>/</code>.
+	 */
+	public static boolean isSearchable(String pattern) {
+		if (pattern == null || pattern.isEmpty()) {
+			return false;
+		}
+		char first = pattern.charAt(0);
+		return first != '*' && first != '?' && pattern.indexOf('#') < 0 && pattern.indexOf('/') < 0;
+	}
+
+	/**
+	 * Returns named resources whose names or labels start with the given
+	 * pattern. Resources that match by name are returned before resources
+	 * that match by label.
+	 *
+	 * @param pattern
+	 *            a searchable pattern, see {@link #isSearchable(String)}
+	 * @param namespace
+	 *            a prefix of the resources' URIs or <code>null</code>
+	 * @param context
+	 *            the context that must contain the matched statements or
+	 *            <code>null</code> for any context
+	 * @param max
+	 *            the maximum number of results
+	 */
+	public List<URI> find(String pattern, String namespace, URI context, int max) {
+		if (!isSearchable(pattern)) {
+			throw new IllegalArgumentException("Unsupported search pattern: " + pattern);
+		}
+		int wildcard = firstWildcard(pattern);
+		String prefix = wildcard < 0 ? pattern : pattern.substring(0, wildcard);
+		Pattern regex = wildcard < 0 ? null : toRegex(pattern);
+		Object contextKey = context == null ? null : key(context);
+		return read(() -> {
+			Set<URI> result = new LinkedHashSet<>();
+			collect(terms.names, prefix, regex, namespace, contextKey, max, result);
+			collect(terms.labels, prefix, regex, namespace, contextKey, max, result);
+			return new ArrayList<>(result);
+		});
+	}
+
+	void collect(NavigableMap<String, Map<URI, Set<Object>>> terms, String prefix, Pattern regex,
+			String namespace, Object context, int max, Set<URI> result) {
+		if (result.size() >= max) {
+			return;
+		}
+		for (Map.Entry<String, Map<URI, Set<Object>>> entry : terms
+				.subMap(prefix, true, prefix + Character.MAX_VALUE, false).entrySet()) {
+			if (regex != null && !regex.matcher(entry.getKey()).lookingAt()) {
+				continue;
+			}
+			for (Map.Entry<URI, Set<Object>> resource : entry.getValue().entrySet()) {
+				URI uri = resource.getKey();
+				if ((namespace == null || uri.toString().startsWith(namespace))
+						&& (context == null || resource.getValue().contains(context)) && result.add(uri)
+						&& result.size() >= max) {
+					return;
+				}
+			}
+		}
+	}
+
+	static int firstWildcard(String pattern) {
+		for (int i = 0; i < pattern.length(); i++) {
+			char c = pattern.charAt(i);
+			if (c == '*' || c == '?') {
+				return i;
+			}
+		}
+		return -1;
+	}
+
+	static Pattern toRegex(String pattern) {
+		StringBuilder regex = new StringBuilder();
+		int start = 0;
+		for (int i = 0; i < pattern.length(); i++) {
+			char c = pattern.charAt(i);
+			if (c == '*' || c == '?') {
+				if (i > start) {
+					regex.append(Pattern.quote(pattern.substring(start, i)));
+				}
+				regex.append(c == '*' ? ".*" : ".");
+				start = i + 1;
+			}
+		}
+		if (start < pattern.length()) {
+			regex.append(Pattern.quote(pattern.substring(start)));
+		}
+		return Pattern.compile(regex.toString());
+	}
+
+	/**
+	 * Returns the indexed names of the given URI.
+	 */
+	static List<String> names(URI uri) {
+		String s = uri.toString();
+		int start = Math.max(s.lastIndexOf('#'), s.lastIndexOf('/')) + 1;
+		if (start == 0) {
+			// URNs and similar URIs without a path
+			start = s.indexOf(':') + 1;
+		}
+		List<String> result = new ArrayList<>(2);
+		while (start > 0 && start < s.length()) {
+			result.add(s.substring(start));
+			start = s.indexOf(':', start) + 1;
+		}
+		return result;
+	}
+
+	static Object key(IReference reference) {
+		if (reference instanceof IReferenceable) {
+			reference = ((IReferenceable) reference).getReference();
+		}
+		URI uri = reference.getURI();
+		return uri != null ? uri : reference.toString();
+	}
+
+	static Object context(IStatement stmt) {
+		return stmt.getContext() == null ? DEFAULT_CONTEXT : key(stmt.getContext());
+	}
+
+	<T> T read(Supplier<T> query) {
+		while (true) {
+			lock.readLock().lock();
+			try {
+				if (isCurrent()) {
+					return query.get();
+				}
+			} finally {
+				lock.readLock().unlock();
+			}
+			load();
+		}
+	}
+
+	boolean isCurrent() {
+		return loaded && staleContexts.isEmpty() && pendingChanges == null;
+	}
+
+	void load() {
+		synchronized (loadLock) {
+			boolean full;
+			Map<Object, IReference> contexts;
+			int startVersion;
+			lock.writeLock().lock();
+			try {
+				if (isCurrent()) {
+					return;
+				}
+				full = !loaded;
+				contexts = new HashMap<>(staleContexts);
+				staleContexts.clear();
+				startVersion = version;
+				pendingChanges = new ArrayList<>();
+			} finally {
+				lock.writeLock().unlock();
+			}
+
+			Terms loadedTerms = null;
+			try {
+				// read the store without blocking readers and change events
+				Terms newTerms = new Terms();
+				IDataManager dm = dmFactory.get();
+				try {
+					if (full) {
+						newTerms.load(dm);
+					} else {
+						newTerms.load(dm, contexts.values().toArray(new IReference[contexts.size()]));
+					}
+				} finally {
+					dm.close();
+				}
+				loadedTerms = newTerms;
+			} finally {
+				lock.writeLock().lock();
+				try {
+					List<IDataChange> changes = pendingChanges;
+					pendingChanges = null;
+					if (loadedTerms == null) {
+						// loading has failed
+						if (!full && version == startVersion) {
+							contexts.forEach(staleContexts::putIfAbsent);
+						}
+					} else if (version == startVersion) {
+						// otherwise the index has been invalidated in the meantime
+						if (full) {
+							terms = loadedTerms;
+						} else {
+							for (Object context : contexts.keySet()) {
+								terms.removeContext(context);
+							}
+							terms.addAll(loadedTerms);
+						}
+						loaded = true;
+						// changes may have been applied to the indexed data
+						// already, applying them again is harmless
+						apply(changes);
+					}
+				} finally {
+					lock.writeLock().unlock();
+				}
+			}
+		}
+	}
+
+	/**
+	 * Discards the indexed data. The index is reloaded on the next access.
+	 */
+	public void invalidate() {
+		lock.writeLock().lock();
+		try {
+			clear();
+		} finally {
+			lock.writeLock().unlock();
+		}
+	}
+
+	/**
+	 * Discards the indexed data of the given context. The data of the
+	 * context is reloaded on the next access.
+	 */
+	@Override
+	public void invalidate(IReference context) {
+		if (context == null) {
+			invalidate();
+			return;
+		}
+		lock.writeLock().lock();
+		try {
+			if (loaded || pendingChanges != null) {
+				staleContexts.put(key(context), context);
+			}
+		} finally {
+			lock.writeLock().unlock();
+		}
+	}
+
+	void clear() {
+		loaded = false;
+		version++;
+		staleContexts.clear();
+		terms = new Terms();
+	}
+
+	@Override
+	public void dataChanged(List<IDataChange> changes) {
+		lock.writeLock().lock();
+		try {
+			if (pendingChanges != null) {
+				// the changes are applied after the running load
+				pendingChanges.addAll(changes);
+			}
+			if (loaded) {
+				apply(changes);
+			}
+		} finally {
+			lock.writeLock().unlock();
+		}
+	}
+
+	void apply(List<IDataChange> changes) {
+		for (IDataChange change : changes) {
+			if (change instanceof IStatementChange) {
+				terms.apply((IStatementChange) change);
+			} else if (!(change instanceof INamespaceChange)) {
+				// the affected statements are unknown
+				clear();
+				return;
+			}
+		}
+	}
+}
@@ -0,0 +1,133 @@
+/*******************************************************************************
+ * Copyright (c) 2026 Fraunhofer IWU and others.
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * Contributors:
+ *     Fraunhofer IWU - initial API and implementation
+ *******************************************************************************/
+package net.enilink.komma.em;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNotNull;
+import static org.junit.Assert.assertNotSame;
+import static org.junit.Assert.assertSame;
+
+import org.junit.Test;
+
+import com.google.inject.Inject;
+import com.google.inject.Injector;
+
+import net.enilink.composition.annotations.Iri;
+import net.enilink.composition.properties.PropertySetFactory;
+import net.enilink.komma.core.IEntity;
+import net.enilink.komma.core.IReference;
+import net.enilink.komma.core.KommaModule;
+import net.enilink.komma.core.URI;
+import net.enilink.komma.core.URIs;
+import net.enilink.komma.em.internal.ManagerScope;
+import net.enilink.komma.em.internal.behaviours.IEntityManagerAware;
+
+/**
+ * Tests that beans created by the generated instance factories with cached
+ * members injectors equal beans that are created and injected reflectively.
+ */
+public class BeanCreationTest extends EntityManagerTest {
+	private static final String NS = "urn:test:";
+
+	@Iri(NS + "Injected")
+	public interface Injected {
+		Injector getInjector();
+
+		ManagerScope.Context getContext();
+
+		PropertySetFactory getPropertySetFactory();
+
+		int getInjections();
+	}
+
+	public static abstract class InjectedSupport implements Injected {
+		@Inject
+		Injector injector;
+
+		@Inject
+		ManagerScope.Context context;
+
+		PropertySetFactory propertySetFactory;
+
+		int injections;
+
+		@Inject
+		void setPropertySetFactory(PropertySetFactory propertySetFactory) {
+			this.propertySetFactory = propertySetFactory;
+			injections++;
+		}
+
+		@Override
+		public Injector getInjector() {
+			return injector;
+		}
+
+		@Override
+		public ManagerScope.Context getContext() {
+			return context;
+		}
+
+		@Override
+		public PropertySetFactory getPropertySetFactory() {
+			return propertySetFactory;
+		}
+
+		@Override
+		public int getInjections() {
+			return injections;
+		}
+	}
+
+	protected KommaModule createModule() throws Exception {
+		KommaModule module = super.createModule();
+		module.addConcept(Injected.class);
+		module.addBehaviour(InjectedSupport.class);
+		return module;
+	}
+
+	@Test
+	public void testSameAsReflectiveCreation() throws Exception {
+		URI uri = URIs.createURI(NS + "injected");
+		Injected bean = manager.createNamed(uri, Injected.class);
+		Class<?> type = bean.getClass();
+
+		// the previous way of creating beans
+		Object reflective = type.getDeclaredConstructor().newInstance();
+		bean.getContext().run(() -> bean.getInjector().injectMembers(reflective));
+		((IEntityManagerAware) reflective).initReference(uri);
+		((IEntityManagerAware) reflective).initEntityManager(((IEntity) bean).getEntityManager());
+
+		assertEquals(bean, reflective);
+		assertEquals(bean.toString(), reflective.toString());
+		Injected injected = (Injected) reflective;
+		assertNotNull(bean.getInjector());
+		assertSame(injected.getInjector(), bean.getInjector());
+		assertNotNull(bean.getPropertySetFactory());
+		assertSame(injected.getPropertySetFactory().getClass(), bean.getPropertySetFactory().getClass());
+		assertEquals(injected.getInjections(), bean.getInjections());
+	}
+
+	@Test
+	public void testCachedMembersInjector() throws Exception {
+		Injected first = manager.createNamed(URIs.createURI(NS + "first"), Injected.class);
+		for (int i = 0; i < 10; i++) {
+			URI uri = URIs.createURI(NS + "bean" + i);
+			Injected bean = manager.createNamed(uri, Injected.class);
+			assertSame(first.getClass(), bean.getClass());
+			assertEquals(uri, ((IReference) bean).getURI());
+			// each bean is injected exactly once with the same members
+			assertEquals(1, bean.getInjections());
+			assertSame(first.getInjector(), bean.getInjector());
+			assertNotSame(first, bean);
+		}
+		assertEquals(1, first.getInjections());
+	}
+}
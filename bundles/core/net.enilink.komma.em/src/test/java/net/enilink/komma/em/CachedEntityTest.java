@@ -0,0 +1,159 @@
+/*******************************************************************************
+ * Copyright (c) 2026 Fraunhofer IWU and others.
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * Contributors:
+ *     Fraunhofer IWU - initial API and implementation
+ *******************************************************************************/
+package net.enilink.komma.em;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertTrue;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.Callable;
+import java.util.concurrent.CyclicBarrier;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+import org.junit.After;
+import org.junit.Test;
+
+import net.enilink.komma.em.internal.CachedEntity;
+
+/**
+ * Tests concurrent modifications of a {@link CachedEntity}.
+ */
+public class CachedEntityTest {
+	static final Object CONTEXT = "context";
+
+	static final Object PROPERTY = "property";
+
+	final ExecutorService executor = Executors.newCachedThreadPool();
+
+	@After
+	public void tearDown() throws Exception {
+		executor.shutdownNow();
+		executor.awaitTermination(10, TimeUnit.SECONDS);
+	}
+
+	void runConcurrently(List<Callable<Void>> tasks) throws Exception {
+		CyclicBarrier start = new CyclicBarrier(tasks.size());
+		List<Future<Void>> futures = new ArrayList<>();
+		for (Callable<Void> task : tasks) {
+			futures.add(executor.submit(() -> {
+				start.await(10, TimeUnit.SECONDS);
+				return task.call();
+			}));
+		}
+		for (Future<Void> future : futures) {
+			future.get(60, TimeUnit.SECONDS);
+		}
+	}
+
+	@Test
+	public void testConcurrentPutGetInvalidate() throws Exception {
+		CachedEntity entity = new CachedEntity();
+		AtomicBoolean writing = new AtomicBoolean(true);
+		int writes = 200000;
+
+		List<Callable<Void>> tasks = new ArrayList<>();
+		tasks.add(() -> {
+			try {
+				for (int i = 1; i <= writes; i++) {
+					entity.put(CONTEXT, PROPERTY, i);
+				}
+			} finally {
+				writing.set(false);
+			}
+			return null;
+		});
+		tasks.add(() -> {
+			while (writing.get()) {
+				entity.clearProperties(CONTEXT);
+				entity.remove(CONTEXT, PROPERTY);
+				entity.clearContexts(context -> false);
+			}
+			return null;
+		});
+		for (int r = 0; r < 2; r++) {
+			tasks.add(() -> {
+				int last = 0;
+				while (writing.get()) {
+					Object value = entity.get(CONTEXT, PROPERTY);
+					if (value != null) {
+						int current = (Integer) value;
+						// values of a single writer are never seen out of order
+						assertTrue(current + " after " + last, current >= last);
+						last = current;
+					}
+					assertNull("Other properties must not be affected", entity.get(CONTEXT, "other"));
+				}
+				return null;
+			});
+		}
+		runConcurrently(tasks);
+
+		// the entity is still usable after the concurrent modifications
+		entity.put(CONTEXT, PROPERTY, -1);
+		assertEquals(-1, entity.get(CONTEXT, PROPERTY));
+		assertTrue(entity.clearProperties(CONTEXT));
+		assertNull(entity.get(CONTEXT, PROPERTY));
+	}
+
+	@Test
+	public void testConcurrentPutsAreNotLost() throws Exception {
+		int threads = 4;
+		for (int round = 0; round < 200; round++) {
+			// the property maps are created lazily by the first put
+			CachedEntity entity = new CachedEntity();
+			List<Callable<Void>> tasks = new ArrayList<>();
+			for (int t = 0; t < threads; t++) {
+				Object property = "property" + t;
+				tasks.add(() -> {
+					entity.put(CONTEXT, property, property);
+					return null;
+				});
+			}
+			runConcurrently(tasks);
+			for (int t = 0; t < threads; t++) {
+				assertEquals("property" + t, entity.get(CONTEXT, "property" + t));
+			}
+		}
+	}
+
+	@Test
+	public void testInvalidateIsNotUndoneByOtherProperties() throws Exception {
+		CachedEntity entity = new CachedEntity();
+		List<Callable<Void>> tasks = new ArrayList<>();
+		for (int t = 0; t < 4; t++) {
+			Object property = "property" + t;
+			tasks.add(() -> {
+				for (int i = 0; i < 10000; i++) {
+					entity.put(CONTEXT, property, i);
+					Object value = entity.get(CONTEXT, property);
+					// either the own value or invalidated by another thread
+					assertTrue(value == null || value.equals(i));
+					entity.remove(CONTEXT, property);
+					assertNull(entity.get(CONTEXT, property));
+					if (i % 100 == 0) {
+						entity.clearProperties(CONTEXT);
+					}
+				}
+				return null;
+			});
+		}
+		runConcurrently(tasks);
+		for (int t = 0; t < 4; t++) {
+			assertNull(entity.get(CONTEXT, "property" + t));
+		}
+	}
+}
@@ -10,16 +10,32 @@
  *******************************************************************************/
 package net.enilink.komma.em;
 
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
 import static org.junit.Assert.assertNotNull;
 import static org.junit.Assert.assertTrue;
 
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashSet;
+
 import org.junit.Test;
 
+import com.google.common.cache.Cache;
+import com.google.inject.Key;
+
 import net.enilink.komma.core.IEntity;
+import net.enilink.komma.core.IEntityManager;
+import net.enilink.komma.core.IEntityManagerFactory;
 import net.enilink.komma.core.KommaModule;
+import net.enilink.komma.core.Statement;
 import net.enilink.komma.core.URI;
 import net.enilink.komma.core.URIs;
 import net.enilink.komma.em.concepts.Person;
+import net.enilink.komma.em.internal.CacheContextIndex;
+import net.enilink.komma.em.internal.CacheContextKey;
+import net.enilink.komma.em.internal.CachedEntity;
+import net.enilink.vocab.owl.OWL;
 import net.enilink.vocab.rdfs.Resource;
 
 public class CachingEntityManagerTest extends EntityManagerTest {
@@ -70,4 +86,49 @@ public class CachingEntityManagerTest extends EntityManagerTest {
 		assertTrue(uriMoritz + " must be converted to a person",
 			manager.toInstance(uriMoritz, Person.class, null) instanceof Person);
 	}
-}
\ No newline at end of file
+
+	@Test
+	public void testContextKeyWithDefaultGraph() {
+		URI graph = URIs.createURI(NS + "graph");
+		CacheContextKey key = new CacheContextKey(Collections.emptySet(), new HashSet<>(Arrays.asList(null, graph)));
+		assertTrue(key.reads(graph));
+		assertFalse(key.reads(URIs.createURI(NS + "other")));
+		assertEquals(key, new CacheContextKey(null, new HashSet<>(Arrays.asList(graph, null))));
+	}
+
+	@Test
+	public void testImportsChangeInvalidatesReadingContexts() {
+		URI graph1 = URIs.createURI(NS + "graph1");
+		URI graph2 = URIs.createURI(NS + "graph2");
+		IEntityManagerFactory factory1 = factory
+				.createChildFactory(new KommaModule(getClass().getClassLoader()).addWritableGraph(graph1));
+		IEntityManagerFactory factory2 = factory
+				.createChildFactory(new KommaModule(getClass().getClassLoader()).addWritableGraph(graph2));
+		IEntityManager manager1 = factory1.create();
+		IEntityManager manager2 = factory2.create();
+		try {
+			URI uriMax = URIs.createURI(NS + "max");
+			IEntity max1 = manager1.find(uriMax);
+			IEntity max2 = manager2.find(uriMax);
+
+			Cache<Object, CachedEntity> cache = injector.getInstance(new Key<Cache<Object, CachedEntity>>() {
+			});
+			CacheContextIndex contextIndex = injector.getInstance(CacheContextIndex.class);
+			CachedEntity cached = cache.getIfPresent(uriMax);
+			assertNotNull(cached);
+			assertEquals(2, cached.contexts().size());
+			assertEquals(2, contextIndex.contexts().size());
+
+			// changes the imports closure of graph1
+			manager1.add(new Statement(graph1, OWL.PROPERTY_IMPORTS, URIs.createURI(NS + "graph3")));
+
+			// only the data of the manager that reads graph1 is removed
+			assertEquals(1, cached.contexts().size());
+			assertTrue(max2 == manager2.find(uriMax));
+			assertFalse(max1 == manager1.find(uriMax));
+		} finally {
+			manager1.close();
+			manager2.close();
+		}
+	}
+}
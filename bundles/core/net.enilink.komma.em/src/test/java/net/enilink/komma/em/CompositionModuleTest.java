@@ -0,0 +1,128 @@
+/*******************************************************************************
+ * Copyright (c) 2026 Fraunhofer IWU and others.
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * Contributors:
+ *     Fraunhofer IWU - initial API and implementation
+ *******************************************************************************/
+package net.enilink.komma.em;
+
+import static org.junit.Assert.assertTrue;
+
+import java.lang.reflect.Method;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+
+import org.junit.Test;
+
+import com.google.inject.AbstractModule;
+import com.google.inject.Module;
+import com.google.inject.multibindings.Multibinder;
+
+import net.enilink.composition.annotations.Iri;
+import net.enilink.composition.asm.BehaviourClassNode;
+import net.enilink.composition.asm.BehaviourMethodProcessor;
+import net.enilink.composition.asm.ExtendedMethod;
+import net.enilink.komma.core.KommaModule;
+import net.enilink.komma.core.URIs;
+
+/**
+ * Tests that custom behaviour method processors are applied regardless of
+ * whether they are bound by the manager module itself or by its composition
+ * module.
+ */
+public class CompositionModuleTest extends EntityManagerTest {
+	private static final String NS = "test:";
+
+	static final Set<Class<?>> processedClasses = ConcurrentHashMap.newKeySet();
+
+	boolean bindInConfigure;
+
+	protected KommaModule createModule() throws Exception {
+		// use a new class loader to ensure that no composite classes of
+		// other tests are reused
+		KommaModule module = new KommaModule(new ClassLoader(getClass().getClassLoader()) {
+		});
+		module.addConcept(Concept.class);
+		module.addBehaviour(ConceptSupport.class);
+		return module;
+	}
+
+	@Override
+	protected Module createEntityManagerModule() {
+		return new DecoratingEntityManagerModule() {
+			@Override
+			protected void configure() {
+				super.configure();
+				if (bindInConfigure) {
+					Multibinder.newSetBinder(binder(), BehaviourMethodProcessor.class).addBinding()
+							.to(RecordingProcessor.class);
+				}
+			}
+
+			@Override
+			public Module getCompositionModule() {
+				return new AbstractModule() {
+					@Override
+					protected void configure() {
+						if (!bindInConfigure) {
+							Multibinder.newSetBinder(binder(), BehaviourMethodProcessor.class).addBinding()
+									.to(RecordingProcessor.class);
+						}
+					}
+				};
+			}
+		};
+	}
+
+	@Iri(NS + "Concept")
+	public interface Concept {
+		String getName();
+	}
+
+	public static abstract class ConceptSupport implements Concept {
+	}
+
+	public static class RecordingProcessor implements BehaviourMethodProcessor {
+		@Override
+		public boolean implementsMethod(Class<?> targetClass, Method method) {
+			processedClasses.add(targetClass);
+			return false;
+		}
+
+		@Override
+		public boolean appliesTo(BehaviourClassNode classNode, ExtendedMethod method) {
+			return false;
+		}
+
+		@Override
+		public void initialize(BehaviourClassNode classNode) throws Exception {
+		}
+
+		@Override
+		public void process(BehaviourClassNode classNode, ExtendedMethod method) throws Exception {
+		}
+	}
+
+	void assertProcessorApplied() {
+		processedClasses.clear();
+		manager.createNamed(URIs.createURI(NS + "concept"), Concept.class);
+		assertTrue("Custom processor must be applied", processedClasses.contains(ConceptSupport.class));
+	}
+
+	@Test
+	public void testProcessorInCompositionModule() throws Exception {
+		assertProcessorApplied();
+	}
+
+	@Test
+	public void testProcessorInManagerModule() throws Exception {
+		afterTest();
+		bindInConfigure = true;
+		beforeTest();
+		assertProcessorApplied();
+	}
+}
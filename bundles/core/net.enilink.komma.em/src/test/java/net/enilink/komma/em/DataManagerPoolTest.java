@@ -0,0 +1,148 @@
+package net.enilink.komma.em;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNotSame;
+import static org.junit.Assert.assertTrue;
+
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Proxy;
+import java.util.Arrays;
+
+import org.junit.Test;
+
+import com.google.inject.Key;
+import com.google.inject.Module;
+import com.google.inject.name.Names;
+import com.google.inject.util.Modules;
+
+import net.enilink.komma.core.Literal;
+import net.enilink.komma.core.Statement;
+import net.enilink.komma.core.URI;
+import net.enilink.komma.core.URIs;
+import net.enilink.komma.dm.IDataManager;
+import net.enilink.komma.dm.change.IDataChangeSupport;
+import net.enilink.vocab.rdfs.RDFS;
+
+public class DataManagerPoolTest extends EntityManagerTest {
+	@Override
+	protected Module createStorageModule() {
+		return Modules.combine(super.createStorageModule(), new DataManagerPoolModule());
+	}
+
+	@Test
+	public void testReuseAcrossUnitsOfWork() {
+		DataManagerPool pool = injector.getInstance(DataManagerPool.class);
+
+		URI subject = URIs.createURI("test:subject");
+		manager.add(Arrays.asList(new Statement(subject, RDFS.PROPERTY_LABEL, new Literal("label"))));
+		uow.end();
+
+		assertEquals(0, pool.getActiveCount());
+		assertEquals(1, pool.getIdleCount());
+
+		for (int i = 0; i < 3; i++) {
+			uow.begin();
+			try {
+				assertTrue(manager.hasMatch(subject, RDFS.PROPERTY_LABEL, null));
+			} finally {
+				uow.end();
+			}
+		}
+
+		assertEquals(1, pool.getCreatedCount());
+		assertEquals(3, pool.getReusedCount());
+		assertEquals(1, pool.getIdleCount());
+
+		// required by afterTest
+		uow.begin();
+	}
+
+	@Test
+	public void testRollbackOnRelease() {
+		DataManagerPool pool = injector.getInstance(DataManagerPool.class);
+
+		URI subject = URIs.createURI("test:subject");
+		manager.getTransaction().begin();
+		manager.add(Arrays.asList(new Statement(subject, RDFS.PROPERTY_LABEL, new Literal("label"))));
+		uow.end();
+
+		uow.begin();
+		assertTrue(!manager.getTransaction().isActive());
+		assertTrue(!manager.hasMatch(subject, RDFS.PROPERTY_LABEL, null));
+		assertEquals(1, pool.getReusedCount());
+	}
+
+	@Test
+	public void testReleaseAfterClose() {
+		DataManagerPool pool = injector.getInstance(DataManagerPool.class);
+
+		IDataManager pooled = pool.acquire();
+		IDataManager active = pool.acquire();
+		pool.release(pooled);
+		assertEquals(1, pool.getActiveCount());
+		assertEquals(1, pool.getIdleCount());
+		pool.close();
+		assertFalse(pooled.isOpen());
+		assertEquals(0, pool.getIdleCount());
+
+		// data managers that are released after the pool was closed are not
+		// kept open
+		pool.release(active);
+		assertFalse(active.isOpen());
+		assertEquals(0, pool.getActiveCount());
+		assertEquals(0, pool.getIdleCount());
+	}
+
+	@Test
+	public void testReleaseClosedDataManager() {
+		DataManagerPool pool = injector.getInstance(DataManagerPool.class);
+		IDataManager threadLocal = injector.getInstance(Key.get(IDataManager.class, Names.named("thread-local")));
+
+		IDataManager delegate = ((ThreadLocalDataManager) threadLocal).getDelegate();
+		assertEquals(1, pool.getActiveCount());
+		// e.g. if the underlying connection was closed
+		delegate.close();
+
+		// a new data manager is acquired and the closed one is released
+		assertNotSame(delegate, ((ThreadLocalDataManager) threadLocal).getDelegate());
+		assertEquals(1, pool.getActiveCount());
+		assertEquals(0, pool.getIdleCount());
+
+		uow.end();
+		assertEquals(0, pool.getActiveCount());
+		assertEquals(1, pool.getIdleCount());
+
+		// required by afterTest
+		uow.begin();
+	}
+
+	@Test
+	public void testChangeSupportIsClosedIfResetFails() {
+		DataManagerPool pool = injector.getInstance(DataManagerPool.class);
+		IDataChangeSupport changeSupport = injector.getInstance(IDataChangeSupport.class);
+
+		int activeCount = pool.getActiveCount();
+		IDataManager acquired = pool.acquire();
+		// a data manager whose transaction can not be rolled back
+		IDataManager failing = (IDataManager) Proxy.newProxyInstance(getClass().getClassLoader(),
+				new Class<?>[] { IDataManager.class }, (proxy, method, args) -> {
+					if (method.getName().equals("getTransaction")) {
+						throw new IllegalStateException("Connection lost");
+					}
+					try {
+						return method.invoke(acquired, args);
+					} catch (InvocationTargetException e) {
+						throw e.getCause();
+					}
+				});
+		boolean defaultEnabled = changeSupport.getDefaultEnabled();
+		changeSupport.setEnabled(failing, !defaultEnabled);
+
+		pool.release(failing);
+		assertFalse(acquired.isOpen());
+		assertEquals(defaultEnabled, changeSupport.isEnabled(failing));
+		assertEquals(activeCount, pool.getActiveCount());
+		assertEquals(0, pool.getIdleCount());
+	}
+}
@@ -0,0 +1,133 @@
+package net.enilink.komma.em;
+
+import static org.junit.Assert.assertEquals;
+
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.stream.Collectors;
+
+import org.junit.Test;
+
+import com.google.inject.Module;
+import com.google.inject.util.Modules;
+
+import net.enilink.commons.iterator.IExtendedIterator;
+import net.enilink.komma.core.IReference;
+import net.enilink.komma.core.KommaModule;
+import net.enilink.komma.core.Statement;
+import net.enilink.komma.core.StatementPattern;
+import net.enilink.komma.core.URI;
+import net.enilink.komma.core.URIs;
+import net.enilink.komma.dm.IDataManager;
+import net.enilink.komma.dm.IDataManagerFactory;
+import net.enilink.komma.dm.change.IDataChangeSupport;
+import net.enilink.komma.em.concepts.IClass;
+import net.enilink.komma.em.concepts.IProperty;
+import net.enilink.komma.em.util.HierarchyIndex;
+import net.enilink.komma.em.util.HierarchyIndex.Hierarchy;
+import net.enilink.komma.em.util.KommaUtil;
+import net.enilink.vocab.rdfs.RDFS;
+
+public class HierarchyIndexTest extends EntityManagerTest {
+	private static final String NS = "test:";
+
+	@Override
+	protected Module createStorageModule() {
+		return Modules.combine(super.createStorageModule(), new HierarchyIndexModule());
+	}
+
+	protected KommaModule createModule() throws Exception {
+		KommaModule module = super.createModule();
+		module.includeModule(KommaUtil.getCoreModule());
+		return module;
+	}
+
+	URI uri(String name) {
+		return URIs.createURI(NS + name);
+	}
+
+	void subClassOf(String sub, String sup) {
+		manager.add(new Statement(manager.createNamed(uri(sub), IClass.class), RDFS.PROPERTY_SUBCLASSOF,
+				manager.createNamed(uri(sup), IClass.class)));
+	}
+
+	List<String> names(IExtendedIterator<? extends IReference> it) {
+		return it.toList().stream().map(r -> r.getURI().localPart()).collect(Collectors.toList());
+	}
+
+	List<String> names(List<URI> uris) {
+		return uris.stream().map(URI::localPart).collect(Collectors.toList());
+	}
+
+	@Test
+	public void testClassHierarchy() {
+		subClassOf("c1.1", "c1");
+		subClassOf("c1.2", "c1");
+		subClassOf("c1.1.1", "c1.1");
+		subClassOf("c1.1.2", "c1.1");
+		// a redundant edge that is not a direct sub class relation
+		subClassOf("c1.1.1", "c1");
+
+		IClass c1 = manager.find(uri("c1"), IClass.class);
+		assertEquals(Arrays.asList("c1.1", "c1.2"), names(c1.getDirectNamedSubClasses()));
+		assertEquals(Arrays.asList("c1.1.1", "c1.1.2", "c1.2"), names(c1.getNamedLeafSubClasses(false)));
+
+		IClass c111 = manager.find(uri("c1.1.1"), IClass.class);
+		assertEquals(Arrays.asList("c1.1"), names(c111.getDirectNamedSuperClasses()));
+
+		HierarchyIndex.View view = injector.getInstance(HierarchyIndex.class).view(Collections.emptySet(),
+				Collections.emptySet());
+		assertEquals(Arrays.asList("c1.1", "c1.1.1", "c1.1.2", "c1.2"),
+				names(view.getSubs(Hierarchy.CLASSES, c1, true)));
+		assertEquals(Arrays.asList("c1", "c1.1"), names(view.getSupers(Hierarchy.CLASSES, c111, true)));
+
+		// the index is updated incrementally
+		manager.remove(new Statement(uri("c1.2"), RDFS.PROPERTY_SUBCLASSOF, uri("c1")));
+		subClassOf("c1.3", "c1.1");
+		assertEquals(Arrays.asList("c1.1"), names(c1.getDirectNamedSubClasses()));
+		assertEquals(Arrays.asList("c1.1.1", "c1.1.2", "c1.3"), names(c1.getNamedLeafSubClasses(false)));
+
+		// results are restricted to the read contexts
+		HierarchyIndex.View other = injector.getInstance(HierarchyIndex.class)
+				.view(Collections.singleton(uri("otherGraph")), Collections.emptySet());
+		assertEquals(Collections.emptyList(), other.getDirectSubs(Hierarchy.CLASSES, c1, true));
+	}
+
+	@Test
+	public void testPropertyHierarchy() {
+		IProperty p = manager.createNamed(uri("p"), IProperty.class);
+		for (String name : new String[] { "p.1", "p.2" }) {
+			manager.add(new Statement(manager.createNamed(uri(name), IProperty.class),
+					RDFS.PROPERTY_SUBPROPERTYOF, p));
+		}
+		manager.add(new Statement(manager.createNamed(uri("p.1.1"), IProperty.class),
+				RDFS.PROPERTY_SUBPROPERTYOF, uri("p.1")));
+		assertEquals(Arrays.asList("p.1", "p.2"), names(p.getDirectSubProperties()));
+
+		// the wild card is applied to the index
+		manager.remove(Collections.singletonList(new StatementPattern(null, RDFS.PROPERTY_SUBPROPERTYOF, p)));
+		assertEquals(Collections.emptyList(), names(p.getDirectSubProperties()));
+	}
+
+	@Test
+	public void testUntrackedChanges() {
+		subClassOf("c1.1", "c1");
+		IClass c1 = manager.find(uri("c1"), IClass.class);
+		assertEquals(Arrays.asList("c1.1"), names(c1.getDirectNamedSubClasses()));
+
+		// add data without tracking the changes like a model that is loaded
+		URI graph = uri("graph");
+		IDataManager dm = injector.getInstance(IDataManagerFactory.class).get();
+		try {
+			injector.getInstance(IDataChangeSupport.class).setEnabled(dm, false);
+			dm.add(Collections.singletonList(new Statement(uri("c1.2"), RDFS.PROPERTY_SUBCLASSOF, uri("c1"))),
+					graph);
+		} finally {
+			dm.close();
+		}
+		injector.getInstance(HierarchyIndex.class).invalidate(graph);
+
+		assertEquals(Arrays.asList("c1.1", "c1.2"), names(c1.getDirectNamedSubClasses()));
+	}
+}
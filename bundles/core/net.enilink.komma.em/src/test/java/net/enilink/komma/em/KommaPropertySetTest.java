@@ -11,7 +11,6 @@
 package net.enilink.komma.em;
 
 import com.google.inject.Inject;
-import com.google.inject.Injector;
 import com.google.inject.Module;
 
 import net.enilink.commons.iterator.IExtendedIterator;
@@ -76,15 +75,15 @@ public class KommaPropertySetTest extends EntityManagerTest {
 		@Iri(NS + "anyProperty")
 		Set<Object> getAnyProperty();
 
-		Injector getInjector();
+		PropertySetFactory getPropertySetFactory();
 	}
 
 	public static abstract class ConceptSupport implements Concept {
 		@Inject
-		Injector injector;
+		PropertySetFactory propertySetFactory;
 
-		public Injector getInjector() {
-			return injector;
+		public PropertySetFactory getPropertySetFactory() {
+			return propertySetFactory;
 		}
 	}
 
@@ -278,8 +277,7 @@ public class KommaPropertySetTest extends EntityManagerTest {
 		// initialize property set for a
 		a.getName();
 		// clear cache of property sets
-		((KommaPropertySetFactory) a.getInjector()
-				.getInstance(PropertySetFactory.class)).getPropertySetCache().clear();
+		((KommaPropertySetFactory) a.getPropertySetFactory()).getPropertySetCache().clear();
 		b = manager.createNamed(uri, Concept.class);
 		// set b's name
 		b.setName("name");
@@ -0,0 +1,135 @@
+/*******************************************************************************
+ * Copyright (c) 2026 Fraunhofer IWU and others.
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * Contributors:
+ *     Fraunhofer IWU - initial API and implementation
+ *******************************************************************************/
+package net.enilink.komma.em;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNotSame;
+import static org.junit.Assert.assertSame;
+
+import org.junit.Test;
+
+import com.google.inject.Inject;
+import com.google.inject.Injector;
+
+import net.enilink.composition.annotations.Iri;
+import net.enilink.composition.properties.PropertySetFactory;
+import net.enilink.composition.properties.komma.KommaPropertySetFactory;
+import net.enilink.komma.core.IEntityManager;
+import net.enilink.komma.core.KommaModule;
+import net.enilink.komma.core.URI;
+import net.enilink.komma.core.URIs;
+
+/**
+ * Tests that the entity managers of a factory share one injector while the
+ * bindings of each manager are kept apart.
+ */
+public class ManagerScopeTest extends EntityManagerTest {
+	private static final String NS = "urn:test:";
+
+	@Iri(NS + "Scoped")
+	public interface Scoped {
+		@Iri(NS + "name")
+		String getName();
+
+		void setName(String name);
+
+		Injector getInjector();
+
+		PropertySetFactory getPropertySetFactory();
+	}
+
+	public static abstract class ScopedSupport implements Scoped {
+		@Inject
+		Injector injector;
+
+		@Inject
+		PropertySetFactory propertySetFactory;
+
+		@Override
+		public Injector getInjector() {
+			return injector;
+		}
+
+		@Override
+		public PropertySetFactory getPropertySetFactory() {
+			return propertySetFactory;
+		}
+	}
+
+	protected KommaModule createModule() throws Exception {
+		KommaModule module = super.createModule();
+		module.addConcept(Scoped.class);
+		module.addBehaviour(ScopedSupport.class);
+		return module;
+	}
+
+	IEntityManager getManager(Scoped bean) {
+		return ((KommaPropertySetFactory) bean.getPropertySetFactory()).getManager();
+	}
+
+	@Test
+	public void testManagersShareInjector() throws Exception {
+		URI uri = URIs.createURI(NS + "shared");
+		IEntityManager first = factory.create();
+		IEntityManager second = factory.create();
+		try {
+			assertNotSame(first, second);
+
+			Scoped a = first.createNamed(uri, Scoped.class);
+			Scoped b = second.find(uri, Scoped.class);
+			Scoped c = manager.find(uri, Scoped.class);
+
+			// no injector is created for a single manager
+			assertSame(a.getInjector(), b.getInjector());
+			assertSame(a.getInjector(), c.getInjector());
+
+			// each manager has its own property set factory
+			assertNotSame(a.getPropertySetFactory(), b.getPropertySetFactory());
+			assertSame(first, getManager(a));
+			assertSame(second, getManager(b));
+			assertSame(manager, getManager(c));
+			assertSame(a.getPropertySetFactory(), first.find(uri, Scoped.class).getPropertySetFactory());
+		} finally {
+			first.close();
+			second.close();
+		}
+	}
+
+	@Test
+	public void testBehavioursOutsideOfCreation() throws Exception {
+		URI uri = URIs.createURI(NS + "lazy");
+		IEntityManager first = factory.create();
+		try {
+			Scoped bean = first.createNamed(uri, Scoped.class);
+			// the property behaviour is created and injected on first use
+			Thread thread = new Thread(() -> bean.setName("name"));
+			thread.start();
+			thread.join();
+			assertEquals("name", bean.getName());
+			assertEquals("name", manager.find(uri, Scoped.class).getName());
+		} finally {
+			first.close();
+		}
+	}
+
+	@Test
+	public void testScopedManager() throws Exception {
+		URI uri = URIs.createURI(NS + "scoped");
+		IEntityManager scoped = factory.create(manager);
+		try {
+			Scoped bean = scoped.createNamed(uri, Scoped.class);
+			assertSame(manager, getManager(bean));
+			assertSame(manager.find(uri, Scoped.class).getInjector(), bean.getInjector());
+		} finally {
+			scoped.close();
+		}
+	}
+}
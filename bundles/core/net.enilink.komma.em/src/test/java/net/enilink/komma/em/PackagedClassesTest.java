@@ -0,0 +1,278 @@
+/*******************************************************************************
+ * Copyright (c) 2026 Fraunhofer IWU and others.
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * Contributors:
+ *     Fraunhofer IWU - initial API and implementation
+ *******************************************************************************/
+package net.enilink.komma.em;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNotEquals;
+import static org.junit.Assert.assertNotNull;
+import static org.junit.Assert.assertTrue;
+
+import java.io.ByteArrayInputStream;
+import java.io.File;
+import java.io.InputStream;
+import java.lang.reflect.Method;
+import java.net.URL;
+import java.net.URLClassLoader;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.stream.Stream;
+
+import org.eclipse.rdf4j.repository.Repository;
+import org.eclipse.rdf4j.repository.sail.SailRepository;
+import org.eclipse.rdf4j.sail.memory.MemoryStore;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+import org.objectweb.asm.ClassWriter;
+import org.objectweb.asm.Opcodes;
+
+import com.google.inject.AbstractModule;
+import com.google.inject.Guice;
+import com.google.inject.Module;
+import com.google.inject.multibindings.Multibinder;
+import com.google.inject.name.Names;
+
+import net.enilink.composition.ClassDefiner;
+import net.enilink.composition.annotations.Iri;
+import net.enilink.composition.asm.BehaviourClassNode;
+import net.enilink.composition.asm.BehaviourMethodProcessor;
+import net.enilink.composition.asm.ExtendedMethod;
+import net.enilink.komma.core.IEntityManager;
+import net.enilink.komma.core.IEntityManagerFactory;
+import net.enilink.komma.core.IUnitOfWork;
+import net.enilink.komma.core.KommaModule;
+import net.enilink.komma.core.URIs;
+import net.enilink.komma.em.util.UnitOfWork;
+import net.enilink.komma.rdf4j.RDF4JModule;
+
+/**
+ * Tests that classes which were generated at build time are found and used
+ * instead of generating them again at runtime.
+ */
+public class PackagedClassesTest {
+	private static final String NS = "test:";
+
+	static final Set<Class<?>> processedClasses = ConcurrentHashMap.newKeySet();
+
+	@Rule
+	public TemporaryFolder folder = new TemporaryFolder();
+
+	@Iri(NS + "Concept")
+	public interface Concept {
+		String getName();
+	}
+
+	public static abstract class ConceptSupport implements Concept {
+	}
+
+	public static class RecordingProcessor implements BehaviourMethodProcessor {
+		@Override
+		public boolean implementsMethod(Class<?> targetClass, Method method) {
+			processedClasses.add(targetClass);
+			return false;
+		}
+
+		@Override
+		public boolean appliesTo(BehaviourClassNode classNode, ExtendedMethod method) {
+			return false;
+		}
+
+		@Override
+		public void initialize(BehaviourClassNode classNode) throws Exception {
+		}
+
+		@Override
+		public void process(BehaviourClassNode classNode, ExtendedMethod method) throws Exception {
+		}
+	}
+
+	/**
+	 * Creates a concept with an entity manager factory for the given class
+	 * loader and returns the class of the created bean.
+	 */
+	Class<?> createConcept(ClassLoader cl, File cacheDir, boolean recordProcessing) throws Exception {
+		KommaModule module = new KommaModule(cl);
+		module.addConcept(Concept.class);
+		module.addBehaviour(ConceptSupport.class);
+
+		Repository repository = new SailRepository(new MemoryStore());
+		repository.init();
+		IEntityManagerFactory factory = Guice.createInjector(new RDF4JModule(),
+				new EntityManagerFactoryModule(module, null, new DecoratingEntityManagerModule() {
+					@Override
+					public Module getCompositionModule() {
+						return new AbstractModule() {
+							@Override
+							protected void configure() {
+								if (recordProcessing) {
+									Multibinder.newSetBinder(binder(), BehaviourMethodProcessor.class).addBinding()
+											.to(RecordingProcessor.class);
+								}
+							}
+						};
+					}
+				}), new AbstractModule() {
+					@Override
+					protected void configure() {
+						UnitOfWork uow = new UnitOfWork();
+						uow.begin();
+
+						bind(UnitOfWork.class).toInstance(uow);
+						bind(IUnitOfWork.class).toInstance(uow);
+						bind(Repository.class).toInstance(repository);
+						if (cacheDir != null) {
+							bind(File.class).annotatedWith(Names.named(ManagerCompositionModule.CLASS_CACHE))
+									.toInstance(cacheDir);
+						}
+					}
+				}).getInstance(IEntityManagerFactory.class);
+		try {
+			IEntityManager manager = factory.create();
+			try {
+				return manager.createNamed(URIs.createURI(NS + "concept"), Concept.class).getClass();
+			} finally {
+				manager.close();
+			}
+		} finally {
+			factory.getUnitOfWork().end();
+			factory.close();
+			repository.shutDown();
+		}
+	}
+
+	/**
+	 * Returns the single version directory below <code>cacheDir</code>.
+	 */
+	File versionDir(File cacheDir) {
+		File[] versions = cacheDir.listFiles(File::isDirectory);
+		assertNotNull(versions);
+		assertEquals(1, versions.length);
+		return versions[0];
+	}
+
+	/**
+	 * Copies the generated classes to the packaged layout like the composite
+	 * class generator does.
+	 */
+	void packageClasses(File versionDir, Path target) throws Exception {
+		Path source = versionDir.toPath();
+		Path packaged = target.resolve(ClassDefiner.PACKAGED_CLASSES);
+		try (Stream<Path> files = Files.walk(source)) {
+			for (Path file : (Iterable<Path>) files::iterator) {
+				Path targetFile = packaged.resolve(versionDir.getName()).resolve(source.relativize(file).toString());
+				if (Files.isDirectory(file)) {
+					Files.createDirectories(targetFile);
+				} else {
+					Files.copy(file, targetFile);
+				}
+			}
+		}
+		Files.write(packaged.resolve("versions"), (versionDir.getName() + "\n").getBytes(StandardCharsets.UTF_8));
+	}
+
+	@Test
+	public void testPackagedClassesAreUsed() throws Exception {
+		File cacheDir = folder.newFolder("cache");
+		processedClasses.clear();
+		String generatedName = createConcept(new ClassLoader(getClass().getClassLoader()) {
+		}, cacheDir, true).getName();
+		assertTrue("Behaviour must be generated", processedClasses.contains(ConceptSupport.class));
+
+		Path packaged = folder.newFolder("packaged").toPath();
+		packageClasses(versionDir(cacheDir), packaged);
+
+		processedClasses.clear();
+		try (URLClassLoader cl = new URLClassLoader(new URL[] { packaged.toUri().toURL() },
+				getClass().getClassLoader())) {
+			Class<?> beanClass = createConcept(cl, null, true);
+			assertEquals(generatedName, beanClass.getName());
+			assertTrue(beanClass.getClassLoader() instanceof ClassDefiner);
+			assertFalse("Packaged behaviour must be used", processedClasses.contains(ConceptSupport.class));
+		}
+	}
+
+	@Test
+	public void testProcessorsChangeVersion() throws Exception {
+		File withProcessor = folder.newFolder("with");
+		File withoutProcessor = folder.newFolder("without");
+		createConcept(new ClassLoader(getClass().getClassLoader()) {
+		}, withProcessor, true);
+		createConcept(new ClassLoader(getClass().getClassLoader()) {
+		}, withoutProcessor, false);
+		assertNotEquals(versionDir(withProcessor).getName(), versionDir(withoutProcessor).getName());
+	}
+
+	/**
+	 * Class loader that defines classes from the given bytecode and also
+	 * returns it as class file resource.
+	 */
+	static class BytecodeClassLoader extends ClassLoader {
+		final Map<String, byte[]> classes;
+
+		BytecodeClassLoader(Map<String, byte[]> classes) {
+			super(PackagedClassesTest.class.getClassLoader());
+			this.classes = classes;
+		}
+
+		@Override
+		protected Class<?> findClass(String name) throws ClassNotFoundException {
+			byte[] bytes = classes.get(name);
+			if (bytes == null) {
+				throw new ClassNotFoundException(name);
+			}
+			return defineClass(name, bytes, 0, bytes.length);
+		}
+
+		@Override
+		public InputStream getResourceAsStream(String name) {
+			byte[] bytes = classes.get(name.replaceFirst("\\.class$", "").replace('/', '.'));
+			return bytes != null ? new ByteArrayInputStream(bytes) : super.getResourceAsStream(name);
+		}
+	}
+
+	/**
+	 * Creates the bytecode of an interface with a single getter.
+	 */
+	static byte[] createInterface(String name, String superInterface, String getter) {
+		ClassWriter cw = new ClassWriter(0);
+		cw.visit(Opcodes.V11, Opcodes.ACC_PUBLIC | Opcodes.ACC_ABSTRACT | Opcodes.ACC_INTERFACE,
+				name.replace('.', '/'), null, "java/lang/Object",
+				superInterface == null ? null : new String[] { superInterface.replace('.', '/') });
+		cw.visitMethod(Opcodes.ACC_PUBLIC | Opcodes.ACC_ABSTRACT, getter, "()Ljava/lang/String;", null, null)
+				.visitEnd();
+		cw.visitEnd();
+		return cw.toByteArray();
+	}
+
+	/**
+	 * Returns the class cache version for a role <code>test.Role</code> whose
+	 * super-interface <code>test.Base</code> declares the given getter.
+	 */
+	String versionWithBaseGetter(String getter) throws Exception {
+		ClassLoader cl = new BytecodeClassLoader(Map.of("test.Base", createInterface("test.Base", null, getter),
+				"test.Role", createInterface("test.Role", "test.Base", "getName")));
+		KommaModule module = new KommaModule(cl);
+		module.addConcept(cl.loadClass("test.Role"), NS + "Role");
+		return new ManagerCompositionModule(module).getClassCacheVersion(Guice.createInjector());
+	}
+
+	@Test
+	public void testSupertypesChangeVersion() throws Exception {
+		String version = versionWithBaseGetter("getFirst");
+		assertEquals(version, versionWithBaseGetter("getFirst"));
+		assertNotEquals(version, versionWithBaseGetter("getSecond"));
+	}
+}
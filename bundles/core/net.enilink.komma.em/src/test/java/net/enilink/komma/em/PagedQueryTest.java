@@ -0,0 +1,141 @@
+/*******************************************************************************
+ * Copyright (c) 2026 Fraunhofer IWU and others.
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * Contributors:
+ *     Fraunhofer IWU - initial API and implementation
+ *******************************************************************************/
+package net.enilink.komma.em;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+
+import java.util.List;
+
+import org.junit.Test;
+
+import net.enilink.composition.annotations.Iri;
+import net.enilink.komma.core.IEntity;
+import net.enilink.komma.core.KommaModule;
+import net.enilink.komma.core.URIs;
+import net.enilink.komma.core.URI;
+import net.enilink.komma.em.concepts.Person;
+import net.enilink.komma.rdf4j.ParsedQueryCache;
+
+public class PagedQueryTest extends EntityManagerTest {
+	private static final String NS = "test:";
+
+	@Iri(NS + "Employee")
+	public interface Employee {
+	}
+
+	protected KommaModule createModule() throws Exception {
+		KommaModule module = super.createModule();
+		module.addConcept(Person.class);
+		module.addConcept(Employee.class);
+		return module;
+	}
+
+	@Override
+	public void beforeTest() throws Exception {
+		super.beforeTest();
+		for (int i = 0; i < 25; i++) {
+			Person person = manager.createNamed(URIs.createURI(NS + "person" + (char) ('a' + i)), Person.class);
+			person.setName("person " + i);
+			if (i % 3 == 0) {
+				manager.assignTypes(person, Employee.class);
+			}
+		}
+		manager.create(Person.class).setName("anonymous");
+	}
+
+	@Test
+	public void testPagedResults() throws Exception {
+		String query = "SELECT ?s WHERE { ?s a <" + NS + "Person> } ORDER BY ?s";
+		List<?> expected = manager.createQuery(query).getResultList();
+		List<?> paged = manager.createQuery(query).setPageSize(10).getResultList();
+		assertEquals(26, expected.size());
+		assertEquals(expected, paged);
+		for (int i = 0; i < expected.size(); i++) {
+			assertEquals(expected.get(i).getClass(), paged.get(i).getClass());
+			assertTrue(paged.get(i) instanceof Person);
+		}
+		int employees = 0;
+		for (Object bean : paged) {
+			if (bean instanceof Employee) {
+				employees++;
+			}
+		}
+		assertEquals(9, employees);
+	}
+
+	@Test
+	public void testPagedResultsWithLimit() throws Exception {
+		String query = "SELECT ?s WHERE { ?s a <" + NS + "Person> } ORDER BY ?s";
+		List<?> paged = manager.createQuery(query).setPageSize(10).setFirstResult(5).setMaxResults(12)
+				.getResultList();
+		assertEquals(12, paged.size());
+		assertEquals(manager.createQuery(query).setFirstResult(5).setMaxResults(12).getResultList(), paged);
+	}
+
+	@Test
+	public void testStreamedResults() throws Exception {
+		String query = "CONSTRUCT { ?s a <komma:Result> . ?s <" + NS + "name> ?name } WHERE { ?s a <" + NS
+				+ "Person> ; <" + NS + "name> ?name } ORDER BY ?s";
+		List<Person> expected = manager.createQuery(query).evaluate(Person.class).toList();
+		List<Person> streamed = manager.createQuery(query).setStreaming(true).evaluate(Person.class).toList();
+		assertEquals(26, expected.size());
+		assertEquals(expected, streamed);
+		for (Person person : streamed) {
+			assertFalse(person.getName().isEmpty());
+		}
+		assertEquals(expected.subList(5, 10),
+				manager.createQuery(query).setStreaming(true).setFirstResult(5).setMaxResults(5)
+						.evaluate(Person.class).toList());
+	}
+
+	@Test
+	public void testTypeQueriesAreReused() throws Exception {
+		ParsedQueryCache queryCache = injector.getInstance(ParsedQueryCache.class);
+		String query = "SELECT ?s WHERE { ?s a <" + NS + "Person> } ORDER BY ?s";
+		assertEquals(26, manager.createQuery(query).setPageSize(10).getResultList().size());
+		long cached = queryCache.size();
+
+		for (int i = 0; i < 10; i++) {
+			manager.createNamed(URIs.createURI(NS + "other" + i), Person.class);
+		}
+		// other resources in each page must not lead to new queries
+		assertEquals(36, manager.createQuery(query).setPageSize(10).getResultList().size());
+		assertEquals(cached, queryCache.size());
+	}
+
+	@Test
+	public void testSpecialCharacters() throws Exception {
+		URI uri = URIs.createURI(NS + "person%3E%20a%7D?x=<y>");
+		manager.createNamed(uri, Person.class);
+		manager.assignTypes(manager.find(uri), Employee.class);
+		String query = "SELECT ?s WHERE { ?s a <" + NS + "Employee> } ORDER BY ?s";
+		List<?> expected = manager.createQuery(query).getResultList();
+		List<?> paged = manager.createQuery(query).setPageSize(4).getResultList();
+		assertEquals(10, paged.size());
+		assertEquals(expected, paged);
+		for (Object bean : paged) {
+			assertTrue(bean instanceof Employee);
+			assertTrue(bean instanceof Person);
+		}
+	}
+
+	@Test
+	public void testFindAll() throws Exception {
+		List<Person> persons = manager.findAll(Person.class).toList();
+		assertEquals(26, persons.size());
+		for (Person person : persons) {
+			assertFalse(person.getName().isEmpty());
+			assertTrue(person instanceof IEntity);
+		}
+	}
+}
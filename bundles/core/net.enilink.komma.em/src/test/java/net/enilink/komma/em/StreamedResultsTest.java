@@ -0,0 +1,127 @@
+/*******************************************************************************
+ * Copyright (c) 2026 Fraunhofer IWU and others.
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * Contributors:
+ *     Fraunhofer IWU - initial API and implementation
+ *******************************************************************************/
+package net.enilink.komma.em;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentLinkedQueue;
+
+import org.junit.Test;
+
+import com.google.inject.Module;
+
+import net.enilink.komma.core.IGraph;
+import net.enilink.komma.core.IReference;
+import net.enilink.komma.core.IStatement;
+import net.enilink.komma.core.KommaModule;
+import net.enilink.komma.core.LinkedHashGraph;
+import net.enilink.komma.core.Literal;
+import net.enilink.komma.core.Statement;
+import net.enilink.komma.core.URIs;
+import net.enilink.komma.em.concepts.Person;
+import net.enilink.komma.em.results.ResultDescriptor;
+
+/**
+ * Tests that streamed results of result descriptors are initialized only from
+ * their own statements.
+ */
+public class StreamedResultsTest extends EntityManagerTest {
+	private static final String NS = "test:";
+
+	static final Queue<RecordingGraph> graphs = new ConcurrentLinkedQueue<>();
+
+	/**
+	 * Records the added statements since the graphs are cleared after the
+	 * results have been initialized.
+	 */
+	public static class RecordingGraph extends LinkedHashGraph {
+		private static final long serialVersionUID = 1L;
+
+		final List<IStatement> added = new ArrayList<>();
+
+		public RecordingGraph() {
+			graphs.add(this);
+		}
+
+		@Override
+		public boolean add(IStatement st) {
+			added.add(st);
+			return super.add(st);
+		}
+	}
+
+	protected KommaModule createModule() throws Exception {
+		KommaModule module = super.createModule();
+		module.addConcept(Person.class);
+		return module;
+	}
+
+	@Override
+	protected Module createEntityManagerModule() {
+		return new DecoratingEntityManagerModule() {
+			@Override
+			protected void configure() {
+				super.configure();
+				bind(IGraph.class).to(RecordingGraph.class);
+			}
+		};
+	}
+
+	@Override
+	public void beforeTest() throws Exception {
+		super.beforeTest();
+		for (int i = 0; i < 10; i++) {
+			Person person = manager.createNamed(URIs.createURI(NS + "person" + i), Person.class);
+			person.setName("person " + (9 - i));
+			// a second value that interleaves the results if ordered by name
+			manager.add(new Statement((IReference) person, URIs.createURI(NS + "name"), new Literal("alias " + i)));
+		}
+		graphs.clear();
+	}
+
+	List<Person> evaluate(String query, boolean streaming) {
+		return ((ResultDescriptor<Person>) new ResultDescriptor<Person>(query).setStreaming(streaming)
+				.bindResultType(Person.class)).evaluate(manager).toList();
+	}
+
+	@Test
+	public void testMarkerNotFirst() throws Exception {
+		String query = "CONSTRUCT { ?s <" + NS + "name> ?name . ?s a <komma:Result> } WHERE { ?s <" + NS
+				+ "name> ?name }";
+		List<Person> streamed = evaluate(query, true);
+		assertEquals(10, streamed.size());
+		// the last graph remains empty at the end of the result
+		graphs.removeIf(graph -> graph.added.isEmpty());
+		assertEquals(10, graphs.size());
+		for (RecordingGraph graph : graphs) {
+			assertEquals("Each result must only contain its own statements", 1,
+					new LinkedHashGraph(graph.added).subjects().size());
+			assertEquals(2, graph.added.size());
+		}
+	}
+
+	@Test
+	public void testForeignOrderBy() throws Exception {
+		String query = "CONSTRUCT { ?s a <komma:Result> . ?s <" + NS + "name> ?name } WHERE { ?s <" + NS
+				+ "name> ?name } ORDER BY ?name";
+		List<Person> expected = evaluate(query, false);
+		graphs.clear();
+		List<Person> streamed = evaluate(query, true);
+		assertEquals(10, streamed.size());
+		assertEquals(expected, streamed);
+		assertEquals(URIs.createURI(NS + "person0"), ((IReference) streamed.get(0)).getURI());
+		assertTrue("The whole result must be read into one graph", graphs.size() <= 1);
+	}
+}
@@ -0,0 +1,112 @@
+package net.enilink.komma.em;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.stream.Collectors;
+
+import org.junit.Test;
+
+import com.google.inject.Module;
+import com.google.inject.util.Modules;
+
+import net.enilink.komma.core.Literal;
+import net.enilink.komma.core.Statement;
+import net.enilink.komma.core.StatementPattern;
+import net.enilink.komma.core.URI;
+import net.enilink.komma.core.URIs;
+import net.enilink.komma.dm.IDataManager;
+import net.enilink.komma.dm.IDataManagerFactory;
+import net.enilink.komma.dm.change.IDataChangeSupport;
+import net.enilink.komma.em.util.TextIndex;
+import net.enilink.vocab.rdfs.RDFS;
+
+public class TextIndexTest extends EntityManagerTest {
+	private static final String NS = "test:";
+
+	@Override
+	protected Module createStorageModule() {
+		return Modules.combine(super.createStorageModule(), new TextIndexModule());
+	}
+
+	URI uri(String name) {
+		return URIs.createURI(NS + name);
+	}
+
+	List<String> find(String pattern) {
+		return index().find(pattern, null, null, 10).stream().map(URI::localPart).sorted()
+				.collect(Collectors.toList());
+	}
+
+	TextIndex index() {
+		return injector.getInstance(TextIndex.class);
+	}
+
+	@Test
+	public void testSearchable() {
+		assertTrue(TextIndex.isSearchable("ab*c"));
+		assertFalse(TextIndex.isSearchable(""));
+		assertFalse(TextIndex.isSearchable("*abc"));
+		assertFalse(TextIndex.isSearchable("ns#abc"));
+	}
+
+	@Test
+	public void testFind() {
+		manager.add(new Statement(uri("Person"), RDFS.PROPERTY_LABEL, "Human being"));
+		manager.add(new Statement(uri("PersonGroup"), RDFS.PROPERTY_COMMENT, "A group of persons"));
+		manager.add(new Statement(uri("Organization"), RDFS.PROPERTY_LABEL, "Company"));
+
+		assertEquals(Arrays.asList("Person", "PersonGroup"), find("Pers"));
+		assertEquals(Arrays.asList("Person"), find("Hum"));
+		assertEquals(Arrays.asList("PersonGroup"), find("P*G"));
+		assertEquals(Arrays.asList("Organization"), find("Org?ni"));
+		assertEquals(Collections.emptyList(), find("pers"));
+		assertEquals(Collections.emptyList(), index().find("Pers", "http:", null, 10));
+
+		// the index is updated incrementally
+		manager.add(new Statement(uri("Team"), RDFS.PROPERTY_LABEL, "Humans"));
+		assertEquals(Arrays.asList("Person", "Team"), find("Hum"));
+		manager.remove(new Statement(uri("Person"), RDFS.PROPERTY_LABEL, "Human being"));
+		assertEquals(Arrays.asList("Team"), find("Hum"));
+		manager.remove(Collections.singletonList(new StatementPattern(uri("Team"), RDFS.PROPERTY_LABEL, null)));
+		assertEquals(Collections.emptyList(), find("Hum"));
+	}
+
+	@Test
+	public void testWildcardRemoval() {
+		manager.add(new Statement(uri("Person"), RDFS.PROPERTY_LABEL, "Human being"));
+		manager.add(new Statement(uri("Team"), RDFS.PROPERTY_LABEL, "Humans"));
+		assertEquals(Arrays.asList("Person", "Team"), find("Hum"));
+
+		// removals of labels for arbitrary subjects are applied incrementally
+		manager.remove(Collections.singletonList(new StatementPattern(null, RDFS.PROPERTY_LABEL, null)));
+		assertEquals(Collections.emptyList(), find("Hum"));
+		manager.add(new Statement(uri("Team"), RDFS.PROPERTY_LABEL, "Humans"));
+		assertEquals(Arrays.asList("Team"), find("Hum"));
+	}
+
+	@Test
+	public void testUntrackedChanges() {
+		manager.add(new Statement(uri("Person"), RDFS.PROPERTY_LABEL, "Human being"));
+		assertEquals(Arrays.asList("Person"), find("Hum"));
+
+		// add data without tracking the changes like a model that is loaded
+		URI graph = uri("graph");
+		IDataManager dm = injector.getInstance(IDataManagerFactory.class).get();
+		try {
+			injector.getInstance(IDataChangeSupport.class).setEnabled(dm, false);
+			dm.add(Collections.singletonList(new Statement(uri("Team"), RDFS.PROPERTY_LABEL, new Literal("Humans"))),
+					graph);
+		} finally {
+			dm.close();
+		}
+		index().invalidate(graph);
+
+		assertEquals(Arrays.asList("Person", "Team"), find("Hum"));
+		assertEquals(Arrays.asList(uri("Team")), index().find("Hum", null, graph, 10));
+	}
+}
@@ -89,4 +89,15 @@ public class ResultDescriptorTest {
 		Assert.assertTrue(query.contains("?subClass a <komma:Result>"));
 		Assert.assertTrue(query.matches(".*\\?subClass\\s+<komma:hasNamedSubClasses>\\s+\\?.*"));
 	}
+
+	@Test
+	public void testStreamingQuery() {
+		String selectSubClasses = PREFIX + "SELECT ?subClass { ?subClass rdfs:subClassOf ?superClass } LIMIT 10";
+		String query = new ResultDescriptor<IClass>(selectSubClasses).setStreaming(true).toQueryString();
+		Assert.assertTrue(query.matches("(?is).*order by \\?subClass\\s+limit 10\\s*"));
+
+		String ordered = PREFIX + "SELECT ?subClass { ?subClass rdfs:subClassOf ?superClass } ORDER BY ?superClass";
+		query = new ResultDescriptor<IClass>(ordered).setStreaming(true).toQueryString();
+		Assert.assertFalse(query.contains("order by ?subClass"));
+	}
 }
\ No newline at end of file
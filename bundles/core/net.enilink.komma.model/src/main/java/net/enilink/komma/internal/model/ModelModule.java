@@ -3,6 +3,9 @@ package net.enilink.komma.internal.model;
 import net.enilink.komma.core.KommaModule;
 import net.enilink.komma.model.IModel;
 import net.enilink.komma.model.IModelSet;
+import net.enilink.komma.model.base.CompactGraphModelSetSupport;
+import net.enilink.komma.model.base.HierarchyIndexModelSetSupport;
+import net.enilink.komma.model.base.TextIndexModelSetSupport;
 import net.enilink.komma.model.rdf4j.MemoryModelSetSupport;
 import net.enilink.komma.model.rdf4j.PersistentModelSetSupport;
 import net.enilink.komma.model.rdf4j.InjectedRepositoryModelSetSupport;
@@ -30,5 +33,8 @@ public class ModelModule extends KommaModule {
 		addBehaviour(InjectedRepositoryModelSetSupport.class);
 		addBehaviour(RepositoryModelSet.class);
 		addBehaviour(RepositoryManagerModelSet.class);
+		addBehaviour(TextIndexModelSetSupport.class);
+		addBehaviour(CompactGraphModelSetSupport.class);
+		addBehaviour(HierarchyIndexModelSetSupport.class);
 	}
 }
\ No newline at end of file
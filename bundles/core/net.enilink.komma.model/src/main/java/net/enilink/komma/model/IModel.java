@@ -91,6 +91,20 @@ public interface IModel {
 	 */
 	String OPTION_CHARSET = "CHARSET";
 
+	/**
+	 * A load option that enables the bulk-load mode if set to
+	 * {@link Boolean#TRUE}. The data is directly added to the underlying
+	 * repository in large batches without tracking the individual changes.
+	 * Instead, a single {@link net.enilink.komma.model.event.IModelNotification
+	 * model notification} is fired after the model was loaded.
+	 * <p>
+	 * This option can also be set within the {@link IModelSet#getLoadOptions()
+	 * load options} of a model set to use bulk-loading for all models. The
+	 * options that are passed to a load method are merged with and take
+	 * precedence over the load options of the model set.
+	 */
+	String OPTION_BULK_LOAD = "BULK_LOAD";
+
 	/**
 	 * Adds an import to the model
 	 * 
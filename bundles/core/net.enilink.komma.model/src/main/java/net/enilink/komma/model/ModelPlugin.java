@@ -43,6 +43,7 @@ import net.enilink.komma.model.base.ModelFactoryRegistry;
 import net.enilink.komma.model.base.ModelSetSupport;
 import net.enilink.komma.model.base.ModelSupport;
 import net.enilink.komma.model.base.URIMapRuleSet;
+import net.enilink.komma.model.rdf4j.StatementPipeline;
 import net.enilink.komma.model.validation.Diagnostician;
 import net.enilink.komma.model.validation.IValidator;
 import net.enilink.komma.model.validation.ValidatorRegistry;
@@ -261,6 +262,8 @@ public class ModelPlugin extends AbstractKommaPlugin {
 				contentTypeManagerTracker.close();
 				contentTypeManagerTracker = null;
 			}
+			// stop threads that are used for loading models
+			StatementPipeline.shutdown();
 			super.stop(ctx);
 		}
 		
@@ -18,6 +18,7 @@ import java.util.List;
 import java.util.Locale;
 import java.util.Map;
 import java.util.Optional;
+import java.util.Set;
 import java.util.regex.Pattern;
 
 import org.eclipse.core.runtime.QualifiedName;
@@ -43,6 +44,10 @@ import org.eclipse.rdf4j.rio.RDFWriterRegistry;
 import org.eclipse.rdf4j.rio.Rio;
 import org.eclipse.rdf4j.rio.helpers.BasicWriterSettings;
 
+import com.google.inject.Binding;
+import com.google.inject.Key;
+import com.google.inject.TypeLiteral;
+
 import net.enilink.komma.common.util.BasicDiagnostic;
 import net.enilink.komma.common.util.Diagnostic;
 import net.enilink.komma.core.BlankNode;
@@ -57,6 +62,7 @@ import net.enilink.komma.core.URI;
 import net.enilink.komma.core.URIs;
 import net.enilink.komma.core.visitor.IDataAndNamespacesVisitor;
 import net.enilink.komma.core.visitor.IDataVisitor;
+import net.enilink.komma.em.util.IDataIndex;
 import net.enilink.komma.rdf4j.RDF4JValueConverter;
 import net.enilink.vocab.rdf.Property;
 import net.enilink.vocab.rdfs.Class;
@@ -501,6 +507,27 @@ public class ModelUtil {
 		return mimeTypes;
 	}
 
+	/**
+	 * Notifies the data indexes of a model set that the data of the given
+	 * context has been changed without tracking the changes, e.g. while a
+	 * model is loaded.
+	 * 
+	 * @param modelSet
+	 *            The model set
+	 * @param context
+	 *            The changed context
+	 */
+	public static void invalidateIndexes(IModelSet modelSet, IReference context) {
+		Binding<Set<IDataIndex>> binding = ((IModelSet.Internal) modelSet).getInjector()
+				.getExistingBinding(Key.get(new TypeLiteral<Set<IDataIndex>>() {
+				}));
+		if (binding != null) {
+			for (IDataIndex index : binding.getProvider().get()) {
+				index.invalidate(context);
+			}
+		}
+	}
+
 	/**
 	 * Returns the MIME-type for the given content description.
 	 * 
@@ -575,32 +602,10 @@ public class ModelUtil {
 	public static <V extends IDataVisitor<?>> void readData(InputStream in,
 			String baseURI, String mimeType, final boolean preserveBNodeIDs,
 			final V dataVisitor) {
-		if (mimeType == null && !in.markSupported()) {
-			in = new BufferedInputStream(in);
-		}
-		ValueFactory valueFactory = new SimpleValueFactory() {
-			@Override
-			public synchronized BNode createBNode() {
-				return super.createBNode(BlankNode.generateId("new-")
-						.substring(2));
-			}
-
-			@Override
-			public synchronized BNode createBNode(String nodeID) {
-				if (preserveBNodeIDs) {
-					return super.createBNode(nodeID);
-				} else {
-					return super.createBNode("new-" + nodeID);
-				}
-			}
-		};
 		final RDF4JValueConverter valueConverter = new RDF4JValueConverter(
-				valueFactory);
+				SimpleValueFactory.getInstance());
 		final boolean handleNamespaces = dataVisitor instanceof IDataAndNamespacesVisitor<?>;
-		RDFParser parser = Rio.createParser(determineFormat(mimeType, in),
-				valueFactory);
-		parser.setPreserveBNodeIDs(preserveBNodeIDs);
-		parser.setRDFHandler(new RDFHandler() {
+		readRdf4jData(in, baseURI, mimeType, preserveBNodeIDs, new RDFHandler() {
 			@Override
 			public void endRDF() throws RDFHandlerException {
 				dataVisitor.visitEnd();
@@ -637,6 +642,53 @@ public class ModelUtil {
 				dataVisitor.visitBegin();
 			}
 		});
+	}
+
+	/**
+	 * Read data from an input stream and forward the RDF4J statements as-is
+	 * to an {@link RDFHandler}.
+	 * <p>
+	 * Blank nodes are created in the same way as by
+	 * {@link #readData(InputStream, String, String, boolean, IDataVisitor)}.
+	 * 
+	 * @param in
+	 *            An input stream for the document content
+	 * @param baseURI
+	 *            A base URI for the resolution of relative URIs
+	 * @param mimeType
+	 *            The MIME-type of the document
+	 * @param preserveBNodeIDs
+	 *            Control if blank node IDs should be preserved or new ones
+	 *            should be generated
+	 * @param handler
+	 *            The handler which should consume the data
+	 */
+	public static void readRdf4jData(InputStream in, String baseURI,
+			String mimeType, final boolean preserveBNodeIDs,
+			RDFHandler handler) {
+		if (mimeType == null && !in.markSupported()) {
+			in = new BufferedInputStream(in);
+		}
+		ValueFactory valueFactory = new SimpleValueFactory() {
+			@Override
+			public synchronized BNode createBNode() {
+				return super.createBNode(BlankNode.generateId("new-")
+						.substring(2));
+			}
+
+			@Override
+			public synchronized BNode createBNode(String nodeID) {
+				if (preserveBNodeIDs) {
+					return super.createBNode(nodeID);
+				} else {
+					return super.createBNode("new-" + nodeID);
+				}
+			}
+		};
+		RDFParser parser = Rio.createParser(determineFormat(mimeType, in),
+				valueFactory);
+		parser.setPreserveBNodeIDs(preserveBNodeIDs);
+		parser.setRDFHandler(handler);
 
 		try {
 			parser.parse(in, baseURI);
@@ -0,0 +1,40 @@
+/*******************************************************************************
+ * Copyright (c) 2026 Fraunhofer IWU and others.
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * Contributors:
+ *     Fraunhofer IWU - initial API and implementation
+ *******************************************************************************/
+package net.enilink.komma.model.base;
+
+import java.util.Collection;
+
+import com.google.inject.AbstractModule;
+import com.google.inject.Module;
+
+import net.enilink.composition.annotations.Iri;
+import net.enilink.komma.core.CompactGraph;
+import net.enilink.komma.core.IGraph;
+import net.enilink.komma.model.IModelSet;
+import net.enilink.komma.model.MODELS;
+
+/**
+ * Uses a {@link CompactGraph} for the statements of query results that
+ * initialize the beans of model sets with this type. This reduces the memory
+ * that is required for large prefetch queries.
+ */
+@Iri(MODELS.NAMESPACE + "CompactGraphModelSet")
+public abstract class CompactGraphModelSetSupport implements IModelSet, IModelSet.Internal {
+	@Override
+	public void collectInjectionModules(Collection<Module> modules, IGraph config) {
+		modules.add(new AbstractModule() {
+			@Override
+			protected void configure() {
+				bind(IGraph.class).to(CompactGraph.class);
+			}
+		});
+	}
+}
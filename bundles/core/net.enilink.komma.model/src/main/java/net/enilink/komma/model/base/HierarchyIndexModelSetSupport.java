@@ -0,0 +1,37 @@
+/*******************************************************************************
+ * Copyright (c) 2026 Fraunhofer IWU and others.
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * Contributors:
+ *     Fraunhofer IWU - initial API and implementation
+ *******************************************************************************/
+package net.enilink.komma.model.base;
+
+import java.util.Collection;
+
+import com.google.inject.Module;
+
+import net.enilink.composition.annotations.Iri;
+import net.enilink.komma.core.IGraph;
+import net.enilink.komma.em.HierarchyIndexModule;
+import net.enilink.komma.em.util.HierarchyIndex;
+import net.enilink.komma.model.IModelSet;
+import net.enilink.komma.model.MODELS;
+
+/**
+ * Adds a {@link HierarchyIndex} to model sets of this type that is used to
+ * answer class and property hierarchy requests without querying the store.
+ * <p>
+ * The index keeps the hierarchies of all classes and properties in memory,
+ * hence it must be enabled explicitly by adding this type to a model set.
+ */
+@Iri(MODELS.NAMESPACE + "HierarchyIndexModelSet")
+public abstract class HierarchyIndexModelSetSupport implements IModelSet, IModelSet.Internal {
+	@Override
+	public void collectInjectionModules(Collection<Module> modules, IGraph config) {
+		modules.add(new HierarchyIndexModule());
+	}
+}
@@ -15,15 +15,23 @@ import java.util.ArrayList;
 import java.util.Collection;
 import java.util.HashMap;
 import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
 import java.util.List;
 import java.util.Locale;
 import java.util.Map;
 import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
 import java.util.concurrent.CopyOnWriteArraySet;
+import java.util.concurrent.Executor;
 import java.util.concurrent.atomic.AtomicReference;
 
 import com.google.inject.*;
 import com.google.inject.Module;
+import com.google.inject.name.Named;
 import net.enilink.commons.util.extensions.RegistryFactoryHelper;
 import net.enilink.composition.properties.PropertySetFactory;
 import net.enilink.composition.traits.Behaviour;
@@ -39,6 +47,7 @@ import net.enilink.komma.dm.IDataManagerFactory;
 import net.enilink.komma.dm.change.IDataChange;
 import net.enilink.komma.dm.change.IDataChangeListener;
 import net.enilink.komma.dm.change.IDataChangeSupport;
+import net.enilink.komma.dm.change.IGraphChange;
 import net.enilink.komma.dm.change.INamespaceChange;
 import net.enilink.komma.dm.change.IStatementChange;
 import net.enilink.komma.em.CacheModule;
@@ -51,7 +60,9 @@ import net.enilink.komma.model.IModelSet;
 import net.enilink.komma.model.IURIConverter;
 import net.enilink.komma.model.ModelPlugin;
 import net.enilink.komma.model.concepts.ModelSet;
+import net.enilink.komma.model.event.IModelNotification;
 import net.enilink.komma.model.event.IStatementNotification;
+import net.enilink.komma.model.event.ModelNotification;
 import net.enilink.komma.model.event.NamespaceNotification;
 import net.enilink.komma.model.event.StatementNotification;
 
@@ -84,6 +95,18 @@ import org.slf4j.LoggerFactory;
 public abstract class ModelSetSupport implements IModelSet.Internal, ModelSet, Behaviour<IModelSet.Internal> {
 	private final static Logger log = LoggerFactory.getLogger(ModelSetSupport.class);
 
+	/**
+	 * Name of an optional {@link Executor} binding that is used to notify
+	 * subject listeners in parallel.
+	 */
+	public static final String NOTIFICATION_EXECUTOR = "net.enilink.komma.model.notificationExecutor";
+
+	/**
+	 * The minimal number of subject listeners that need to be notified before
+	 * the {@link #NOTIFICATION_EXECUTOR} is used.
+	 */
+	protected static final int PARALLEL_NOTIFICATION_THRESHOLD = 16;
+
 	/**
 	 * Represents the transient state of this resource
 	 */
@@ -123,7 +146,17 @@ public abstract class ModelSetSupport implements IModelSet.Internal, ModelSet, B
 
 		protected NotificationSupport<INotification> notificationSupport = new NotificationSupport<>();
 
-		protected Map<IReference, CopyOnWriteArraySet<INotificationListener<INotification>>> subjectListeners = new HashMap<>();
+		/**
+		 * Index of listeners by subject, allows lock-free lookups while
+		 * notifications are dispatched.
+		 */
+		protected final ConcurrentMap<IReference, CopyOnWriteArraySet<INotificationListener<INotification>>> subjectListeners = new ConcurrentHashMap<>();
+
+		/**
+		 * Optional executor for the parallel notification of subject
+		 * listeners.
+		 */
+		protected volatile Executor notificationExecutor;
 
 		protected Injector injector;
 
@@ -216,12 +249,14 @@ public abstract class ModelSetSupport implements IModelSet.Internal, ModelSet, B
 
 	@Override
 	public void addSubjectListener(IReference subject, INotificationListener<INotification> listener) {
-		CopyOnWriteArraySet<INotificationListener<INotification>> listeners;
-		Map<IReference, CopyOnWriteArraySet<INotificationListener<INotification>>> subjectListeners = state().subjectListeners;
-		synchronized (subjectListeners) {
-			listeners = subjectListeners.computeIfAbsent(subject, k -> new CopyOnWriteArraySet<>());
-		}
-		listeners.add(listener);
+		// compute is atomic with respect to the removal of empty listener sets
+		state().subjectListeners.compute(subject, (k, listeners) -> {
+			if (listeners == null) {
+				listeners = new CopyOnWriteArraySet<>();
+			}
+			listeners.add(listener);
+			return listeners;
+		});
 	}
 
 	@Override
@@ -346,53 +381,86 @@ public abstract class ModelSetSupport implements IModelSet.Internal, ModelSet, B
 	public void fireNotifications(Collection<? extends INotification> notifications) {
 		state().notificationSupport.fireNotifications(notifications);
 
-		Map<IReference, CopyOnWriteArraySet<INotificationListener<INotification>>> subjectListeners = state().subjectListeners;
-
 		// notify subject listeners if required
-		synchronized (subjectListeners) {
-			if (subjectListeners.isEmpty()) {
-				return;
-			}
+		Map<IReference, CopyOnWriteArraySet<INotificationListener<INotification>>> subjectListeners = state().subjectListeners;
+		if (subjectListeners.isEmpty()) {
+			return;
 		}
 
 		Map<Object, List<INotification>> groupedNotifications = null;
 		for (INotification notification : notifications) {
 			Object subject = notification.getSubject();
-			boolean notify;
-			synchronized (subjectListeners) {
-				notify = subjectListeners.containsKey(subject);
-			}
-			if (notify) {
+			if (subject != null && subjectListeners.containsKey(subject)) {
 				groupedNotifications = addNotification(groupedNotifications, notification, subject);
 			}
 			// also send notifications for objects of statements
 			if (notification instanceof IStatementNotification) {
-				subject = ((IStatementNotification) notification).getObject();
-				synchronized (subjectListeners) {
-					notify = subjectListeners.containsKey(subject);
-				}
-				if (notify) {
-					groupedNotifications = addNotification(groupedNotifications, notification, subject);
+				Object object = ((IStatementNotification) notification).getObject();
+				if (object != null && !object.equals(subject) && subjectListeners.containsKey(object)) {
+					groupedNotifications = addNotification(groupedNotifications, notification, object);
 				}
 			}
 		}
-		if (groupedNotifications != null) {
-			for (Map.Entry<Object, List<INotification>> entry : groupedNotifications.entrySet()) {
-				Collection<INotificationListener<INotification>> listeners;
-				synchronized (subjectListeners) {
-					listeners = subjectListeners.get(entry.getKey());
-				}
-				if (listeners != null) {
-					List<INotification> cache = new ArrayList<INotification>();
-					for (INotificationListener<INotification> listener : listeners) {
-						Collection<INotification> filtered = FilterUtil.select(notifications, listener.getFilter(), cache);
-						if (!filtered.isEmpty()) {
-							listener.notifyChanged(entry.getValue());
-						}
+		if (groupedNotifications == null) {
+			return;
+		}
+
+		// filter each group for its own listeners and collect all
+		// notifications for a listener into one batch
+		Map<INotificationListener<INotification>, Collection<INotification>> batches = new LinkedHashMap<>();
+		List<INotification> cache = new ArrayList<>();
+		for (Map.Entry<Object, List<INotification>> entry : groupedNotifications.entrySet()) {
+			Collection<INotificationListener<INotification>> listeners = subjectListeners.get(entry.getKey());
+			if (listeners == null) {
+				continue;
+			}
+			for (INotificationListener<INotification> listener : listeners) {
+				Collection<INotification> filtered = FilterUtil.select(entry.getValue(), listener.getFilter(), cache);
+				if (!filtered.isEmpty()) {
+					Collection<INotification> batch = batches.get(listener);
+					if (batch == null) {
+						// the same notification may be contained in the groups
+						// of its subject and its object
+						batches.put(listener, batch = new LinkedHashSet<>(filtered));
+					} else {
+						batch.addAll(filtered);
 					}
 				}
 			}
 		}
+		deliverNotifications(batches);
+	}
+
+	/**
+	 * Delivers the batched notifications to the subject listeners. If a
+	 * {@link #NOTIFICATION_EXECUTOR} is configured and many listeners are
+	 * affected then the listeners are notified in parallel. This method
+	 * returns after all listeners have been notified.
+	 */
+	protected void deliverNotifications(Map<INotificationListener<INotification>, Collection<INotification>> batches) {
+		Executor executor = state().notificationExecutor;
+		if (executor == null || batches.size() < PARALLEL_NOTIFICATION_THRESHOLD) {
+			batches.forEach((listener, batch) -> listener.notifyChanged(batch));
+			return;
+		}
+		List<CompletableFuture<Void>> futures = new ArrayList<>(batches.size());
+		batches.forEach((listener, batch) -> futures
+				.add(CompletableFuture.runAsync(() -> listener.notifyChanged(batch), executor)));
+		try {
+			CompletableFuture.allOf(futures.toArray(new CompletableFuture[0])).join();
+		} catch (CompletionException e) {
+			if (e.getCause() instanceof RuntimeException) {
+				throw (RuntimeException) e.getCause();
+			} else if (e.getCause() instanceof Error) {
+				throw (Error) e.getCause();
+			}
+			throw e;
+		}
+	}
+
+	@Inject(optional = true)
+	protected void setNotificationExecutor(@Named(NOTIFICATION_EXECUTOR) Executor executor) {
+		state().notificationExecutor = executor;
 	}
 
 	/*
@@ -583,7 +651,7 @@ public abstract class ModelSetSupport implements IModelSet.Internal, ModelSet, B
 				bind(IModelSet.Internal.class).toProvider(modelSetRef::get);
 			}
 		});
-		Injector modelSetInjector = injector.getParent().getParent().createChildInjector(modules);
+		Injector modelSetInjector = getFactoryInjector().getParent().createChildInjector(modules);
 
 		IModelSet.Internal result = getBehaviourDelegate();
 
@@ -611,6 +679,20 @@ public abstract class ModelSetSupport implements IModelSet.Internal, ModelSet, B
 		return result;
 	}
 
+	/**
+	 * Returns the injector that binds the entity manager factory of this model
+	 * set. The injector of the model set's entity manager is one of its
+	 * descendants.
+	 */
+	private Injector getFactoryInjector() {
+		Key<IEntityManagerFactory> factoryKey = Key.get(IEntityManagerFactory.class);
+		Injector factoryInjector = injector;
+		while (!factoryInjector.getBindings().containsKey(factoryKey) && factoryInjector.getParent() != null) {
+			factoryInjector = factoryInjector.getParent();
+		}
+		return factoryInjector;
+	}
+
 	/**
 	 * Initializes the injector that is used within models.
 	 */
@@ -631,15 +713,11 @@ public abstract class ModelSetSupport implements IModelSet.Internal, ModelSet, B
 
 	@Override
 	public void removeSubjectListener(IReference subject, INotificationListener<INotification> listener) {
-		Map<IReference, CopyOnWriteArraySet<INotificationListener<INotification>>> subjectListeners = state().subjectListeners;
-
-		CopyOnWriteArraySet<INotificationListener<INotification>> listeners;
-		synchronized (subjectListeners) {
-			listeners = subjectListeners.get(subject);
-		}
-		if (listeners != null) {
+		// remove the listener set if it becomes empty
+		state().subjectListeners.computeIfPresent(subject, (k, listeners) -> {
 			listeners.remove(listener);
-		}
+			return listeners.isEmpty() ? null : listeners;
+		});
 	}
 
 	public void setDataChangeSupport(IDataChangeSupport changeSupport) {
@@ -663,6 +741,13 @@ public abstract class ModelSetSupport implements IModelSet.Internal, ModelSet, B
 						if (OWL.PROPERTY_IMPORTS.equals(stmt.getPredicate())) {
 							importsModified.add(stmt.getSubject());
 						}
+					} else if (change instanceof IGraphChange graphChange) {
+						// the affected statements are unknown and may include
+						// owl:imports
+						for (IReference graph : affectedGraphs(graphChange)) {
+							modifiedModels.add(graph);
+							importsModified.add(graph);
+						}
 					}
 				}
 				for (IReference modifiedModel : modifiedModels) {
@@ -712,6 +797,13 @@ public abstract class ModelSetSupport implements IModelSet.Internal, ModelSet, B
 				notifications.add((INotification) change);
 			} else if (change instanceof INamespaceChange nsChange) {
 				notifications.add(new NamespaceNotification(nsChange.getPrefix(), nsChange.getOldNS(), nsChange.getNewNS()));
+			} else if (change instanceof IGraphChange graphChange) {
+				for (IReference graph : affectedGraphs(graphChange)) {
+					IModel model = graph.getURI() != null ? getModel(graph.getURI(), false) : null;
+					if (model != null) {
+						notifications.add(new ModelNotification(IModelNotification.Kind.RELOADED, model));
+					}
+				}
 			} else {
 				IStatementChange stmtChange = (IStatementChange) change;
 				notifications.add(new StatementNotification(getBehaviourDelegate(), stmtChange.isAdd(), stmtChange.getStatement()));
@@ -719,4 +811,19 @@ public abstract class ModelSetSupport implements IModelSet.Internal, ModelSet, B
 		}
 		return notifications;
 	}
+
+	/**
+	 * Returns the named graphs whose contents are changed by the given graph
+	 * change.
+	 */
+	protected List<IReference> affectedGraphs(IGraphChange change) {
+		List<IReference> graphs = new ArrayList<>(2);
+		if (change.getTarget() != null) {
+			graphs.add(change.getTarget());
+		}
+		if (change.getOperation() == IGraphChange.Operation.MOVE && change.getSource() != null) {
+			graphs.add(change.getSource());
+		}
+		return graphs;
+	}
 }
@@ -1007,6 +1007,9 @@ public abstract class ModelSupport
 					dm.getTransaction().rollback();
 				}
 				dm.close();
+				// the data has been moved without tracking the changes
+				ModelUtil.invalidateIndexes(getModelSet(), oldURI);
+				ModelUtil.invalidateIndexes(getModelSet(), uri);
 			}
 			// rename model in meta data
 			getEntityManager().rename(this, uri);
@@ -1027,6 +1030,7 @@ public abstract class ModelSupport
 				doUnload();
 			} finally {
 				// setTimeStamp(IURIConverter.NULL_TIME_STAMP);
+				ModelUtil.invalidateIndexes(getModelSet(), getURI());
 			}
 		}
 		state.remove();
@@ -0,0 +1,37 @@
+/*******************************************************************************
+ * Copyright (c) 2026 Fraunhofer IWU and others.
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * Contributors:
+ *     Fraunhofer IWU - initial API and implementation
+ *******************************************************************************/
+package net.enilink.komma.model.base;
+
+import java.util.Collection;
+
+import com.google.inject.Module;
+
+import net.enilink.composition.annotations.Iri;
+import net.enilink.komma.core.IGraph;
+import net.enilink.komma.em.TextIndexModule;
+import net.enilink.komma.em.util.TextIndex;
+import net.enilink.komma.model.IModelSet;
+import net.enilink.komma.model.MODELS;
+
+/**
+ * Adds a {@link TextIndex} to model sets of this type that is used to find
+ * resources by their names and labels without scanning the store.
+ * <p>
+ * The index keeps the names and labels of all resources in memory, hence it
+ * must be enabled explicitly by adding this type to a model set.
+ */
+@Iri(MODELS.NAMESPACE + "TextIndexModelSet")
+public abstract class TextIndexModelSetSupport implements IModelSet, IModelSet.Internal {
+	@Override
+	public void collectInjectionModules(Collection<Module> modules, IGraph config) {
+		modules.add(new TextIndexModule());
+	}
+}
@@ -21,6 +21,7 @@ import org.eclipse.core.runtime.Status;
 
 import net.enilink.komma.dm.IDataManager;
 import net.enilink.komma.dm.change.IDataChange;
+import net.enilink.komma.dm.change.IGraphChange;
 import net.enilink.komma.model.IModelSet;
 import net.enilink.komma.core.KommaException;
 
@@ -111,6 +112,12 @@ public class ChangeDescription implements IChangeDescription {
 
 	@Override
 	public boolean canUndo() {
+		// graph operations executed by the store can not be reversed
+		for (IDataChange change : changes) {
+			if (change instanceof IGraphChange) {
+				return false;
+			}
+		}
 		return true;
 	}
 
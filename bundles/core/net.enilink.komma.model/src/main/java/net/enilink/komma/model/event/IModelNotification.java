@@ -0,0 +1,42 @@
+/*******************************************************************************
+ * Copyright (c) 2026 Fraunhofer IWU and others.
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * Contributors:
+ *     Fraunhofer IWU - initial API and implementation
+ *******************************************************************************/
+package net.enilink.komma.model.event;
+
+import net.enilink.komma.common.notify.INotification;
+import net.enilink.komma.model.IModel;
+
+/**
+ * A coarse-grained notification about a change that affects the whole
+ * contents of a model.
+ */
+public interface IModelNotification extends INotification {
+	enum Kind {
+		/**
+		 * The contents of the model were replaced or extended, e.g. by a
+		 * bulk-load.
+		 */
+		RELOADED
+	}
+
+	/**
+	 * Returns the kind of this notification.
+	 * 
+	 * @return the kind of change
+	 */
+	Kind getKind();
+
+	/**
+	 * Returns the affected model.
+	 * 
+	 * @return the model
+	 */
+	IModel getModel();
+}
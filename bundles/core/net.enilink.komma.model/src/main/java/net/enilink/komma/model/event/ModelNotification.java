@@ -0,0 +1,54 @@
+/*******************************************************************************
+ * Copyright (c) 2026 Fraunhofer IWU and others.
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * Contributors:
+ *     Fraunhofer IWU - initial API and implementation
+ *******************************************************************************/
+package net.enilink.komma.model.event;
+
+import net.enilink.komma.common.notify.INotification;
+import net.enilink.komma.model.IModel;
+
+public class ModelNotification implements IModelNotification {
+	private Kind kind;
+
+	private IModel model;
+
+	public ModelNotification(Kind kind, IModel model) {
+		this.kind = kind;
+		this.model = model;
+	}
+
+	@Override
+	public Kind getKind() {
+		return kind;
+	}
+
+	@Override
+	public IModel getModel() {
+		return model;
+	}
+
+	@Override
+	public Object getSubject() {
+		return model;
+	}
+
+	@Override
+	public boolean merge(INotification notification) {
+		return notification instanceof IModelNotification
+				&& ((IModelNotification) notification).getKind() == kind
+				&& model.equals(((IModelNotification) notification).getModel());
+	}
+
+	@Override
+	public String toString() {
+		return new StringBuilder().append("model ")
+				.append(kind.name().toLowerCase()).append(" [model=")
+				.append(model).append("]").toString();
+	}
+}
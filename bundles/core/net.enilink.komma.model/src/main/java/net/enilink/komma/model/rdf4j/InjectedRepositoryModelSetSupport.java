@@ -27,6 +27,7 @@ import net.enilink.composition.annotations.Iri;
 import net.enilink.komma.dm.IDataManagerFactory;
 import net.enilink.komma.model.IModelSet;
 import net.enilink.komma.model.MODELS;
+import net.enilink.komma.internal.rdf4j.OrderCompare;
 import net.enilink.komma.rdf4j.RDF4JDataManagerFactory;
 
 /**
@@ -57,6 +58,8 @@ public abstract class InjectedRepositoryModelSetSupport implements IModelSet, IM
 		modules.add(new AbstractModule() {
 			@Override
 			protected void configure() {
+				// required for keyset pagination like with RDF4JModule
+				OrderCompare.register();
 				bind(RDF4JDataManagerFactoryWithoutClose.class).in(Singleton.class);
 				bind(IDataManagerFactory.class).to(RDF4JDataManagerFactoryWithoutClose.class);
 
@@ -0,0 +1,130 @@
+/*******************************************************************************
+ * Copyright (c) 2026 Fraunhofer IWU and others.
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * Contributors:
+ *     Fraunhofer IWU - initial API and implementation
+ *******************************************************************************/
+package net.enilink.komma.model.rdf4j;
+
+import java.io.InputStream;
+import java.util.ArrayList;
+import java.util.List;
+
+import org.eclipse.rdf4j.common.transaction.IsolationLevels;
+import org.eclipse.rdf4j.model.BNode;
+import org.eclipse.rdf4j.model.IRI;
+import org.eclipse.rdf4j.model.Statement;
+import org.eclipse.rdf4j.model.Value;
+import org.eclipse.rdf4j.model.ValueFactory;
+import org.eclipse.rdf4j.repository.Repository;
+import org.eclipse.rdf4j.repository.RepositoryConnection;
+import org.eclipse.rdf4j.rio.RDFHandlerException;
+import org.eclipse.rdf4j.rio.helpers.AbstractRDFHandler;
+
+import net.enilink.komma.core.INamespace;
+import net.enilink.komma.core.Namespace;
+import net.enilink.komma.core.URI;
+import net.enilink.komma.core.URIs;
+import net.enilink.komma.model.ModelUtil;
+import net.enilink.komma.model.rdf4j.SerializableModelSupport.ReconstructNodeIds;
+
+/**
+ * Loads RDF data directly into a repository.
+ * <p>
+ * The statements created by the RDF parser are added in large batches to a
+ * dedicated repository connection without converting them to KOMMA statements
+ * and without tracking the individual changes.
+ */
+class RepositoryBulkLoader extends AbstractRDFHandler {
+	static final int DEFAULT_BATCH_SIZE = 10000;
+
+	final Repository repository;
+	final int batchSize;
+	final ReconstructNodeIds nodeIdMapper;
+	final List<INamespace> namespaces = new ArrayList<>();
+
+	RepositoryConnection conn;
+	ValueFactory vf;
+	IRI context;
+	List<Statement> batch;
+	long count;
+
+	RepositoryBulkLoader(Repository repository, ReconstructNodeIds nodeIdMapper) {
+		this(repository, nodeIdMapper, DEFAULT_BATCH_SIZE);
+	}
+
+	RepositoryBulkLoader(Repository repository, ReconstructNodeIds nodeIdMapper, int batchSize) {
+		this.repository = repository;
+		this.nodeIdMapper = nodeIdMapper;
+		this.batchSize = batchSize;
+	}
+
+	/**
+	 * Parses the data and adds it to the given context within a single
+	 * transaction.
+	 *
+	 * @return the number of added statements
+	 */
+	long load(InputStream in, String mimeType, URI contextUri) {
+		try (RepositoryConnection conn = repository.getConnection()) {
+			this.conn = conn;
+			this.vf = conn.getValueFactory();
+			this.context = vf.createIRI(contextUri.toString());
+			this.batch = new ArrayList<>(batchSize);
+			this.count = 0;
+			// no other transaction needs to see intermediate results
+			conn.begin(IsolationLevels.NONE);
+			try {
+				ModelUtil.readRdf4jData(in, contextUri.toString(), mimeType, nodeIdMapper != null, this);
+				conn.commit();
+			} finally {
+				if (conn.isActive()) {
+					conn.rollback();
+				}
+			}
+			return count;
+		} finally {
+			this.conn = null;
+			this.batch = null;
+		}
+	}
+
+	@Override
+	public void handleNamespace(String prefix, String uri) throws RDFHandlerException {
+		namespaces.add(new Namespace(prefix, URIs.createURI(uri)));
+	}
+
+	@Override
+	public void handleStatement(Statement st) throws RDFHandlerException {
+		batch.add(vf.createStatement(map(st.getSubject()), st.getPredicate(), map(st.getObject()), context));
+		if (batch.size() >= batchSize) {
+			flush();
+		}
+	}
+
+	@Override
+	public void endRDF() throws RDFHandlerException {
+		flush();
+	}
+
+	void flush() {
+		if (!batch.isEmpty()) {
+			conn.add(batch);
+			count += batch.size();
+			batch.clear();
+		}
+	}
+
+	@SuppressWarnings("unchecked")
+	<V extends Value> V map(V value) {
+		if (nodeIdMapper != null && value instanceof BNode bnode) {
+			String id = nodeIdMapper.convertNode("_:" + bnode.getID()).toString();
+			return (V) vf.createBNode(id.substring(2));
+		}
+		return value;
+	}
+}
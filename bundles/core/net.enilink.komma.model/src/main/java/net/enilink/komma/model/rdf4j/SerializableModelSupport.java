@@ -16,18 +16,16 @@ import java.io.OutputStream;
 import java.util.ArrayList;
 import java.util.Collections;
 import java.util.HashMap;
-import java.util.Iterator;
-import java.util.LinkedList;
 import java.util.List;
 import java.util.Map;
 import java.util.Optional;
-import java.util.Queue;
 import java.util.Set;
-import java.util.concurrent.Executors;
-import java.util.concurrent.atomic.AtomicBoolean;
 import java.util.regex.Matcher;
 import java.util.regex.Pattern;
 
+import com.google.inject.Binding;
+import com.google.inject.Key;
+
 import net.enilink.commons.iterator.IExtendedIterator;
 import net.enilink.commons.iterator.IMap;
 import net.enilink.composition.annotations.Iri;
@@ -50,65 +48,17 @@ import net.enilink.komma.model.IModelSet;
 import net.enilink.komma.model.MODELS;
 import net.enilink.komma.model.ModelUtil;
 import net.enilink.komma.model.concepts.Model;
+import net.enilink.komma.model.event.IModelNotification;
+import net.enilink.komma.model.event.ModelNotification;
 
 import org.eclipse.core.runtime.content.IContentDescription;
 import org.eclipse.rdf4j.common.lang.FileFormat;
+import org.eclipse.rdf4j.repository.Repository;
 import org.eclipse.rdf4j.rio.Rio;
 
 @Iri(MODELS.NAMESPACE + "SerializableModel")
 public abstract class SerializableModelSupport implements IModel.Internal,
 		Model, Behaviour<IModel> {
-	/**
-	 * Iterator where <code>hasNext()</code> blocks until element gets available
-	 * in <code>queue</code>.
-	 */
-	static class BlockingIterator<T> implements Iterator<T>, Iterable<T> {
-		final Queue<T> queue;
-		final AtomicBoolean finished;
-
-		T next;
-		boolean nextComputed = false;
-
-		public BlockingIterator(Queue<T> queue, AtomicBoolean finished) {
-			this.queue = queue;
-			this.finished = finished;
-		}
-
-		@Override
-		public Iterator<T> iterator() {
-			return this;
-		}
-
-		@Override
-		public boolean hasNext() {
-			if (!nextComputed) {
-				synchronized (queue) {
-					try {
-						while (!finished.get() && queue.isEmpty()) {
-							queue.wait();
-						}
-						next = queue.isEmpty() ? null : queue.remove();
-					} catch (InterruptedException e) {
-						next = null;
-					}
-				}
-				nextComputed = true;
-			}
-			return next != null;
-		}
-
-		@Override
-		public T next() {
-			nextComputed = false;
-			return next;
-		}
-
-		@Override
-		public void remove() {
-			throw new UnsupportedOperationException();
-		}
-	}
-
 	private IContentDescription determineContentDescription(Map<?, ?> options)
 			throws IOException {
 		if (options == null) {
@@ -140,104 +90,85 @@ public abstract class SerializableModelSupport implements IModel.Internal,
 		<V> V convert(V value) {
 			if (value instanceof IReference
 					&& ((IReference) value).getURI() == null) {
-				String valueAsString = value.toString();
-				Matcher m = idPattern.matcher(valueAsString);
-				if (m.matches()) {
-					String idStr = m.group(1);
-					IReference bnode = bnodeMap.get(idStr);
-					if (bnode == null) {
-						long id = Long.parseLong(idStr, 36);
-						maxNodeId = Math.max(maxNodeId, id);
-						String newId = prefix + "__" + shortIdToSuffix(idStr);
-						bnode = new BlankNode(newId);
-						bnodeMap.put(idStr, bnode);
-					}
-					return (V) bnode;
-				} else {
-					return (V) new BlankNode("_:new-"
-							+ valueAsString.substring(2));
-				}
+				return (V) convertNode(value.toString());
 			}
 			return value;
 		}
 
+		/**
+		 * Maps the given blank node ID (starting with <code>_:</code>) to a
+		 * blank node with a unique ID.
+		 */
+		IReference convertNode(String valueAsString) {
+			Matcher m = idPattern.matcher(valueAsString);
+			if (m.matches()) {
+				String idStr = m.group(1);
+				IReference bnode = bnodeMap.get(idStr);
+				if (bnode == null) {
+					long id = Long.parseLong(idStr, 36);
+					maxNodeId = Math.max(maxNodeId, id);
+					String newId = prefix + "__" + shortIdToSuffix(idStr);
+					bnode = new BlankNode(newId);
+					bnodeMap.put(idStr, bnode);
+				}
+				return bnode;
+			} else {
+				return new BlankNode("_:new-" + valueAsString.substring(2));
+			}
+		}
+
 		static String shortIdToSuffix(String shortId) {
 			return ("0000000000000" + shortId).substring(shortId.length());
 		}
 	}
 
 	@Override
-	public void load(final InputStream in, final Map<?, ?> options)
+	public void load(final InputStream in, Map<?, ?> options)
 			throws IOException {
+		options = mergeLoadOptions(options);
 		final List<INamespace> namespaces = new ArrayList<>();
 		final IDataManager dm = ((IModelSet.Internal) getModelSet())
 				.getDataManagerFactory().get();
 		final ReconstructNodeIds nodeIdMapper = getModelSet().isPersistent() ? null
 				: new ReconstructNodeIds();
 		getModelSet().getDataChangeSupport().setEnabled(dm, false);
+		boolean bulkLoaded = false;
 		try {
 			setModelLoading(true);
 			if (in != null && in.available() > 0) {
-				dm.getTransaction().begin();
-
-				final AtomicBoolean finished = new AtomicBoolean(false);
-				final Queue<IStatement> queue = new LinkedList<IStatement>();
-				final Throwable[] exception = {null};
-				Executors.newSingleThreadExecutor().execute(new Runnable() {
-					@Override
-					public void run() {
-						try {
-							IDataAndNamespacesVisitor<Void> visitor = new IDataAndNamespacesVisitor<>() {
-								@Override
-								public Void visitStatement(IStatement stmt) {
-									if (nodeIdMapper != null) {
-										stmt = nodeIdMapper.map(stmt);
-									}
-									synchronized (queue) {
-										queue.add(stmt);
-										queue.notify();
-									}
-									return null;
-								}
-
-								@Override
-								public Void visitNamespace(INamespace namespace) {
-									namespaces.add(namespace);
-									return null;
+				String mimeType = determineMimeType(options);
+				Repository repository = Boolean.TRUE.equals(options.get(IModel.OPTION_BULK_LOAD)) ? getBulkLoadRepository() : null;
+				if (repository != null) {
+					RepositoryBulkLoader loader = new RepositoryBulkLoader(repository, nodeIdMapper);
+					loader.load(in, mimeType, getURI());
+					namespaces.addAll(loader.namespaces);
+					bulkLoaded = true;
+				} else {
+					dm.getTransaction().begin();
+					// the parser runs on a shared thread pool while the statements
+					// are added in batches by this thread, the bounded pipeline
+					// ensures that large files are not buffered in memory
+					new StatementPipeline().run(sink -> {
+						IDataAndNamespacesVisitor<Void> visitor = new IDataAndNamespacesVisitor<>() {
+							@Override
+							public Void visitStatement(IStatement stmt) {
+								if (nodeIdMapper != null) {
+									stmt = nodeIdMapper.map(stmt);
 								}
-							};
-							String mimeType = (String) options
-									.get(IModel.OPTION_MIME_TYPE);
-							if (mimeType == null) {
-								// determine mimeType from registered content types
-								IContentDescription contentDescription = determineContentDescription(options);
-								mimeType = ModelUtil.mimeType(contentDescription);
+								sink.accept(stmt);
+								return null;
 							}
-							if (mimeType == null) {
-								// determine mimeType from file extension
-								mimeType = Optional.ofNullable(getURI().fileExtension())
-										.flatMap(ext -> Rio.getParserFormatForFileName("test." + ext))
-										.map(FileFormat::getDefaultMIMEType)
-										.orElse(null);
-							}
-							ModelUtil.readData(in, getURI().toString(), mimeType, nodeIdMapper != null, visitor);
-						} catch (IOException | RuntimeException e) {
-							exception[0] = e;
-						} finally {
-							finished.set(true);
-							synchronized (queue) {
-								queue.notify();
+
+							@Override
+							public Void visitNamespace(INamespace namespace) {
+								namespaces.add(namespace);
+								return null;
 							}
-						}
-					}
-				});
-				// BlockingIterator ensures that add method does not return
-				// until endRDF of the above handler is called
-				dm.add(new BlockingIterator<>(queue, finished), getURI());
-				if (exception[0] != null) {
-					throw exception[0];
+						};
+						ModelUtil.readData(in, getURI().toString(), mimeType, nodeIdMapper != null, visitor);
+					}, batch -> dm.add(batch, getURI()));
+					dm.getTransaction().commit();
 				}
-				dm.getTransaction().commit();
 
 				// add namespaces as model meta-data
 				for (INamespace ns : namespaces) {
@@ -269,8 +200,60 @@ public abstract class SerializableModelSupport implements IModel.Internal,
 				dm.getTransaction().rollback();
 			}
 			dm.close();
+			// the statements have been added without tracking the changes
+			ModelUtil.invalidateIndexes(getModelSet(), getURI());
 		}
 		setModelLoaded(true);
+		if (bulkLoaded) {
+			// inform listeners with a single notification instead of one
+			// notification per added statement
+			((IModelSet.Internal) getModelSet()).fireNotifications(
+					Collections.singletonList(new ModelNotification(IModelNotification.Kind.RELOADED, getBehaviourDelegate())));
+		}
+	}
+
+	/**
+	 * Returns the load options of the model set overridden by the given
+	 * <code>options</code>.
+	 */
+	protected Map<?, ?> mergeLoadOptions(Map<?, ?> options) {
+		Map<Object, Object> merged = new HashMap<>(getModelSet().getLoadOptions());
+		if (options != null) {
+			merged.putAll(options);
+		}
+		return merged;
+	}
+
+	/**
+	 * Determines the MIME type of the contents either from the options or from
+	 * the URI of this model.
+	 */
+	protected String determineMimeType(Map<?, ?> options) throws IOException {
+		String mimeType = (String) options.get(IModel.OPTION_MIME_TYPE);
+		if (mimeType == null) {
+			// determine mimeType from registered content types
+			IContentDescription contentDescription = determineContentDescription(options);
+			mimeType = ModelUtil.mimeType(contentDescription);
+		}
+		if (mimeType == null) {
+			// determine mimeType from file extension
+			mimeType = Optional.ofNullable(getURI().fileExtension())
+					.flatMap(ext -> Rio.getParserFormatForFileName("test." + ext))
+					.map(FileFormat::getDefaultMIMEType)
+					.orElse(null);
+		}
+		return mimeType;
+	}
+
+	/**
+	 * Returns the RDF4J repository of the model set that is used for
+	 * bulk-loading or <code>null</code> if the model set is not backed by
+	 * such a repository.
+	 */
+	protected Repository getBulkLoadRepository() {
+		Binding<Repository> binding = ((IModelSet.Internal) getModelSet()).getInjector()
+				.getExistingBinding(Key.get(Repository.class));
+		return binding == null ? null : binding.getProvider().get();
 	}
 
 	static class ShortenNodeIds implements IMap<IStatement, IStatement> {
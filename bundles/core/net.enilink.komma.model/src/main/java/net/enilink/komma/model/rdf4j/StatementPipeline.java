@@ -0,0 +1,277 @@
+/*******************************************************************************
+ * Copyright (c) 2026 Fraunhofer IWU and others.
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * Contributors:
+ *     Fraunhofer IWU - initial API and implementation
+ *******************************************************************************/
+package net.enilink.komma.model.rdf4j;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.CancellationException;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.SynchronousQueue;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.function.Consumer;
+
+import net.enilink.komma.core.IStatement;
+
+/**
+ * Transfers statements from a producer (usually an RDF parser) running on a
+ * shared thread pool to a consumer running on the calling thread.
+ * <p>
+ * Statements are handed over in batches through a bounded queue. If the
+ * consumer is slower than the producer then the producer is blocked until a
+ * slot becomes available. Hence, at most <code>capacity * batchSize</code>
+ * statements are buffered regardless of the size of the input.
+ * <p>
+ * Producers are never queued behind other producers: if all threads of the
+ * shared pool are busy then a dedicated thread is started. Otherwise nested
+ * loads (a consumer that loads another model) or more concurrent loads than
+ * pool threads would wait for each other forever.
+ */
+public class StatementPipeline {
+	/**
+	 * A source of statements that is executed by the parser pool.
+	 */
+	@FunctionalInterface
+	public interface Source {
+		/**
+		 * Reads all statements and passes them to the given sink.
+		 *
+		 * @param sink
+		 *            The sink for the statements
+		 * @throws Exception
+		 *             if reading the statements failed
+		 */
+		void read(Consumer<IStatement> sink) throws Exception;
+	}
+
+	public static final int DEFAULT_BATCH_SIZE = 4096;
+
+	public static final int DEFAULT_CAPACITY = 8;
+
+	private static final long OFFER_TIMEOUT_MILLIS = 50;
+
+	/**
+	 * Marks the end of the stream, compared by identity.
+	 */
+	private static final List<IStatement> END = new ArrayList<>(0);
+
+	private static ExecutorService parserPool;
+
+	protected final int batchSize;
+	protected final int capacity;
+
+	public StatementPipeline() {
+		this(DEFAULT_BATCH_SIZE, DEFAULT_CAPACITY);
+	}
+
+	/**
+	 * Creates a new pipeline.
+	 *
+	 * @param batchSize
+	 *            The number of statements that are handed over at once
+	 * @param capacity
+	 *            The maximum number of batches that may be buffered
+	 */
+	public StatementPipeline(int batchSize, int capacity) {
+		if (batchSize < 1 || capacity < 1) {
+			throw new IllegalArgumentException("Batch size and capacity must be positive.");
+		}
+		this.batchSize = batchSize;
+		this.capacity = capacity;
+	}
+
+	/**
+	 * Returns the thread pool that is shared by all pipelines. The pool is
+	 * (re-)created on demand and its threads terminate if they are idle. If
+	 * all threads are busy then the producer is executed by a new thread
+	 * instead of being queued.
+	 */
+	protected static synchronized ExecutorService parserPool() {
+		if (parserPool == null || parserPool.isShutdown()) {
+			int threads = Math.max(2, Runtime.getRuntime().availableProcessors());
+			ThreadFactory threadFactory = new ThreadFactory() {
+				final AtomicInteger threadNr = new AtomicInteger();
+
+				@Override
+				public Thread newThread(Runnable r) {
+					Thread thread = new Thread(r, "komma-model-loader-" + threadNr.incrementAndGet());
+					thread.setDaemon(true);
+					return thread;
+				}
+			};
+			parserPool = new ThreadPoolExecutor(0, threads, 30, TimeUnit.SECONDS, new SynchronousQueue<>(),
+					threadFactory, (r, executor) -> threadFactory.newThread(r).start());
+		}
+		return parserPool;
+	}
+
+	/**
+	 * Stops the shared thread pool. Running producers are interrupted.
+	 */
+	public static synchronized void shutdown() {
+		if (parserPool != null) {
+			parserPool.shutdownNow();
+			parserPool = null;
+		}
+	}
+
+	/**
+	 * Executes the given <code>source</code> on the parser pool and passes
+	 * batches of its statements to <code>consumer</code> on the calling thread.
+	 * This method returns after all statements were consumed.
+	 * <p>
+	 * If either the source or the consumer fails then the respective other
+	 * side is stopped and the failure is rethrown by this method. In any case
+	 * the producer has terminated when this method returns.
+	 *
+	 * @param source
+	 *            The producer of statements
+	 * @param consumer
+	 *            The consumer of statement batches
+	 * @throws Exception
+	 *             if the source or the consumer failed
+	 */
+	public void run(Source source, Consumer<List<IStatement>> consumer) throws Exception {
+		final BlockingQueue<List<IStatement>> queue = new ArrayBlockingQueue<>(capacity);
+		final AtomicReference<Throwable> failure = new AtomicReference<>();
+		final AtomicBoolean cancelled = new AtomicBoolean(false);
+		final AtomicReference<Thread> producer = new AtomicReference<>();
+		final CountDownLatch done = new CountDownLatch(1);
+
+		parserPool().execute(() -> {
+			producer.set(Thread.currentThread());
+			try {
+				BatchingSink sink = new BatchingSink(queue, cancelled);
+				source.read(sink);
+				sink.flush();
+			} catch (Throwable e) {
+				if (!cancelled.get()) {
+					failure.set(e);
+				}
+			} finally {
+				// ensure that the end marker is delivered even if the
+				// producer was interrupted
+				boolean interrupted = Thread.interrupted();
+				try {
+					transfer(queue, END, cancelled);
+				} catch (InterruptedException | CancellationException e) {
+					// consumer is already gone
+				} finally {
+					// the pool thread must not be interrupted by a late
+					// cancellation after this task has finished
+					synchronized (producer) {
+						producer.set(null);
+					}
+					if (interrupted) {
+						Thread.currentThread().interrupt();
+					}
+					done.countDown();
+				}
+			}
+		});
+
+		boolean completed = false;
+		try {
+			List<IStatement> batch;
+			while ((batch = queue.take()) != END) {
+				consumer.accept(batch);
+			}
+			completed = true;
+		} finally {
+			if (!completed) {
+				cancelled.set(true);
+				queue.clear();
+				synchronized (producer) {
+					Thread thread = producer.get();
+					if (thread != null) {
+						thread.interrupt();
+					}
+				}
+			}
+			// wait for the producer so that it does not outlive the load
+			boolean interrupted = false;
+			while (true) {
+				try {
+					done.await();
+					break;
+				} catch (InterruptedException e) {
+					interrupted = true;
+					cancelled.set(true);
+				}
+			}
+			if (interrupted) {
+				Thread.currentThread().interrupt();
+			}
+		}
+
+		Throwable e = failure.get();
+		if (e instanceof Exception) {
+			throw (Exception) e;
+		} else if (e instanceof Error) {
+			throw (Error) e;
+		}
+	}
+
+	/**
+	 * Collects statements into batches and transfers full batches to the
+	 * queue.
+	 */
+	class BatchingSink implements Consumer<IStatement> {
+		final BlockingQueue<List<IStatement>> queue;
+		final AtomicBoolean cancelled;
+		List<IStatement> batch = new ArrayList<>(batchSize);
+
+		BatchingSink(BlockingQueue<List<IStatement>> queue, AtomicBoolean cancelled) {
+			this.queue = queue;
+			this.cancelled = cancelled;
+		}
+
+		@Override
+		public void accept(IStatement stmt) {
+			if (cancelled.get()) {
+				throw new CancellationException();
+			}
+			batch.add(stmt);
+			if (batch.size() >= batchSize) {
+				flush();
+			}
+		}
+
+		void flush() {
+			if (batch.isEmpty()) {
+				return;
+			}
+			try {
+				transfer(queue, batch, cancelled);
+			} catch (InterruptedException e) {
+				Thread.currentThread().interrupt();
+				throw new CancellationException("Interrupted while transferring statements");
+			}
+			batch = new ArrayList<>(batchSize);
+		}
+	}
+
+	private static void transfer(BlockingQueue<List<IStatement>> queue, List<IStatement> batch,
+			AtomicBoolean cancelled) throws InterruptedException {
+		while (!queue.offer(batch, OFFER_TIMEOUT_MILLIS, TimeUnit.MILLISECONDS)) {
+			if (cancelled.get()) {
+				throw new CancellationException();
+			}
+		}
+	}
+}
@@ -11,11 +11,17 @@
 package net.enilink.komma.model;
 
 import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNull;
 
+import java.io.ByteArrayInputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
 import java.util.HashMap;
+import java.util.HashSet;
 import java.util.List;
 import java.util.Map;
 
+import net.enilink.komma.core.IReference;
 import net.enilink.komma.core.KommaModule;
 import net.enilink.komma.core.URIs;
 import net.enilink.komma.model.IModel;
@@ -24,6 +30,8 @@ import net.enilink.komma.model.IModelSetFactory;
 import net.enilink.komma.model.MODELS;
 import net.enilink.komma.model.ModelPlugin;
 import net.enilink.komma.model.ModelSetModule;
+import net.enilink.komma.em.concepts.IClass;
+import net.enilink.komma.em.util.TextIndex;
 import net.enilink.vocab.komma.KOMMA;
 
 import org.junit.After;
@@ -31,9 +39,12 @@ import org.junit.Before;
 import org.junit.Test;
 
 import com.google.inject.Guice;
+import com.google.inject.Key;
 
 public class ModelLoadTest {
 
+    IModelSetFactory factory;
+
     IModelSet modelSet;
 
     @Before
@@ -41,7 +52,7 @@ public class ModelLoadTest {
         KommaModule module = ModelPlugin.createModelSetModule(getClass()
             .getClassLoader());
 
-        IModelSetFactory factory = Guice.createInjector(
+        factory = Guice.createInjector(
             new ModelSetModule(module)).getInstance(IModelSetFactory.class);
 
         modelSet = factory.createModelSet(MODELS.NAMESPACE_URI
@@ -79,4 +90,62 @@ public class ModelLoadTest {
 
         assertEquals("The elements where not found.", 1, test.size());
     }
+
+    @Test
+    public void testLoadAfterHierarchyQuery() throws Exception {
+        Map<Object, Object> options = new HashMap<>();
+        options.put(IModel.OPTION_MIME_TYPE, "text/turtle");
+
+        IModel model1 = modelSet.createModel(URIs.createURI("urn:test:model1"));
+        model1.load(new ByteArrayInputStream(
+            "<urn:test:c1.1> <http://www.w3.org/2000/01/rdf-schema#subClassOf> <urn:test:c1> ."
+                .getBytes(StandardCharsets.UTF_8)), options);
+        IClass c1 = model1.getManager().find(URIs.createURI("urn:test:c1"), IClass.class);
+        assertEquals(1, c1.getDirectNamedSubClasses().toList().size());
+
+        // the hierarchy index has been loaded, the new model is not tracked
+        IModel model2 = modelSet.createModel(URIs.createURI("urn:test:model2"));
+        model2.load(new ByteArrayInputStream(
+            "<urn:test:c1.2> <http://www.w3.org/2000/01/rdf-schema#subClassOf> <urn:test:c1> ."
+                .getBytes(StandardCharsets.UTF_8)), options);
+        c1 = model2.getManager().find(URIs.createURI("urn:test:c1"), IClass.class);
+        assertEquals(Arrays.asList(URIs.createURI("urn:test:c1.2")),
+            c1.getDirectNamedSubClasses().mapWith(IReference::getURI).toList());
+    }
+
+    @Test
+    public void testLoadAfterTextIndexQuery() throws Exception {
+        // the text index is only available if it is enabled explicitly
+        assertNull(((IModelSet.Internal) modelSet).getInjector().getExistingBinding(Key.get(TextIndex.class)));
+
+        IModelSet indexedModelSet = factory.createModelSet(MODELS.NAMESPACE_URI.appendFragment("MemoryModelSet"),
+            MODELS.NAMESPACE_URI.appendFragment("TextIndexModelSet"));
+        try {
+            TextIndex index = ((IModelSet.Internal) indexedModelSet).getInjector().getInstance(TextIndex.class);
+            Map<Object, Object> options = new HashMap<>();
+            options.put(IModel.OPTION_MIME_TYPE, "text/turtle");
+
+            IModel model1 = indexedModelSet.createModel(URIs.createURI("urn:test:model1"));
+            model1.load(new ByteArrayInputStream(
+                "<urn:test:Person> <http://www.w3.org/2000/01/rdf-schema#label> \"Human being\" ."
+                    .getBytes(StandardCharsets.UTF_8)), options);
+            assertEquals(Arrays.asList(URIs.createURI("urn:test:Person")), index.find("Hum", null, null, 10));
+
+            // the index has been loaded, the new model is not tracked
+            IModel model2 = indexedModelSet.createModel(URIs.createURI("urn:test:model2"));
+            model2.load(new ByteArrayInputStream(
+                "<urn:test:Team> <http://www.w3.org/2000/01/rdf-schema#label> \"Humans\" ."
+                    .getBytes(StandardCharsets.UTF_8)), options);
+            assertEquals(new HashSet<>(Arrays.asList(URIs.createURI("urn:test:Person"), URIs.createURI("urn:test:Team"))),
+                new HashSet<>(index.find("Hum", null, null, 10)));
+
+            // renaming moves the data of a model without tracking the changes
+            model1.setURI(URIs.createURI("urn:test:model3"));
+            assertEquals(Arrays.asList(URIs.createURI("urn:test:Person")),
+                index.find("Hum", null, URIs.createURI("urn:test:model3"), 10));
+            assertEquals(Arrays.asList(), index.find("Hum", null, URIs.createURI("urn:test:model1"), 10));
+        } finally {
+            indexedModelSet.dispose();
+        }
+    }
 }
@@ -12,15 +12,21 @@ package net.enilink.komma.model;
 
 import static org.junit.Assert.assertEquals;
 import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNotNull;
+import static org.junit.Assert.assertNull;
 import static org.junit.Assert.assertTrue;
 
+import java.util.ArrayList;
 import java.util.Collection;
+import java.util.Collections;
+import java.util.List;
 
 import org.junit.After;
 import org.junit.Before;
 import org.junit.Test;
 
 import com.google.inject.Guice;
+import com.google.inject.Key;
 
 import net.enilink.komma.common.notify.INotification;
 import net.enilink.komma.common.notify.INotificationListener;
@@ -32,20 +38,26 @@ import net.enilink.komma.model.MODELS;
 import net.enilink.komma.model.ModelPlugin;
 import net.enilink.komma.model.ModelSetModule;
 import net.enilink.komma.model.event.IStatementNotification;
+import net.enilink.komma.core.CompactGraph;
+import net.enilink.komma.core.IGraph;
 import net.enilink.komma.core.KommaModule;
 import net.enilink.komma.core.Statement;
 import net.enilink.komma.core.URI;
 import net.enilink.komma.core.URIs;
 import net.enilink.komma.em.concepts.IClass;
+import net.enilink.komma.em.util.HierarchyIndex;
 import net.enilink.vocab.owl.OWL;
+import net.enilink.vocab.rdfs.RDFS;
 
 public class ModelTest {
+	IModelSetFactory factory;
+
 	IModelSet modelSet;
 
 	@Before
 	public void beforeTest() throws Exception {
 		KommaModule module = ModelPlugin.createModelSetModule(getClass().getClassLoader());
-		IModelSetFactory factory = Guice.createInjector(new ModelSetModule(module)).getInstance(IModelSetFactory.class);
+		factory = Guice.createInjector(new ModelSetModule(module)).getInstance(IModelSetFactory.class);
 		modelSet = factory.createModelSet(MODELS.NAMESPACE_URI.appendLocalPart("MemoryModelSet"));
 	}
 
@@ -88,6 +100,49 @@ public class ModelTest {
 		assertTrue(notified[0]);
 	}
 
+	@Test
+	public void testSubjectListeners() throws Exception {
+		IModel model = modelSet.createModel(URIs.createURI("http://iwu.fraunhofer.de/test/model1"));
+		URI subject = URIs.createURI("urn:test:subject");
+		URI other = URIs.createURI("urn:test:other");
+		URI predicate = URIs.createURI("urn:test:predicate");
+
+		final List<INotification> received = new ArrayList<>();
+		INotificationListener<INotification> listener = new INotificationListener<>() {
+			@Override
+			public NotificationFilter<INotification> getFilter() {
+				return NotificationFilter.instanceOf(IStatementNotification.class);
+			}
+
+			@Override
+			public void notifyChanged(Collection<? extends INotification> notifications) {
+				for (INotification notification : notifications) {
+					// ignore statements that may be added by an inferencer
+					if (!((IStatementNotification) notification).getStatement().isInferred()) {
+						received.add(notification);
+					}
+				}
+			}
+		};
+		modelSet.addSubjectListener(subject, listener);
+
+		// statement with subject as subject and as object
+		model.getManager().add(new Statement(subject, predicate, other));
+		model.getManager().add(new Statement(other, predicate, subject));
+		// unrelated statement
+		model.getManager().add(new Statement(other, predicate, other));
+		assertEquals(2, received.size());
+		for (INotification notification : received) {
+			IStatementNotification stmtNotification = (IStatementNotification) notification;
+			assertTrue(subject.equals(stmtNotification.getSubject()) || subject.equals(stmtNotification.getObject()));
+		}
+
+		received.clear();
+		modelSet.removeSubjectListener(subject, listener);
+		model.getManager().add(new Statement(subject, predicate, URIs.createURI("urn:test:third")));
+		assertTrue(received.isEmpty());
+	}
+
 	@Test
 	public void testOwlImportsUpdateReflectsAccessViaSparqlAndApi() throws Exception {
 		assertOwlImportsUpdateReflectsAccess(true);
@@ -142,4 +197,60 @@ public class ModelTest {
 		assertTrue("Model3 should regain access to statements from model2 after re-adding owl:imports.",
 				model3.getManager().hasMatch(model2Subject, predicate, object));
 	}
-}
\ No newline at end of file
+
+	@Test
+	public void testHierarchyIndexModelSet() throws Exception {
+		// the hierarchy index is only used if it is enabled explicitly
+		assertNull(((IModelSet.Internal) modelSet).getInjector().getExistingBinding(Key.get(HierarchyIndex.class)));
+
+		IModelSet indexedModelSet = factory.createModelSet(MODELS.NAMESPACE_URI.appendLocalPart("MemoryModelSet"),
+				MODELS.NAMESPACE_URI.appendLocalPart("HierarchyIndexModelSet"));
+		try {
+			assertNotNull(((IModelSet.Internal) indexedModelSet).getInjector().getInstance(HierarchyIndex.class));
+
+			IModel model = indexedModelSet.createModel(URIs.createURI("urn:test:hierarchy"));
+			IClass superClass = model.getManager().createNamed(URIs.createURI("urn:test:Super"), OWL.TYPE_CLASS)
+					.as(IClass.class);
+			IClass subClass = model.getManager().createNamed(URIs.createURI("urn:test:Sub"), OWL.TYPE_CLASS)
+					.as(IClass.class);
+			subClass.getRdfsSubClassOf().add(superClass);
+			assertEquals(Collections.singletonList(superClass), subClass.getDirectNamedSuperClasses().toList());
+			assertEquals(Collections.singletonList(subClass), superClass.getDirectNamedSubClasses().toList());
+		} finally {
+			indexedModelSet.dispose();
+		}
+	}
+
+	@Test
+	public void testCompactGraphModelSet() throws Exception {
+		// a compact graph is only used if it is enabled explicitly
+		assertNull(((IModelSet.Internal) modelSet).getInjector().getExistingBinding(Key.get(IGraph.class)));
+
+		IModelSet compactModelSet = factory.createModelSet(MODELS.NAMESPACE_URI.appendLocalPart("MemoryModelSet"),
+				MODELS.NAMESPACE_URI.appendLocalPart("CompactGraphModelSet"));
+		try {
+			assertTrue(((IModelSet.Internal) compactModelSet).getInjector()
+					.getInstance(IGraph.class) instanceof CompactGraph);
+
+			IModel model = compactModelSet.createModel(URIs.createURI("urn:test:compact"));
+			List<String> labels = new ArrayList<>();
+			for (int i = 0; i < 10; i++) {
+				IClass c = model.getManager().createNamed(URIs.createURI("urn:test:class" + i), OWL.TYPE_CLASS)
+						.as(IClass.class);
+				c.setRdfsLabel("class " + i);
+				labels.add(c.getRdfsLabel());
+			}
+			List<String> queried = new ArrayList<>();
+			for (IClass c : model.getManager().createQuery(
+					"CONSTRUCT { ?c a <komma:Result> . ?c <" + RDFS.PROPERTY_LABEL + "> ?l } WHERE { ?c a <"
+							+ OWL.TYPE_CLASS + "> ; <" + RDFS.PROPERTY_LABEL + "> ?l } ORDER BY ?c")
+					.evaluate(IClass.class)) {
+				queried.add(c.getRdfsLabel());
+			}
+			Collections.sort(queried);
+			assertEquals(labels, queried);
+		} finally {
+			compactModelSet.dispose();
+		}
+	}
+}
@@ -11,17 +11,25 @@
 package net.enilink.komma.model.rdf4j;
 
 import junit.framework.AssertionFailedError;
+import net.enilink.komma.common.notify.INotification;
+import net.enilink.komma.common.notify.INotificationListener;
+import net.enilink.komma.common.notify.NotificationFilter;
 import net.enilink.komma.core.IReference;
 import net.enilink.komma.core.IStatement;
+import net.enilink.komma.core.KommaException;
 import net.enilink.komma.core.URIs;
 import net.enilink.komma.core.visitor.IDataVisitor;
 import net.enilink.komma.model.IModel;
 import net.enilink.komma.model.IModelSet;
 import net.enilink.komma.model.ModelUtil;
+import net.enilink.komma.model.event.IModelNotification;
+import net.enilink.komma.model.event.IStatementNotification;
 import net.enilink.komma.model.rdf4j.SerializableModelSupport.ReconstructNodeIds;
 import net.enilink.komma.model.rdf4j.SerializableModelSupport.ShortenNodeIds;
 import java.io.ByteArrayInputStream;
 import java.io.ByteArrayOutputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
 import java.util.Collection;
 import java.util.HashMap;
 import java.util.HashSet;
@@ -125,6 +133,114 @@ public class SerializableModelSetTest {
         assertEquals(expectedNodeIds, nodeIdsWithSuffix);
     }
 
+    @Test
+    public void testLoadMultipleBatches() throws Exception {
+        // use enough statements to fill the pipeline several times
+        int count = StatementPipeline.DEFAULT_BATCH_SIZE * (StatementPipeline.DEFAULT_CAPACITY + 2) + 1;
+        StringBuilder data = new StringBuilder();
+        for (int i = 0; i < count; i++) {
+            data.append("<test:s").append(i).append("> <test:p> \"").append(i).append("\" .\n");
+        }
+
+        IModel model = modelSet.createModel(URIs.createURI("test:model"));
+        Map<Object, Object> options = new HashMap<>();
+        options.put(IModel.OPTION_MIME_TYPE, "application/n-triples");
+        model.load(new ByteArrayInputStream(data.toString().getBytes(StandardCharsets.UTF_8)), options);
+
+        Assert.assertTrue(model.isLoaded());
+        Assert.assertEquals(count, model.getManager().match(null, URIs.createURI("test:p"), null).toList().size());
+    }
+
+    @Test
+    public void testLoadInvalidData() throws Exception {
+        IModel model = modelSet.createModel(URIs.createURI("test:model"));
+        Map<Object, Object> options = new HashMap<>();
+        options.put(IModel.OPTION_MIME_TYPE, "application/n-triples");
+        String data = "<test:s> <test:p> \"o\" .\n<test:s> <test:p> .\n";
+        try {
+            model.load(new ByteArrayInputStream(data.getBytes(StandardCharsets.UTF_8)), options);
+            Assert.fail("Loading invalid data should fail");
+        } catch (KommaException e) {
+            // expected
+        }
+        Assert.assertFalse(model.getManager().hasMatch(null, URIs.createURI("test:p"), null));
+    }
+
+    @Test
+    public void testBulkLoad() throws Exception {
+        int count = 25000;
+        StringBuilder data = new StringBuilder();
+        for (int i = 0; i < count; i++) {
+            data.append("<test:s").append(i).append("> <test:p> _:n").append(Integer.toString(i % 100, 36)).append(" .\n");
+        }
+
+        final List<INotification> received = new ArrayList<>();
+        modelSet.addListener(new INotificationListener<>() {
+            @Override
+            public NotificationFilter<INotification> getFilter() {
+                return NotificationFilter.instanceOf(INotification.class);
+            }
+
+            @Override
+            public void notifyChanged(Collection<? extends INotification> notifications) {
+                received.addAll(notifications);
+            }
+        });
+
+        IModel model = modelSet.createModel(URIs.createURI("test:model"));
+        Map<Object, Object> options = new HashMap<>();
+        options.put(IModel.OPTION_MIME_TYPE, "application/n-triples");
+        options.put(IModel.OPTION_BULK_LOAD, true);
+        model.load(new ByteArrayInputStream(data.toString().getBytes(StandardCharsets.UTF_8)), options);
+
+        Assert.assertTrue(model.isLoaded());
+        Set<Object> objects = new HashSet<>();
+        model.getManager().match(null, URIs.createURI("test:p"), null).forEach(stmt -> objects.add(stmt.getObject()));
+        Assert.assertEquals(100, objects.size());
+        Assert.assertEquals(count, model.getManager().match(null, URIs.createURI("test:p"), null).toList().size());
+
+        // the statements are not reported individually
+        for (INotification notification : received) {
+            Assert.assertFalse(notification instanceof IStatementNotification);
+        }
+        Assert.assertEquals(1, received.stream().filter(n -> n instanceof IModelNotification
+            && ((IModelNotification) n).getModel().equals(model)).count());
+    }
+
+    @Test
+    public void testMergeLoadOptions() throws Exception {
+        String data = "<test:s> <test:p> \"o\" .\n";
+        final List<IModelNotification> received = new ArrayList<>();
+        modelSet.addListener(new INotificationListener<>() {
+            @Override
+            public NotificationFilter<INotification> getFilter() {
+                return NotificationFilter.instanceOf(IModelNotification.class);
+            }
+
+            @Override
+            public void notifyChanged(Collection<? extends INotification> notifications) {
+                notifications.forEach(n -> received.add((IModelNotification) n));
+            }
+        });
+        modelSet.getLoadOptions().put(IModel.OPTION_BULK_LOAD, true);
+
+        // the caller only specifies the MIME type, bulk-loading is enabled by the model set
+        IModel model = modelSet.createModel(URIs.createURI("test:model"));
+        Map<Object, Object> options = new HashMap<>();
+        options.put(IModel.OPTION_MIME_TYPE, "application/n-triples");
+        model.load(new ByteArrayInputStream(data.getBytes(StandardCharsets.UTF_8)), options);
+        Assert.assertTrue(model.getManager().hasMatch(null, URIs.createURI("test:p"), null));
+        Assert.assertEquals(1, received.stream().filter(n -> n.getModel().equals(model)).count());
+
+        // the options of the caller take precedence
+        IModel other = modelSet.createModel(URIs.createURI("test:other"));
+        options.put(IModel.OPTION_BULK_LOAD, false);
+        model.getModelSet().getLoadOptions().put(IModel.OPTION_MIME_TYPE, "text/turtle");
+        other.load(new ByteArrayInputStream(data.getBytes(StandardCharsets.UTF_8)), options);
+        Assert.assertTrue(other.getManager().hasMatch(null, URIs.createURI("test:p"), null));
+        Assert.assertEquals(0, received.stream().filter(n -> n.getModel().equals(other)).count());
+    }
+
     class ShortIdCollector implements IDataVisitor<IStatement> {
 
         final Set<String> nodeIds;
@@ -0,0 +1,140 @@
+/*******************************************************************************
+ * Copyright (c) 2026 Fraunhofer IWU and others.
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * Contributors:
+ *     Fraunhofer IWU - initial API and implementation
+ *******************************************************************************/
+package net.enilink.komma.model.rdf4j;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.junit.Assert;
+import org.junit.Test;
+
+import net.enilink.komma.core.IStatement;
+import net.enilink.komma.core.Statement;
+import net.enilink.komma.core.URIs;
+
+public class StatementPipelineTest {
+
+    static final IStatement STMT = new Statement(URIs.createURI("test:s"), URIs.createURI("test:p"),
+        URIs.createURI("test:o"));
+
+    static StatementPipeline.Source source(int count) {
+        return sink -> {
+            for (int i = 0; i < count; i++) {
+                sink.accept(STMT);
+            }
+        };
+    }
+
+    @Test
+    public void testConsumerFailure() throws Exception {
+        AtomicBoolean producerRunning = new AtomicBoolean(true);
+        RuntimeException failure = new RuntimeException("consumer failed");
+        try {
+            new StatementPipeline(10, 2).run(sink -> {
+                try {
+                    // an endless source is only stopped by the cancellation
+                    while (true) {
+                        sink.accept(STMT);
+                    }
+                } finally {
+                    producerRunning.set(false);
+                }
+            }, batch -> {
+                throw failure;
+            });
+            Assert.fail("The failure of the consumer must be rethrown");
+        } catch (RuntimeException e) {
+            Assert.assertSame(failure, e);
+        }
+        Assert.assertFalse("The producer must have terminated", producerRunning.get());
+    }
+
+    @Test
+    public void testSourceFailure() throws Exception {
+        Exception failure = new Exception("source failed");
+        try {
+            new StatementPipeline(10, 2).run(sink -> {
+                source(100).read(sink);
+                throw failure;
+            }, batch -> {
+            });
+            Assert.fail("The failure of the source must be rethrown");
+        } catch (Exception e) {
+            Assert.assertSame(failure, e);
+        }
+    }
+
+    @Test(timeout = 30000)
+    public void testNestedLoads() throws Exception {
+        AtomicInteger count = new AtomicInteger();
+        int depth = 2 * Math.max(2, Runtime.getRuntime().availableProcessors());
+        load(depth, count);
+        Assert.assertEquals(depth * 100, count.get());
+    }
+
+    /**
+     * Loads statements and starts another load from the consumer while the
+     * producer of the outer load is still running.
+     */
+    void load(int depth, AtomicInteger count) throws Exception {
+        AtomicBoolean nested = new AtomicBoolean();
+        new StatementPipeline(10, 1).run(source(100), batch -> {
+            count.addAndGet(batch.size());
+            if (depth > 1 && nested.compareAndSet(false, true)) {
+                try {
+                    load(depth - 1, count);
+                } catch (Exception e) {
+                    throw new RuntimeException(e);
+                }
+            }
+        });
+    }
+
+    @Test(timeout = 30000)
+    public void testMoreLoadsThanThreads() throws Exception {
+        int loads = 2 * Math.max(2, Runtime.getRuntime().availableProcessors()) + 1;
+        // each consumer waits until all producers are running
+        CountDownLatch started = new CountDownLatch(loads);
+        ExecutorService executor = Executors.newFixedThreadPool(loads);
+        try {
+            List<Future<Integer>> results = new ArrayList<>();
+            for (int i = 0; i < loads; i++) {
+                results.add(executor.submit(() -> {
+                    AtomicInteger count = new AtomicInteger();
+                    new StatementPipeline(10, 1).run(source(100), batch -> {
+                        if (count.getAndAdd(batch.size()) == 0) {
+                            started.countDown();
+                            try {
+                                started.await();
+                            } catch (InterruptedException e) {
+                                throw new RuntimeException(e);
+                            }
+                        }
+                    });
+                    return count.get();
+                }));
+            }
+            for (Future<Integer> result : results) {
+                Assert.assertEquals(100, (int) result.get());
+            }
+        } finally {
+            executor.shutdownNow();
+            executor.awaitTermination(10, TimeUnit.SECONDS);
+        }
+    }
+}
@@ -0,0 +1,64 @@
+/*******************************************************************************
+ * Copyright (c) 2026 Fraunhofer IWU and others.
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * Contributors:
+ *     Fraunhofer IWU - initial API and implementation
+ *******************************************************************************/
+package net.enilink.komma.internal.rdf4j;
+
+import org.eclipse.rdf4j.model.Value;
+import org.eclipse.rdf4j.model.ValueFactory;
+import org.eclipse.rdf4j.query.algebra.evaluation.ValueExprEvaluationException;
+import org.eclipse.rdf4j.query.algebra.evaluation.function.Function;
+import org.eclipse.rdf4j.query.algebra.evaluation.function.FunctionRegistry;
+import org.eclipse.rdf4j.query.algebra.evaluation.util.ValueComparator;
+
+/**
+ * Function that compares two values like ORDER BY and returns a negative
+ * integer, zero, or a positive integer as the first value is less than, equal
+ * to, or greater than the second one. It is used by the filters of keyset
+ * pagination.
+ * <p>
+ * RDF4J evaluates functions through its global {@link FunctionRegistry}.
+ * Hence the function is not registered as a side effect of loading a class but
+ * explicitly by {@link #register()} when the RDF4J module is configured.
+ */
+public class OrderCompare implements Function {
+	public static final String URI = "http://enilink.net/vocab/komma#orderCompare";
+
+	/**
+	 * Registers the function with the global {@link FunctionRegistry} if it is
+	 * not registered yet.
+	 */
+	public static synchronized void register() {
+		if (!isRegistered()) {
+			FunctionRegistry.getInstance().add(new OrderCompare());
+		}
+	}
+
+	/**
+	 * Returns <code>true</code> if the function is registered with the global
+	 * {@link FunctionRegistry}.
+	 */
+	public static boolean isRegistered() {
+		return FunctionRegistry.getInstance().has(URI);
+	}
+
+	@Override
+	public String getURI() {
+		return URI;
+	}
+
+	@Override
+	public Value evaluate(ValueFactory valueFactory, Value... args) throws ValueExprEvaluationException {
+		if (args.length != 2) {
+			throw new ValueExprEvaluationException("orderCompare requires exactly 2 arguments");
+		}
+		// the comparator is not thread-safe
+		return valueFactory.createLiteral(Integer.signum(new ValueComparator().compare(args[0], args[1])));
+	}
+}
@@ -17,6 +17,9 @@ import org.eclipse.rdf4j.query.BooleanQuery;
 import org.eclipse.rdf4j.query.GraphQuery;
 import org.eclipse.rdf4j.query.Query;
 import org.eclipse.rdf4j.query.TupleQuery;
+import org.eclipse.rdf4j.repository.RepositoryConnection;
+import org.eclipse.rdf4j.repository.sail.SailRepositoryConnection;
+import org.eclipse.rdf4j.repository.sail.SailTupleQuery;
 
 import com.google.inject.Inject;
 import com.google.inject.Injector;
@@ -38,6 +41,12 @@ public class RDF4JQuery<R> implements IDataManagerQuery<R> {
 	protected static Set<String> supportedProperties = new HashSet<>(
 			List.of(Properties.TIMEOUT));
 
+	/**
+	 * Properties of tuple queries on a SAIL whose algebra can be rewritten.
+	 */
+	protected static Set<String> supportedSailProperties = new HashSet<>(
+			List.of(Properties.TIMEOUT, Properties.OFFSET, Properties.LIMIT, Properties.KEYSET));
+
 	protected Map<String, Object> properties;
 
 	@Inject
@@ -45,17 +54,32 @@ public class RDF4JQuery<R> implements IDataManagerQuery<R> {
 
 	protected Query query;
 
+	protected SailRepositoryConnection connection;
+
 	@Inject
 	RDF4JValueConverter valueConverter;
 
 	public RDF4JQuery(Query query) {
+		this(query, null);
+	}
+
+	public RDF4JQuery(Query query, RepositoryConnection connection) {
 		this.query = query;
+		if (query instanceof SailTupleQuery && connection instanceof SailRepositoryConnection) {
+			this.connection = (SailRepositoryConnection) connection;
+		}
 	}
 
 	@SuppressWarnings({ "unchecked"})
 	@Override
 	public IExtendedIterator<R> evaluate() {
 		try {
+			Query query = this.query;
+			if (properties != null && connection != null && (properties.containsKey(Properties.OFFSET)
+					|| properties.containsKey(Properties.LIMIT) || properties.containsKey(Properties.KEYSET))) {
+				query = SailQueries.paginate((SailTupleQuery) query, connection, getLong(Properties.OFFSET),
+						getLong(Properties.LIMIT), getKeyset());
+			}
 			IExtendedIterator<R> convertedResult;
 			if (query instanceof TupleQuery) {
 				convertedResult = (IExtendedIterator<R>) new RDF4JTupleResult(
@@ -74,6 +98,24 @@ public class RDF4JQuery<R> implements IDataManagerQuery<R> {
 		}
 	}
 
+	protected long getLong(String propertyName) {
+		Object value = properties.get(propertyName);
+		return value == null ? 0 : ((Number) value).longValue();
+	}
+
+	@SuppressWarnings("unchecked")
+	protected Map<String, Value> getKeyset() {
+		Map<String, IValue> keyset = (Map<String, IValue>) properties.get(Properties.KEYSET);
+		if (keyset == null) {
+			return Collections.emptyMap();
+		}
+		Map<String, Value> values = new LinkedHashMap<>();
+		for (Map.Entry<String, IValue> entry : keyset.entrySet()) {
+			values.put(entry.getKey(), valueConverter.toRdf4j(entry.getValue()));
+		}
+		return values;
+	}
+
 	@Override
 	public Map<String, Object> getProperties() {
 		return properties == null ? Collections.<String, Object> emptyMap()
@@ -82,7 +124,7 @@ public class RDF4JQuery<R> implements IDataManagerQuery<R> {
 
 	@Override
 	public Set<String> getSupportedProperties() {
-		return supportedProperties;
+		return connection != null ? supportedSailProperties : supportedProperties;
 	}
 
 	@Override
@@ -113,6 +155,23 @@ public class RDF4JQuery<R> implements IDataManagerQuery<R> {
 			} else
 				throw new IllegalArgumentException("Illegal argument '" + value
 						+ "' for property " + Properties.TIMEOUT);
+		} else if (connection != null
+				&& (propertyName.equals(Properties.OFFSET) || propertyName.equals(Properties.LIMIT))) {
+			if (value == null || value instanceof Number && ((Number) value).longValue() <= 0) {
+				ensureProperties().remove(propertyName);
+			} else if (value instanceof Number) {
+				ensureProperties().put(propertyName, value);
+			} else
+				throw new IllegalArgumentException("Illegal argument '" + value
+						+ "' for property " + propertyName);
+		} else if (connection != null && propertyName.equals(Properties.KEYSET)) {
+			if (value == null || value instanceof Map<?, ?> && ((Map<?, ?>) value).isEmpty()) {
+				ensureProperties().remove(propertyName);
+			} else if (value instanceof Map<?, ?>) {
+				ensureProperties().put(propertyName, value);
+			} else
+				throw new IllegalArgumentException("Illegal argument '" + value
+						+ "' for property " + Properties.KEYSET);
 		}
 		return this;
 	}
@@ -11,6 +11,7 @@ import org.eclipse.rdf4j.query.Operation;
 import org.eclipse.rdf4j.query.Query;
 import org.eclipse.rdf4j.query.QueryLanguage;
 import org.eclipse.rdf4j.query.Update;
+import org.eclipse.rdf4j.query.parser.ParsedUpdate;
 import org.eclipse.rdf4j.repository.Repository;
 import org.eclipse.rdf4j.repository.RepositoryConnection;
 import org.eclipse.rdf4j.repository.RepositoryException;
@@ -33,8 +34,10 @@ import net.enilink.komma.dm.IDataManager;
 import net.enilink.komma.dm.IDataManagerQuery;
 import net.enilink.komma.dm.IDataManagerUpdate;
 import net.enilink.komma.dm.change.IDataChangeSupport;
+import net.enilink.komma.dm.change.IGraphChange;
 import net.enilink.komma.internal.rdf4j.result.RDF4JGraphResult;
 import net.enilink.komma.internal.rdf4j.result.RDF4JResult;
+import net.enilink.komma.rdf4j.ParsedQueryCache;
 import net.enilink.komma.rdf4j.RDF4JValueConverter;
 import org.eclipse.rdf4j.repository.sail.SailRepositoryConnection;
 import org.eclipse.rdf4j.sail.NotifyingSailConnection;
@@ -114,12 +117,19 @@ public class RDF4JRepositoryDataManager implements IDataManager {
 
 	protected boolean changeSupportEnabled;
 
+	/**
+	 * Prepared queries of this connection, only used if no shared
+	 * {@link #parsedQueryCache} is available.
+	 */
 	protected final Map<String, Query> queryCache = new LinkedHashMap<>((int)(100 / 0.75f + 1), 0.75f, true) {
 		protected boolean removeEldestEntry(Map.Entry<String, Query> eldest) {
 			return this.size() > 100;
 		}
 	};
 
+	@Inject(optional = true)
+	protected ParsedQueryCache parsedQueryCache;
+
 	@Inject
 	public RDF4JRepositoryDataManager(Repository repository, IDataChangeSupport changeSupport) {
 		try {
@@ -237,7 +247,13 @@ public class RDF4JRepositoryDataManager implements IDataManager {
 
 	protected Query prepareRdf4jQuery(String query, String baseURI, boolean includeInferred)
 			throws MalformedQueryException, RepositoryException {
-		var result = queryCache.computeIfAbsent(query, q -> getConnection().prepareQuery(QueryLanguage.SPARQL, q, baseURI));
+		RepositoryConnection conn = getConnection();
+		if (parsedQueryCache != null && conn instanceof SailRepositoryConnection sailConnection) {
+			// reuse the query algebra that is shared between all connections
+			return SailQueries.create(parsedQueryCache.get(query, baseURI), sailConnection);
+		}
+		String cacheKey = baseURI == null ? query : baseURI + '\n' + query;
+		var result = queryCache.computeIfAbsent(cacheKey, q -> conn.prepareQuery(QueryLanguage.SPARQL, query, baseURI));
 		result.clearBindings();
 		return result;
 	}
@@ -332,7 +348,7 @@ public class RDF4JRepositoryDataManager implements IDataManager {
 			setDataset(rdf4jQuery, contexts);
 			rdf4jQuery.setIncludeInferred(includeInferred);
 
-			RDF4JQuery<R> result = new RDF4JQuery<>(rdf4jQuery);
+			RDF4JQuery<R> result = new RDF4JQuery<>(rdf4jQuery, getConnection());
 			injector.injectMembers(result);
 			return result;
 		} catch (RepositoryException e) {
@@ -355,8 +371,20 @@ public class RDF4JRepositoryDataManager implements IDataManager {
 	                                       IReference... modifyContexts) {
 		readContexts = addNullContext(includeInferred, readContexts);
 		if (changeSupport.isEnabled(this) && sailConnectionListener == null) {
-			RDF4JUpdate result = new RDF4JUpdate(this, update, baseURI,
-					includeInferred, readContexts, modifyContexts);
+			RDF4JUpdate result;
+			if (parsedQueryCache != null) {
+				ParsedUpdate parsedUpdate;
+				try {
+					parsedUpdate = parsedQueryCache.getUpdate(update, baseURI);
+				} catch (MalformedQueryException e) {
+					throw new KommaException(e);
+				}
+				result = new RDF4JUpdate(this, parsedUpdate, baseURI,
+						includeInferred, readContexts, modifyContexts);
+			} else {
+				result = new RDF4JUpdate(this, update, baseURI,
+						includeInferred, readContexts, modifyContexts);
+			}
 			injector.injectMembers(result);
 			return result;
 		} else {
@@ -384,6 +412,82 @@ public class RDF4JRepositoryDataManager implements IDataManager {
 
 	}
 
+	/**
+	 * Executes a graph operation natively within the store instead of
+	 * streaming all statements of the source graph through this data manager.
+	 * If change tracking is enabled then the operation is recorded as a single
+	 * {@link IGraphChange}.
+	 * <p>
+	 * Operations are not executed natively if changes must be verified as
+	 * the individual statement changes are required for undo/redo.
+	 * 
+	 * @param operation
+	 *            The graph operation
+	 * @param source
+	 *            The source graph or <code>null</code> for the default graph
+	 * @param target
+	 *            The target graph or <code>null</code> for the default graph
+	 * @return <code>true</code> if the operation has been executed, else
+	 *         <code>false</code>
+	 */
+	boolean executeGraphOperation(IGraphChange.Operation operation, Resource source, Resource target,
+			boolean includeInferred) {
+		if (!isGraphRef(source) || !isGraphRef(target)) {
+			// blank nodes and IRIs with illegal characters can not be used in
+			// SPARQL graph operations
+			return false;
+		}
+		this.changeSupportEnabled = changeSupport.isEnabled(this);
+		boolean trackChanges = changeSupportEnabled && sailConnectionListener == null;
+		if (trackChanges && changeSupport.getMode(this) == IDataChangeSupport.Mode.VERIFY_ALL) {
+			return false;
+		}
+		String update = operation.name() + " " + toGraph(source) + " TO " + toGraph(target);
+		try {
+			Update graphUpdate = getConnection().prepareUpdate(QueryLanguage.SPARQL, update);
+			graphUpdate.setIncludeInferred(includeInferred);
+			graphUpdate.execute();
+			if (trackChanges) {
+				changeSupport.graphOperation(this, operation, valueConverter.fromRdf4j(source),
+						valueConverter.fromRdf4j(target));
+			}
+			if (!getTransaction().isActive()) {
+				clearNodeMappings();
+				if (changeSupportEnabled) {
+					changeSupport.commit(this);
+				}
+			}
+		} catch (Exception e) {
+			throw new KommaException(e);
+		}
+		return true;
+	}
+
+	/**
+	 * Tests if <code>graph</code> is either the default graph or an IRI that
+	 * can be written as IRIREF in SPARQL without escaping.
+	 */
+	private static boolean isGraphRef(Resource graph) {
+		if (graph == null) {
+			return true;
+		}
+		if (!(graph instanceof IRI)) {
+			return false;
+		}
+		String iri = graph.stringValue();
+		for (int i = 0; i < iri.length(); i++) {
+			char c = iri.charAt(i);
+			if (c <= 0x20 || "<>\"{}|^`\\".indexOf(c) >= 0) {
+				return false;
+			}
+		}
+		return true;
+	}
+
+	private static String toGraph(Resource graph) {
+		return graph == null ? "DEFAULT" : "<" + graph.stringValue() + ">";
+	}
+
 	protected RepositoryConnection getConnection() {
 		return connection;
 	}
@@ -41,19 +41,30 @@ public class RDF4JUpdate implements IDataManagerUpdate {
 	public RDF4JUpdate(IDataManager dm, String update, String baseURI,
 			boolean includeInferred, IReference[] readContexts,
 			IReference[] modifyContexts) {
+		this(dm, parse(update, baseURI), baseURI, includeInferred,
+				readContexts, modifyContexts);
+	}
+
+	public RDF4JUpdate(IDataManager dm, ParsedUpdate parsedUpdate,
+			String baseURI, boolean includeInferred,
+			IReference[] readContexts, IReference[] modifyContexts) {
 		this.dm = dm;
-		try {
-			this.parsedUpdate = QueryParserUtil.parseUpdate(
-					QueryLanguage.SPARQL, update, baseURI);
-		} catch (MalformedQueryException | UnsupportedQueryLanguageException e) {
-			throw new KommaException(e);
-		}
+		this.parsedUpdate = parsedUpdate;
 		this.baseURI = baseURI;
 		this.includeInferred = includeInferred;
 		this.readContexts = readContexts;
 		this.modifyContexts = modifyContexts;
 	}
 
+	static ParsedUpdate parse(String update, String baseURI) {
+		try {
+			return QueryParserUtil.parseUpdate(QueryLanguage.SPARQL, update,
+					baseURI);
+		} catch (MalformedQueryException | UnsupportedQueryLanguageException e) {
+			throw new KommaException(e);
+		}
+	}
+
 	@Override
 	public void execute() {
 		SparqlUpdateExecutor updateExecutor = new SparqlUpdateExecutor(dm,
@@ -0,0 +1,151 @@
+package net.enilink.komma.internal.rdf4j;
+
+import java.util.Map;
+
+import org.eclipse.rdf4j.model.Value;
+import org.eclipse.rdf4j.model.impl.SimpleValueFactory;
+import org.eclipse.rdf4j.query.Binding;
+import org.eclipse.rdf4j.query.Query;
+import org.eclipse.rdf4j.query.algebra.And;
+import org.eclipse.rdf4j.query.algebra.Compare;
+import org.eclipse.rdf4j.query.algebra.Compare.CompareOp;
+import org.eclipse.rdf4j.query.algebra.Filter;
+import org.eclipse.rdf4j.query.algebra.FunctionCall;
+import org.eclipse.rdf4j.query.algebra.Or;
+import org.eclipse.rdf4j.query.algebra.Order;
+import org.eclipse.rdf4j.query.algebra.OrderElem;
+import org.eclipse.rdf4j.query.algebra.QueryRoot;
+import org.eclipse.rdf4j.query.algebra.Slice;
+import org.eclipse.rdf4j.query.algebra.TupleExpr;
+import org.eclipse.rdf4j.query.algebra.UnaryTupleOperator;
+import org.eclipse.rdf4j.query.algebra.ValueConstant;
+import org.eclipse.rdf4j.query.algebra.ValueExpr;
+import org.eclipse.rdf4j.query.algebra.Var;
+import org.eclipse.rdf4j.query.parser.ParsedBooleanQuery;
+import org.eclipse.rdf4j.query.parser.ParsedGraphQuery;
+import org.eclipse.rdf4j.query.parser.ParsedQuery;
+import org.eclipse.rdf4j.query.parser.ParsedTupleQuery;
+import org.eclipse.rdf4j.repository.sail.SailBooleanQuery;
+import org.eclipse.rdf4j.repository.sail.SailGraphQuery;
+import org.eclipse.rdf4j.repository.sail.SailRepositoryConnection;
+import org.eclipse.rdf4j.repository.sail.SailTupleQuery;
+
+/**
+ * Creates RDF4J queries for a SAIL connection from already parsed queries.
+ */
+class SailQueries {
+	static class TupleQuery extends SailTupleQuery {
+		TupleQuery(ParsedTupleQuery query, SailRepositoryConnection connection) {
+			super(query, connection);
+		}
+	}
+
+	static class GraphQuery extends SailGraphQuery {
+		GraphQuery(ParsedGraphQuery query, SailRepositoryConnection connection) {
+			super(query, connection);
+		}
+	}
+
+	static class BooleanQuery extends SailBooleanQuery {
+		BooleanQuery(ParsedBooleanQuery query, SailRepositoryConnection connection) {
+			super(query, connection);
+		}
+	}
+
+	static Query create(ParsedQuery parsedQuery, SailRepositoryConnection connection) {
+		if (parsedQuery instanceof ParsedTupleQuery tupleQuery) {
+			return new TupleQuery(tupleQuery, connection);
+		} else if (parsedQuery instanceof ParsedGraphQuery graphQuery) {
+			return new GraphQuery(graphQuery, connection);
+		} else if (parsedQuery instanceof ParsedBooleanQuery booleanQuery) {
+			return new BooleanQuery(booleanQuery, connection);
+		}
+		throw new IllegalArgumentException("Unsupported query type: " + parsedQuery.getClass().getName());
+	}
+
+	/**
+	 * Creates a copy of <code>query</code> whose algebra is restricted to the
+	 * rows after the given <code>keyset</code> and to the given
+	 * <code>offset</code> and <code>limit</code>. This lets the store skip rows
+	 * instead of enumerating them.
+	 */
+	static Query paginate(SailTupleQuery query, SailRepositoryConnection connection, long offset, long limit,
+			Map<String, Value> keyset) {
+		ParsedTupleQuery parsedQuery = query.getParsedQuery();
+		TupleExpr tupleExpr = parsedQuery.getTupleExpr().clone();
+		if (!keyset.isEmpty()) {
+			addKeysetFilter(tupleExpr, keyset);
+		}
+		if (offset > 0 || limit > 0) {
+			tupleExpr = addSlice(tupleExpr, offset, limit);
+		}
+		ParsedTupleQuery paginated = new ParsedTupleQuery(parsedQuery.getSourceString(), tupleExpr);
+		paginated.setDataset(parsedQuery.getDataset());
+
+		TupleQuery result = new TupleQuery(paginated, connection);
+		result.setDataset(query.getDataset());
+		result.setIncludeInferred(query.getIncludeInferred());
+		result.setMaxExecutionTime(query.getMaxExecutionTime());
+		for (Binding binding : query.getBindings()) {
+			result.setBinding(binding.getName(), binding.getValue());
+		}
+		return result;
+	}
+
+	static TupleExpr addSlice(TupleExpr tupleExpr, long offset, long limit) {
+		if (tupleExpr instanceof QueryRoot root) {
+			root.setArg(addSlice(root.getArg(), offset, limit));
+			return root;
+		}
+		if (tupleExpr instanceof Slice slice) {
+			// merge with the OFFSET and LIMIT of the query itself
+			long remaining = slice.hasLimit() ? Math.max(0, slice.getLimit() - offset) : -1;
+			slice.setOffset((slice.hasOffset() ? slice.getOffset() : 0) + offset);
+			slice.setLimit(limit <= 0 ? remaining : remaining < 0 ? limit : Math.min(limit, remaining));
+			return slice;
+		}
+		return new Slice(tupleExpr, offset, limit <= 0 ? -1 : limit);
+	}
+
+	static void addKeysetFilter(TupleExpr tupleExpr, Map<String, Value> keyset) {
+		TupleExpr node = tupleExpr;
+		while (!(node instanceof Order) && node instanceof UnaryTupleOperator operator) {
+			node = operator.getArg();
+		}
+		if (!(node instanceof Order order)) {
+			throw new IllegalArgumentException("Keyset pagination requires an ORDER BY clause");
+		}
+		if (!OrderCompare.isRegistered()) {
+			throw new IllegalStateException("Keyset pagination requires the function " + OrderCompare.URI
+					+ " that is registered by RDF4JModule");
+		}
+		// (k1 > v1) || (k1 = v1 && k2 > v2) || ... with < for descending keys,
+		// the values are compared like ORDER BY does as the operators of
+		// SPARQL raise type errors for IRIs, blank nodes and mixed types
+		ValueConstant zero = new ValueConstant(SimpleValueFactory.getInstance().createLiteral(0));
+		ValueExpr condition = null;
+		ValueExpr equalKeys = null;
+		int keys = 0;
+		for (OrderElem element : order.getElements()) {
+			if (!(element.getExpr() instanceof Var variable) || !keyset.containsKey(variable.getName())) {
+				break;
+			}
+			ValueConstant value = new ValueConstant(keyset.get(variable.getName()));
+			ValueExpr after = new Compare(new FunctionCall(OrderCompare.URI, variable.clone(), value.clone()),
+					zero.clone(), element.isAscending() ? CompareOp.GT : CompareOp.LT);
+			if (equalKeys != null) {
+				after = new And(equalKeys.clone(), after);
+			}
+			condition = condition == null ? after : new Or(condition, after);
+			ValueExpr equal = new Compare(new FunctionCall(OrderCompare.URI, variable.clone(), value), zero.clone(),
+					CompareOp.EQ);
+			equalKeys = equalKeys == null ? equal : new And(equalKeys, equal);
+			keys++;
+		}
+		if (keys != keyset.size()) {
+			throw new IllegalArgumentException(
+					"Keyset " + keyset.keySet() + " is not a prefix of the ORDER BY clause");
+		}
+		order.setArg(new Filter(order.getArg(), condition));
+	}
+}
@@ -23,6 +23,8 @@ import java.util.Collection;
 import java.util.Collections;
 import java.util.HashMap;
 import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
 import java.util.List;
 import java.util.Map;
 import java.util.Set;
@@ -41,6 +43,7 @@ import org.eclipse.rdf4j.query.algebra.Load;
 import org.eclipse.rdf4j.query.algebra.Modify;
 import org.eclipse.rdf4j.query.algebra.Move;
 import org.eclipse.rdf4j.query.algebra.QueryRoot;
+import org.eclipse.rdf4j.query.algebra.Service;
 import org.eclipse.rdf4j.query.algebra.SingletonSet;
 import org.eclipse.rdf4j.query.algebra.StatementPattern;
 import org.eclipse.rdf4j.query.algebra.StatementPattern.Scope;
@@ -48,6 +51,8 @@ import org.eclipse.rdf4j.query.algebra.TupleExpr;
 import org.eclipse.rdf4j.query.algebra.UpdateExpr;
 import org.eclipse.rdf4j.query.algebra.ValueConstant;
 import org.eclipse.rdf4j.query.algebra.Var;
+import org.eclipse.rdf4j.query.algebra.ZeroLengthPath;
+import org.eclipse.rdf4j.query.algebra.helpers.AbstractQueryModelVisitor;
 import org.eclipse.rdf4j.query.algebra.helpers.collectors.StatementPatternCollector;
 import org.eclipse.rdf4j.query.parser.sparql.SPARQLUpdateDataBlockParser;
 import org.eclipse.rdf4j.queryrender.sparql.SparqlTupleExprRenderer;
@@ -68,9 +73,16 @@ import net.enilink.komma.core.KommaException;
 import net.enilink.komma.core.LinkedHashBindings;
 import net.enilink.komma.dm.IDataManager;
 import net.enilink.komma.dm.IDataManagerQuery;
+import net.enilink.komma.dm.change.IGraphChange;
 import net.enilink.komma.rdf4j.RDF4JValueConverter;
 
 public class SparqlUpdateExecutor {
+	/**
+	 * The default number of WHERE clause solutions whose changes are applied
+	 * at once.
+	 */
+	public static final int DEFAULT_CHUNK_SIZE = 1000;
+
 	private final Logger logger = LoggerFactory.getLogger(SparqlUpdateExecutor.class);
 
 	private final IDataManager dm;
@@ -79,6 +91,8 @@ public class SparqlUpdateExecutor {
 
 	private final ValueFactory vf;
 
+	private final int chunkSize;
+
 	static final Collection<IStatementPattern> ANY_STATEMENT = Collections
 			.<IStatementPattern> singleton(new net.enilink.komma.core.StatementPattern(null, null, null));
 
@@ -101,10 +115,70 @@ public class SparqlUpdateExecutor {
 		}
 	}
 
+	/**
+	 * Collects the statements that are removed and added for a chunk of WHERE
+	 * clause solutions. The statements are grouped by their target context,
+	 * <code>null</code> denotes the modify contexts of the update.
+	 */
+	protected class Delta {
+		final UpdateContext uc;
+		final Map<IReference, Set<IStatementPattern>> removals = new LinkedHashMap<>();
+		final Map<IReference, Set<IStatement>> additions = new LinkedHashMap<>();
+
+		Delta(UpdateContext uc) {
+			this.uc = uc;
+		}
+
+		void remove(IStatementPattern stmt, IReference context) {
+			removals.computeIfAbsent(context, c -> new LinkedHashSet<>()).add(stmt);
+		}
+
+		void add(IStatement stmt, IReference context) {
+			additions.computeIfAbsent(context, c -> new LinkedHashSet<>()).add(stmt);
+		}
+
+		/**
+		 * Removes and then adds the collected statements with one operation
+		 * per context.
+		 */
+		void apply() {
+			for (Map.Entry<IReference, Set<IStatementPattern>> entry : removals.entrySet()) {
+				if (entry.getKey() != null) {
+					dm.remove(entry.getValue(), entry.getKey());
+				} else {
+					dm.remove(entry.getValue(), uc.modifyContexts);
+				}
+			}
+			for (Map.Entry<IReference, Set<IStatement>> entry : additions.entrySet()) {
+				if (entry.getKey() != null) {
+					dm.add(entry.getValue(), entry.getKey());
+				} else if (uc.modifyContexts == null) {
+					dm.add(entry.getValue());
+				} else {
+					dm.add(entry.getValue(), uc.modifyContexts);
+				}
+			}
+			removals.clear();
+			additions.clear();
+		}
+	}
+
 	public SparqlUpdateExecutor(IDataManager dm, RDF4JValueConverter valueConverter, ValueFactory vf) {
+		this(dm, valueConverter, vf, DEFAULT_CHUNK_SIZE);
+	}
+
+	/**
+	 * Creates an executor that applies the changes of <code>DELETE/INSERT</code>
+	 * operations for chunks of <code>chunkSize</code> WHERE clause solutions.
+	 * If the changes may affect the WHERE clause, they are applied after all
+	 * solutions are known.
+	 */
+	public SparqlUpdateExecutor(IDataManager dm, RDF4JValueConverter valueConverter, ValueFactory vf,
+			int chunkSize) {
 		this.dm = dm;
 		this.valueConverter = valueConverter;
 		this.vf = vf;
+		this.chunkSize = Math.max(1, chunkSize);
 	}
 
 	public void executeUpdate(UpdateExpr updateExpr, String baseURI, IReference[] readContexts,
@@ -167,6 +241,10 @@ public class SparqlUpdateExecutor {
 			return;
 		}
 
+		if (executeNatively(IGraphChange.Operation.COPY, source, destination, uc)) {
+			return;
+		}
+
 		// clear destination
 		dm.remove(ANY_STATEMENT, valueConverter.fromRdf4j(destination));
 
@@ -189,6 +267,10 @@ public class SparqlUpdateExecutor {
 			return;
 		}
 
+		if (executeNatively(IGraphChange.Operation.ADD, source, destination, uc)) {
+			return;
+		}
+
 		// get all statements from source and add them to destination
 		try (IExtendedIterator<IStatement> stmts = dm.match(null, null, null, uc.includeInferred,
 				valueConverter.fromRdf4j(source))) {
@@ -208,15 +290,30 @@ public class SparqlUpdateExecutor {
 			return;
 		}
 
+		if (executeNatively(IGraphChange.Operation.MOVE, source, destination, uc)) {
+			return;
+		}
+
 		// clear destination
 		dm.remove(ANY_STATEMENT, valueConverter.fromRdf4j(destination));
 
-		// remove all statements from source and add them to destination
+		// add all statements of source to destination and clear source
 		try (IExtendedIterator<IStatement> stmts = dm.match(null, null, null, uc.includeInferred,
 				valueConverter.fromRdf4j(source))) {
 			dm.add(stmts, valueConverter.fromRdf4j(destination));
-			dm.remove(stmts, valueConverter.fromRdf4j(source));
 		}
+		dm.remove(ANY_STATEMENT, valueConverter.fromRdf4j(source));
+	}
+
+	/**
+	 * Delegates a graph operation to the store if this is supported by the
+	 * data manager. Otherwise, the statements of the source graph are copied
+	 * by the calling method.
+	 */
+	protected boolean executeNatively(IGraphChange.Operation operation, Resource source, Resource destination,
+			UpdateContext uc) {
+		return dm instanceof RDF4JRepositoryDataManager && ((RDF4JRepositoryDataManager) dm)
+				.executeGraphOperation(operation, source, destination, uc.includeInferred);
 	}
 
 	protected void executeClear(Clear clearExpr, UpdateContext uc) throws KommaException {
@@ -286,7 +383,8 @@ public class SparqlUpdateExecutor {
 	protected IExtendedIterator<?> evaluateSparql(TupleExpr tupleExpr, UpdateContext uc) {
 		try {
 			SparqlTupleExprRenderer renderer = new SparqlTupleExprRenderer();
-			String sparql = renderer.render(tupleExpr);
+			// the renderer only returns the graph pattern
+			String sparql = "SELECT * WHERE {\n" + renderer.render(tupleExpr) + "\n}";
 			return dm.createQuery(sparql, uc.baseURI, uc.includeInferred, uc.readContexts).evaluate();
 		} catch (KommaException e) {
 			throw e;
@@ -301,12 +399,78 @@ public class SparqlUpdateExecutor {
 		if (!(whereClause instanceof QueryRoot)) {
 			whereClause = new QueryRoot(whereClause);
 		}
+		List<StatementPattern> deletePatterns = modify.getDeleteExpr() != null
+				? StatementPatternCollector.process(modify.getDeleteExpr())
+				: Collections.<StatementPattern> emptyList();
+		List<StatementPattern> insertPatterns = modify.getInsertExpr() != null
+				? StatementPatternCollector.process(modify.getInsertExpr())
+				: Collections.<StatementPattern> emptyList();
+		// the changes are applied while the WHERE clause is evaluated only if
+		// they can neither change its solutions nor each other, else they are
+		// buffered until all solutions are known
+		boolean applyChunks = !isInterfering(whereClause, deletePatterns, insertPatterns);
+		Delta deletions = new Delta(uc);
+		Delta insertions = new Delta(uc);
 		try (IExtendedIterator<IBindings<IValue>> sourceBindings = evaluateWhereClause(whereClause, uc)) {
-			for (IBindings<IValue> bs : sourceBindings) {
-				deleteBoundTriples(bs, modify.getDeleteExpr(), uc);
-				insertBoundTriples(bs, modify.getInsertExpr(), uc);
+			for (int i = 1; sourceBindings.hasNext(); i++) {
+				IBindings<IValue> solution = sourceBindings.next();
+				deleteBoundTriples(solution, deletePatterns, deletions);
+				insertBoundTriples(solution, insertPatterns, insertions);
+				if (applyChunks && i % chunkSize == 0) {
+					deletions.apply();
+					insertions.apply();
+				}
+			}
+		}
+		// all deletions are applied before all insertions
+		deletions.apply();
+		insertions.apply();
+	}
+
+	/**
+	 * Returns <code>true</code> if the statements changed by the given
+	 * templates may match the patterns of the WHERE clause or if the deleted
+	 * and inserted statements may overlap.
+	 */
+	protected boolean isInterfering(TupleExpr whereClause, List<StatementPattern> deletePatterns,
+			List<StatementPattern> insertPatterns) {
+		boolean[] unknownPatterns = { false };
+		whereClause.visit(new AbstractQueryModelVisitor<RuntimeException>() {
+			@Override
+			public void meet(ZeroLengthPath node) {
+				// matches any node of the graph
+				unknownPatterns[0] = true;
+			}
+
+			@Override
+			public void meet(Service node) {
+				unknownPatterns[0] = true;
+			}
+		});
+		if (unknownPatterns[0]) {
+			return true;
+		}
+		List<StatementPattern> templates = new ArrayList<>(deletePatterns);
+		templates.addAll(insertPatterns);
+		return isOverlapping(StatementPatternCollector.process(whereClause), templates)
+				|| isOverlapping(deletePatterns, insertPatterns);
+	}
+
+	private boolean isOverlapping(List<StatementPattern> patterns, List<StatementPattern> otherPatterns) {
+		for (StatementPattern pattern : patterns) {
+			for (StatementPattern other : otherPatterns) {
+				if (isOverlapping(pattern.getSubjectVar(), other.getSubjectVar())
+						&& isOverlapping(pattern.getPredicateVar(), other.getPredicateVar())
+						&& isOverlapping(pattern.getObjectVar(), other.getObjectVar())) {
+					return true;
+				}
 			}
 		}
+		return false;
+	}
+
+	private boolean isOverlapping(Var var, Var other) {
+		return !var.hasValue() || !other.hasValue() || var.getValue().equals(other.getValue());
 	}
 
 	private IExtendedIterator<IBindings<IValue>> evaluateWhereClause(final TupleExpr whereClause,
@@ -344,58 +508,39 @@ public class SparqlUpdateExecutor {
 
 	}
 
-	private void deleteBoundTriples(IBindings<IValue> whereBinding, TupleExpr deleteClause, UpdateContext uc)
-			throws KommaException {
-		if (deleteClause != null) {
-			List<StatementPattern> deletePatterns = StatementPatternCollector.process(deleteClause);
-			for (StatementPattern deletePattern : deletePatterns) {
-				IReference subject = (IReference) getValueForVar(deletePattern.getSubjectVar(), whereBinding);
-				IReference predicate = (IReference) getValueForVar(deletePattern.getPredicateVar(), whereBinding);
-				IValue object = getValueForVar(deletePattern.getObjectVar(), whereBinding);
-
-				IReference context = null;
-				if (deletePattern.getContextVar() != null) {
-					context = (IReference) getValueForVar(deletePattern.getContextVar(), whereBinding);
-				}
+	private void deleteBoundTriples(IBindings<IValue> whereBinding, List<StatementPattern> deletePatterns,
+			Delta delta) throws KommaException {
+		for (StatementPattern deletePattern : deletePatterns) {
+			IReference subject = (IReference) getValueForVar(deletePattern.getSubjectVar(), whereBinding);
+			IReference predicate = (IReference) getValueForVar(deletePattern.getPredicateVar(), whereBinding);
+			IValue object = getValueForVar(deletePattern.getObjectVar(), whereBinding);
 
-				if (subject == null || predicate == null || object == null) {
-					// skip removal of triple if any variable is unbound (may
-					// happen with optional patterns)
-					// See SES-1047.
-					continue;
-				}
+			IReference context = null;
+			if (deletePattern.getContextVar() != null) {
+				context = (IReference) getValueForVar(deletePattern.getContextVar(), whereBinding);
+			}
 
-				net.enilink.komma.core.StatementPattern stmt = new net.enilink.komma.core.StatementPattern(subject,
-						predicate, object);
-				if (context != null) {
-					dm.remove(Collections.singleton(stmt), context);
-				} else {
-					dm.remove(Collections.singleton(stmt), uc.modifyContexts);
-				}
+			if (subject == null || predicate == null || object == null) {
+				// skip removal of triple if any variable is unbound (may
+				// happen with optional patterns)
+				// See SES-1047.
+				continue;
 			}
+
+			delta.remove(new net.enilink.komma.core.StatementPattern(subject, predicate, object), context);
 		}
 	}
 
-	private void insertBoundTriples(IBindings<IValue> whereBinding, TupleExpr insertClause, UpdateContext uc)
-			throws KommaException {
-		if (insertClause != null) {
-			List<StatementPattern> insertPatterns = StatementPatternCollector.process(insertClause);
-			// bnodes in the insert pattern are locally scoped for each
-			// individual source binding.
-			Map<String, IReference> bnodeMapping = new HashMap<>();
-			for (StatementPattern insertPattern : insertPatterns) {
-				net.enilink.komma.core.Statement toBeInserted = createStatementFromPattern(insertPattern, whereBinding,
-						bnodeMapping);
-				if (toBeInserted != null) {
-					IReference[] with = uc.modifyContexts;
-					if (with == null && toBeInserted.getContext() == null) {
-						dm.add(toBeInserted);
-					} else if (toBeInserted.getContext() == null) {
-						dm.add(toBeInserted, with);
-					} else {
-						dm.add(toBeInserted, toBeInserted.getContext());
-					}
-				}
+	private void insertBoundTriples(IBindings<IValue> whereBinding, List<StatementPattern> insertPatterns,
+			Delta delta) throws KommaException {
+		// bnodes in the insert pattern are locally scoped for each
+		// individual source binding.
+		Map<String, IReference> bnodeMapping = new HashMap<>();
+		for (StatementPattern insertPattern : insertPatterns) {
+			net.enilink.komma.core.Statement toBeInserted = createStatementFromPattern(insertPattern, whereBinding,
+					bnodeMapping);
+			if (toBeInserted != null) {
+				delta.add(toBeInserted, toBeInserted.getContext());
 			}
 		}
 	}
@@ -431,7 +576,7 @@ public class SparqlUpdateExecutor {
 		} else {
 			object = sourceBindings.get(pattern.getObjectVar().getName());
 			if (object == null && pattern.getObjectVar().isAnonymous()) {
-				object = bnodeMapping.get(pattern.getSubjectVar().getName());
+				object = bnodeMapping.get(pattern.getObjectVar().getName());
 				if (object == null) {
 					object = dm.blankNode();
 					bnodeMapping.put(pattern.getObjectVar().getName(), (IReference) object);
@@ -0,0 +1,182 @@
+package net.enilink.komma.rdf4j;
+
+import java.util.Objects;
+import java.util.concurrent.ExecutionException;
+
+import org.eclipse.rdf4j.query.MalformedQueryException;
+import org.eclipse.rdf4j.query.QueryLanguage;
+import org.eclipse.rdf4j.query.parser.ParsedQuery;
+import org.eclipse.rdf4j.query.parser.ParsedUpdate;
+import org.eclipse.rdf4j.query.parser.QueryParserUtil;
+
+import com.google.common.cache.Cache;
+import com.google.common.cache.CacheBuilder;
+import com.google.common.cache.CacheStats;
+import com.google.common.util.concurrent.UncheckedExecutionException;
+
+/**
+ * A thread-safe cache for parsed SPARQL queries and updates that is shared by
+ * all data managers of a repository.
+ * <p>
+ * The cached query algebra is never modified by RDF4J's SAIL implementations
+ * since they clone the algebra before optimizing and evaluating it. Hence the
+ * same {@link ParsedQuery} can be evaluated concurrently by different
+ * connections. The inference flag is not part of the parsed query but of its
+ * evaluation and hence the same entry is used for queries with and without
+ * inferred statements.
+ */
+public class ParsedQueryCache {
+	static class Key {
+		final String query;
+		final String baseURI;
+		final int hashCode;
+
+		Key(String query, String baseURI) {
+			this.query = query;
+			this.baseURI = baseURI;
+			this.hashCode = Objects.hash(query, baseURI);
+		}
+
+		@Override
+		public int hashCode() {
+			return hashCode;
+		}
+
+		@Override
+		public boolean equals(Object obj) {
+			if (this == obj) {
+				return true;
+			}
+			if (!(obj instanceof Key)) {
+				return false;
+			}
+			Key other = (Key) obj;
+			return query.equals(other.query) && Objects.equals(baseURI, other.baseURI);
+		}
+	}
+
+	public static final int DEFAULT_MAXIMUM_SIZE = 1000;
+
+	protected final Cache<Key, ParsedQuery> cache;
+
+	protected final Cache<Key, ParsedUpdate> updateCache;
+
+	/**
+	 * Constructs a query cache with {@link #DEFAULT_MAXIMUM_SIZE}.
+	 */
+	public ParsedQueryCache() {
+		this(DEFAULT_MAXIMUM_SIZE);
+	}
+
+	/**
+	 * Constructs a query cache with the given maximum size.
+	 *
+	 * @param maximumSize
+	 *            The maximum number of parsed queries that are kept
+	 */
+	public ParsedQueryCache(int maximumSize) {
+		this.cache = CacheBuilder.newBuilder().maximumSize(maximumSize).recordStats().build();
+		this.updateCache = CacheBuilder.newBuilder().maximumSize(maximumSize).recordStats().build();
+	}
+
+	/**
+	 * Returns the parsed SPARQL query for the given query string. The query is
+	 * parsed if it is not already contained in this cache.
+	 *
+	 * @param query
+	 *            The SPARQL query
+	 * @param baseURI
+	 *            The base URI for resolving relative IRIs
+	 * @return The parsed query
+	 * @throws MalformedQueryException
+	 *             if the query can not be parsed
+	 */
+	public ParsedQuery get(String query, String baseURI) throws MalformedQueryException {
+		try {
+			return cache.get(new Key(query, baseURI),
+					() -> QueryParserUtil.parseQuery(QueryLanguage.SPARQL, query, baseURI));
+		} catch (ExecutionException | UncheckedExecutionException e) {
+			if (e.getCause() instanceof MalformedQueryException) {
+				throw (MalformedQueryException) e.getCause();
+			}
+			if (e.getCause() instanceof RuntimeException) {
+				throw (RuntimeException) e.getCause();
+			}
+			throw new MalformedQueryException(e.getCause());
+		}
+	}
+
+	/**
+	 * Returns the parsed SPARQL update for the given update string. The update
+	 * is parsed if it is not already contained in this cache.
+	 * <p>
+	 * The parsed update is only read by the change-tracking update executor
+	 * and hence can be shared.
+	 *
+	 * @param update
+	 *            The SPARQL update
+	 * @param baseURI
+	 *            The base URI for resolving relative IRIs
+	 * @return The parsed update
+	 * @throws MalformedQueryException
+	 *             if the update can not be parsed
+	 */
+	public ParsedUpdate getUpdate(String update, String baseURI) throws MalformedQueryException {
+		try {
+			return updateCache.get(new Key(update, baseURI),
+					() -> QueryParserUtil.parseUpdate(QueryLanguage.SPARQL, update, baseURI));
+		} catch (ExecutionException | UncheckedExecutionException e) {
+			if (e.getCause() instanceof MalformedQueryException) {
+				throw (MalformedQueryException) e.getCause();
+			}
+			if (e.getCause() instanceof RuntimeException) {
+				throw (RuntimeException) e.getCause();
+			}
+			throw new MalformedQueryException(e.getCause());
+		}
+	}
+
+	/**
+	 * Removes all parsed queries and updates from this cache.
+	 */
+	public void invalidateAll() {
+		cache.invalidateAll();
+		updateCache.invalidateAll();
+	}
+
+	/**
+	 * Returns the current number of cached queries.
+	 *
+	 * @return the number of cached queries
+	 */
+	public long size() {
+		return cache.size();
+	}
+
+	/**
+	 * Returns the current number of cached updates.
+	 *
+	 * @return the number of cached updates
+	 */
+	public long updateSize() {
+		return updateCache.size();
+	}
+
+	/**
+	 * Returns the hit and miss statistics of this cache for queries.
+	 *
+	 * @return statistics about the cache usage by queries
+	 */
+	public CacheStats stats() {
+		return cache.stats();
+	}
+
+	/**
+	 * Returns the hit and miss statistics of this cache for updates.
+	 *
+	 * @return statistics about the cache usage by updates
+	 */
+	public CacheStats updateStats() {
+		return updateCache.stats();
+	}
+}
@@ -8,12 +8,45 @@ import com.google.inject.Provides;
 import com.google.inject.Singleton;
 
 import net.enilink.komma.dm.IDataManagerFactory;
+import net.enilink.komma.internal.rdf4j.OrderCompare;
 
+/**
+ * Binds the data manager factory for RDF4J repositories.
+ * <p>
+ * Configuring this module registers the function {@link OrderCompare} that is
+ * used for keyset pagination with RDF4J's global function registry.
+ */
 public class RDF4JModule extends AbstractModule {
+	protected final int queryCacheSize;
+
+	/**
+	 * Constructs an instance of the RDF4J module with a shared query cache of
+	 * size {@link ParsedQueryCache#DEFAULT_MAXIMUM_SIZE}.
+	 */
+	public RDF4JModule() {
+		this(ParsedQueryCache.DEFAULT_MAXIMUM_SIZE);
+	}
+
+	/**
+	 * Constructs an instance of the RDF4J module with a shared query cache of
+	 * the given size.
+	 *
+	 * @param queryCacheSize
+	 *            maximum number of parsed queries shared by all data managers
+	 *            of the repository, <code>0</code> disables the shared cache
+	 */
+	public RDF4JModule(int queryCacheSize) {
+		this.queryCacheSize = queryCacheSize;
+	}
+
 	@Override
 	protected void configure() {
+		OrderCompare.register();
 		bind(RDF4JDataManagerFactory.class).in(Singleton.class);
 		bind(IDataManagerFactory.class).to(RDF4JDataManagerFactory.class);
+		if (queryCacheSize > 0) {
+			bind(ParsedQueryCache.class).toInstance(new ParsedQueryCache(queryCacheSize));
+		}
 	}
 
 	@Provides
@@ -4,27 +4,45 @@ import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertInstanceOf;
 import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 
 import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
 
 import com.google.inject.AbstractModule;
 import com.google.inject.Guice;
 import com.google.inject.Provides;
+import net.enilink.commons.iterator.IExtendedIterator;
+import net.enilink.komma.core.IBindings;
+import net.enilink.komma.core.ILiteral;
+import net.enilink.komma.core.LinkedHashBindings;
 import net.enilink.komma.core.IReference;
 import net.enilink.komma.core.IStatement;
 import net.enilink.komma.core.Literal;
+import net.enilink.komma.core.Properties;
 import net.enilink.komma.core.Statement;
 import net.enilink.komma.core.StatementPattern;
 import net.enilink.komma.core.URI;
 import net.enilink.komma.core.URIs;
+import net.enilink.komma.dm.IDataManagerQuery;
 import net.enilink.komma.dm.change.DataChangeSupport;
 import net.enilink.komma.dm.change.IDataChange;
 import net.enilink.komma.dm.change.IDataChangeListener;
 import net.enilink.komma.dm.change.IDataChangeSupport;
+import net.enilink.komma.dm.change.IGraphChange;
 import net.enilink.komma.dm.change.INamespaceChange;
 import net.enilink.komma.dm.change.IStatementChange;
+import net.enilink.komma.rdf4j.ParsedQueryCache;
 import net.enilink.komma.rdf4j.RDF4JValueConverter;
 import org.eclipse.rdf4j.repository.Repository;
 import org.eclipse.rdf4j.repository.sail.SailRepository;
@@ -32,7 +50,12 @@ import org.eclipse.rdf4j.repository.sail.SailRepositoryConnection;
 import org.eclipse.rdf4j.sail.NotifyingSailConnection;
 import org.eclipse.rdf4j.sail.memory.MemoryStore;
 import org.eclipse.rdf4j.model.ValueFactory;
+import org.eclipse.rdf4j.query.algebra.Copy;
+import org.eclipse.rdf4j.query.algebra.TupleExpr;
+import org.eclipse.rdf4j.query.algebra.ValueConstant;
+import org.eclipse.rdf4j.query.parser.ParsedUpdate;
 import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeAll;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 
@@ -41,6 +64,11 @@ class RDF4JRepositoryDataManagerTest {
 	private DataChangeSupport changeSupport;
 	private RDF4JRepositoryDataManager dataManager;
 
+	@BeforeAll
+	static void registerFunctions() {
+		OrderCompare.register();
+	}
+
 	@BeforeEach
 	void setUp() {
 		repository = new SailRepository(new MemoryStore());
@@ -111,14 +139,22 @@ class RDF4JRepositoryDataManagerTest {
 		assertEquals(4, committedChanges.size());
 	}
 
-	@Test
-	void expandsWildcardRemovalWhenConfigured() {
+	/**
+	 * Simulates a store without change notifications where all changes are
+	 * tracked by the data manager itself.
+	 */
+	private void detachSailConnectionListener() {
 		if (dataManager.connection instanceof SailRepositoryConnection connection
 				&& connection.getSailConnection() instanceof NotifyingSailConnection notifyingSailConnection
 				&& dataManager.sailConnectionListener != null) {
 			notifyingSailConnection.removeConnectionListener(dataManager.sailConnectionListener);
 			dataManager.sailConnectionListener = null;
 		}
+	}
+
+	@Test
+	void expandsWildcardRemovalWhenConfigured() {
+		detachSailConnectionListener();
 
 		IReference subject = URIs.createURI("urn:test:wildcard:s");
 		IReference predicate = URIs.createURI("urn:test:wildcard:p");
@@ -142,4 +178,406 @@ class RDF4JRepositoryDataManagerTest {
 		assertEquals(predicate, removedStatement.getPredicate());
 		assertEquals(object, removedStatement.getObject());
 	}
+
+	@Test
+	void coalescesChangesWithinTransaction() {
+		changeSupport.setCoalescing(true);
+		List<IDataChange> committed = new ArrayList<>();
+		changeSupport.addChangeListener(committed::addAll);
+
+		IReference s1 = URIs.createURI("urn:test:coalesce:s1");
+		IReference s2 = URIs.createURI("urn:test:coalesce:s2");
+		IReference predicate = URIs.createURI("urn:test:coalesce:p");
+
+		dataManager.getTransaction().begin();
+		dataManager.add(List.of(new Statement(s1, predicate, new Literal("a"))));
+		dataManager.add(List.of(new Statement(s2, predicate, new Literal("b"))));
+		dataManager.remove(List.of(new StatementPattern(s1, predicate, new Literal("a"))));
+		dataManager.add(List.of(new Statement(s1, predicate, new Literal("c"))));
+		dataManager.getTransaction().commit();
+
+		assertEquals(2, committed.size());
+		IStatementChange first = assertInstanceOf(IStatementChange.class, committed.get(0));
+		assertTrue(first.isAdd());
+		assertEquals(s1, first.getStatement().getSubject());
+		assertEquals(new Literal("c"), first.getStatement().getObject());
+		IStatementChange second = assertInstanceOf(IStatementChange.class, committed.get(1));
+		assertTrue(second.isAdd());
+		assertEquals(s2, second.getStatement().getSubject());
+	}
+
+	@Test
+	void keepsOrderAcrossWildcardChanges() {
+		detachSailConnectionListener();
+		changeSupport.setCoalescing(true);
+		List<IDataChange> committed = new ArrayList<>();
+		changeSupport.addChangeListener(committed::addAll);
+
+		IReference s2 = URIs.createURI("urn:test:coalesce:s2");
+		IReference predicate = URIs.createURI("urn:test:coalesce:p");
+		Literal object = new Literal("o");
+
+		dataManager.getTransaction().begin();
+		dataManager.add(List.of(new Statement(s2, predicate, new Literal("x"))));
+		dataManager.remove(List.of(new StatementPattern(null, predicate, object)));
+		dataManager.add(List.of(new Statement(s2, predicate, object)));
+		dataManager.getTransaction().commit();
+
+		// the addition of (s2, p, o) must not be moved before the removal
+		assertEquals(3, committed.size());
+		IStatementChange first = assertInstanceOf(IStatementChange.class, committed.get(0));
+		assertTrue(first.isAdd());
+		assertEquals(new Literal("x"), first.getStatement().getObject());
+		IStatementChange second = assertInstanceOf(IStatementChange.class, committed.get(1));
+		assertFalse(second.isAdd());
+		assertNull(second.getStatement().getSubject());
+		IStatementChange third = assertInstanceOf(IStatementChange.class, committed.get(2));
+		assertTrue(third.isAdd());
+		assertEquals(s2, third.getStatement().getSubject());
+		assertEquals(object, third.getStatement().getObject());
+	}
+
+	@Test
+	void deliversChangesAsynchronouslyInOrder() throws Exception {
+		ExecutorService executor = Executors.newSingleThreadExecutor();
+		try {
+			changeSupport.setAsyncExecutor(executor, 1);
+			List<IDataChange> committed = Collections.synchronizedList(new ArrayList<>());
+			Set<Thread> threads = ConcurrentHashMap.newKeySet();
+			changeSupport.addChangeListener(changes -> {
+				threads.add(Thread.currentThread());
+				committed.addAll(changes);
+			});
+
+			IReference predicate = URIs.createURI("urn:test:async:p");
+			for (int i = 0; i < 20; i++) {
+				dataManager.add(List.of(new Statement(URIs.createURI("urn:test:async:s" + i), predicate,
+						new Literal("value"))));
+			}
+			assertTrue(changeSupport.awaitDelivery(10, TimeUnit.SECONDS));
+
+			assertEquals(20, committed.size());
+			for (int i = 0; i < 20; i++) {
+				IStatementChange change = assertInstanceOf(IStatementChange.class, committed.get(i));
+				assertEquals(URIs.createURI("urn:test:async:s" + i), change.getStatement().getSubject());
+			}
+			assertFalse(threads.contains(Thread.currentThread()));
+		} finally {
+			changeSupport.setAsyncExecutor(null, 0);
+			executor.shutdown();
+		}
+	}
+
+	@Test
+	void sharesParsedQueriesBetweenDataManagers() {
+		ParsedQueryCache queryCache = new ParsedQueryCache(10);
+		dataManager.parsedQueryCache = queryCache;
+
+		RDF4JRepositoryDataManager otherDataManager = new RDF4JRepositoryDataManager(repository, changeSupport);
+		otherDataManager.valueConverter = dataManager.valueConverter;
+		otherDataManager.injector = dataManager.injector;
+		otherDataManager.parsedQueryCache = queryCache;
+		try {
+			IReference subject = URIs.createURI("urn:test:query:s");
+			IReference predicate = URIs.createURI("urn:test:query:p");
+			dataManager.add(List.of(new Statement(subject, predicate, new Literal("value"))));
+
+			String query = "SELECT ?o WHERE { ?s ?p ?o }";
+			boolean includeInferred = false;
+			for (RDF4JRepositoryDataManager dm : List.of(dataManager, otherDataManager)) {
+				// the inference flag does not require a separately parsed query
+				List<Object> results = dm.createQuery(query, null, includeInferred)
+						.setParameter("s", subject)
+						.setParameter("p", predicate)
+						.evaluate().toList();
+				assertEquals(1, results.size());
+				includeInferred = !includeInferred;
+			}
+
+			assertEquals(1, queryCache.size());
+			assertEquals(1, queryCache.stats().missCount());
+			assertEquals(1, queryCache.stats().hitCount());
+		} finally {
+			otherDataManager.close();
+		}
+	}
+
+	@Test
+	void reportsStatsOfParsedUpdates() {
+		ParsedQueryCache queryCache = new ParsedQueryCache(10);
+		String update = "INSERT { ?s ?p \"other\" } WHERE { ?s ?p ?o }";
+		assertSame(queryCache.getUpdate(update, null), queryCache.getUpdate(update, null));
+
+		assertEquals(1, queryCache.updateSize());
+		assertEquals(1, queryCache.updateStats().missCount());
+		assertEquals(1, queryCache.updateStats().hitCount());
+		// updates do not count as queries
+		assertEquals(0, queryCache.size());
+		assertEquals(0, queryCache.stats().requestCount());
+	}
+
+	@Test
+	void paginatesQueriesInTheStore() {
+		IReference predicate = URIs.createURI("urn:test:page:p");
+		URI xsdInt = URIs.createURI("http://www.w3.org/2001/XMLSchema#int");
+		List<IStatement> statements = new ArrayList<>();
+		for (int i = 0; i < 10; i++) {
+			statements.add(new Statement(URIs.createURI("urn:test:page:s" + i), predicate,
+					new Literal(String.valueOf(i), xsdInt)));
+		}
+		dataManager.add(statements);
+
+		String query = "SELECT ?s ?o WHERE { ?s ?p ?o } ORDER BY DESC(?o) LIMIT 8";
+		IDataManagerQuery<IBindings<?>> paged = dataManager.<IBindings<?>> createQuery(query, null, false)
+				.setParameter("p", predicate);
+		assertTrue(paged.getSupportedProperties().contains(Properties.LIMIT));
+
+		paged.setProperty(Properties.OFFSET, 2).setProperty(Properties.LIMIT, 3);
+		assertEquals(List.of(7, 6, 5), values(paged.evaluate().toList()));
+
+		// the limit of the query itself is respected
+		paged.setProperty(Properties.OFFSET, 6).setProperty(Properties.LIMIT, 3);
+		assertEquals(List.of(3, 2), values(paged.evaluate().toList()));
+
+		paged.setProperty(Properties.OFFSET, 0).setProperty(Properties.LIMIT, 2)
+				.setProperty(Properties.KEYSET, Map.of("o", new Literal("5", xsdInt)));
+		assertEquals(List.of(4, 3), values(paged.evaluate().toList()));
+
+		paged.setProperty(Properties.LIMIT, 0).setProperty(Properties.KEYSET, null);
+		assertEquals(8, paged.evaluate().toList().size());
+	}
+
+	@Test
+	void paginatesByKeysetWithIriTiebreaker() {
+		IReference predicate = URIs.createURI("urn:test:keyset:p");
+		URI xsdInt = URIs.createURI("http://www.w3.org/2001/XMLSchema#int");
+		List<IStatement> statements = new ArrayList<>();
+		for (int i = 0; i < 6; i++) {
+			// duplicate values of the primary key
+			statements.add(new Statement(URIs.createURI("urn:test:keyset:s" + i), predicate,
+					new Literal(String.valueOf(i / 2), xsdInt)));
+		}
+		// mixed types of the primary key
+		statements.add(new Statement(URIs.createURI("urn:test:keyset:s6"), predicate,
+				URIs.createURI("urn:test:keyset:value")));
+		statements.add(new Statement(URIs.createURI("urn:test:keyset:s7"), predicate, new Literal("text")));
+		dataManager.add(statements);
+
+		String query = "SELECT ?s ?o WHERE { ?s ?p ?o } ORDER BY ?o ?s";
+		IDataManagerQuery<IBindings<?>> paged = dataManager.<IBindings<?>> createQuery(query, null, false)
+				.setParameter("p", predicate);
+		List<IReference> all = subjects(paged.evaluate().toList());
+		assertEquals(8, all.size());
+
+		// resume after each row of the complete result
+		List<IBindings<?>> rows = paged.evaluate().toList();
+		for (int i = 0; i < rows.size(); i++) {
+			IBindings<?> row = rows.get(i);
+			Map<String, Object> keyset = new HashMap<>();
+			keyset.put("o", row.get("o"));
+			keyset.put("s", row.get("s"));
+			paged.setProperty(Properties.KEYSET, keyset);
+			assertEquals(all.subList(i + 1, all.size()), subjects(paged.evaluate().toList()));
+		}
+
+		// an IRI as only key
+		IDataManagerQuery<IBindings<?>> bySubject = dataManager.<IBindings<?>> createQuery(
+				"SELECT ?s ?o WHERE { ?s ?p ?o } ORDER BY DESC(?s)", null, false).setParameter("p", predicate)
+				.setProperty(Properties.KEYSET, Map.of("s", URIs.createURI("urn:test:keyset:s2")));
+		assertEquals(List.of(URIs.createURI("urn:test:keyset:s1"), URIs.createURI("urn:test:keyset:s0")),
+				subjects(bySubject.evaluate().toList()));
+	}
+
+	private List<IReference> subjects(List<IBindings<?>> bindings) {
+		List<IReference> subjects = new ArrayList<>();
+		for (IBindings<?> b : bindings) {
+			subjects.add((IReference) b.get("s"));
+		}
+		return subjects;
+	}
+
+	private List<Integer> values(List<IBindings<?>> bindings) {
+		List<Integer> values = new ArrayList<>();
+		for (IBindings<?> b : bindings) {
+			values.add(Integer.parseInt(((ILiteral) b.get("o")).getLabel()));
+		}
+		return values;
+	}
+
+	@Test
+	void executesTrackedUpdatesInChunks() {
+		detachSailConnectionListener();
+
+		IReference p1 = URIs.createURI("urn:test:update:p1");
+		IReference p2 = URIs.createURI("urn:test:update:p2");
+		int count = SparqlUpdateExecutor.DEFAULT_CHUNK_SIZE * 2 + 500;
+		List<IStatement> statements = new ArrayList<>();
+		for (int i = 0; i < count; i++) {
+			statements.add(new Statement(URIs.createURI("urn:test:update:s" + i), p1, new Literal("v" + i)));
+		}
+		changeSupport.setEnabled(dataManager, false);
+		dataManager.add(statements);
+		changeSupport.setEnabled(dataManager, true);
+
+		List<IDataChange> committed = new ArrayList<>();
+		changeSupport.addChangeListener(committed::addAll);
+
+		dataManager.createUpdate("DELETE { ?s <" + p1 + "> ?o } INSERT { ?s <" + p2 + "> ?o } WHERE { ?s <" + p1
+				+ "> ?o }", null, false).execute();
+
+		assertEquals(0, dataManager.match(null, p1, null, false).toList().size());
+		assertEquals(count, dataManager.match(null, p2, null, false).toList().size());
+
+		int added = 0, removed = 0;
+		for (IDataChange change : committed) {
+			IStatementChange statementChange = assertInstanceOf(IStatementChange.class, change);
+			if (statementChange.isAdd()) {
+				assertEquals(p2, statementChange.getStatement().getPredicate());
+				added++;
+			} else {
+				assertEquals(p1, statementChange.getStatement().getPredicate());
+				removed++;
+			}
+		}
+		assertEquals(count, added);
+		assertEquals(count, removed);
+	}
+
+	@Test
+	void evaluatesWhereClauseBeforeApplyingChanges() {
+		detachSailConnectionListener();
+
+		IReference p = URIs.createURI("urn:test:update:p");
+		List<IStatement> statements = new ArrayList<>();
+		for (int i = 0; i < 10; i++) {
+			statements.add(new Statement(URIs.createURI("urn:test:update:a" + i), p,
+					URIs.createURI("urn:test:update:b" + i)));
+		}
+		dataManager.add(statements);
+
+		// the WHERE clause matches the inserted statements, they must not be
+		// swapped back by later chunks
+		SparqlUpdateExecutor executor = new SparqlUpdateExecutor(dataManager, dataManager.valueConverter,
+				repository.getValueFactory(), 1);
+		ParsedUpdate update = RDF4JUpdate.parse("DELETE { ?s <" + p + "> ?o } INSERT { ?o <" + p + "> ?s } WHERE { ?s <"
+				+ p + "> ?o }", null);
+		executor.executeUpdate(update.getUpdateExprs().get(0), null, new IReference[0], new IReference[0],
+				new LinkedHashBindings<>(), false);
+
+		List<IStatement> swapped = dataManager.match(null, p, null, false).toList();
+		assertEquals(10, swapped.size());
+		for (IStatement stmt : swapped) {
+			assertTrue(stmt.getSubject().getURI().localPart().startsWith("b"), stmt.toString());
+		}
+	}
+
+	@Test
+	void appliesChunksWhileEvaluatingIndependentWhereClause() {
+		detachSailConnectionListener();
+
+		IReference p1 = URIs.createURI("urn:test:update:p1");
+		IReference p2 = URIs.createURI("urn:test:update:p2");
+		IReference p3 = URIs.createURI("urn:test:update:p3");
+		List<IStatement> statements = new ArrayList<>();
+		for (int i = 0; i < 6; i++) {
+			statements.add(new Statement(URIs.createURI("urn:test:update:s" + i), p1, new Literal("v" + i)));
+		}
+		dataManager.add(statements);
+
+		// records the number of statements with the inserted predicate before
+		// each solution of the WHERE clause is processed
+		List<Integer> inserted = new ArrayList<>();
+		IReference[] insertedPredicate = { p2 };
+		SparqlUpdateExecutor executor = new SparqlUpdateExecutor(dataManager, dataManager.valueConverter,
+				repository.getValueFactory(), 2) {
+			@Override
+			protected IExtendedIterator<?> evaluateSparql(TupleExpr tupleExpr, UpdateContext uc) {
+				return super.evaluateSparql(tupleExpr, uc).mapWith(value -> {
+					inserted.add(dataManager.match(null, insertedPredicate[0], null, false).toList().size());
+					return value;
+				});
+			}
+		};
+
+		ParsedUpdate update = RDF4JUpdate.parse("INSERT { ?s <" + p2 + "> ?o } WHERE { ?s <" + p1 + "> ?o }", null);
+		executor.executeUpdate(update.getUpdateExprs().get(0), null, new IReference[0], new IReference[0],
+				new LinkedHashBindings<>(), false);
+		assertEquals(Arrays.asList(0, 0, 2, 2, 4, 4), inserted);
+		assertEquals(6, dataManager.match(null, p2, null, false).toList().size());
+
+		// the deleted statements are matched by the WHERE clause
+		inserted.clear();
+		insertedPredicate[0] = p3;
+		update = RDF4JUpdate.parse("DELETE { ?s <" + p2 + "> ?o } INSERT { ?s <" + p3 + "> ?o } WHERE { ?s <" + p2
+				+ "> ?o }", null);
+		executor.executeUpdate(update.getUpdateExprs().get(0), null, new IReference[0], new IReference[0],
+				new LinkedHashBindings<>(), false);
+		assertEquals(Arrays.asList(0, 0, 0, 0, 0, 0), inserted);
+		assertEquals(0, dataManager.match(null, p2, null, false).toList().size());
+		assertEquals(6, dataManager.match(null, p3, null, false).toList().size());
+	}
+
+	@Test
+	void executesGraphOperationsNatively() {
+		detachSailConnectionListener();
+
+		URI g1 = URIs.createURI("urn:test:graph:g1");
+		URI g2 = URIs.createURI("urn:test:graph:g2");
+		URI g3 = URIs.createURI("urn:test:graph:g3");
+		IReference p = URIs.createURI("urn:test:graph:p");
+		List<IStatement> statements = new ArrayList<>();
+		for (int i = 0; i < 100; i++) {
+			statements.add(new Statement(URIs.createURI("urn:test:graph:s" + i), p, new Literal("v" + i)));
+		}
+		changeSupport.setEnabled(dataManager, false);
+		dataManager.add(statements, g1);
+		dataManager.add(Collections.singletonList(new Statement(g2, p, new Literal("old"))), g2);
+		changeSupport.setEnabled(dataManager, true);
+
+		List<IDataChange> committed = new ArrayList<>();
+		changeSupport.addChangeListener(committed::addAll);
+
+		dataManager.createUpdate("COPY <" + g1 + "> TO <" + g2 + ">", null, false).execute();
+
+		assertEquals(100, dataManager.match(null, null, null, false, g2).toList().size());
+		assertEquals(100, dataManager.match(null, null, null, false, g1).toList().size());
+		assertEquals(1, committed.size());
+		IGraphChange graphChange = assertInstanceOf(IGraphChange.class, committed.get(0));
+		assertEquals(IGraphChange.Operation.COPY, graphChange.getOperation());
+		assertEquals(g1, graphChange.getSource());
+		assertEquals(g2, graphChange.getTarget());
+
+		// changes have to be verified statement by statement for undo/redo
+		committed.clear();
+		changeSupport.setMode(dataManager, IDataChangeSupport.Mode.VERIFY_ALL);
+		dataManager.createUpdate("MOVE <" + g1 + "> TO <" + g3 + ">", null, false).execute();
+
+		assertEquals(0, dataManager.match(null, null, null, false, g1).toList().size());
+		assertEquals(100, dataManager.match(null, null, null, false, g3).toList().size());
+		assertEquals(200, committed.size());
+		for (IDataChange change : committed) {
+			assertInstanceOf(IStatementChange.class, change);
+		}
+	}
+
+	@Test
+	void copiesGraphsWithIllegalIriCharacters() {
+		detachSailConnectionListener();
+
+		// the graph IRI can not be used as IRIREF of a native graph operation
+		URI g1 = URIs.createURI("urn:test:graph:a>b");
+		URI g2 = URIs.createURI("urn:test:graph:g2");
+		IReference p = URIs.createURI("urn:test:graph:p");
+		dataManager.add(Collections.singletonList(new Statement(g1, p, new Literal("v"))), g1);
+
+		ValueFactory vf = repository.getValueFactory();
+		SparqlUpdateExecutor executor = new SparqlUpdateExecutor(dataManager, dataManager.valueConverter, vf);
+		Copy copy = new Copy();
+		copy.setSourceGraph(new ValueConstant(vf.createIRI(g1.toString())));
+		copy.setDestinationGraph(new ValueConstant(vf.createIRI(g2.toString())));
+		executor.executeUpdate(copy, null, new IReference[0], new IReference[0], new LinkedHashBindings<>(), false);
+
+		assertEquals(1, dataManager.match(null, null, null, false, g2).toList().size());
+		assertEquals(1, dataManager.match(null, null, null, false, g1).toList().size());
+	}
 }
@@ -75,12 +75,15 @@ public class RecordingWrapperCommand extends AbstractCommand implements
 	}
 
 	/**
-	 * I can be undone if I successfully recorded the changes that I executed.
-	 * Subclasses would not normally need to override this method.
+	 * I can be undone if I successfully recorded the changes that I executed
+	 * and if these changes can be reversed. Subclasses would not normally need
+	 * to override this method.
 	 */
 	@Override
 	public boolean canUndo() {
-		return canApplyChange() || command.canUndo();
+		// the recorded changes are always undone together with the command,
+		// hence the command alone can not make me undoable
+		return canApplyChange();
 	}
 
 	/**
@@ -99,6 +99,8 @@ public class ResourceEditingSupport implements IEditingSupport {
 	class ResourceProposalProvider implements IContentProposalProvider {
 		IEntity subject;
 		IReference predicate;
+		// uses the text index of the subject's model set, if available
+		ResourceFinder finder = new ResourceFinder();
 
 		ResourceProposalProvider(IEntity subject, IReference predicate) {
 			this.subject = subject;
@@ -131,7 +133,6 @@ public class ResourceEditingSupport implements IEditingSupport {
 			}
 			// ensures that resources which match the predicate's range are
 			// added in front of the result list
-			ResourceFinder finder = new ResourceFinder();
 			for (IReference p : predicates) {
 				if (allMatches.size() >= limit) {
 					break;
@@ -8,6 +8,9 @@ import java.util.List;
 import java.util.Map;
 import java.util.regex.Pattern;
 
+import com.google.inject.Binding;
+import com.google.inject.Key;
+
 import net.enilink.commons.iterator.IMap;
 import net.enilink.komma.core.Bindings;
 import net.enilink.komma.core.IBindings;
@@ -19,12 +22,19 @@ import net.enilink.komma.core.IReference;
 import net.enilink.komma.core.QueryFragment;
 import net.enilink.komma.core.URI;
 import net.enilink.komma.em.util.ISparqlConstants;
+import net.enilink.komma.em.util.TextIndex;
 import net.enilink.komma.model.IModelAware;
+import net.enilink.komma.model.IModelSet;
 import net.enilink.vocab.rdf.RDF;
 
 public class ResourceFinder {
 	private static final Pattern ESCAPE_CHARS = Pattern.compile("[\\[.{(*+?^$|]");
 
+	/**
+	 * The number of index candidates that are verified by one query.
+	 */
+	private static final int CANDIDATE_CHUNK_SIZE = 200;
+
 	public static class Options {
 		final IEntityManager em;
 		final IEntity subject;
@@ -66,6 +76,23 @@ public class ResourceFinder {
 		}
 	}
 
+	private final TextIndex textIndex;
+
+	/**
+	 * Creates a finder that uses the text index of the subject's model set
+	 * if it is available.
+	 */
+	public ResourceFinder() {
+		this(null);
+	}
+
+	/**
+	 * Creates a finder that uses the given text index.
+	 */
+	public ResourceFinder(TextIndex textIndex) {
+		this.textIndex = textIndex;
+	}
+
 	public record Match(IEntity resource, boolean inGraph, boolean matchesRange) {
 
 		public int score() {
@@ -153,6 +180,74 @@ public class ResourceFinder {
 	protected List<Match> retrieve(IEntityManager em, IEntity subject,
 			final IReference predicate, IReference type, String pattern,
 			String uriPattern, String namespace, final URI graph, int limit) {
+		TextIndex index = getTextIndex(subject);
+		if (index != null && TextIndex.isSearchable(pattern)) {
+			return retrieveIndexed(index, em, subject, predicate, type,
+					pattern, namespace, graph, limit);
+		}
+		return query(em, subject, predicate, type, pattern, uriPattern,
+				namespace, graph, null, limit);
+	}
+
+	/**
+	 * Retrieves the candidates for the given pattern from the text index and
+	 * verifies them in chunks against the store. The number of requested
+	 * candidates is increased until either the limit is reached or the index
+	 * has no further candidates.
+	 */
+	protected List<Match> retrieveIndexed(TextIndex index, IEntityManager em,
+			IEntity subject, IReference predicate, IReference type,
+			String pattern, String namespace, URI graph, int limit) {
+		List<Match> matches = new ArrayList<>();
+		int max = limit * 4;
+		int verified = 0;
+		while (true) {
+			List<URI> candidates = index.find(pattern, namespace, graph, max);
+			for (int i = verified; i < candidates.size()
+					&& matches.size() < limit; i += CANDIDATE_CHUNK_SIZE) {
+				matches.addAll(query(em, subject, predicate, type, pattern,
+						null, null, graph, candidates.subList(i,
+								Math.min(i + CANDIDATE_CHUNK_SIZE,
+										candidates.size())),
+						limit - matches.size()));
+			}
+			verified = candidates.size();
+			if (matches.size() >= limit || candidates.size() < max) {
+				return matches;
+			}
+			max *= 4;
+		}
+	}
+
+	/**
+	 * Returns the text index of the model set that contains the given subject
+	 * or <code>null</code> if no index is available.
+	 */
+	protected TextIndex getTextIndex(IEntity subject) {
+		if (textIndex == null && subject instanceof IModelAware) {
+			IModelSet modelSet = ((IModelAware) subject).getModel()
+					.getModelSet();
+			if (modelSet instanceof IModelSet.Internal) {
+				Binding<TextIndex> binding = ((IModelSet.Internal) modelSet)
+						.getInjector().getExistingBinding(
+								Key.get(TextIndex.class));
+				if (binding != null) {
+					return binding.getProvider().get();
+				}
+			}
+		}
+		return textIndex;
+	}
+
+	/**
+	 * Queries for matching resources. The text search is either done by the
+	 * store using the given patterns or is restricted to the given
+	 * <code>candidates</code> if they are not <code>null</code>.
+	 */
+	protected List<Match> query(IEntityManager em, IEntity subject,
+			final IReference predicate, IReference type, String pattern,
+			String uriPattern, String namespace, final URI graph,
+			List<URI> candidates, int limit) {
 		// System.out.println("retrieve("
 		// + Arrays.asList(predicate, type, pattern, uriPattern,
 		// namespace, graph, limit) + ")");
@@ -186,7 +281,17 @@ public class ResourceFinder {
 		}
 
 		QueryFragment searchS = null, searchL = null;
-		if (pattern.trim().isEmpty()) {
+		if (candidates != null) {
+			// the candidates are bound to the parameters ?s0, ?s1, ...
+			sparql.append("{ ");
+			for (int i = 0; i < candidates.size(); i++) {
+				if (i > 0) {
+					sparql.append(" UNION ");
+				}
+				sparql.append("{ BIND (?s").append(i).append(" AS ?s) }");
+			}
+			sparql.append(" } ?s ?p ?o . ");
+		} else if (pattern.trim().isEmpty()) {
 			sparql.append("?s ?p ?o . ");
 		} else {
 			IDialect dialect = em.getFactory().getDialect();
@@ -222,8 +327,14 @@ public class ResourceFinder {
 		if (searchL != null) {
 			searchL.addParameters(query);
 		}
-		query.setParameter("uriPattern", uriPattern);
-		query.setParameter("pattern", "^" + toRegex(pattern));
+		if (candidates != null) {
+			for (int i = 0; i < candidates.size(); i++) {
+				query.setParameter("s" + i, candidates.get(i));
+			}
+		} else {
+			query.setParameter("uriPattern", uriPattern);
+			query.setParameter("pattern", "^" + toRegex(pattern));
+		}
 		if (namespace != null) {
 			query.setParameter("namespace", "^" + namespace);
 		}
@@ -40,7 +40,12 @@ import net.enilink.komma.common.util.ICollector;
 import net.enilink.komma.common.util.IList;
 import net.enilink.komma.common.util.IResourceLocator;
 import net.enilink.komma.core.IEntity;
+import net.enilink.komma.core.IEntityManager;
+import net.enilink.komma.core.IGraph;
+import net.enilink.komma.core.IQuery;
 import net.enilink.komma.core.IReference;
+import net.enilink.komma.core.IStatement;
+import net.enilink.komma.core.LinkedHashGraph;
 import net.enilink.komma.core.URI;
 import net.enilink.komma.core.URIs;
 import net.enilink.komma.edit.KommaEditPlugin;
@@ -61,6 +66,7 @@ import net.enilink.komma.edit.domain.IEditingDomain;
 import net.enilink.komma.em.concepts.IClass;
 import net.enilink.komma.em.concepts.IProperty;
 import net.enilink.komma.em.concepts.IResource;
+import net.enilink.komma.em.util.ISparqlConstants;
 import net.enilink.komma.model.IModel;
 import net.enilink.komma.model.IModelAware;
 import net.enilink.komma.model.IModelSet;
@@ -1597,7 +1603,9 @@ public class ItemProviderAdapter extends
 				: new LinkedHashSet<Object>();
 		IResource resource = (IResource) object;
 
-		for (IProperty property : getChildrenProperties(object)) {
+		Collection<? extends IProperty> childrenProperties = getChildrenProperties(object);
+		loadChildren(resource, childrenProperties);
+		for (IProperty property : childrenProperties) {
 			Object oneOrMultipleChildren = resource.get(property);
 			if (oneOrMultipleChildren instanceof Collection<?> children) {
 				int index = 0;
@@ -1627,6 +1635,82 @@ public class ItemProviderAdapter extends
 		return store != null ? store.getChildren() : result;
 	}
 
+	/**
+	 * Loads the children of the given properties with one query. The types
+	 * and labels of the children are retrieved by the same query and are used
+	 * to initialize the child objects, which avoids further queries when the
+	 * children are displayed.
+	 * <p>
+	 * The children are used to {@link IResource#initProperties initialize}
+	 * the properties of the resource, hence they are returned by subsequent
+	 * calls to {@link IResource#get(IReference)}. Ordered containment
+	 * properties and properties with list values are not initialized and are
+	 * read by the resource itself. Properties whose values are already
+	 * {@link IResource#isCached cached} are not loaded again.
+	 */
+	protected void loadChildren(IResource resource,
+			Collection<? extends IProperty> properties) {
+		List<IProperty> bulkProperties = new ArrayList<IProperty>();
+		for (IProperty property : properties) {
+			if (property.getURI() != null && !property.isOrderedContainment()
+					&& !resource.isCached(property)) {
+				bulkProperties.add(property);
+			}
+		}
+		if (bulkProperties.isEmpty()) {
+			return;
+		}
+
+		StringBuilder sparql = new StringBuilder(ISparqlConstants.PREFIX
+				+ "CONSTRUCT { ?s ?p ?o . ?o a ?type . ?o rdfs:label ?label } WHERE { ?s ?p ?o FILTER (");
+		for (int i = 0; i < bulkProperties.size(); i++) {
+			sparql.append(i > 0 ? " || ?p = ?p" : "?p = ?p").append(i);
+		}
+		sparql.append(") OPTIONAL { ?o a ?type } OPTIONAL { ?o rdfs:label ?label } }");
+
+		IEntityManager manager = resource.getEntityManager();
+		IQuery<?> query = manager.createQuery(sparql.toString());
+		query.setParameter("s", resource);
+		for (int i = 0; i < bulkProperties.size(); i++) {
+			query.setParameter("p" + i, bulkProperties.get(i));
+		}
+		IGraph graph = new LinkedHashGraph(query.evaluateRestricted(
+				IStatement.class).toList());
+
+		// collect the values before the graph is consumed while initializing
+		// the child objects
+		Map<IProperty, List<Object>> values = new LinkedHashMap<IProperty, List<Object>>();
+		for (IProperty property : bulkProperties) {
+			values.put(property, new ArrayList<Object>(graph.filter(resource,
+					property, null).objects()));
+		}
+
+		Map<Object, Object> instances = new HashMap<Object, Object>();
+		Map<IProperty, List<Object>> children = new LinkedHashMap<IProperty, List<Object>>();
+		properties: for (Map.Entry<IProperty, List<Object>> entry : values
+				.entrySet()) {
+			List<Object> propertyChildren = new ArrayList<Object>(entry
+					.getValue().size());
+			for (Object value : entry.getValue()) {
+				Object child = instances.get(value);
+				if (child == null) {
+					child = manager.toInstance(value, null, graph);
+					instances.put(value, child);
+				}
+				if (child instanceof Collection<?>) {
+					// list values are expanded depending on the cardinality of
+					// the property, let the resource handle this
+					continue properties;
+				}
+				if (child != null) {
+					propertyChildren.add(child);
+				}
+			}
+			children.put(entry.getKey(), propertyChildren);
+		}
+		resource.initProperties(children);
+	}
+
 	/**
 	 * If this is defined to be something other than an empty list, it is use>d
 	 * to implement {@link #getChildren getChildren}, including in determining
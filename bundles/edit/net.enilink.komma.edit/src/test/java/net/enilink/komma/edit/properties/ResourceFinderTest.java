@@ -0,0 +1,83 @@
+/*******************************************************************************
+ * Copyright (c) 2026 Fraunhofer IWU and others.
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * Contributors:
+ *     Fraunhofer IWU - initial API and implementation
+ *******************************************************************************/
+package net.enilink.komma.edit.properties;
+
+import static org.junit.Assert.assertEquals;
+
+import java.util.HashSet;
+import java.util.Set;
+
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+
+import com.google.inject.Guice;
+
+import net.enilink.komma.core.IEntity;
+import net.enilink.komma.core.KommaModule;
+import net.enilink.komma.core.URI;
+import net.enilink.komma.core.URIs;
+import net.enilink.komma.em.concepts.IResource;
+import net.enilink.komma.model.IModel;
+import net.enilink.komma.model.IModelSet;
+import net.enilink.komma.model.IModelSetFactory;
+import net.enilink.komma.model.MODELS;
+import net.enilink.komma.model.ModelPlugin;
+import net.enilink.komma.model.ModelSetModule;
+import net.enilink.vocab.owl.OWL;
+
+/**
+ * Tests that the candidates of the text index are verified against the store.
+ */
+public class ResourceFinderTest {
+	static final String NS = "urn:test:finder:";
+
+	IModelSet modelSet;
+
+	IModel model;
+
+	@Before
+	public void beforeTest() throws Exception {
+		KommaModule module = ModelPlugin.createModelSetModule(getClass().getClassLoader());
+		modelSet = Guice.createInjector(new ModelSetModule(module)).getInstance(IModelSetFactory.class)
+				.createModelSet(MODELS.NAMESPACE_URI.appendLocalPart("MemoryModelSet"),
+						MODELS.NAMESPACE_URI.appendLocalPart("TextIndexModelSet"));
+		model = modelSet.createModel(URIs.createURI(NS + "model"));
+	}
+
+	@After
+	public void afterTest() throws Exception {
+		modelSet.dispose();
+	}
+
+	@Test
+	public void testFindIndexedResources() throws Exception {
+		Set<URI> expected = new HashSet<>();
+		for (int i = 0; i < 5; i++) {
+			URI uri = URIs.createURI(NS + "alpha" + i);
+			model.getManager().createNamed(uri, OWL.TYPE_CLASS);
+			expected.add(uri);
+		}
+		model.getManager().createNamed(URIs.createURI(NS + "beta"), OWL.TYPE_CLASS);
+		IResource labeled = model.getManager().createNamed(URIs.createURI(NS + "gamma"), OWL.TYPE_CLASS)
+				.as(IResource.class);
+		labeled.setRdfsLabel("alpha label");
+		expected.add(labeled.getURI());
+
+		IEntity subject = model.getManager().find(URIs.createURI(NS + "subject"));
+		Set<URI> found = new HashSet<>();
+		for (ResourceFinder.Match match : new ResourceFinder()
+				.findRestrictedResources(ResourceFinder.Options.create(subject, "alpha", 20))) {
+			found.add(match.resource().getURI());
+		}
+		assertEquals(expected, found);
+	}
+}
@@ -0,0 +1,187 @@
+/*******************************************************************************
+ * Copyright (c) 2026 Fraunhofer IWU and others.
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * Contributors:
+ *     Fraunhofer IWU - initial API and implementation
+ *******************************************************************************/
+package net.enilink.komma.edit.provider;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.HashSet;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Set;
+
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+
+import com.google.inject.Guice;
+
+import net.enilink.komma.core.BlankNode;
+import net.enilink.komma.core.IEntityManager;
+import net.enilink.komma.core.IReference;
+import net.enilink.komma.core.KommaModule;
+import net.enilink.komma.core.Literal;
+import net.enilink.komma.core.Statement;
+import net.enilink.komma.core.URI;
+import net.enilink.komma.core.URIs;
+import net.enilink.komma.em.concepts.IProperty;
+import net.enilink.komma.em.concepts.IResource;
+import net.enilink.komma.model.IModelSet;
+import net.enilink.komma.model.IModelSetFactory;
+import net.enilink.komma.model.MODELS;
+import net.enilink.komma.model.ModelPlugin;
+import net.enilink.komma.model.ModelSetModule;
+import net.enilink.vocab.owl.OWL;
+import net.enilink.vocab.rdf.RDF;
+import net.enilink.vocab.rdfs.RDFS;
+import net.enilink.vocab.xmlschema.XMLSCHEMA;
+
+/**
+ * Tests that the children which are loaded in bulk are the same as those
+ * returned for each single property.
+ */
+public class ItemProviderAdapterTest {
+	static final String NS = "urn:test:provider:";
+
+	IModelSet modelSet;
+
+	IEntityManager manager;
+
+	@Before
+	public void beforeTest() throws Exception {
+		KommaModule module = ModelPlugin.createModelSetModule(getClass().getClassLoader());
+		modelSet = Guice.createInjector(new ModelSetModule(module)).getInstance(IModelSetFactory.class)
+				.createModelSet(MODELS.NAMESPACE_URI.appendLocalPart("MemoryModelSet"));
+		manager = modelSet.createModel(URIs.createURI(NS + "model")).getManager();
+	}
+
+	@After
+	public void afterTest() throws Exception {
+		modelSet.dispose();
+	}
+
+	void add(IReference s, IReference p, Object o) {
+		manager.add(new Statement(s, p, o));
+	}
+
+	URI child(IReference resource, IReference property, String name) {
+		URI child = URIs.createURI(NS + name);
+		add(child, RDF.PROPERTY_TYPE, URIs.createURI(NS + "C"));
+		add(child, RDFS.PROPERTY_LABEL, new Literal("child " + name));
+		add(resource, property, child);
+		return child;
+	}
+
+	@Test
+	public void testBulkChildrenEqualSingleProperties() throws Exception {
+		URI c = URIs.createURI(NS + "C");
+		URI single = URIs.createURI(NS + "single");
+		URI functional = URIs.createURI(NS + "functional");
+		URI many = URIs.createURI(NS + "many");
+		URI empty = URIs.createURI(NS + "empty");
+
+		add(c, RDF.PROPERTY_TYPE, OWL.TYPE_CLASS);
+		for (URI property : Arrays.asList(single, functional, many, empty)) {
+			add(property, RDF.PROPERTY_TYPE, OWL.TYPE_OBJECTPROPERTY);
+		}
+		add(functional, RDF.PROPERTY_TYPE, OWL.TYPE_FUNCTIONALPROPERTY);
+		BlankNode restriction = new BlankNode();
+		add(restriction, RDF.PROPERTY_TYPE, OWL.TYPE_RESTRICTION);
+		add(restriction, OWL.PROPERTY_ONPROPERTY, single);
+		add(restriction, OWL.PROPERTY_MAXCARDINALITY, new Literal("1", XMLSCHEMA.TYPE_NONNEGATIVEINTEGER));
+		add(c, RDFS.PROPERTY_SUBCLASSOF, restriction);
+
+		URI r = URIs.createURI(NS + "r");
+		add(r, RDF.PROPERTY_TYPE, c);
+		child(r, single, "a");
+		child(r, functional, "b");
+		child(r, many, "c");
+		child(r, many, "d");
+		child(r, many, "e");
+
+		IResource resource = manager.find(r, IResource.class);
+		List<IProperty> properties = Arrays.asList(manager.find(single, IProperty.class),
+				manager.find(functional, IProperty.class), manager.find(many, IProperty.class),
+				manager.find(empty, IProperty.class));
+		ItemProviderAdapter adapter = new ItemProviderAdapter(null) {
+			@Override
+			protected Collection<? extends IProperty> getChildrenProperties(Object object) {
+				return properties;
+			}
+		};
+		Collection<?> children = adapter.getChildren(resource);
+		assertEquals(5, children.size());
+
+		Set<Object> expectedChildren = new LinkedHashSet<>();
+		for (IProperty property : properties) {
+			Object bulkValue = resource.get(property);
+			assertEquals(property.toString(), property.isMany(resource), bulkValue instanceof Set<?>);
+			if (bulkValue instanceof Set<?>) {
+				bulkValue = new HashSet<>((Set<?>) bulkValue);
+			}
+
+			// read the property again without the initialized values
+			resource.refresh(property);
+			Object value = resource.get(property);
+			if (value instanceof Set<?>) {
+				expectedChildren.addAll((Set<?>) value);
+				value = new HashSet<>((Set<?>) value);
+			} else if (value != null) {
+				expectedChildren.add(value);
+			}
+			assertEquals(property.toString(), value, bulkValue);
+		}
+		assertEquals(expectedChildren, new HashSet<>(children));
+		for (Object child : children) {
+			assertTrue(((IResource) child).getRdfsLabel().startsWith("child "));
+		}
+	}
+
+	@Test
+	public void testCachedChildrenAreNotLoadedAgain() throws Exception {
+		URI c = URIs.createURI(NS + "C");
+		URI cached = URIs.createURI(NS + "cached");
+		URI loaded = URIs.createURI(NS + "loaded");
+		add(c, RDF.PROPERTY_TYPE, OWL.TYPE_CLASS);
+		add(cached, RDF.PROPERTY_TYPE, OWL.TYPE_OBJECTPROPERTY);
+		add(loaded, RDF.PROPERTY_TYPE, OWL.TYPE_OBJECTPROPERTY);
+
+		URI r = URIs.createURI(NS + "r");
+		add(r, RDF.PROPERTY_TYPE, c);
+		child(r, cached, "a");
+		child(r, loaded, "b");
+
+		IResource resource = manager.find(r, IResource.class);
+		IProperty cachedProperty = manager.find(cached, IProperty.class);
+		IProperty loadedProperty = manager.find(loaded, IProperty.class);
+		assertFalse(resource.isCached(cachedProperty));
+		// the values are cached when they are read completely
+		Set<?> cachedValue = new HashSet<>(Arrays.asList(((Set<?>) resource.get(cachedProperty)).toArray()));
+		assertTrue(resource.isCached(cachedProperty));
+		assertFalse(resource.isCached(loadedProperty));
+
+		ItemProviderAdapter adapter = new ItemProviderAdapter(null) {
+			@Override
+			protected Collection<? extends IProperty> getChildrenProperties(Object object) {
+				return Arrays.asList(cachedProperty, loadedProperty);
+			}
+		};
+		assertEquals(2, adapter.getChildren(resource).size());
+		assertTrue(resource.isCached(loadedProperty));
+		assertEquals(cachedValue, new HashSet<>((Set<?>) resource.get(cachedProperty)));
+
+		resource.refresh(loadedProperty);
+		assertFalse(resource.isCached(loadedProperty));
+	}
+}
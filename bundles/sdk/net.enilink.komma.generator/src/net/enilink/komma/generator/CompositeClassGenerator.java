@@ -0,0 +1,289 @@
+/*******************************************************************************
+ * Copyright (c) 2026 Fraunhofer IWU and others.
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * Contributors:
+ *     Fraunhofer IWU - initial API and implementation
+ *******************************************************************************/
+package net.enilink.komma.generator;
+
+import java.io.File;
+import java.io.IOException;
+import java.io.Writer;
+import java.net.URL;
+import java.net.URLClassLoader;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.function.Supplier;
+import java.util.stream.Stream;
+
+import org.apache.commons.cli.CommandLine;
+import org.apache.commons.cli.HelpFormatter;
+import org.apache.commons.cli.Option;
+import org.apache.commons.cli.Options;
+import org.apache.commons.cli.ParseException;
+import org.apache.commons.cli.PosixParser;
+import org.eclipse.rdf4j.repository.Repository;
+import org.eclipse.rdf4j.repository.sail.SailRepository;
+import org.eclipse.rdf4j.sail.memory.MemoryStore;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import com.google.inject.AbstractModule;
+import com.google.inject.Guice;
+import com.google.inject.Module;
+import com.google.inject.name.Names;
+
+import net.enilink.composition.ClassDefiner;
+import net.enilink.komma.core.IEntityManager;
+import net.enilink.komma.core.IEntityManagerFactory;
+import net.enilink.komma.core.IUnitOfWork;
+import net.enilink.komma.core.KommaModule;
+import net.enilink.komma.core.KommaModule.Association;
+import net.enilink.komma.core.URI;
+import net.enilink.komma.core.URIs;
+import net.enilink.komma.em.CacheModule;
+import net.enilink.komma.em.CachingEntityManagerModule;
+import net.enilink.komma.em.DecoratingEntityManagerModule;
+import net.enilink.komma.em.EntityManagerFactoryModule;
+import net.enilink.komma.em.ManagerCompositionModule;
+import net.enilink.komma.em.util.UnitOfWork;
+import net.enilink.komma.rdf4j.RDF4JModule;
+
+/**
+ * Generates the composite and behaviour classes for a {@link KommaModule} at
+ * build time. The classes are written below
+ * {@link ClassDefiner#PACKAGED_CLASSES} of the output directory and are used
+ * at runtime instead of generating them again, if the roles of the module are
+ * unchanged.
+ * <p>
+ * Classes are generated for each concept of the module and for each given
+ * combination of rdf:types. The generated classes also depend on the entity
+ * manager module, hence it must be the same that is used at runtime. The
+ * generator can be invoked by the <code>exec-maven-plugin</code> with
+ * <code>target/classes</code> as output directory before the application jar
+ * is packaged.
+ */
+public class CompositeClassGenerator {
+	private static final String RESOURCE_NS = "urn:komma:generator:resource:";
+
+	private static final Options options = new Options();
+	static {
+		Option module = new Option("m", "module", true,
+				"class of the KommaModule, either a sub-class of KommaModule or a Supplier<KommaModule>");
+		module.setArgName("full class name");
+
+		Option types = new Option("t", "types", true,
+				"file with one combination of rdf:types per line separated by whitespace");
+		types.setArgName("file");
+
+		Option dir = new Option("d", "directory", true,
+				"directory where the classes will be saved");
+
+		Option managerModule = new Option("e", "manager-module", true,
+				"class of the entity manager module, defaults to " + CachingEntityManagerModule.class.getName());
+		managerModule.setArgName("full class name");
+
+		options.addOption("h", "help", false, "print this message");
+		options.addOption(module);
+		options.addOption(types);
+		options.addOption(dir);
+		options.addOption(managerModule);
+	}
+
+	final Logger logger = LoggerFactory.getLogger(CompositeClassGenerator.class);
+
+	final DecoratingEntityManagerModule managerModule;
+
+	/**
+	 * Creates a generator for entity managers that use a
+	 * {@link CachingEntityManagerModule} like the managers of model sets.
+	 */
+	public CompositeClassGenerator() {
+		this(new CachingEntityManagerModule());
+	}
+
+	/**
+	 * Creates a generator for entity managers that use the given module.
+	 *
+	 * @param managerModule
+	 *            the entity manager module that is used at runtime
+	 */
+	public CompositeClassGenerator(DecoratingEntityManagerModule managerModule) {
+		this.managerModule = managerModule;
+	}
+
+	@SuppressWarnings("unchecked")
+	public static void main(String[] args) throws Exception {
+		try {
+			CommandLine line = new PosixParser().parse(options, args);
+			if (line.hasOption('h')) {
+				HelpFormatter formatter = new HelpFormatter();
+				String cmdLineSyntax = "compose [options] [jar]...";
+				String header = "[jar]... are a list of jar files or directories with the roles of the module.";
+				formatter.printHelp(cmdLineSyntax, header, options, "");
+				return;
+			}
+			if (!line.hasOption('m'))
+				throw new ParseException("Required module option missing");
+			if (!line.hasOption('d'))
+				throw new ParseException("Required directory option missing");
+
+			List<URL> jars = new ArrayList<>();
+			for (String arg : line.getArgs()) {
+				jars.add(new File(arg).toURI().toURL());
+			}
+			ClassLoader cl = URLClassLoader.newInstance(jars.toArray(new URL[0]),
+					CompositeClassGenerator.class.getClassLoader());
+			Thread.currentThread().setContextClassLoader(cl);
+
+			Object module = Class.forName(line.getOptionValue('m'), true, cl).getDeclaredConstructor().newInstance();
+			if (module instanceof Supplier<?>) {
+				module = ((Supplier<KommaModule>) module).get();
+			}
+
+			List<Collection<URI>> typeSets = new ArrayList<>();
+			if (line.hasOption('t')) {
+				typeSets = readTypes(new File(line.getOptionValue('t')));
+			}
+			CompositeClassGenerator generator = line.hasOption('e')
+					? new CompositeClassGenerator((DecoratingEntityManagerModule) Class
+							.forName(line.getOptionValue('e'), true, cl).getDeclaredConstructor().newInstance())
+					: new CompositeClassGenerator();
+			generator.generate((KommaModule) module, typeSets, new File(line.getOptionValue('d')));
+		} catch (ParseException exp) {
+			System.err.println(exp.getMessage());
+			System.exit(1);
+		}
+	}
+
+	static List<Collection<URI>> readTypes(File file) throws IOException {
+		List<Collection<URI>> typeSets = new ArrayList<>();
+		for (String line : Files.readAllLines(file.toPath(), StandardCharsets.UTF_8)) {
+			line = line.trim();
+			if (line.isEmpty() || line.startsWith("#")) {
+				continue;
+			}
+			List<URI> types = new ArrayList<>();
+			for (String type : line.split("\\s+")) {
+				types.add(URIs.createURI(type));
+			}
+			typeSets.add(types);
+		}
+		return typeSets;
+	}
+
+	/**
+	 * Generates the classes for the concepts of <code>module</code> and the
+	 * given combinations of types into <code>directory</code>.
+	 *
+	 * @param module
+	 *            the module with the roles
+	 * @param typeSets
+	 *            combinations of rdf:types that are expected at runtime
+	 * @param directory
+	 *            the output directory
+	 */
+	public void generate(KommaModule module, Collection<? extends Collection<URI>> typeSets, File directory)
+			throws Exception {
+		// the classes are generated into a class cache that is then copied to
+		// the packaged layout
+		Path cacheDir = Files.createTempDirectory("komma-classes");
+		Repository repository = new SailRepository(new MemoryStore());
+		repository.init();
+		try {
+			List<Module> modules = new ArrayList<>();
+			modules.add(new RDF4JModule());
+			modules.add(new EntityManagerFactoryModule(module, null, managerModule));
+			if (managerModule instanceof CachingEntityManagerModule) {
+				modules.add(new CacheModule());
+			}
+			modules.add(new AbstractModule() {
+				@Override
+				protected void configure() {
+					UnitOfWork uow = new UnitOfWork();
+					uow.begin();
+
+					bind(UnitOfWork.class).toInstance(uow);
+					bind(IUnitOfWork.class).toInstance(uow);
+					bind(Repository.class).toInstance(repository);
+					bind(File.class).annotatedWith(Names.named(ManagerCompositionModule.CLASS_CACHE))
+							.toInstance(cacheDir.toFile());
+				}
+			});
+			IEntityManagerFactory factory = Guice.createInjector(modules).getInstance(IEntityManagerFactory.class);
+			try {
+				IEntityManager manager = factory.create();
+				try {
+					int i = 0;
+					for (Association concept : module.getConcepts()) {
+						manager.find(URIs.createURI(RESOURCE_NS + i++), concept.getJavaClass());
+					}
+					for (Collection<URI> types : typeSets) {
+						manager.createNamed(URIs.createURI(RESOURCE_NS + i++), types.toArray(new URI[types.size()]));
+					}
+				} finally {
+					manager.close();
+				}
+			} finally {
+				factory.close();
+			}
+
+			File[] versions = cacheDir.toFile().listFiles(File::isDirectory);
+			if (versions == null || versions.length != 1) {
+				throw new IllegalStateException("No classes have been generated");
+			}
+			String version = versions[0].getName();
+			Path target = directory.toPath().resolve(ClassDefiner.PACKAGED_CLASSES);
+			copy(versions[0].toPath(), target.resolve(version));
+			// keep the versions of other modules that share the directory
+			Path versionsFile = target.resolve("versions");
+			Set<String> packagedVersions = new LinkedHashSet<>();
+			if (Files.exists(versionsFile)) {
+				for (String line : Files.readAllLines(versionsFile, StandardCharsets.UTF_8)) {
+					if (!line.trim().isEmpty()) {
+						packagedVersions.add(line.trim());
+					}
+				}
+			}
+			packagedVersions.add(version);
+			try (Writer writer = Files.newBufferedWriter(versionsFile, StandardCharsets.UTF_8,
+					StandardOpenOption.CREATE, StandardOpenOption.TRUNCATE_EXISTING)) {
+				for (String packagedVersion : packagedVersions) {
+					writer.write(packagedVersion + "\n");
+				}
+			}
+			logger.info("Generated classes for version {} in {}", version, target);
+		} finally {
+			repository.shutDown();
+			try (Stream<Path> files = Files.walk(cacheDir)) {
+				files.sorted(Comparator.reverseOrder()).map(Path::toFile).forEach(File::delete);
+			}
+		}
+	}
+
+	private void copy(Path source, Path target) throws IOException {
+		try (Stream<Path> files = Files.walk(source)) {
+			for (Path file : (Iterable<Path>) files::iterator) {
+				Path targetFile = target.resolve(source.relativize(file).toString());
+				if (Files.isDirectory(file)) {
+					Files.createDirectories(targetFile);
+				} else {
+					Files.copy(file, targetFile, StandardCopyOption.REPLACE_EXISTING);
+				}
+			}
+		}
+	}
+}